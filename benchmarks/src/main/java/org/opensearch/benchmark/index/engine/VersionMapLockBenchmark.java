@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.common.util.concurrent.StripedLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per uid locking done by the live version map for concurrent upserts. A small number of hot uids
+ * models update heavy workloads where the same documents are rewritten over and over, while a large number of uids
+ * models append-mostly workloads. Each operation acquires the uid lock, reads the current version and writes the next one.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class VersionMapLockBenchmark {
+
+    @Param({ "16", "1024", "1048576" })
+    int numUids;
+
+    /**
+     * Number of lock stripes, 0 means a lock per uid as done by default.
+     */
+    @Param({ "0", "64", "256" })
+    int lockStripes;
+
+    private BytesRef[] uids;
+    private Map<BytesRef, Long> versions;
+    private KeyedLock<BytesRef> keyedLock;
+    private StripedLock<BytesRef> stripedLock;
+
+    @Setup
+    public void setup() {
+        uids = new BytesRef[numUids];
+        for (int i = 0; i < numUids; i++) {
+            uids[i] = new BytesRef(("uid-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        versions = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+        keyedLock = new KeyedLock<>();
+        stripedLock = lockStripes > 0 ? new StripedLock<>(lockStripes) : null;
+    }
+
+    @Benchmark
+    public Long upsert() {
+        final BytesRef uid = uids[ThreadLocalRandom.current().nextInt(numUids)];
+        try (Releasable ignored = stripedLock != null ? stripedLock.acquire(uid) : keyedLock.acquire(uid)) {
+            final Long current = versions.get(uid);
+            final long next = current == null ? 1L : current + 1;
+            versions.put(uid, next);
+            return next;
+        }
+    }
+}
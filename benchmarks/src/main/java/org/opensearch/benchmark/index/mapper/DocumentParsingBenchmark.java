@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing log-like documents against a stable mapping, as a shard does for the items of bulk requests. The
+ * documents either nest their fields in objects or use dotted field names, which are resolved through the objects of the
+ * mapping.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class DocumentParsingBenchmark {
+
+    private static final int NUM_DOCS = 1000;
+
+    /**
+     * Number of objects, each holding {@link #fieldsPerObject} fields.
+     */
+    @Param({ "4", "16" })
+    int numObjects;
+
+    @Param({ "8" })
+    int fieldsPerObject;
+
+    @Param({ "false", "true" })
+    boolean dottedFieldNames;
+
+    private DocumentMapper documentMapper;
+    private List<SourceToParse> sources;
+
+    @Setup
+    public void setup() throws IOException {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        final IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("index").settings(settings).build(), Settings.EMPTY);
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Map.of("default", new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer())),
+            Map.of(),
+            Map.of()
+        );
+        final MapperService mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+        documentMapper = mapperService.merge("_doc", new CompressedXContent(mapping()), MapperService.MergeReason.MAPPING_UPDATE);
+
+        final Random random = new Random(42);
+        sources = new ArrayList<>(NUM_DOCS);
+        for (int i = 0; i < NUM_DOCS; i++) {
+            sources.add(new SourceToParse("index", Integer.toString(i), document(random), XContentType.JSON));
+        }
+    }
+
+    private String mapping() throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject("_doc").startObject("properties");
+        builder.startObject("@timestamp").field("type", "date").endObject();
+        builder.startObject("message").field("type", "text").endObject();
+        for (int o = 0; o < numObjects; o++) {
+            builder.startObject("object" + o).startObject("properties");
+            for (int f = 0; f < fieldsPerObject; f++) {
+                builder.startObject("field" + f).field("type", f % 2 == 0 ? "keyword" : "long").endObject();
+            }
+            builder.endObject().endObject();
+        }
+        return builder.endObject().endObject().endObject().toString();
+    }
+
+    private BytesReference document(Random random) throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        builder.field("@timestamp", 1_700_000_000_000L + random.nextInt(1_000_000));
+        builder.field("message", "GET /index.html HTTP/1.1 " + random.nextInt(600));
+        for (int o = 0; o < numObjects; o++) {
+            if (dottedFieldNames == false) {
+                builder.startObject("object" + o);
+            }
+            for (int f = 0; f < fieldsPerObject; f++) {
+                final String name = dottedFieldNames ? "object" + o + ".field" + f : "field" + f;
+                if (f % 2 == 0) {
+                    builder.field(name, "value" + random.nextInt(100));
+                } else {
+                    builder.field(name, random.nextInt(100_000));
+                }
+            }
+            if (dottedFieldNames == false) {
+                builder.endObject();
+            }
+        }
+        return BytesReference.bytes(builder.endObject());
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (SourceToParse source : sources) {
+            blackhole.consume(documentMapper.parse(source));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.translog;
+
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.translog.PartitionedTranslogReplay;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks replaying a translog snapshot during recovery, one operation at a time versus partitioned by {@code _id}. Applying an
+ * operation is modeled by a fixed amount of CPU work and an update of the latest sequence number of its document, which is
+ * roughly what the engine does for each replayed operation once its document is parsed.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class TranslogReplayBenchmark {
+
+    @Param({ "100000" })
+    int numOperations;
+
+    @Param({ "1000", "1000000" })
+    int numIds;
+
+    /**
+     * Number of partitions, 1 replays operations sequentially on the calling thread like recovery does by default.
+     */
+    @Param({ "1", "2", "4", "8" })
+    int partitions;
+
+    /**
+     * Amount of CPU work per applied operation, in {@link Blackhole#consumeCPU} tokens.
+     */
+    @Param({ "1000" })
+    long tokensPerOperation;
+
+    private List<Translog.Operation> operations;
+    private ExecutorService executor;
+    private Map<String, Long> seqNos;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        operations = new ArrayList<>(numOperations);
+        for (int seqNo = 0; seqNo < numOperations; seqNo++) {
+            final String id = Integer.toString(random.nextInt(numIds));
+            if (random.nextInt(10) == 0) {
+                operations.add(new Translog.Delete(id, seqNo, 1));
+            } else {
+                operations.add(new Translog.Index(id, seqNo, 1, new byte[] { 1 }));
+            }
+        }
+        executor = Executors.newFixedThreadPool(Math.max(1, partitions));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        seqNos = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int replay() throws IOException {
+        final Translog.Snapshot snapshot = newSnapshot();
+        if (partitions == 1) {
+            int recovered = 0;
+            Translog.Operation operation;
+            while ((operation = snapshot.next()) != null) {
+                if (apply(operation)) {
+                    recovered++;
+                }
+            }
+            return recovered;
+        }
+        return new PartitionedTranslogReplay(partitions, executor).replay(snapshot, this::apply, ops -> {});
+    }
+
+    private boolean apply(Translog.Operation operation) {
+        Blackhole.consumeCPU(tokensPerOperation);
+        final String id = operation.opType() == Translog.Operation.Type.DELETE
+            ? ((Translog.Delete) operation).id()
+            : ((Translog.Index) operation).id();
+        seqNos.merge(id, operation.seqNo(), Math::max);
+        return true;
+    }
+
+    private Translog.Snapshot newSnapshot() {
+        final Iterator<Translog.Operation> iterator = operations.iterator();
+        return new Translog.Snapshot() {
+            @Override
+            public int totalOperations() {
+                return operations.size();
+            }
+
+            @Override
+            public Translog.Operation next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+}
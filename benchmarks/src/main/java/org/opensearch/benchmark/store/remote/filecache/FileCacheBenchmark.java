@@ -12,6 +12,7 @@ import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.CacheEvictionPolicy;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -52,6 +53,18 @@ public class FileCacheBenchmark {
         blackhole.consume(parameters.fileCache.get(randomKeyInCache(parameters)));
     }
 
+    /**
+     * Hit path under heavy concurrency, modelled after many concurrent searches reading blocks of the same files: every
+     * lookup is paired with a release of the reference, like a search does once it is done with a block.
+     */
+    @Benchmark
+    @Threads(64)
+    public void getAndRelease(CacheParameters parameters, Blackhole blackhole) {
+        final Path key = randomKeyInCache(parameters);
+        blackhole.consume(parameters.fileCache.get(key));
+        parameters.fileCache.decRef(key);
+    }
+
     @Benchmark
     public void replace(CacheParameters parameters, Blackhole blackhole) {
         blackhole.consume(parameters.fileCache.put(randomKeyInCache(parameters), INDEX_INPUT));
@@ -85,13 +98,17 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "lru", "clock" })
+        String evictionPolicy;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
+            fileCache = FileCacheFactory.createConcurrentFileCache(
                 (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel
+                concurrencyLevel,
+                CacheEvictionPolicy.fromString(evictionPolicy)
             );
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
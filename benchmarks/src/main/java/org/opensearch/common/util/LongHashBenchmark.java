@@ -9,6 +9,8 @@
 package org.opensearch.common.util;
 
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -57,10 +59,17 @@ public class LongHashBenchmark {
         @Param({ "0.6" })
         public float loadFactor;
 
+        @Param({ "heap", "direct" })
+        public String memory;
+
         private Supplier<HashTable> supplier;
 
+        private BigArrays bigArrays;
+
         @Setup
         public void setup() {
+            Settings settings = Settings.builder().put(PageCacheRecycler.MEMORY_TYPE_SETTING.getKey(), memory).build();
+            bigArrays = new BigArrays(new PageCacheRecycler(settings), null, CircuitBreaker.REQUEST);
             switch (type) {
                 case "LongHash":
                     supplier = this::newLongHash;
@@ -79,7 +88,7 @@ public class LongHashBenchmark {
 
         private HashTable newLongHash() {
             return new HashTable() {
-                private final LongHash table = new LongHash(initialCapacity, loadFactor, BigArrays.NON_RECYCLING_INSTANCE);
+                private final LongHash table = new LongHash(initialCapacity, loadFactor, bigArrays);
 
                 @Override
                 public long add(long key) {
@@ -98,7 +107,7 @@ public class LongHashBenchmark {
                 private final ReorganizingLongHash table = new ReorganizingLongHash(
                     initialCapacity,
                     loadFactor,
-                    BigArrays.NON_RECYCLING_INSTANCE
+                    bigArrays
                 );
 
                 @Override
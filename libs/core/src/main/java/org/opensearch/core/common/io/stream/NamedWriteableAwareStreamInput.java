@@ -32,6 +32,8 @@
 
 package org.opensearch.core.common.io.stream;
 
+import org.opensearch.core.common.bytes.BytesReference;
+
 import java.io.IOException;
 
 /**
@@ -75,6 +77,12 @@ public class NamedWriteableAwareStreamInput extends FilterStreamInput {
         return c;
     }
 
+    @Override
+    public BytesReference readBytesReference(int length) throws IOException {
+        // the wrapped stream may return slices of its bytes rather than copies
+        return delegate.readBytesReference(length);
+    }
+
     @Override
     public NamedWriteableRegistry namedWriteableRegistry() {
         return namedWriteableRegistry;
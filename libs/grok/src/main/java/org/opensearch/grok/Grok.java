@@ -412,6 +412,58 @@ public final class Grok {
         return true;
     }
 
+    /**
+     * Searches the text for the leftmost match of this expression, see {@link MultiPatternGrok}.
+     *
+     * @return the matcher holding the match, or {@code null} if there was no match
+     * @throws RuntimeException if there was a timeout
+     */
+    Matcher search(byte[] utf8Bytes, int offset, int length) {
+        Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
+        int result;
+        try {
+            matcherWatchdog.register(matcher);
+            result = matcher.search(offset, offset + length, Option.DEFAULT);
+        } finally {
+            matcherWatchdog.unregister(matcher);
+        }
+        return matchResult(matcher, result);
+    }
+
+    /**
+     * Checks whether this expression matches at the start of the text, see {@link MultiPatternGrok}.
+     *
+     * @return the matcher holding the match, or {@code null} if there was no match
+     * @throws RuntimeException if there was a timeout
+     */
+    Matcher matchAtStart(byte[] utf8Bytes, int offset, int length) {
+        Matcher matcher = compiledExpression.matcher(utf8Bytes, offset, offset + length);
+        int result;
+        try {
+            matcherWatchdog.register(matcher);
+            result = matcher.match(offset, offset + length, Option.DEFAULT);
+        } finally {
+            matcherWatchdog.unregister(matcher);
+        }
+        return matchResult(matcher, result);
+    }
+
+    private Matcher matchResult(Matcher matcher, int result) {
+        if (result == Matcher.INTERRUPTED) {
+            throw new RuntimeException(
+                "grok pattern matching was interrupted after [" + matcherWatchdog.maxExecutionTimeInMillis() + "] ms"
+            );
+        }
+        return result == Matcher.FAILED ? null : matcher;
+    }
+
+    /**
+     * Collects the named captures of a match returned by {@link #search} or {@link #matchAtStart}.
+     */
+    void extract(byte[] utf8Bytes, int offset, Matcher matcher, GrokCaptureExtracter extracter) {
+        extracter.extract(utf8Bytes, offset, matcher.getEagerRegion(), captureAllMatches);
+    }
+
     /**
      * The list of values that this {@linkplain Grok} can capture.
      */
@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Extracts the literal strings that any text matched by a grok pattern contains, for {@link RequiredLiterals}.
+ * <p>
+ * The extraction is conservative: literals are only taken from the parts of the pattern that every match goes through,
+ * {@code %{NAME:field}} references contribute none, and a pattern whose structure is not understood has no literals at all.
+ */
+final class GrokLiterals {
+
+    private static final String LITERAL_PUNCTUATION = " _-:;,/@=<>\"'!&%~#";
+
+    private final String regex;
+    private int pos;
+    // set when the expression has a construct that is not understood, the parser then stops
+    private boolean unsupported;
+
+    private GrokLiterals(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Returns the literals that any text matched by the given grok pattern contains.
+     */
+    static List<String> extract(String grokPattern) {
+        GrokLiterals parser = new GrokLiterals(grokPattern);
+        List<String> literals = parser.sequence();
+        if (parser.unsupported || literals == null || parser.pos != grokPattern.length()) {
+            return List.of();
+        }
+        return literals;
+    }
+
+    /**
+     * Parses a sequence up to the parenthesis closing the current group or the end of the expression. Returns its literals,
+     * or {@code null} if it has alternatives.
+     */
+    private List<String> sequence() {
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean alternatives = false;
+        while (unsupported == false && pos < regex.length()) {
+            char c = regex.charAt(pos);
+            char literal;
+            int next;
+            if (c == ')') {
+                break;
+            } else if (c == '|') {
+                alternatives = true;
+                flush(current, literals);
+                pos++;
+                continue;
+            } else if (c == '%' && regex.startsWith("{", pos + 1)) {
+                // a pattern reference is an expression of its own
+                flush(current, literals);
+                pos = skipTo('}', pos) + 1;
+                continue;
+            } else if (c == '(') {
+                flush(current, literals);
+                group(literals);
+                continue;
+            } else if (c == '[') {
+                flush(current, literals);
+                pos = endOfCharacterClass(pos) + 1;
+                continue;
+            } else if (c == '{') {
+                // a repetition of whatever precedes it, which was already flushed
+                flush(current, literals);
+                pos = skipTo('}', pos) + 1;
+                continue;
+            } else if (c == '\\') {
+                if (pos + 1 == regex.length()) {
+                    unsupported = true;
+                    break;
+                }
+                char escaped = regex.charAt(pos + 1);
+                if (isAsciiLetterOrDigit(escaped)) {
+                    // character classes, anchors, back references, character codes...
+                    flush(current, literals);
+                    skipEscape(escaped);
+                    continue;
+                }
+                literal = escaped;
+                next = pos + 2;
+            } else if (isAsciiLetterOrDigit(c) || LITERAL_PUNCTUATION.indexOf(c) >= 0) {
+                literal = c;
+                next = pos + 1;
+            } else {
+                // any other meta character, including quantifiers of groups and classes
+                flush(current, literals);
+                pos++;
+                continue;
+            }
+            if (next < regex.length() && isOptionalQuantifier(regex.charAt(next))) {
+                flush(current, literals);
+            } else if (next < regex.length() && regex.charAt(next) == '+') {
+                current.append(literal);
+                flush(current, literals);
+            } else {
+                current.append(literal);
+            }
+            pos = next;
+        }
+        flush(current, literals);
+        return alternatives ? null : literals;
+    }
+
+    private void group(List<String> literals) {
+        pos++;
+        boolean required = true;
+        if (regex.startsWith("?", pos)) {
+            if (regex.startsWith("?:", pos) || regex.startsWith("?>", pos)) {
+                pos += 2;
+            } else if (regex.startsWith("?=", pos) || regex.startsWith("?!", pos)) {
+                required = false;
+                pos += 2;
+            } else if (regex.startsWith("?<=", pos) || regex.startsWith("?<!", pos)) {
+                required = false;
+                pos += 3;
+            } else if (regex.startsWith("?<", pos)) {
+                pos = skipTo('>', pos) + 1;
+            } else {
+                // inline flags change how the rest of the expression matches
+                unsupported = true;
+                return;
+            }
+        }
+        List<String> groupLiterals = sequence();
+        if (unsupported || pos >= regex.length()) {
+            // the group is not closed
+            unsupported = true;
+            return;
+        }
+        pos++;
+        if (pos < regex.length() && isOptionalQuantifier(regex.charAt(pos))) {
+            required = false;
+        }
+        if (required && groupLiterals != null) {
+            literals.addAll(groupLiterals);
+        }
+    }
+
+    /**
+     * Skips an escape sequence whose first character is a letter or a digit, including its arguments.
+     */
+    private void skipEscape(char escaped) {
+        pos += 2;
+        switch (escaped) {
+            case 'p', 'P', 'N', 'x' -> {
+                if (regex.startsWith("{", pos)) {
+                    pos = skipTo('}', pos) + 1;
+                } else if (escaped == 'x') {
+                    pos += 2;
+                } else if (escaped != 'N') {
+                    pos++;
+                }
+            }
+            case 'k', 'g' -> {
+                if (regex.startsWith("<", pos)) {
+                    pos = skipTo('>', pos) + 1;
+                } else if (regex.startsWith("'", pos)) {
+                    pos = skipTo('\'', pos + 1) + 1;
+                } else if (regex.startsWith("{", pos)) {
+                    pos = skipTo('}', pos) + 1;
+                }
+            }
+            case 'u' -> pos += 4;
+            case 'c' -> pos++;
+            // quoted sequences
+            case 'Q' -> unsupported = true;
+            default -> {
+                if (escaped >= '0' && escaped <= '9') {
+                    // back references and octal codes
+                    while (pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') {
+                        pos++;
+                    }
+                }
+            }
+        }
+        if (pos > regex.length()) {
+            unsupported = true;
+        }
+    }
+
+    /**
+     * Returns the position of the given character from the given position, or marks the expression as unsupported.
+     */
+    private int skipTo(char c, int from) {
+        int end = regex.indexOf(c, from);
+        if (end == -1) {
+            unsupported = true;
+            return regex.length();
+        }
+        return end;
+    }
+
+    private int endOfCharacterClass(int start) {
+        int i = start + 1;
+        if (regex.startsWith("^", i)) {
+            i++;
+        }
+        if (regex.startsWith("]", i)) {
+            // a leading ] is part of the class
+            i++;
+        }
+        for (; unsupported == false && i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = endOfCharacterClass(i);
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        unsupported = true;
+        return regex.length();
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isOptionalQuantifier(char c) {
+        return c == '*' || c == '?' || c == '{';
+    }
+
+    private static void flush(StringBuilder current, List<String> literals) {
+        if (current.length() > 0) {
+            literals.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.joni.Matcher;
+
+/**
+ * Matches a text against several grok patterns, like a {@link Grok} of the alternation of the patterns would, without
+ * running every pattern on every text:
+ * <ul>
+ *     <li>the patterns that require literal strings the text does not contain are skipped, see {@link RequiredLiterals},</li>
+ *     <li>the pattern that matched last is tried first: once it matches at the start of the text, the other patterns only
+ *     need to be tried if they come first, and then only at the start of the text.</li>
+ * </ul>
+ * Like the alternation, the match that starts first in the text wins, and the first pattern wins among matches that start
+ * at the same position.
+ */
+public final class MultiPatternGrok {
+
+    private final List<Grok> groks;
+    private final RequiredLiterals requiredLiterals;
+    // a hint only, racing updates are fine
+    private volatile int lastMatchedPattern;
+
+    public MultiPatternGrok(
+        Map<String, String> patternBank,
+        List<String> grokPatterns,
+        MatcherWatchdog matcherWatchdog,
+        Consumer<String> logCallBack,
+        boolean captureAllMatches
+    ) {
+        if (grokPatterns.isEmpty()) {
+            throw new IllegalArgumentException("at least one grok pattern is required");
+        }
+        List<Grok> groks = new ArrayList<>(grokPatterns.size());
+        for (String grokPattern : grokPatterns) {
+            groks.add(new Grok(patternBank, grokPattern, matcherWatchdog, logCallBack, captureAllMatches));
+        }
+        this.groks = Collections.unmodifiableList(groks);
+        this.requiredLiterals = new RequiredLiterals(grokPatterns);
+    }
+
+    /**
+     * Matches and returns any named captures.
+     *
+     * @param text the text to match and extract values from.
+     * @return a map containing field names and their respective coerced values that matched or null if no pattern matched
+     */
+    public Map<String, Object> captures(String text) {
+        return captures(text, pattern -> {});
+    }
+
+    /**
+     * Matches and returns any named captures.
+     *
+     * @param text the text to match and extract values from.
+     * @param matchedPattern notified of the index of the pattern that matched, if any
+     * @return a map containing field names and their respective coerced values that matched or null if no pattern matched
+     * @throws RuntimeException if there was a timeout
+     */
+    public Map<String, Object> captures(String text, IntConsumer matchedPattern) {
+        final boolean[] candidates = requiredLiterals.candidates(text);
+        final byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        final int hint = lastMatchedPattern;
+
+        int best = -1;
+        int bestStart = Integer.MAX_VALUE;
+        Matcher bestMatcher = null;
+        for (int i = -1; i < groks.size(); i++) {
+            // try the last matched pattern first, then the others in order
+            final int pattern = i == -1 ? hint : i;
+            if ((i >= 0 && pattern == hint) || candidates[pattern] == false) {
+                continue;
+            }
+            if (bestStart == 0) {
+                if (pattern > best) {
+                    // nothing starts before the start of the text, and later patterns lose ties
+                    break;
+                }
+                final Matcher matcher = groks.get(pattern).matchAtStart(utf8Bytes, 0, utf8Bytes.length);
+                if (matcher != null) {
+                    best = pattern;
+                    bestMatcher = matcher;
+                }
+            } else {
+                final Matcher matcher = groks.get(pattern).search(utf8Bytes, 0, utf8Bytes.length);
+                if (matcher != null) {
+                    final int start = matcher.getEagerRegion().getBeg(0);
+                    if (start < bestStart || (start == bestStart && pattern < best)) {
+                        best = pattern;
+                        bestStart = start;
+                        bestMatcher = matcher;
+                    }
+                }
+            }
+        }
+        if (best == -1) {
+            return null;
+        }
+        if (best != hint) {
+            lastMatchedPattern = best;
+        }
+        final Grok grok = groks.get(best);
+        final GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(grok.captureConfig());
+        grok.extract(utf8Bytes, 0, bestMatcher, extracter);
+        matchedPattern.accept(best);
+        return extracter.result();
+    }
+
+    /**
+     * The {@link Grok} of each pattern.
+     */
+    public List<Grok> groks() {
+        return groks;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Prefilters the grok patterns of a {@link MultiPatternGrok} by the literal strings each of them requires: a single
+ * Aho-Corasick pass over the text finds the literals it contains, and only the patterns whose required literals are all
+ * present can match it.
+ * <p>
+ * Literals are extracted conservatively by {@link GrokLiterals}, pattern references contribute none. A pattern without
+ * required literals, for instance with a top level alternation or inline options, is always a candidate.
+ */
+final class RequiredLiterals {
+
+    private final int numPatterns;
+    // the patterns that require each literal, indexed by literal
+    private final int[][] patternsByLiteral;
+    // the number of distinct literals each pattern requires
+    private final int[] numLiteralsByPattern;
+
+    // the automaton: the sorted transitions of each state, its failure state and the literals that end in it
+    private final char[][] transitionChars;
+    private final int[][] transitionStates;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    RequiredLiterals(List<String> grokPatterns) {
+        this.numPatterns = grokPatterns.size();
+        final Map<String, Integer> literalIds = new HashMap<>();
+        final List<List<Integer>> patternsByLiteral = new ArrayList<>();
+        this.numLiteralsByPattern = new int[numPatterns];
+        for (int pattern = 0; pattern < numPatterns; pattern++) {
+            for (String literal : new LinkedHashSet<>(extract(grokPatterns.get(pattern)))) {
+                final int id = literalIds.computeIfAbsent(literal, l -> {
+                    patternsByLiteral.add(new ArrayList<>());
+                    return patternsByLiteral.size() - 1;
+                });
+                patternsByLiteral.get(id).add(pattern);
+                numLiteralsByPattern[pattern]++;
+            }
+        }
+        this.patternsByLiteral = new int[patternsByLiteral.size()][];
+        for (int id = 0; id < patternsByLiteral.size(); id++) {
+            this.patternsByLiteral[id] = patternsByLiteral.get(id).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        // build the trie
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieOutputs.add(new ArrayList<>());
+        for (Map.Entry<String, Integer> literal : literalIds.entrySet()) {
+            int state = 0;
+            for (int i = 0; i < literal.getKey().length(); i++) {
+                final char c = literal.getKey().charAt(i);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trieOutputs.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            trieOutputs.get(state).add(literal.getValue());
+        }
+        final int numStates = trie.size();
+        this.transitionChars = new char[numStates][];
+        this.transitionStates = new int[numStates][];
+        for (int state = 0; state < numStates; state++) {
+            final TreeMap<Character, Integer> transitions = trie.get(state);
+            transitionChars[state] = new char[transitions.size()];
+            transitionStates[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                transitionChars[state][i] = transition.getKey();
+                transitionStates[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        // compute the failure states breadth first, so that the failure state of a state is computed before its children
+        this.failures = new int[numStates];
+        this.outputs = new int[numStates][];
+        outputs[0] = new int[0];
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionStates[0]) {
+            failures[child] = 0;
+            queue.add(child);
+        }
+        while (queue.isEmpty() == false) {
+            final int state = queue.poll();
+            final List<Integer> stateOutputs = new ArrayList<>(trieOutputs.get(state));
+            for (int output : outputs[failures[state]]) {
+                stateOutputs.add(output);
+            }
+            outputs[state] = stateOutputs.stream().mapToInt(Integer::intValue).toArray();
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                final int child = transitionStates[state][i];
+                failures[child] = next(failures[state], transitionChars[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            final int i = Arrays.binarySearch(transitionChars[state], c);
+            if (i >= 0) {
+                return transitionStates[state][i];
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = failures[state];
+        }
+    }
+
+    /**
+     * Returns whether each pattern may match the given text, that is whether the text contains all its required literals.
+     */
+    boolean[] candidates(String text) {
+        final boolean[] candidates = new boolean[numPatterns];
+        final int[] missingLiterals = numLiteralsByPattern.clone();
+        for (int pattern = 0; pattern < numPatterns; pattern++) {
+            candidates[pattern] = missingLiterals[pattern] == 0;
+        }
+        if (patternsByLiteral.length == 0) {
+            return candidates;
+        }
+        final boolean[] found = new boolean[patternsByLiteral.length];
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int literal : outputs[state]) {
+                if (found[literal] == false) {
+                    found[literal] = true;
+                    for (int pattern : patternsByLiteral[literal]) {
+                        if (--missingLiterals[pattern] == 0) {
+                            candidates[pattern] = true;
+                        }
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Extracts the literal strings that any text matching the given grok pattern contains.
+     */
+    static List<String> extract(String grokPattern) {
+        return GrokLiterals.extract(grokPattern);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class MultiPatternGrokTests extends OpenSearchTestCase {
+
+    private static final List<String> LOG_PATTERNS = List.of(
+        "%{IPORHOST:client} - %{USER:user} \\[%{HTTPDATE:timestamp}\\] \"%{WORD:verb} %{NOTSPACE:request}\" %{NUMBER:status:int}",
+        "%{TIMESTAMP_ISO8601:timestamp} %{LOGLEVEL:level} \\[%{DATA:thread}\\] %{GREEDYDATA:message}",
+        "%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} %{PROG:program}: %{GREEDYDATA:message}",
+        "level=%{LOGLEVEL:level} msg=%{QUOTEDSTRING:message}",
+        "%{WORD:key}=%{WORD:value}"
+    );
+
+    private static final List<String> LOG_LINES = List.of(
+        "10.0.0.1 - admin [10/Oct/2000:13:55:36 -0700] \"GET /index.html\" 200",
+        "2024-01-01T10:00:00Z INFO [main] started",
+        "Oct 11 22:14:15 host sshd: accepted connection",
+        "level=WARN msg=\"disk is full\"",
+        "prefix a=b",
+        "no match here",
+        ""
+    );
+
+    public void testExtractLiterals() {
+        assertThat(RequiredLiterals.extract("level=%{LOGLEVEL:level} msg=%{DATA:message}"), contains("level=", " msg="));
+        assertThat(RequiredLiterals.extract("\\[%{HTTPDATE:timestamp}\\] \"%{WORD:verb}"), contains("[", "] \""));
+        // groups and character classes are skipped
+        assertThat(RequiredLiterals.extract("start (optional)? [a-z]+ end"), contains("start ", " ", " end"));
+        assertThat(RequiredLiterals.extract("a[]x(]b"), contains("a", "b"));
+        // optional characters are not required
+        assertThat(RequiredLiterals.extract("https?://%{HOST:host}"), contains("http", "://"));
+        assertThat(RequiredLiterals.extract("ab*c"), contains("a", "c"));
+        assertThat(RequiredLiterals.extract("ab{0,2}c"), contains("a", "c"));
+        assertThat(RequiredLiterals.extract("ab+c"), contains("ab", "c"));
+        // character types and meta characters
+        assertThat(RequiredLiterals.extract("^id\\d+ \\.x.y$"), contains("id", " .x", "y"));
+        // required groups and escape sequences with arguments
+        assertThat(RequiredLiterals.extract("(?<verb>GET) %{WORD:path}"), contains("GET", " "));
+        assertThat(RequiredLiterals.extract("a\\x20b"), contains("a", "b"));
+        assertThat(RequiredLiterals.extract("a\\x{20}b\\u00e9c"), contains("a", "b", "c"));
+        assertThat(RequiredLiterals.extract("a\\p{L}b\\pLc"), contains("a", "b", "c"));
+        assertThat(RequiredLiterals.extract("(?<x>a)\\k<x>b\\012c"), contains("a", "b", "c"));
+        // no required literals
+        assertThat(RequiredLiterals.extract("%{WORD:a}"), empty());
+        assertThat(RequiredLiterals.extract("%{WORD:a}\\x20%{WORD:b}"), empty());
+        assertThat(RequiredLiterals.extract("foo|bar"), empty());
+        assertThat(RequiredLiterals.extract("(?i)foo"), empty());
+        assertThat(RequiredLiterals.extract("foo(?i:bar)"), empty());
+        assertThat(RequiredLiterals.extract("foo(bar"), empty());
+        assertThat(RequiredLiterals.extract("foo\\"), empty());
+        assertThat(RequiredLiterals.extract("foo%{WORD:a"), empty());
+    }
+
+    public void testCandidates() {
+        final RequiredLiterals requiredLiterals = new RequiredLiterals(
+            List.of("level=%{WORD} msg=%{WORD}", "%{WORD}", "el=%{WORD}", "msg=%{WORD} level=%{WORD}", "abc|level")
+        );
+        // " msg=" is not found at the start of the text
+        assertArrayEquals(new boolean[] { false, true, true, true, true }, requiredLiterals.candidates("msg=b level=a"));
+        assertArrayEquals(new boolean[] { true, true, true, false, true }, requiredLiterals.candidates("level=a msg=b"));
+        assertArrayEquals(new boolean[] { false, true, true, false, true }, requiredLiterals.candidates("level=a"));
+        assertArrayEquals(new boolean[] { false, true, false, false, true }, requiredLiterals.candidates("msg=b"));
+        assertArrayEquals(new boolean[] { false, true, false, false, true }, requiredLiterals.candidates(""));
+    }
+
+    public void testCandidatesMatchesContains() {
+        final List<String> patterns = new ArrayList<>();
+        final int numPatterns = randomIntBetween(1, 20);
+        for (int i = 0; i < numPatterns; i++) {
+            final String prefix = randomAlphaOfLengthBetween(1, 3).toLowerCase(Locale.ROOT);
+            patterns.add(prefix + "%{WORD}" + randomAlphaOfLengthBetween(0, 3).toLowerCase(Locale.ROOT));
+        }
+        final RequiredLiterals requiredLiterals = new RequiredLiterals(patterns);
+        for (int iteration = 0; iteration < 100; iteration++) {
+            final String text = randomAlphaOfLengthBetween(0, 30).toLowerCase(Locale.ROOT);
+            final boolean[] candidates = requiredLiterals.candidates(text);
+            for (int i = 0; i < patterns.size(); i++) {
+                boolean expected = true;
+                for (String literal : RequiredLiterals.extract(patterns.get(i))) {
+                    expected &= text.contains(literal);
+                }
+                assertThat(patterns.get(i) + " on " + text, candidates[i], equalTo(expected));
+            }
+        }
+    }
+
+    public void testEscapeSequenceWithArguments() {
+        final MultiPatternGrok multiPatternGrok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            List.of("%{NUMBER:n}", "%{WORD:a}\\x20%{WORD:b}"),
+            MatcherWatchdog.noop(),
+            logger::warn,
+            false
+        );
+        assertThat(multiPatternGrok.captures("foo bar"), equalTo(Map.of("a", "foo", "b", "bar")));
+    }
+
+    public void testEquivalentToAlternation() {
+        final MultiPatternGrok multiPatternGrok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            LOG_PATTERNS,
+            MatcherWatchdog.noop(),
+            logger::warn,
+            false
+        );
+        final Grok alternation = new Grok(Grok.BUILTIN_PATTERNS, alternation(LOG_PATTERNS), logger::warn);
+        for (int i = 0; i < 100; i++) {
+            // in random order, so that different patterns are tried first
+            final String line = randomFrom(LOG_LINES);
+            assertThat(line, multiPatternGrok.captures(line), equalTo(alternation.captures(line)));
+        }
+    }
+
+    public void testLeftmostMatchWins() {
+        final List<String> patterns = List.of("%{WORD:b}=2", "%{WORD:a}=1", "x%{WORD:c}=1");
+        final MultiPatternGrok multiPatternGrok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            patterns,
+            MatcherWatchdog.noop(),
+            logger::warn,
+            false
+        );
+        final Grok alternation = new Grok(Grok.BUILTIN_PATTERNS, alternation(patterns), logger::warn);
+        final AtomicInteger matched = new AtomicInteger(-1);
+        for (String text : List.of("y=2", "x=1 y=2", "xz=1", "xz=1 y=2", "y=2", "nothing")) {
+            final Map<String, Object> expected = alternation.captures(text);
+            matched.set(-1);
+            assertThat(text, multiPatternGrok.captures(text, matched::set), equalTo(expected));
+            if (expected == null) {
+                assertThat(matched.get(), equalTo(-1));
+            } else {
+                assertThat(multiPatternGrok.groks().get(matched.get()).captures(text), equalTo(expected));
+            }
+        }
+        assertThat(multiPatternGrok.captures("x=1 y=2"), equalTo(Map.of("a", "x")));
+        assertThat(multiPatternGrok.captures("xz=1"), equalTo(Map.of("a", "xz")));
+        assertThat(multiPatternGrok.captures("nothing"), nullValue());
+    }
+
+    public void testCaptureAllMatches() {
+        final List<String> patterns = List.of("%{NUMBER:num} %{NUMBER:num}", "%{WORD:word}");
+        final MultiPatternGrok multiPatternGrok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            patterns,
+            MatcherWatchdog.noop(),
+            logger::warn,
+            true
+        );
+        assertThat(multiPatternGrok.captures("1 2"), equalTo(Map.of("num", List.of("1", "2"))));
+        assertThat(multiPatternGrok.captures("abc"), equalTo(Map.of("word", "abc")));
+    }
+
+    private static String alternation(List<String> patterns) {
+        final StringBuilder alternation = new StringBuilder();
+        for (String pattern : patterns) {
+            if (alternation.length() > 0) {
+                alternation.append('|');
+            }
+            alternation.append("(?:").append(pattern).append(')');
+        }
+        return alternation.toString();
+    }
+}
@@ -0,0 +1,609 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.ICacheKeySerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongBiFunction;
+
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.SLAB_SIZE_KEY;
+
+/**
+ * A cache which keeps serialized keys and values outside the java heap, in direct {@link ByteBuffer} slabs.
+ * <p>
+ * Entries are appended to the current slab, log-structured. Once it is full the next slab is used, and once all slabs
+ * have been used the oldest one is evicted as a whole and written over. Only a small index entry, keyed by a hash of
+ * the serialized key, is kept on heap for every cached entry. Replaced and invalidated entries keep occupying their
+ * slab until it gets evicted.
+ * <p>
+ * Slabs are allocated lazily, and are released only once the cache is closed and they get garbage collected, so the
+ * sum of the sizes of all off-heap caches must fit within the JVM's max direct memory.
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class OffHeapCache<K, V> implements ICache<K, V> {
+
+    private final int slabSizeInBytes;
+    private final ByteBuffer[] slabs;
+    // Hashes of the keys written to each slab, so that a slab can be evicted without going over the whole index.
+    private final List<List<Long>> slabEntries;
+    private final Map<Long, Location> index = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int writeSlab;
+    private int writeOffset;
+
+    private final Serializer<ICacheKey<K>, byte[]> keySerializer;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final CacheStatsHolder cacheStatsHolder;
+
+    /**
+     * Used in computeIfAbsent to synchronize loading of a given key.
+     */
+    private final Map<ICacheKey<K>, CompletableFuture<V>> pendingLoads = new ConcurrentHashMap<>();
+
+    OffHeapCache(Builder<K, V> builder) {
+        long maxWeightInBytes = builder.getMaxWeightInBytes();
+        if (maxWeightInBytes <= 0) {
+            throw new IllegalArgumentException("Off-heap cache size should be greater than 0");
+        }
+        if (builder.slabSizeInBytes <= 0) {
+            throw new IllegalArgumentException("Off-heap cache slab size should be greater than 0");
+        }
+        this.slabSizeInBytes = Math.toIntExact(Math.min(builder.slabSizeInBytes, maxWeightInBytes));
+        int numberOfSlabs = Math.toIntExact(Math.max(1, maxWeightInBytes / slabSizeInBytes));
+        this.slabs = new ByteBuffer[numberOfSlabs];
+        this.slabEntries = new ArrayList<>(numberOfSlabs);
+        for (int i = 0; i < numberOfSlabs; i++) {
+            slabEntries.add(new ArrayList<>());
+        }
+        this.keySerializer = new ICacheKeySerializer<>(Objects.requireNonNull(builder.keySerializer, "Key serializer shouldn't be null"));
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to off-heap cache was null.");
+        }
+        V value = getInternal(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V getInternal(ICacheKey<K> key) {
+        byte[] serializedKey = keySerializer.serialize(key);
+        byte[] serializedValue = null;
+        lock.readLock().lock();
+        try {
+            Location location = index.get(hash(serializedKey));
+            if (location != null && location.matches(serializedKey)) {
+                serializedValue = location.readValue();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return serializedValue == null ? null : valueSerializer.deserialize(serializedValue);
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        byte[] serializedKey = keySerializer.serialize(key);
+        byte[] serializedValue = valueSerializer.serialize(value);
+        if (serializedKey.length + serializedValue.length > slabSizeInBytes) {
+            // Can never fit, so it is evicted straight away, along with any older value for the same key.
+            invalidate(key);
+            removalListener.onRemoval(new RemovalNotification<>(key, value, RemovalReason.EVICTED));
+            cacheStatsHolder.incrementEvictions(key.dimensions);
+            return;
+        }
+        long hash = hash(serializedKey);
+        List<RemovedEntry> removed = new ArrayList<>();
+        byte[] replacedValue = null;
+        lock.writeLock().lock();
+        try {
+            Location previous = index.remove(hash);
+            if (previous != null) {
+                if (previous.matches(serializedKey)) {
+                    replacedValue = previous.readValue();
+                } else {
+                    // Hash collision, there's only room for one of them.
+                    removed.add(new RemovedEntry(previous.readKey(), previous.readValue(), RemovalReason.CAPACITY));
+                }
+            }
+            Location location = allocate(serializedKey.length, serializedValue.length, removed);
+            location.write(serializedKey, serializedValue);
+            index.put(hash, location);
+            slabEntries.get(location.slab).add(hash);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (replacedValue != null) {
+            long sizeDelta = weigher.applyAsLong(key, value) - weigher.applyAsLong(key, valueSerializer.deserialize(replacedValue));
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, sizeDelta);
+        } else {
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, weigher.applyAsLong(key, value));
+        }
+        notifyRemovals(removed);
+    }
+
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = getInternal(key);
+        if (value == null) {
+            value = compute(key, loader);
+        }
+        if (!loader.isLoaded()) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V compute(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        // Only one of the threads will succeed putting a future into map for the same key, the rest wait on it.
+        CompletableFuture<V> existing = pendingLoads.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        try {
+            V value;
+            try {
+                value = loader.load(key);
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+                throw new ExecutionException(ex);
+            }
+            if (value == null) {
+                NullPointerException npe = new NullPointerException("loader returned a null value");
+                future.completeExceptionally(npe);
+                throw new ExecutionException(npe);
+            }
+            put(key, value);
+            future.complete(value);
+            return value;
+        } finally {
+            pendingLoads.remove(key, future);
+        }
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key == null) {
+            return;
+        }
+        byte[] serializedKey = keySerializer.serialize(key);
+        long hash = hash(serializedKey);
+        byte[] serializedValue = null;
+        lock.writeLock().lock();
+        try {
+            Location location = index.get(hash);
+            if (location != null && location.matches(serializedKey)) {
+                index.remove(hash);
+                serializedValue = location.readValue();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (serializedValue != null) {
+            notifyRemovals(List.of(new RemovedEntry(serializedKey, serializedValue, RemovalReason.EXPLICIT)));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            slabEntries.forEach(List::clear);
+            writeSlab = 0;
+            writeOffset = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        cacheStatsHolder.reset();
+    }
+
+    /**
+     * Provides a way to iterate over the cache keys. Keys are deserialized lazily, so keys that are removed while
+     * iterating are skipped.
+     * @return Iterable
+     */
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        List<Map.Entry<Long, Location>> snapshot;
+        lock.readLock().lock();
+        try {
+            snapshot = new ArrayList<>(index.entrySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+        return () -> new KeyIterator(snapshot.iterator());
+    }
+
+    /**
+     * Gives the current count of keys in the cache.
+     * @return current count of keys
+     */
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void refresh() {
+        // Nothing to refresh, entries don't expire.
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            slabEntries.forEach(List::clear);
+            // Direct buffers are freed once they are garbage collected.
+            for (int i = 0; i < slabs.length; i++) {
+                slabs[i] = null;
+            }
+            writeSlab = 0;
+            writeOffset = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Package private for testing
+    int numberOfSlabs() {
+        return slabs.length;
+    }
+
+    // Package private for testing
+    int slabSizeInBytes() {
+        return slabSizeInBytes;
+    }
+
+    /**
+     * Reserves room for an entry in the current slab, moving to the next one and evicting all its entries if it
+     * doesn't fit. Must be called under the write lock.
+     */
+    private Location allocate(int keyLength, int valueLength, List<RemovedEntry> removed) {
+        int length = keyLength + valueLength;
+        if (writeOffset + length > slabSizeInBytes) {
+            writeSlab = (writeSlab + 1) % slabs.length;
+            writeOffset = 0;
+            evictSlab(writeSlab, removed);
+        }
+        if (slabs[writeSlab] == null) {
+            slabs[writeSlab] = ByteBuffer.allocateDirect(slabSizeInBytes);
+        }
+        Location location = new Location(writeSlab, writeOffset, keyLength, valueLength);
+        writeOffset += length;
+        return location;
+    }
+
+    private void evictSlab(int slab, List<RemovedEntry> removed) {
+        List<Long> hashes = slabEntries.get(slab);
+        for (Long hash : hashes) {
+            Location location = index.get(hash);
+            // Entries which were replaced since live in a newer slab, and they are kept.
+            if (location != null && location.slab == slab) {
+                index.remove(hash);
+                removed.add(new RemovedEntry(location.readKey(), location.readValue(), RemovalReason.EVICTED));
+            }
+        }
+        hashes.clear();
+    }
+
+    private void notifyRemovals(List<RemovedEntry> removed) {
+        for (RemovedEntry entry : removed) {
+            ICacheKey<K> key = keySerializer.deserialize(entry.key);
+            V value = valueSerializer.deserialize(entry.value);
+            removalListener.onRemoval(new RemovalNotification<>(key, value, entry.reason));
+            cacheStatsHolder.decrementItems(key.dimensions);
+            cacheStatsHolder.decrementSizeInBytes(key.dimensions, weigher.applyAsLong(key, value));
+            if (entry.reason == RemovalReason.EVICTED || entry.reason == RemovalReason.CAPACITY) {
+                cacheStatsHolder.incrementEvictions(key.dimensions);
+            }
+        }
+    }
+
+    private static long hash(byte[] serializedKey) {
+        return MurmurHash3.hash128(serializedKey, 0, serializedKey.length, 0, new MurmurHash3.Hash128()).h1;
+    }
+
+    /**
+     * Position of an entry within the slabs. The serialized key is followed by the serialized value.
+     */
+    private final class Location {
+        private final int slab;
+        private final int offset;
+        private final int keyLength;
+        private final int valueLength;
+
+        Location(int slab, int offset, int keyLength, int valueLength) {
+            this.slab = slab;
+            this.offset = offset;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+        }
+
+        void write(byte[] serializedKey, byte[] serializedValue) {
+            slabs[slab].put(offset, serializedKey).put(offset + keyLength, serializedValue);
+        }
+
+        boolean matches(byte[] serializedKey) {
+            return keyLength == serializedKey.length && slabs[slab].slice(offset, keyLength).equals(ByteBuffer.wrap(serializedKey));
+        }
+
+        byte[] readKey() {
+            byte[] serializedKey = new byte[keyLength];
+            slabs[slab].get(offset, serializedKey);
+            return serializedKey;
+        }
+
+        byte[] readValue() {
+            byte[] serializedValue = new byte[valueLength];
+            slabs[slab].get(offset + keyLength, serializedValue);
+            return serializedValue;
+        }
+    }
+
+    /**
+     * An entry which was removed under the lock, whose listeners are notified once the lock is released.
+     */
+    private static final class RemovedEntry {
+        private final byte[] key;
+        private final byte[] value;
+        private final RemovalReason reason;
+
+        RemovedEntry(byte[] key, byte[] value, RemovalReason reason) {
+            this.key = key;
+            this.value = value;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * Iterates over a snapshot of the index, skipping the entries which were removed or replaced since.
+     */
+    private class KeyIterator implements Iterator<ICacheKey<K>> {
+        private final Iterator<Map.Entry<Long, Location>> iterator;
+        private ICacheKey<K> next;
+        private ICacheKey<K> current;
+
+        KeyIterator(Iterator<Map.Entry<Long, Location>> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && iterator.hasNext()) {
+                Map.Entry<Long, Location> entry = iterator.next();
+                byte[] serializedKey = null;
+                lock.readLock().lock();
+                try {
+                    if (index.get(entry.getKey()) == entry.getValue()) {
+                        serializedKey = entry.getValue().readKey();
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+                if (serializedKey != null) {
+                    next = keySerializer.deserialize(serializedKey);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public ICacheKey<K> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = null;
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            invalidate(current);
+            current = null;
+        }
+    }
+
+    /**
+     * Factory to create the off-heap cache.
+     */
+    public static class OffHeapCacheFactory implements Factory {
+
+        /**
+         * Off-heap cache name
+         */
+        public static final String NAME = "opensearch_offheap";
+
+        /**
+         * Default constructor
+         */
+        public OffHeapCacheFactory() {}
+
+        @Override
+        @SuppressWarnings({ "unchecked" })
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OffHeapCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+            Serializer<K, byte[]> keySerializer = null;
+            try {
+                keySerializer = (Serializer<K, byte[]>) config.getKeySerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OffHeapCache requires a key serializer of type Serializer<K, byte[]>");
+            }
+            Serializer<V, byte[]> valueSerializer = null;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OffHeapCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+            Builder<K, V> builder = new Builder<K, V>().setKeySerializer(keySerializer)
+                .setValueSerializer(valueSerializer)
+                .setDimensionNames(config.getDimensionNames())
+                .setSlabSizeInBytes(((ByteSizeValue) settingList.get(SLAB_SIZE_KEY).get(settings)).getBytes());
+            builder.setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener())
+                .setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setSettings(settings);
+            // If config value is set, use this instead. It is passed down by the TieredSpilloverCache.
+            if (config.getMaxSizeInBytes() > 0) {
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object to build the off-heap cache.
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private long slabSizeInBytes = OffHeapCacheSettings.DEFAULT_SLAB_SIZE.getBytes();
+        private List<String> dimensionNames;
+        private Serializer<K, byte[]> keySerializer;
+        private Serializer<V, byte[]> valueSerializer;
+
+        /**
+         * Default constructor
+         */
+        public Builder() {}
+
+        /**
+         * Sets the size of a single slab.
+         * @param slabSizeInBytes slab size
+         * @return builder
+         */
+        public Builder<K, V> setSlabSizeInBytes(long slabSizeInBytes) {
+            this.slabSizeInBytes = slabSizeInBytes;
+            return this;
+        }
+
+        /**
+         * Sets the allowed dimension names for keys that will enter this cache.
+         * @param dimensionNames A list of dimension names this cache will accept
+         * @return builder
+         */
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        /**
+         * Sets the key serializer for this cache.
+         * @param keySerializer the key serializer
+         * @return builder
+         */
+        public Builder<K, V> setKeySerializer(Serializer<K, byte[]> keySerializer) {
+            this.keySerializer = keySerializer;
+            return this;
+        }
+
+        /**
+         * Sets the value serializer for this cache.
+         * @param valueSerializer the value serializer
+         * @return builder
+         */
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        @Override
+        public OffHeapCache<K, V> build() {
+            return new OffHeapCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings related to the off-heap cache store.
+ */
+public class OffHeapCacheSettings {
+
+    /**
+     * Default cache size ie 1gb.
+     */
+    public static final ByteSizeValue DEFAULT_CACHE_SIZE = new ByteSizeValue(1, ByteSizeUnit.GB);
+
+    /**
+     * Default slab size ie 8mb.
+     */
+    public static final ByteSizeValue DEFAULT_SLAB_SIZE = new ByteSizeValue(8, ByteSizeUnit.MB);
+
+    /**
+     * Maximum size of the direct memory used by the cache.
+     * If this cache is used as a tier in a TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, DEFAULT_CACHE_SIZE, NodeScope)
+    );
+
+    /**
+     * Size of a single slab. Slabs are the unit of allocation and of eviction: once the cache is full, the oldest slab
+     * is dropped as a whole. An entry can't be larger than a slab.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.slab_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> SLAB_SIZE = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".slab_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            DEFAULT_SLAB_SIZE,
+            new ByteSizeValue(64, ByteSizeUnit.KB),
+            new ByteSizeValue(1, ByteSizeUnit.GB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Key for max size.
+     */
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+
+    /**
+     * Key for slab size.
+     */
+    public static final String SLAB_SIZE_KEY = "slab_size";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES,
+        SLAB_SIZE_KEY,
+        SLAB_SIZE
+    );
+
+    /**
+     * Map of cache type to its concrete settings.
+     */
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    /**
+     * Default constructor
+     */
+    OffHeapCacheSettings() {}
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    /**
+     * Fetches the concrete settings for a cache type.
+     * @param cacheType cache type
+     * @return settings keyed by their setting key
+     */
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OffHeapCache.OffHeapCacheFactory.NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.Randomness;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.BytesReferenceSerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongBiFunction;
+
+public class OffHeapCacheTests extends OpenSearchTestCase {
+
+    private static final String DIMENSION_NAME = "shardId";
+    private static final int SLAB_SIZE = 1024;
+
+    public void testGetAndPut() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 8, removalListener);
+        int numberOfKeys = randomIntBetween(10, 50);
+        for (int i = 0; i < numberOfKeys; i++) {
+            cache.put(getICacheKey("key" + i), "value" + i);
+        }
+        for (int i = 0; i < numberOfKeys; i++) {
+            assertEquals("value" + i, cache.get(getICacheKey("key" + i)));
+        }
+        assertNull(cache.get(getICacheKey("missing")));
+        assertEquals(numberOfKeys, cache.count());
+        assertEquals(numberOfKeys, cache.stats().getTotalItems());
+        assertEquals(numberOfKeys, cache.stats().getTotalHits());
+        assertEquals(1, cache.stats().getTotalMisses());
+        assertTrue(removalListener.notifications.isEmpty());
+    }
+
+    public void testReplace() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 8, removalListener);
+        ICacheKey<String> key = getICacheKey("key");
+        cache.put(key, "value");
+        cache.put(key, "a-longer-value");
+        assertEquals("a-longer-value", cache.get(key));
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.stats().getTotalItems());
+        assertEquals(getWeigher().applyAsLong(key, "a-longer-value"), cache.stats().getTotalSizeInBytes());
+        assertTrue(removalListener.notifications.isEmpty());
+    }
+
+    public void testEvictsOldestSlab() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        int numberOfSlabs = 4;
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * numberOfSlabs, removalListener);
+        assertEquals(numberOfSlabs, cache.numberOfSlabs());
+        String value = randomAlphaOfLength(SLAB_SIZE / 4);
+        // At most 3 entries fit in a slab, keys and their dimensions take some room as well
+        int numberOfKeys = numberOfSlabs * 3;
+        for (int i = 0; i < numberOfKeys; i++) {
+            cache.put(getICacheKey("key" + i), value);
+        }
+        assertTrue(removalListener.notifications.isEmpty());
+        assertEquals(numberOfKeys, cache.count());
+
+        // The next entry doesn't fit anymore, so the whole first slab is evicted
+        cache.put(getICacheKey("key" + numberOfKeys), value);
+        assertEquals(3, removalListener.notifications.size());
+        for (int i = 0; i < 3; i++) {
+            RemovalNotification<ICacheKey<String>, String> notification = removalListener.notifications.get(i);
+            assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+            assertEquals(value, notification.getValue());
+            assertNull(cache.get(getICacheKey("key" + i)));
+        }
+        Set<String> evicted = new HashSet<>();
+        removalListener.notifications.forEach(notification -> evicted.add(notification.getKey().key));
+        assertEquals(Set.of("key0", "key1", "key2"), evicted);
+        for (int i = 3; i <= numberOfKeys; i++) {
+            assertEquals(value, cache.get(getICacheKey("key" + i)));
+        }
+        assertEquals(numberOfKeys - 2, cache.count());
+        assertEquals(numberOfKeys - 2, cache.stats().getTotalItems());
+        assertEquals(3, cache.stats().getTotalEvictions());
+    }
+
+    public void testEntryLargerThanSlab() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 4, removalListener);
+        ICacheKey<String> key = getICacheKey("key");
+        cache.put(key, "value");
+        cache.put(key, randomAlphaOfLength(SLAB_SIZE + 1));
+        assertNull(cache.get(key));
+        assertEquals(0, cache.count());
+        assertEquals(2, removalListener.notifications.size());
+        assertEquals(RemovalReason.EXPLICIT, removalListener.notifications.get(0).getRemovalReason());
+        assertEquals(RemovalReason.EVICTED, removalListener.notifications.get(1).getRemovalReason());
+    }
+
+    public void testInvalidate() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 8, removalListener);
+        int numberOfKeys = randomIntBetween(10, 50);
+        for (int i = 0; i < numberOfKeys; i++) {
+            cache.put(getICacheKey("key" + i), "value" + i);
+        }
+        ICacheKey<String> key = getICacheKey("key" + randomIntBetween(0, numberOfKeys - 1));
+        cache.invalidate(key);
+        assertNull(cache.get(key));
+        assertEquals(numberOfKeys - 1, cache.count());
+        assertEquals(numberOfKeys - 1, cache.stats().getTotalItems());
+        assertEquals(1, removalListener.notifications.size());
+        assertEquals(RemovalReason.EXPLICIT, removalListener.notifications.get(0).getRemovalReason());
+        assertEquals(key, removalListener.notifications.get(0).getKey());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.stats().getTotalItems());
+        assertFalse(cache.keys().iterator().hasNext());
+    }
+
+    public void testKeys() throws Exception {
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 8, new MockRemovalListener<>());
+        int numberOfKeys = randomIntBetween(10, 50);
+        Set<ICacheKey<String>> expected = new HashSet<>();
+        for (int i = 0; i < numberOfKeys; i++) {
+            ICacheKey<String> key = getICacheKey("key" + i);
+            cache.put(key, "value" + i);
+            expected.add(key);
+        }
+        Set<ICacheKey<String>> actual = new HashSet<>();
+        for (ICacheKey<String> key : cache.keys()) {
+            actual.add(key);
+        }
+        assertEquals(expected, actual);
+
+        // Keys removed while iterating are skipped
+        ICacheKey<String> removed = getICacheKey("key0");
+        Iterator<ICacheKey<String>> iterator = cache.keys().iterator();
+        cache.invalidate(removed);
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertNotEquals(removed, iterator.next());
+            count++;
+        }
+        assertEquals(numberOfKeys - 1, count);
+    }
+
+    public void testComputeIfAbsentConcurrently() throws Exception {
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 8, new MockRemovalListener<>());
+        ICacheKey<String> key = getICacheKey("key");
+        int numberOfThreads = randomIntBetween(2, 10);
+        AtomicInteger loads = new AtomicInteger();
+        Phaser phaser = new Phaser(numberOfThreads + 1);
+        CountDownLatch countDownLatch = new CountDownLatch(numberOfThreads);
+        List<String> values = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                LoadAwareCacheLoader<ICacheKey<String>, String> loader = new LoadAwareCacheLoader<>() {
+                    boolean isLoaded;
+
+                    @Override
+                    public boolean isLoaded() {
+                        return isLoaded;
+                    }
+
+                    @Override
+                    public String load(ICacheKey<String> key) {
+                        isLoaded = true;
+                        loads.incrementAndGet();
+                        return "value";
+                    }
+                };
+                try {
+                    phaser.arriveAndAwaitAdvance();
+                    values.add(cache.computeIfAbsent(key, loader));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+            thread.start();
+        }
+        phaser.arriveAndAwaitAdvance();
+        countDownLatch.await();
+        assertEquals(numberOfThreads, values.size());
+        values.forEach(value -> assertEquals("value", value));
+        assertEquals(1, cache.count());
+        assertEquals(numberOfThreads, cache.stats().getTotalHits() + cache.stats().getTotalMisses());
+        assertTrue(loads.get() >= 1);
+    }
+
+    public void testRandomizedAgainstReference() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        OffHeapCache<String, String> cache = buildCache(SLAB_SIZE * 4, removalListener);
+        Random random = Randomness.get();
+        int numberOfOperations = randomIntBetween(500, 2000);
+        for (int i = 0; i < numberOfOperations; i++) {
+            ICacheKey<String> key = getICacheKey("key" + random.nextInt(100));
+            if (random.nextInt(4) == 0) {
+                cache.invalidate(key);
+            } else {
+                cache.put(key, randomAlphaOfLength(random.nextInt(200)));
+            }
+        }
+        // Whatever is left must be readable, and stats must match the index
+        int count = 0;
+        for (ICacheKey<String> key : cache.keys()) {
+            assertNotNull(cache.get(key));
+            count++;
+        }
+        assertEquals(count, cache.count());
+        assertEquals(count, cache.stats().getTotalItems());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testFactoryWithBytesReferenceValues() throws Exception {
+        MockRemovalListener<String, BytesReference> removalListener = new MockRemovalListener<>();
+        Map<String, Setting<?>> settingList = OffHeapCacheSettings.getSettingListForCacheType(CacheType.INDICES_REQUEST_CACHE);
+        Settings settings = Settings.builder()
+            .put(settingList.get(OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY).getKey(), "1mb")
+            .put(settingList.get(OffHeapCacheSettings.SLAB_SIZE_KEY).getKey(), "64kb")
+            .build();
+        ICache<String, BytesReference> cache = new OffHeapCache.OffHeapCacheFactory().create(
+            new CacheConfig.Builder<String, BytesReference>().setKeyType(String.class)
+                .setValueType(BytesReference.class)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new BytesReferenceSerializer())
+                .setRemovalListener(removalListener)
+                .setWeigher((key, value) -> value.length())
+                .setDimensionNames(List.of(DIMENSION_NAME))
+                .setSettings(settings)
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of()
+        );
+        assertEquals(16, ((OffHeapCache<String, BytesReference>) cache).numberOfSlabs());
+        assertEquals(64 * 1024, ((OffHeapCache<String, BytesReference>) cache).slabSizeInBytes());
+
+        List<BytesReference> values = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            BytesReference value = new BytesArray(randomByteArrayOfLength(randomIntBetween(1, 1024)));
+            values.add(value);
+            cache.put(getICacheKey("key" + i), value);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(values.get(i), cache.get(getICacheKey("key" + i)));
+        }
+        assertEquals(OffHeapCache.OffHeapCacheFactory.NAME, new OffHeapCache.OffHeapCacheFactory().getCacheName());
+        cache.close();
+    }
+
+    private OffHeapCache<String, String> buildCache(long maxSizeInBytes, RemovalListener<ICacheKey<String>, String> removalListener) {
+        OffHeapCache.Builder<String, String> builder = new OffHeapCache.Builder<String, String>().setKeySerializer(new StringSerializer())
+            .setValueSerializer(new StringSerializer())
+            .setDimensionNames(List.of(DIMENSION_NAME))
+            .setSlabSizeInBytes(SLAB_SIZE);
+        builder.setWeigher(getWeigher()).setRemovalListener(removalListener).setMaximumWeightInBytes(maxSizeInBytes);
+        return builder.build();
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+
+    private ToLongBiFunction<ICacheKey<String>, String> getWeigher() {
+        return (key, value) -> key.key.length() + value.length();
+    }
+
+    static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
+        final List<RemovalNotification<ICacheKey<K>, V>> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+            notifications.add(notification);
+        }
+    }
+
+    static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            if (bytes == null) {
+                return null;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
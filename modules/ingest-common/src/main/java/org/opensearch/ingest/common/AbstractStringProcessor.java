@@ -34,12 +34,15 @@ package org.opensearch.ingest.common;
 
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.ingest.FieldColumn;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Base class for processors that manipulate source strings and require a single "fields" array config value, which
@@ -74,14 +77,38 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
     @Override
     public final IngestDocument execute(IngestDocument document) {
         Object val = document.getFieldValue(field, Object.class, ignoreMissing);
-        Object newValue;
-
         if (val == null && ignoreMissing) {
             return document;
-        } else if (val == null) {
+        }
+        document.setFieldValue(targetField, processValue(val));
+        return document;
+    }
+
+    /**
+     * Processes the field of all the documents of the batch in a single pass, see {@link FieldColumn}.
+     */
+    @Override
+    public final void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        FieldColumn column = FieldColumn.read(ingestDocumentWrappers, field, ignoreMissing);
+        for (int i = 0; i < column.size(); i++) {
+            if (column.isFailed(i) || (column.get(i) == null && ignoreMissing)) {
+                continue;
+            }
+            try {
+                column.set(i, processValue(column.get(i)));
+            } catch (Exception e) {
+                column.fail(i, e);
+            }
+        }
+        column.write(targetField, handler);
+    }
+
+    private Object processValue(Object val) {
+        if (val == null) {
             throw new IllegalArgumentException("field [" + field + "] is null, cannot process it.");
         }
 
+        Object newValue;
         if (val instanceof List<?> list) {
             List<Object> newList = new ArrayList<>(list.size());
             for (Object value : list) {
@@ -112,9 +139,7 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
             }
 
         }
-
-        document.setFieldValue(targetField, newValue);
-        return document;
+        return newValue;
     }
 
     protected abstract T process(String value);
@@ -35,13 +35,16 @@ package org.opensearch.ingest.common;
 import org.opensearch.common.network.InetAddresses;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.ingest.FieldColumn;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -212,11 +215,34 @@ public final class ConvertProcessor extends AbstractProcessor {
     @Override
     public IngestDocument execute(IngestDocument document) {
         Object oldValue = document.getFieldValue(field, Object.class, ignoreMissing);
-        Object newValue;
-
         if (oldValue == null && ignoreMissing) {
             return document;
-        } else if (oldValue == null) {
+        }
+        document.setFieldValue(targetField, convert(oldValue));
+        return document;
+    }
+
+    /**
+     * Converts the field of all the documents of the batch in a single pass, see {@link FieldColumn}.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        FieldColumn column = FieldColumn.read(ingestDocumentWrappers, field, ignoreMissing);
+        for (int i = 0; i < column.size(); i++) {
+            if (column.isFailed(i) || (column.get(i) == null && ignoreMissing)) {
+                continue;
+            }
+            try {
+                column.set(i, convert(column.get(i)));
+            } catch (Exception e) {
+                column.fail(i, e);
+            }
+        }
+        column.write(targetField, handler);
+    }
+
+    private Object convert(Object oldValue) {
+        if (oldValue == null) {
             throw new IllegalArgumentException("Field [" + field + "] is null, cannot be converted to type [" + convertType + "]");
         }
 
@@ -225,12 +251,10 @@ public final class ConvertProcessor extends AbstractProcessor {
             for (Object value : list) {
                 newList.add(convertType.convert(value));
             }
-            newValue = newList;
+            return newList;
         } else {
-            newValue = convertType.convert(oldValue);
+            return convertType.convert(oldValue);
         }
-        document.setFieldValue(targetField, newValue);
-        return document;
     }
 
     @Override
@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
@@ -55,7 +56,10 @@ public final class GrokProcessor extends AbstractProcessor {
 
     private final String matchField;
     private final List<String> matchPatterns;
+    // matches a single pattern, null for several patterns
     private final Grok grok;
+    // matches several patterns without running all of them on every value, null for a single pattern
+    private final MultiPatternGrok multiPatternGrok;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
     private final boolean captureAllMatches;
@@ -74,13 +78,21 @@ public final class GrokProcessor extends AbstractProcessor {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug, captureAllMatches);
+        if (matchPatterns.size() > 1) {
+            this.grok = null;
+            this.multiPatternGrok = new MultiPatternGrok(patternBank, matchPatterns, matcherWatchdog, logger::debug, captureAllMatches);
+        } else {
+            this.grok = new Grok(patternBank, matchPatterns.get(0), matcherWatchdog, logger::debug, captureAllMatches);
+            this.multiPatternGrok = null;
+        }
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
         this.captureAllMatches = captureAllMatches;
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
         // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        for (String matchPattern : matchPatterns) {
+            new Grok(patternBank, matchPattern, matcherWatchdog, logger::warn).match("___nomatch___");
+        }
     }
 
     @Override
@@ -93,7 +105,10 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
+        final int[] matchedPattern = new int[1];
+        Map<String, Object> matches = multiPatternGrok == null
+            ? grok.captures(fieldValue)
+            : multiPatternGrok.captures(fieldValue, pattern -> matchedPattern[0] = pattern);
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
@@ -101,13 +116,7 @@ public final class GrokProcessor extends AbstractProcessor {
         matches.forEach(ingestDocument::setFieldValue);
 
         if (traceMatch) {
-            if (matchPatterns.size() > 1) {
-                @SuppressWarnings("unchecked")
-                HashMap<String, String> matchMap = (HashMap<String, String>) ingestDocument.getFieldValue(PATTERN_MATCH_KEY, Object.class);
-                matchMap.keySet().stream().findFirst().ifPresent((index) -> { ingestDocument.setFieldValue(PATTERN_MATCH_KEY, index); });
-            } else {
-                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, "0");
-            }
+            ingestDocument.setFieldValue(PATTERN_MATCH_KEY, Integer.toString(matchedPattern[0]));
         }
         return ingestDocument;
     }
@@ -33,6 +33,7 @@
 package org.opensearch.ingest.common;
 
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.test.OpenSearchTestCase;
@@ -41,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
 import static org.hamcrest.Matchers.containsString;
@@ -173,4 +175,51 @@ public abstract class AbstractStringProcessorTestCase<T> extends OpenSearchTestC
         processor.execute(ingestDocument);
         assertThat(ingestDocument.getFieldValue(targetFieldName, expectedResultType()), equalTo(expectedResult(fieldValue)));
     }
+
+    public void testBatchExecute() throws Exception {
+        String fieldName = randomAlphaOfLength(5) + "." + randomAlphaOfLength(5);
+        String targetFieldName = randomBoolean() ? fieldName : fieldName + "foo";
+        boolean ignoreMissing = randomBoolean();
+        Processor processor = newProcessor(fieldName, ignoreMissing, targetFieldName);
+        int numDocs = randomIntBetween(1, 20);
+        List<IngestDocumentWrapper> batch = new ArrayList<>();
+        List<IngestDocument> expectedDocuments = new ArrayList<>();
+        List<Exception> expectedFailures = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            IngestDocument ingestDocument = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            switch (randomInt(3)) {
+                case 0 -> ingestDocument.setFieldValue(fieldName, modifyInput(RandomDocumentPicks.randomString(random())));
+                case 1 -> ingestDocument.setFieldValue(fieldName, List.of(modifyInput(RandomDocumentPicks.randomString(random()))));
+                case 2 -> ingestDocument.setFieldValue(fieldName, randomInt());
+                default -> {
+                    // missing field
+                }
+            }
+            batch.add(new IngestDocumentWrapper(i, 0, ingestDocument, null));
+            IngestDocument expectedDocument = new IngestDocument(ingestDocument);
+            try {
+                processor.execute(expectedDocument);
+                expectedDocuments.add(expectedDocument);
+                expectedFailures.add(null);
+            } catch (Exception e) {
+                expectedDocuments.add(null);
+                expectedFailures.add(e);
+            }
+        }
+
+        AtomicReference<List<IngestDocumentWrapper>> results = new AtomicReference<>();
+        processor.batchExecute(batch, results::set);
+        assertThat(results.get().size(), equalTo(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            IngestDocumentWrapper result = results.get().get(i);
+            assertThat(result.getSlot(), equalTo(i));
+            if (expectedFailures.get(i) == null) {
+                assertNull(result.getException());
+                assertIngestDocument(result.getIngestDocument(), expectedDocuments.get(i));
+            } else {
+                assertNull(result.getIngestDocument());
+                assertThat(result.getException().getMessage(), equalTo(expectedFailures.get(i).getMessage()));
+            }
+        }
+    }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.ingest.common;
 
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.test.OpenSearchTestCase;
@@ -43,6 +44,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
 import static org.opensearch.ingest.common.ConvertProcessor.Type;
@@ -575,4 +577,22 @@ public class ConvertProcessorTests extends OpenSearchTestCase {
             assertThat(e.getMessage(), equalTo("[" + invalidIPString + "] is not a valid ipv4/ipv6 address"));
         }
     }
+
+    public void testBatchExecute() {
+        List<IngestDocumentWrapper> batch = new ArrayList<>();
+        batch.add(new IngestDocumentWrapper(0, 0, RandomDocumentPicks.randomIngestDocument(random(), Map.of("field", "10")), null));
+        batch.add(new IngestDocumentWrapper(1, 0, RandomDocumentPicks.randomIngestDocument(random(), Map.of("field", "x")), null));
+        batch.add(new IngestDocumentWrapper(2, 0, RandomDocumentPicks.randomIngestDocument(random(), Map.of("other", "1")), null));
+        IngestDocument listDocument = RandomDocumentPicks.randomIngestDocument(random(), Map.of("field", List.of("1", "2")));
+        batch.add(new IngestDocumentWrapper(3, 0, listDocument, null));
+        Processor processor = new ConvertProcessor(randomAlphaOfLength(10), null, "field", "target", Type.INTEGER, true);
+        AtomicReference<List<IngestDocumentWrapper>> results = new AtomicReference<>();
+        processor.batchExecute(batch, results::set);
+
+        assertThat(results.get().size(), equalTo(4));
+        assertThat(results.get().get(0).getIngestDocument().getFieldValue("target", Integer.class), equalTo(10));
+        assertThat(results.get().get(1).getException().getMessage(), equalTo("unable to convert [x] to integer"));
+        assertFalse(results.get().get(2).getIngestDocument().hasField("target"));
+        assertThat(results.get().get(3).getIngestDocument().getFieldValue("target", List.class), equalTo(List.of(1, 2)));
+    }
 }
@@ -32,8 +32,10 @@
 
 package org.opensearch.ingest.useragent;
 
+import org.opensearch.common.cache.Cache;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
 import org.opensearch.plugins.Plugin;
@@ -71,6 +73,8 @@ public class IngestUserAgentModulePlugin extends Plugin implements IngestPlugin
 
     static final String DEFAULT_PARSER_NAME = "_default_";
 
+    private volatile UserAgentCache cache;
+
     @Override
     public Map<String, Processor.Factory> getProcessors(Processor.Parameters parameters) {
         Path userAgentConfigDirectory = parameters.env.configDir().resolve("ingest-user-agent");
@@ -81,10 +85,9 @@ public class IngestUserAgentModulePlugin extends Plugin implements IngestPlugin
             );
         }
 
-        long cacheSize = CACHE_SIZE_SETTING.get(parameters.env.settings());
         Map<String, UserAgentParser> userAgentParsers;
         try {
-            userAgentParsers = createUserAgentParsers(userAgentConfigDirectory, new UserAgentCache(cacheSize));
+            userAgentParsers = createUserAgentParsers(userAgentConfigDirectory, getOrCreateCache(parameters.env.settings()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -94,6 +97,16 @@ public class IngestUserAgentModulePlugin extends Plugin implements IngestPlugin
         );
     }
 
+    /**
+     * Returns the cache of the parsers, which is created once so that the cache stats cover all the parsers created by this plugin.
+     */
+    private synchronized UserAgentCache getOrCreateCache(Settings settings) {
+        if (cache == null) {
+            cache = new UserAgentCache(CACHE_SIZE_SETTING.get(settings));
+        }
+        return cache;
+    }
+
     private Map<String, Processor.Factory> filterForAllowlistSetting(Settings settings, Map<String, Processor.Factory> map) {
         if (PROCESSORS_ALLOWLIST_SETTING.exists(settings) == false) {
             return Map.copyOf(map);
@@ -151,6 +164,18 @@ public class IngestUserAgentModulePlugin extends Plugin implements IngestPlugin
         return Collections.unmodifiableMap(userAgentParsers);
     }
 
+    @Override
+    public List<IngestStats.CacheStat> getCacheStats() {
+        UserAgentCache cache = this.cache;
+        if (cache == null) {
+            return List.of();
+        }
+        Cache.CacheStats stats = cache.stats();
+        return List.of(
+            new IngestStats.CacheStat(UserAgentProcessor.TYPE, cache.count(), stats.getHits(), stats.getMisses(), stats.getEvictions())
+        );
+    }
+
     @Override
     public List<Setting<?>> getSettings() {
         return Arrays.asList(CACHE_SIZE_SETTING, PROCESSORS_ALLOWLIST_SETTING);
@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.useragent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Extracts the literal strings that any string matched by a regular expression contains, so that {@link UserAgentParser}
+ * only runs the expressions whose literals the user agent contains.
+ * <p>
+ * The extraction is conservative: literals are only taken from the parts of the expression that every match goes
+ * through, and an expression whose structure is not understood has no literals at all.
+ */
+final class RegexLiterals {
+
+    private static final String LITERAL_PUNCTUATION = " _-:;,/@=<>\"'!&%~#";
+
+    private final String regex;
+    private int pos;
+
+    private RegexLiterals(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Returns the literals that any string matched by the given regular expression contains.
+     */
+    static List<String> extract(String regex) {
+        RegexLiterals parser = new RegexLiterals(regex);
+        try {
+            List<String> literals = parser.sequence();
+            if (literals == null || parser.pos != regex.length()) {
+                return List.of();
+            }
+            return literals;
+        } catch (UnsupportedOperationException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns the longest literal that any string matched by the given regular expression contains, or {@code null}.
+     */
+    static String longest(String regex) {
+        String longest = null;
+        for (String literal : extract(regex)) {
+            if (longest == null || literal.length() > longest.length()) {
+                longest = literal;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Parses a sequence up to the parenthesis closing the current group or the end of the expression. Returns its literals,
+     * or {@code null} if it has alternatives.
+     */
+    private List<String> sequence() {
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean alternatives = false;
+        while (pos < regex.length()) {
+            char c = regex.charAt(pos);
+            char literal;
+            int next;
+            if (c == ')') {
+                break;
+            } else if (c == '|') {
+                alternatives = true;
+                flush(current, literals);
+                pos++;
+                continue;
+            } else if (c == '(') {
+                flush(current, literals);
+                group(literals);
+                continue;
+            } else if (c == '[') {
+                flush(current, literals);
+                pos = endOfCharacterClass(pos) + 1;
+                continue;
+            } else if (c == '{') {
+                // a repetition of whatever precedes it, which was already flushed
+                flush(current, literals);
+                pos = skipTo('}', pos) + 1;
+                continue;
+            } else if (c == '\\') {
+                if (pos + 1 == regex.length()) {
+                    throw new UnsupportedOperationException();
+                }
+                char escaped = regex.charAt(pos + 1);
+                if (isAsciiLetterOrDigit(escaped)) {
+                    // character classes, anchors, back references, character codes...
+                    flush(current, literals);
+                    skipEscape(escaped);
+                    continue;
+                }
+                literal = escaped;
+                next = pos + 2;
+            } else if (isAsciiLetterOrDigit(c) || LITERAL_PUNCTUATION.indexOf(c) >= 0) {
+                literal = c;
+                next = pos + 1;
+            } else {
+                // any other meta character, including quantifiers of groups and classes
+                flush(current, literals);
+                pos++;
+                continue;
+            }
+            if (next < regex.length() && isOptionalQuantifier(regex.charAt(next))) {
+                flush(current, literals);
+            } else if (next < regex.length() && regex.charAt(next) == '+') {
+                current.append(literal);
+                flush(current, literals);
+            } else {
+                current.append(literal);
+            }
+            pos = next;
+        }
+        flush(current, literals);
+        return alternatives ? null : literals;
+    }
+
+    private void group(List<String> literals) {
+        pos++;
+        boolean required = true;
+        if (regex.startsWith("?", pos)) {
+            if (regex.startsWith("?:", pos) || regex.startsWith("?>", pos)) {
+                pos += 2;
+            } else if (regex.startsWith("?=", pos) || regex.startsWith("?!", pos)) {
+                required = false;
+                pos += 2;
+            } else if (regex.startsWith("?<=", pos) || regex.startsWith("?<!", pos)) {
+                required = false;
+                pos += 3;
+            } else if (regex.startsWith("?<", pos)) {
+                pos = skipTo('>', pos) + 1;
+            } else {
+                // inline flags change how the rest of the expression matches
+                throw new UnsupportedOperationException();
+            }
+        }
+        List<String> groupLiterals = sequence();
+        if (pos >= regex.length()) {
+            throw new UnsupportedOperationException();
+        }
+        pos++;
+        if (pos < regex.length() && isOptionalQuantifier(regex.charAt(pos))) {
+            required = false;
+        }
+        if (required && groupLiterals != null) {
+            literals.addAll(groupLiterals);
+        }
+    }
+
+    private void skipEscape(char escaped) {
+        pos += 2;
+        switch (escaped) {
+            case 'p', 'P', 'N', 'x' -> {
+                if (regex.startsWith("{", pos)) {
+                    pos = skipTo('}', pos) + 1;
+                } else if (escaped == 'x') {
+                    pos += 2;
+                } else if (escaped != 'N') {
+                    pos++;
+                }
+            }
+            case 'k', 'g' -> {
+                // named and numbered back references: \k<name>, \k'name', \k{name}, \g{1}...
+                if (regex.startsWith("<", pos)) {
+                    pos = skipTo('>', pos) + 1;
+                } else if (regex.startsWith("'", pos)) {
+                    pos = skipTo('\'', pos + 1) + 1;
+                } else if (regex.startsWith("{", pos)) {
+                    pos = skipTo('}', pos) + 1;
+                }
+            }
+            case 'u' -> pos += 4;
+            case 'c' -> pos++;
+            case 'Q' -> throw new UnsupportedOperationException();
+            default -> {
+                if (escaped >= '0' && escaped <= '9') {
+                    // back references and octal codes
+                    while (pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '9') {
+                        pos++;
+                    }
+                }
+            }
+        }
+        if (pos > regex.length()) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private int skipTo(char c, int from) {
+        int end = regex.indexOf(c, from);
+        if (end == -1) {
+            throw new UnsupportedOperationException();
+        }
+        return end;
+    }
+
+    private int endOfCharacterClass(int start) {
+        int i = start + 1;
+        if (regex.startsWith("^", i)) {
+            i++;
+        }
+        if (regex.startsWith("]", i)) {
+            i++;
+        }
+        for (; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                i = endOfCharacterClass(i);
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        throw new UnsupportedOperationException();
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isOptionalQuantifier(char c) {
+        return c == '*' || c == '?' || c == '{';
+    }
+
+    private static void flush(StringBuilder current, List<String> literals) {
+        if (current.length() > 0) {
+            literals.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
@@ -36,8 +36,10 @@ import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.ingest.useragent.UserAgentParser.Details;
 
-import java.util.Objects;
-
+/**
+ * Caches the parsed user agents of all the parsers. The underlying {@link Cache} is segmented by the hash of the keys, and
+ * the hash of a key is computed once when it is created rather than on every lookup.
+ */
 class UserAgentCache {
     private final Cache<CompositeCacheKey, Details> cache;
 
@@ -53,26 +55,36 @@ class UserAgentCache {
         cache.put(new CompositeCacheKey(parserName, userAgent), details);
     }
 
+    Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    int count() {
+        return cache.count();
+    }
+
     private static final class CompositeCacheKey {
         private final String parserName;
         private final String userAgent;
+        private final int hashCode;
 
         CompositeCacheKey(String parserName, String userAgent) {
             this.parserName = parserName;
             this.userAgent = userAgent;
+            this.hashCode = 31 * parserName.hashCode() + userAgent.hashCode();
         }
 
         @Override
         public boolean equals(Object obj) {
             if (obj instanceof CompositeCacheKey s) {
-                return parserName.equals(s.parserName) && userAgent.equals(s.userAgent);
+                return hashCode == s.hashCode && parserName.equals(s.parserName) && userAgent.equals(s.userAgent);
             }
             return false;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(parserName, userAgent);
+            return hashCode;
         }
     }
 }
@@ -43,6 +43,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -53,6 +54,10 @@ final class UserAgentParser {
     private final List<UserAgentSubpattern> uaPatterns = new ArrayList<>();
     private final List<UserAgentSubpattern> osPatterns = new ArrayList<>();
     private final List<UserAgentSubpattern> devicePatterns = new ArrayList<>();
+    // the distinct literals required by the patterns, lower cased for case insensitive patterns
+    private final Map<String, Integer> literalIds = new HashMap<>();
+    private final List<String> literals = new ArrayList<>();
+    private final List<Boolean> caseInsensitiveLiterals = new ArrayList<>();
     private final String name;
 
     UserAgentParser(String name, InputStream regexStream, UserAgentCache cache) {
@@ -82,7 +87,7 @@ final class UserAgentParser {
 
                     for (Map<String, String> map : parserConfigurations) {
                         uaPatterns.add(
-                            new UserAgentSubpattern(
+                            newSubpattern(
                                 compilePattern(map.get("regex"), map.get("regex_flag")),
                                 map.get("family_replacement"),
                                 map.get("v1_replacement"),
@@ -97,7 +102,7 @@ final class UserAgentParser {
 
                     for (Map<String, String> map : parserConfigurations) {
                         osPatterns.add(
-                            new UserAgentSubpattern(
+                            newSubpattern(
                                 compilePattern(map.get("regex"), map.get("regex_flag")),
                                 map.get("os_replacement"),
                                 map.get("os_v1_replacement"),
@@ -112,7 +117,7 @@ final class UserAgentParser {
 
                     for (Map<String, String> map : parserConfigurations) {
                         devicePatterns.add(
-                            new UserAgentSubpattern(
+                            newSubpattern(
                                 compilePattern(map.get("regex"), map.get("regex_flag")),
                                 map.get("device_replacement"),
                                 null,
@@ -140,6 +145,28 @@ final class UserAgentParser {
         }
     }
 
+    private UserAgentSubpattern newSubpattern(
+        Pattern pattern,
+        String nameReplacement,
+        String v1Replacement,
+        String v2Replacement,
+        String v3Replacement,
+        String v4Replacement
+    ) {
+        boolean caseInsensitive = (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0;
+        String literal = RegexLiterals.longest(pattern.pattern());
+        int literalId = -1;
+        if (literal != null) {
+            String key = caseInsensitive ? literal.toLowerCase(Locale.ROOT) : literal;
+            literalId = literalIds.computeIfAbsent((caseInsensitive ? "i:" : "s:") + key, k -> {
+                literals.add(key);
+                caseInsensitiveLiterals.add(caseInsensitive);
+                return literals.size() - 1;
+            });
+        }
+        return new UserAgentSubpattern(pattern, nameReplacement, v1Replacement, v2Replacement, v3Replacement, v4Replacement, literalId);
+    }
+
     private List<Map<String, String>> readParserConfigurations(XContentParser yamlParser) throws IOException {
         List<Map<String, String>> patternList = new ArrayList<>();
 
@@ -197,9 +224,10 @@ final class UserAgentParser {
         Details details = cache.get(name, agentString);
 
         if (details == null) {
-            VersionedName userAgent = findMatch(uaPatterns, agentString);
-            VersionedName operatingSystem = findMatch(osPatterns, agentString);
-            VersionedName device = findMatch(devicePatterns, agentString);
+            Candidates candidates = new Candidates(agentString);
+            VersionedName userAgent = findMatch(uaPatterns, candidates);
+            VersionedName operatingSystem = findMatch(osPatterns, candidates);
+            VersionedName device = findMatch(devicePatterns, candidates);
 
             details = new Details(userAgent, operatingSystem, device);
 
@@ -209,10 +237,13 @@ final class UserAgentParser {
         return details;
     }
 
-    private VersionedName findMatch(List<UserAgentSubpattern> possiblePatterns, String agentString) {
+    private VersionedName findMatch(List<UserAgentSubpattern> possiblePatterns, Candidates candidates) {
         VersionedName name;
         for (UserAgentSubpattern pattern : possiblePatterns) {
-            name = pattern.match(agentString);
+            if (candidates.mayMatch(pattern) == false) {
+                continue;
+            }
+            name = pattern.match(candidates.agentString);
 
             if (name != null) {
                 return name;
@@ -222,6 +253,40 @@ final class UserAgentParser {
         return null;
     }
 
+    /**
+     * Tells which patterns may match a user agent by the literals they require, checking each literal at most once.
+     */
+    private final class Candidates {
+        private static final byte UNKNOWN = 0, PRESENT = 1, ABSENT = 2;
+
+        private final String agentString;
+        private final byte[] literalStates;
+        private String lowerCaseAgentString;
+
+        Candidates(String agentString) {
+            this.agentString = agentString;
+            this.literalStates = new byte[literals.size()];
+        }
+
+        boolean mayMatch(UserAgentSubpattern pattern) {
+            int literalId = pattern.literalId;
+            if (literalId == -1) {
+                return true;
+            }
+            if (literalStates[literalId] == UNKNOWN) {
+                String text = agentString;
+                if (caseInsensitiveLiterals.get(literalId)) {
+                    if (lowerCaseAgentString == null) {
+                        lowerCaseAgentString = agentString.toLowerCase(Locale.ROOT);
+                    }
+                    text = lowerCaseAgentString;
+                }
+                literalStates[literalId] = text.contains(literals.get(literalId)) ? PRESENT : ABSENT;
+            }
+            return literalStates[literalId] == PRESENT;
+        }
+    }
+
     static final class Details {
         public final VersionedName userAgent;
         public final VersionedName operatingSystem;
@@ -256,6 +321,8 @@ final class UserAgentParser {
     static final class UserAgentSubpattern {
         private final Pattern pattern;
         private final String nameReplacement, v1Replacement, v2Replacement, v3Replacement, v4Replacement;
+        // the literal any match contains, see RegexLiterals, or -1
+        private final int literalId;
 
         UserAgentSubpattern(
             Pattern pattern,
@@ -263,9 +330,11 @@ final class UserAgentParser {
             String v1Replacement,
             String v2Replacement,
             String v3Replacement,
-            String v4Replacement
+            String v4Replacement,
+            int literalId
         ) {
             this.pattern = pattern;
+            this.literalId = literalId;
             this.nameReplacement = nameReplacement;
             this.v1Replacement = v1Replacement;
             this.v2Replacement = v2Replacement;
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.useragent;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class RegexLiteralsTests extends OpenSearchTestCase {
+
+    public void testExtract() {
+        assertThat(RegexLiterals.extract("(Firefox)/(\\d+)\\.(\\d+)"), equalTo(List.of("Firefox", "/", ".")));
+        assertThat(RegexLiterals.extract("(?:Mobile Safari).*Version/(\\d+)"), equalTo(List.of("Mobile Safari", "Version/")));
+        assertThat(RegexLiterals.extract("^Opera/(\\d+)(?:\\.(\\d+))?"), equalTo(List.of("Opera/")));
+        assertThat(RegexLiterals.extract("\\(Windows NT 10\\.0;"), equalTo(List.of("(Windows NT 10.0;")));
+        // alternatives, lookarounds and optional characters are not required
+        assertThat(RegexLiterals.extract("(Chrome|Chromium)/(\\d+)"), equalTo(List.of("/")));
+        assertThat(RegexLiterals.extract("(?=Foo)Bar[a-z]+Baz"), equalTo(List.of("Bar", "Baz")));
+        assertThat(RegexLiterals.extract("Ve?rsion"), equalTo(List.of("V", "rsion")));
+        assertThat(RegexLiterals.extract("Chrome|Firefox"), empty());
+    }
+
+    public void testEscapeSequencesAreSkipped() {
+        assertThat(RegexLiterals.extract("a\\x20b"), equalTo(List.of("a", "b")));
+        assertThat(RegexLiterals.extract("a\\x{20}b"), equalTo(List.of("a", "b")));
+        assertThat(RegexLiterals.extract("a\\u00e9b"), equalTo(List.of("a", "b")));
+        assertThat(RegexLiterals.extract("a\\p{L}b\\pLc"), equalTo(List.of("a", "b", "c")));
+        assertThat(RegexLiterals.extract("(?<x>a)\\k<x>b\\k'x'c\\k{x}d"), equalTo(List.of("a", "b", "c", "d")));
+        assertThat(RegexLiterals.extract("(a)\\g{1}b"), equalTo(List.of("a", "b")));
+        assertThat(RegexLiterals.extract("a\\012b"), equalTo(List.of("a", "b")));
+        assertThat(RegexLiterals.extract("a\\cJb"), equalTo(List.of("a", "b")));
+    }
+
+    public void testUnsupportedExpressions() {
+        assertThat(RegexLiterals.extract("a(?i)b"), empty());
+        assertThat(RegexLiterals.extract("\\QFirefox\\E"), empty());
+        assertThat(RegexLiterals.extract("(Firefox"), empty());
+        assertThat(RegexLiterals.longest("[a-z]+"), nullValue());
+    }
+
+    public void testLongest() {
+        assertThat(RegexLiterals.longest("(?:Mobile Safari).*Version/(\\d+)"), equalTo("Mobile Safari"));
+        assertThat(RegexLiterals.longest("Ve?rsion"), equalTo("rsion"));
+    }
+
+    public void testMatchesContainLiterals() {
+        Map<String, String> matches = Map.of(
+            "(Firefox)/(\\d+)\\.(\\d+)",
+            "Mozilla/5.0 Firefox/115.0",
+            "(?:Mobile Safari).*Version/(\\d+)",
+            "Mobile Safari/604.1 Version/17",
+            "(?:AppleWebKit|Chrome)/(\\d+)\\.(\\d+)(?: \\(KHTML)?",
+            "Chrome/120.0",
+            "\\b(Edg[eA]?)/(\\d+)",
+            "Mozilla Edg/120",
+            "Ve?rsion[ /](\\d+)",
+            "Vrsion/3"
+        );
+        for (Map.Entry<String, String> entry : matches.entrySet()) {
+            assertTrue(entry.getKey(), Pattern.compile(entry.getKey()).matcher(entry.getValue()).find());
+            for (String literal : RegexLiterals.extract(entry.getKey())) {
+                assertThat(entry.getValue(), containsString(literal));
+            }
+        }
+    }
+}
@@ -62,6 +62,7 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.MergePolicyProvider;
 import org.opensearch.index.cache.request.RequestCacheStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
@@ -71,6 +72,8 @@ import org.opensearch.search.aggregations.bucket.global.GlobalAggregationBuilder
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram;
 import org.opensearch.search.aggregations.bucket.histogram.Histogram.Bucket;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Sum;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.ParameterizedStaticSettingsOpenSearchIntegTestCase;
 import org.opensearch.test.hamcrest.OpenSearchAssertions;
@@ -85,7 +88,9 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.cluster.metadata.IndexMetadata.SETTING_NUMBER_OF_REPLICAS;
@@ -96,6 +101,8 @@ import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEA
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateRange;
 import static org.opensearch.search.aggregations.AggregationBuilders.filter;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
 import static org.hamcrest.Matchers.equalTo;
@@ -195,6 +202,81 @@ public class IndicesRequestCacheIT extends ParameterizedStaticSettingsOpenSearch
         }
     }
 
+    public void testSegmentAggregationCache() throws Exception {
+        Client client = client();
+        String index = "index";
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate(index)
+                .setMapping("s", "type=keyword", "l", "type=long")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(SegmentAggregationCache.INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING.getKey(), true)
+                        .put(SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                        .put(IndexSettings.INDEX_REFRESH_INTERVAL_SETTING.getKey(), TimeValue.timeValueMillis(-1))
+                        // every round must add a segment without merging the previous ones
+                        .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+                )
+                .get()
+        );
+        ensureGreen(index);
+        // segment results are only cached when the segments are not searched concurrently
+        final boolean cachesSegments = CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.get(settings) == false;
+
+        final Map<String, Long> expectedCounts = new HashMap<>();
+        long expectedSum = 0;
+        int id = 0;
+        for (int round = 0; round < 4; round++) {
+            // every round adds a segment, the results of the previous ones can be reused
+            for (int i = 0; i < 10; i++) {
+                final String value = "v" + randomIntBetween(0, 4);
+                client.prepareIndex(index).setId(Integer.toString(id++)).setSource("s", value, "l", i).get();
+                expectedCounts.merge(value, 1L, Long::sum);
+                expectedSum += i;
+            }
+            refresh(index);
+
+            final SearchResponse response = client.prepareSearch(index)
+                .setSize(0)
+                .setSearchType(SearchType.QUERY_THEN_FETCH)
+                .addAggregation(terms("terms").field("s").size(10))
+                .addAggregation(sum("sum").field("l"))
+                .get();
+            assertSearchResponse(response);
+            final Terms terms = response.getAggregations().get("terms");
+            assertEquals(expectedCounts.size(), terms.getBuckets().size());
+            for (Terms.Bucket bucket : terms.getBuckets()) {
+                assertEquals(expectedCounts.get(bucket.getKeyAsString()).longValue(), bucket.getDocCount());
+            }
+            final Sum sum = response.getAggregations().get("sum");
+            assertEquals(expectedSum, sum.getValue(), 0d);
+            if (cachesSegments) {
+                // the segments of the previous rounds are cached, only the new one is collected
+                assertEquals(round * (round + 1) / 2, segmentAggregationCacheHits());
+                assertEquals(round + 1, segmentAggregationCacheMisses());
+            }
+        }
+    }
+
+    private static long segmentAggregationCacheHits() {
+        long hits = 0;
+        for (IndicesService indicesService : internalCluster().getInstances(IndicesService.class)) {
+            hits += indicesService.segmentAggregationCache.hitCount();
+        }
+        return hits;
+    }
+
+    private static long segmentAggregationCacheMisses() {
+        long misses = 0;
+        for (IndicesService indicesService : internalCluster().getInstances(IndicesService.class)) {
+            misses += indicesService.segmentAggregationCache.missCount();
+        }
+        return misses;
+    }
+
     public void testQueryRewrite() throws Exception {
         Client client = client();
         String index = "index";
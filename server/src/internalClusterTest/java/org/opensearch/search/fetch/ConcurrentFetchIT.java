@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.ParameterizedStaticSettingsOpenSearchIntegTestCase;
+import org.junit.After;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ConcurrentFetchIT extends ParameterizedStaticSettingsOpenSearchIntegTestCase {
+
+    public ConcurrentFetchIT(Settings settings) {
+        super(settings);
+    }
+
+    @ParametersFactory
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(
+            new Object[] { Settings.builder().put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), false).build() },
+            new Object[] { Settings.builder().put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), true).build() }
+        );
+    }
+
+    @After
+    public void cleanup() {
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setPersistentSettings(Settings.builder().putNull(SearchService.CONCURRENT_FETCH_ENABLED.getKey()))
+            .get();
+    }
+
+    public void testConcurrentFetchReturnsSameHits() throws Exception {
+        assertAcked(
+            prepareCreate("test").setSettings(Settings.builder().put("index.number_of_shards", 1).put("index.number_of_replicas", 0))
+                .setMapping("text", "type=text", "num", "type=long")
+        );
+        int numSegments = randomIntBetween(2, 5);
+        int docId = 0;
+        for (int segment = 0; segment < numSegments; segment++) {
+            int numDocs = randomIntBetween(5, 30);
+            for (int i = 0; i < numDocs; i++) {
+                client().prepareIndex("test")
+                    .setId(Integer.toString(docId))
+                    .setSource("text", "value " + randomAlphaOfLength(5) + " value", "num", docId)
+                    .get();
+                docId++;
+            }
+            // each refresh creates another segment
+            refresh("test");
+        }
+
+        SearchResponse expected = search(docId);
+        client().admin()
+            .cluster()
+            .prepareUpdateSettings()
+            .setPersistentSettings(Settings.builder().put(SearchService.CONCURRENT_FETCH_ENABLED.getKey(), true))
+            .get();
+        SearchResponse actual = search(docId);
+
+        assertThat(actual.getHits().getHits().length, equalTo(expected.getHits().getHits().length));
+        for (int i = 0; i < expected.getHits().getHits().length; i++) {
+            SearchHit expectedHit = expected.getHits().getAt(i);
+            SearchHit actualHit = actual.getHits().getAt(i);
+            assertThat(actualHit.getId(), equalTo(expectedHit.getId()));
+            assertThat(actualHit.getSourceAsMap(), equalTo(expectedHit.getSourceAsMap()));
+            assertThat(actualHit.getFields(), equalTo(expectedHit.getFields()));
+            assertThat(actualHit.getHighlightFields(), equalTo(expectedHit.getHighlightFields()));
+            assertThat(actualHit.getVersion(), equalTo(expectedHit.getVersion()));
+        }
+    }
+
+    private SearchResponse search(int size) {
+        SearchResponse response = client().prepareSearch("test")
+            .setQuery(matchQuery("text", "value"))
+            .addSort("num", SortOrder.DESC)
+            .addDocValueField("num")
+            .setVersion(true)
+            .highlighter(new HighlightBuilder().field("text"))
+            .setSize(size)
+            .get();
+        assertSearchResponse(response);
+        return response;
+    }
+}
@@ -201,7 +201,12 @@ public class TransportSegmentReplicationStatsAction extends TransportBroadcastBy
         Set<SegmentReplicationShardStats> combinedStats = Stream.concat(updatedReplicaStats.stream(), searchReplicaStats.stream())
             .collect(Collectors.toSet());
 
-        return new SegmentReplicationPerGroupStats(groupStats.getShardId(), combinedStats, groupStats.getRejectedRequestCount());
+        return new SegmentReplicationPerGroupStats(
+            groupStats.getShardId(),
+            combinedStats,
+            groupStats.getRejectedRequestCount(),
+            groupStats.getFileTransferStats()
+        );
     }
 
     private Set<SegmentReplicationShardStats> computeSearchReplicaStats(
@@ -83,13 +83,13 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean lastChunk) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (lastChunk && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -131,6 +131,43 @@ public final class BulkRequestParser {
         Consumer<IndexRequest> indexRequestConsumer,
         Consumer<UpdateRequest> updateRequestConsumer,
         Consumer<DeleteRequest> deleteRequestConsumer
+    ) throws IOException {
+        parse(
+            data,
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            true,
+            indexRequestConsumer,
+            updateRequestConsumer,
+            deleteRequestConsumer
+        );
+    }
+
+    /**
+     * Parse the provided {@code data}, which may be a chunk of a request that is still streamed. Unless {@code lastChunk} is
+     * set, data that ends in the middle of a line is not an error: parsing stops before the item holding that line.
+     *
+     * @return the number of leading bytes of {@code data} that hold complete items. The remaining bytes, if any, hold an item
+     * whose last line is not terminated yet.
+     */
+    public int parse(
+        BytesReference data,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType,
+        boolean lastChunk,
+        Consumer<IndexRequest> indexRequestConsumer,
+        Consumer<UpdateRequest> updateRequestConsumer,
+        Consumer<DeleteRequest> deleteRequestConsumer
     ) throws IOException {
         XContent xContent = mediaType.xContent();
         int line = 0;
@@ -140,8 +177,10 @@ public final class BulkRequestParser {
         // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
+        int consumed = 0;
         while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
+            consumed = from;
+            int nextMarker = findNextMarker(marker, from, data, lastChunk);
             if (nextMarker == -1) {
                 break;
             }
@@ -296,7 +335,7 @@ public final class BulkRequestParser {
                             .setIfPrimaryTerm(ifPrimaryTerm)
                     );
                 } else {
-                    nextMarker = findNextMarker(marker, from, data);
+                    nextMarker = findNextMarker(marker, from, data, lastChunk);
                     if (nextMarker == -1) {
                         break;
                     }
@@ -381,6 +420,7 @@ public final class BulkRequestParser {
                 }
             }
         }
+        return consumed;
     }
 
     private static XContentParser createParser(BytesReference data, XContent xContent) throws IOException {
@@ -0,0 +1,321 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Merges the small bulk shard requests that target the same shard within {@link IndexSettings#INDEX_BULK_COALESCE_WINDOW_SETTING
+ * a short window} into a single bulk shard request, so that they share a primary operation, a translog sync and a
+ * replication round trip, and splits the response to the merged request back into a response per request.
+ *
+ * @opensearch.internal
+ */
+final class BulkShardCoalescer {
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final BiConsumer<BulkShardRequest, ActionListener<BulkShardResponse>> executor;
+    private final Map<Key, Batch> batches = ConcurrentCollections.newConcurrentMap();
+    // the coalescing settings of each index by index uuid, parsed once per version of the index settings
+    private final Map<String, CoalesceSettings> coalesceSettings = ConcurrentCollections.newConcurrentMap();
+
+    BulkShardCoalescer(
+        ThreadPool threadPool,
+        TaskManager taskManager,
+        BiConsumer<BulkShardRequest, ActionListener<BulkShardResponse>> executor
+    ) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.executor = executor;
+    }
+
+    /**
+     * Executes the given request, possibly merged with other requests to the same shard.
+     *
+     * @param indexMetadata the metadata of the index of the shard
+     */
+    void execute(BulkShardRequest request, IndexMetadata indexMetadata, ActionListener<BulkShardResponse> listener) {
+        final CoalesceSettings settings = coalesceSettings(indexMetadata);
+        if (settings.window().nanos() <= 0) {
+            executor.accept(request, listener);
+            return;
+        }
+        final long size = request.ramBytesUsed();
+        if (size >= settings.maxSize()) {
+            executor.accept(request, listener);
+            return;
+        }
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        final Map<String, String> headers = new HashMap<>(threadContext.getHeaders());
+        headers.keySet().removeAll(Task.REQUEST_HEADERS);
+        final TaskId parentTask = request.getParentTask();
+        final Key key = new Key(
+            request.shardId(),
+            request.getRefreshPolicy(),
+            request.timeout(),
+            request.waitForActiveShards(),
+            headers,
+            threadContext.getPersistentHeaders(),
+            threadContext.isSystemContext(),
+            isCancellable(parentTask) ? parentTask : TaskId.EMPTY_TASK_ID
+        );
+        final ActionListener<BulkShardResponse> contextPreservingListener = ContextPreservingActionListener.wrapPreservingContext(
+            listener,
+            threadContext
+        );
+        while (true) {
+            final Batch batch = batches.computeIfAbsent(key, k -> new Batch(k, threadContext.newRestorableContext(false)));
+            final int count = batch.add(request, contextPreservingListener, size);
+            if (count < 0) {
+                // the batch was just sent, retry with a new one
+                continue;
+            }
+            if (batch.size >= settings.maxSize()) {
+                flush(batch);
+            } else if (count == 1) {
+                threadPool.schedule(() -> flush(batch), settings.window(), ThreadPool.Names.GENERIC);
+            }
+            return;
+        }
+    }
+
+    private CoalesceSettings coalesceSettings(IndexMetadata indexMetadata) {
+        final CoalesceSettings settings = coalesceSettings.get(indexMetadata.getIndexUUID());
+        if (settings != null && settings.settingsVersion() == indexMetadata.getSettingsVersion()) {
+            return settings;
+        }
+        final CoalesceSettings newSettings = new CoalesceSettings(
+            indexMetadata.getSettingsVersion(),
+            IndexSettings.INDEX_BULK_COALESCE_WINDOW_SETTING.get(indexMetadata.getSettings()),
+            IndexSettings.INDEX_BULK_COALESCE_MAX_SIZE_SETTING.get(indexMetadata.getSettings()).getBytes()
+        );
+        coalesceSettings.put(indexMetadata.getIndexUUID(), newSettings);
+        return newSettings;
+    }
+
+    /**
+     * Forgets the coalescing settings of the given deleted indices.
+     */
+    void onIndicesDeleted(List<Index> indices) {
+        for (Index index : indices) {
+            coalesceSettings.remove(index.getUUID());
+        }
+    }
+
+    /**
+     * Returns whether the given parent task may cancel its child requests. The parent of a bulk shard request is usually
+     * the bulk task on this node, which cannot be cancelled, a parent on another node is assumed to be cancellable.
+     */
+    private boolean isCancellable(TaskId parentTask) {
+        if (parentTask.isSet() == false) {
+            return false;
+        }
+        final DiscoveryNode localNode = taskManager.localNode();
+        if (localNode == null || localNode.getId().equals(parentTask.getNodeId()) == false) {
+            return true;
+        }
+        return taskManager.getCancellableTask(parentTask.getId()) != null;
+    }
+
+    private void flush(Batch batch) {
+        batches.remove(batch.key, batch);
+        final List<BulkShardRequest> requests;
+        final List<ActionListener<BulkShardResponse>> listeners;
+        synchronized (batch) {
+            if (batch.sent) {
+                return;
+            }
+            batch.sent = true;
+            requests = batch.requests;
+            listeners = batch.listeners;
+        }
+        try (ThreadContext.StoredContext ignored = batch.context.get()) {
+            if (requests.size() == 1) {
+                executor.accept(requests.get(0), listeners.get(0));
+            } else {
+                executor.accept(merge(requests), new SplittingListener(requests, listeners));
+            }
+        } catch (Exception e) {
+            ActionListener.onFailure(listeners, e);
+        }
+    }
+
+    static BulkShardRequest merge(List<BulkShardRequest> requests) {
+        final BulkShardRequest first = requests.get(0);
+        int numItems = 0;
+        long routedBasedOnClusterVersion = 0;
+        boolean sameParentTask = true;
+        for (BulkShardRequest request : requests) {
+            numItems += request.items().length;
+            routedBasedOnClusterVersion = Math.max(routedBasedOnClusterVersion, request.routedBasedOnClusterVersion());
+            sameParentTask &= request.getParentTask().equals(first.getParentTask());
+        }
+        final BulkItemRequest[] items = new BulkItemRequest[numItems];
+        int id = 0;
+        for (BulkShardRequest request : requests) {
+            for (BulkItemRequest item : request.items()) {
+                items[id] = new BulkItemRequest(id, item.request());
+                id++;
+            }
+        }
+        final BulkShardRequest merged = new BulkShardRequest(first.shardId(), first.getRefreshPolicy(), items);
+        merged.waitForActiveShards(first.waitForActiveShards());
+        merged.timeout(first.timeout());
+        merged.routedBasedOnClusterVersion(routedBasedOnClusterVersion);
+        // requests whose parent task can be cancelled are only merged with requests of the same parent, which the merged request
+        // keeps so that cancelling the parent cancels it, other parents never cancel their children
+        if (sameParentTask) {
+            merged.setParentTask(first.getParentTask());
+        }
+        return merged;
+    }
+
+    /**
+     * Splits the response to a merged request into the responses to the requests it was merged from.
+     */
+    static List<BulkShardResponse> split(List<BulkShardRequest> requests, BulkShardResponse response) {
+        int numItems = 0;
+        for (BulkShardRequest request : requests) {
+            numItems += request.items().length;
+        }
+        final BulkItemResponse[] byId = new BulkItemResponse[numItems];
+        for (BulkItemResponse itemResponse : response.getResponses()) {
+            byId[itemResponse.getItemId()] = itemResponse;
+        }
+        final List<BulkShardResponse> responses = new ArrayList<>(requests.size());
+        int offset = 0;
+        for (BulkShardRequest request : requests) {
+            final List<BulkItemResponse> itemResponses = new ArrayList<>(request.items().length);
+            for (BulkItemRequest item : request.items()) {
+                final BulkItemResponse itemResponse = byId[offset++];
+                if (itemResponse == null) {
+                    continue;
+                }
+                if (itemResponse.isFailed()) {
+                    itemResponses.add(new BulkItemResponse(item.id(), itemResponse.getOpType(), itemResponse.getFailure()));
+                } else {
+                    itemResponses.add(new BulkItemResponse(item.id(), itemResponse.getOpType(), itemResponse.getResponse()));
+                }
+            }
+            final BulkShardResponse shardResponse = new BulkShardResponse(
+                response.getShardId(),
+                itemResponses.toArray(new BulkItemResponse[0]),
+                response.getServiceTimeEWMAInNanos(),
+                response.getNodeQueueSize()
+            );
+            shardResponse.setShardInfo(response.getShardInfo());
+            responses.add(shardResponse);
+        }
+        return responses;
+    }
+
+    /**
+     * The requests that can be merged: they target the same shard with the same options and the same cancellable parent
+     * task, if any, and run with the same headers that the merged request, executed with the thread context of the first
+     * one, carries to the primary: the request headers, which hold the credentials, and the persistent headers, which hold
+     * the identity that security plugins propagate. The {@link Task#REQUEST_HEADERS} only identify a request in logs and
+     * task descriptions and are not compared, neither are the transient headers, which never leave this node and hold
+     * per-request objects such as the tracing span.
+     */
+    private record Key(ShardId shardId, RefreshPolicy refreshPolicy, TimeValue timeout, ActiveShardCount waitForActiveShards,
+        Map<String, String> headers, Map<String, Object> persistentHeaders, boolean systemContext, TaskId cancellableParentTask) {
+    }
+
+    /**
+     * The coalescing settings of an index, parsed from the given version of its settings.
+     */
+    private record CoalesceSettings(long settingsVersion, TimeValue window, long maxSize) {
+    }
+
+    private static final class Batch {
+        private final Key key;
+        // the thread context of the first request, which the merged request is sent with
+        private final Supplier<ThreadContext.StoredContext> context;
+        private final List<BulkShardRequest> requests = new ArrayList<>();
+        private final List<ActionListener<BulkShardResponse>> listeners = new ArrayList<>();
+        private volatile long size;
+        private boolean sent;
+
+        private Batch(Key key, Supplier<ThreadContext.StoredContext> context) {
+            this.key = key;
+            this.context = context;
+        }
+
+        /**
+         * Adds a request to this batch and returns the number of requests in the batch, or {@code -1} if the batch was
+         * already sent.
+         */
+        private synchronized int add(BulkShardRequest request, ActionListener<BulkShardResponse> listener, long requestSize) {
+            if (sent) {
+                return -1;
+            }
+            requests.add(request);
+            listeners.add(listener);
+            size += requestSize;
+            return requests.size();
+        }
+    }
+
+    private static final class SplittingListener implements ActionListener<BulkShardResponse> {
+        private final List<BulkShardRequest> requests;
+        private final List<ActionListener<BulkShardResponse>> listeners;
+
+        private SplittingListener(List<BulkShardRequest> requests, List<ActionListener<BulkShardResponse>> listeners) {
+            this.requests = requests;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void onResponse(BulkShardResponse response) {
+            final List<BulkShardResponse> responses;
+            try {
+                responses = split(requests, response);
+            } catch (Exception e) {
+                onFailure(e);
+                return;
+            }
+            for (int i = 0; i < listeners.size(); i++) {
+                final ActionListener<BulkShardResponse> listener = listeners.get(i);
+                try {
+                    listener.onResponse(responses.get(i));
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            ActionListener.onFailure(listeners, e);
+        }
+    }
+}
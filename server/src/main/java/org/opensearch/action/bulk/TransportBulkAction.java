@@ -148,6 +148,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
     private final ClusterService clusterService;
     private final IngestService ingestService;
     private final TransportShardBulkAction shardBulkAction;
+    private final BulkShardCoalescer shardBulkCoalescer;
     private final LongSupplier relativeTimeProvider;
     private final IngestActionForwarder ingestForwarder;
     private final NodeClient client;
@@ -216,6 +217,11 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         this.clusterService = clusterService;
         this.ingestService = ingestService;
         this.shardBulkAction = shardBulkAction;
+        this.shardBulkCoalescer = new BulkShardCoalescer(
+            threadPool,
+            taskManager,
+            (request, listener) -> shardBulkAction.execute(request, listener)
+        );
         this.autoCreateIndex = autoCreateIndex;
         this.relativeTimeProvider = relativeTimeProvider;
         this.ingestForwarder = new IngestActionForwarder(transportService);
@@ -225,6 +231,7 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
         this.indicesService = indicesService;
         this.systemIndices = systemIndices;
         clusterService.addStateApplier(this.ingestForwarder);
+        clusterService.addListener(event -> shardBulkCoalescer.onIndicesDeleted(event.indicesDeleted()));
         this.tracer = tracer;
         this.nodeMetricsCollector = new ResponseCollectorService(clusterService);
     }
@@ -759,8 +766,9 @@ public class TransportBulkAction extends HandledTransportAction<BulkRequest, Bul
                         clientConnections.compute(targetNodeId, (id, conns) -> conns == null ? 1 : conns + 1);
                         incrementedConnections = true;
                     }
-                    shardBulkAction.execute(
+                    shardBulkCoalescer.execute(
                         bulkShardRequest,
+                        indexMetaData,
                         TraceableActionListener.create(
                             ActionListener.runAfter(ActionListener.runBefore(new ActionListener<BulkShardResponse>() {
                                 @Override
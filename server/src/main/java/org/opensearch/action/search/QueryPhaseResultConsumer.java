@@ -35,6 +35,7 @@ package org.opensearch.action.search;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -55,7 +56,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
@@ -68,6 +73,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * Up to {@code maxConcurrentPartialReduces} partial reduces can run at the same time on the provided executor. Each
+ * partial reduce merges its buffer of shard results with the results of all the partial reduces that completed before
+ * it started, so results are merged as a tree whose fan-in grows with the number of shards rather than by a single
+ * thread folding every batch into one accumulated result.
  *
  * @opensearch.internal
  */
@@ -85,6 +95,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final int maxConcurrentPartialReduces;
 
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
@@ -127,8 +138,42 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            1
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, running up to {@code maxConcurrentPartialReduces} partial reduces concurrently.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        int maxConcurrentPartialReduces
     ) {
         super(expectedResultSize);
+        if (maxConcurrentPartialReduces < 1) {
+            throw new IllegalArgumentException("maxConcurrentPartialReduces must be >= 1, got " + maxConcurrentPartialReduces);
+        }
+        this.maxConcurrentPartialReduces = maxConcurrentPartialReduces;
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -216,25 +261,27 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private ReduceResult partialReduce(
         QuerySearchResult[] toConsume,
         List<SearchShard> emptyResults,
-        SearchPhaseController.TopDocsStats topDocsStats,
-        ReduceResult lastReduceResult,
-        int numReducePhases
+        List<ReduceResult> lastReduceResults
     ) {
         checkCancellation();
         if (pendingReduces.hasFailure()) {
-            return lastReduceResult;
+            return null;
         }
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+        final int reducePhase;
+        final TotalHits totalHits;
+        synchronized (pendingReduces) {
+            // the phase and the total hits are taken together so that both increase in the order of the reduce phases
+            reducePhase = pendingReduces.nextReducePhase();
+            totalHits = pendingReduces.addTopDocsStats(toConsume);
         }
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 topDocsList.add(lastReduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -255,7 +302,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastReduceResult != null) {
+            for (ReduceResult lastReduceResult : lastReduceResults) {
                 aggsList.add(lastReduceResult.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -265,15 +312,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         } else {
             newAggs = null;
         }
-        List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastReduceResult != null) {
-            processedShards.addAll(lastReduceResult.processedShards);
-        }
+        // the shards that no earlier reduce phase processed
+        List<SearchShard> newShards = new ArrayList<>(emptyResults);
         for (QuerySearchResult result : toConsume) {
             SearchShardTarget target = result.getSearchShardTarget();
-            processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
+            newShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        List<SearchShard> processedShards = new ArrayList<>();
+        for (ReduceResult lastReduceResult : lastReduceResults) {
+            processedShards.addAll(lastReduceResult.processedShards);
+        }
+        processedShards.addAll(newShards);
+        pendingReduces.notifyPartialReduce(new PartialReduceProgress(newShards, totalHits, newAggs), reducePhase);
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
@@ -295,7 +345,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      * triggering partial reduce operations when the threshold is reached.
      * <ul>
      * <li>Handles circuit breaker memory accounting</li>
-     * <li>Coordinates reduce task execution to be one at a time</li>
+     * <li>Coordinates reduce task execution, running at most {@code maxConcurrentPartialReduces} at a time</li>
      * <li>Provides thread-safe failure handling with cleanup</li>
      * </ul>
      *
@@ -312,14 +362,22 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<ReduceTask> queue = new ArrayDeque<>();
-        private final AtomicReference<ReduceTask> runningTask = new AtomicReference<>(); // ensure only one task is running
+        private final Set<ReduceTask> runningTasks = new HashSet<>();
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
-        private volatile ReduceResult reduceResult;
+        // results of the completed partial reduces that haven't been merged by a later reduce yet
+        private final List<ReduceResult> reduceResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
+        // the progress reported to the progress listener, guarded by progressMutex
+        private final Object progressMutex = new Object();
+        // the partial reduces that completed before a reduce with a lower phase, by reduce phase
+        private final Map<Integer, PartialReduceProgress> pendingNotifications = new HashMap<>();
+        private final List<SearchShard> notifiedShards = new ArrayList<>();
+        private int notifiedReducePhase;
+
         PendingReduces(int batchReduceSize, int trackTotalHitsUpTo) {
             this.batchReduceSize = batchReduceSize;
             this.topDocsStats = new SearchPhaseController.TopDocsStats(trackTotalHitsUpTo);
@@ -341,8 +399,41 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        private boolean hasPendingReduceTask() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        private synchronized boolean hasPendingReduceTask() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
+        }
+
+        private synchronized int nextReducePhase() {
+            return ++numReducePhases;
+        }
+
+        private synchronized TotalHits addTopDocsStats(QuerySearchResult[] results) {
+            for (QuerySearchResult result : results) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
+            return topDocsStats.getTotalHits();
+        }
+
+        /**
+         * Notifies the progress listener of a partial reduce. Partial reduces that run concurrently may complete out of
+         * order, so the notification of a reduce phase is held until all the lower phases were notified. The listener is
+         * notified of every phase, one at a time and in increasing order, with all the shards processed up to that phase.
+         */
+        private void notifyPartialReduce(PartialReduceProgress progress, int reducePhase) {
+            synchronized (progressMutex) {
+                pendingNotifications.put(reducePhase, progress);
+                PartialReduceProgress next;
+                while ((next = pendingNotifications.remove(notifiedReducePhase + 1)) != null) {
+                    notifiedReducePhase++;
+                    notifiedShards.addAll(next.newShards());
+                    progressListener.notifyPartialReduce(
+                        new ArrayList<>(notifiedShards),
+                        next.totalHits(),
+                        next.aggs(),
+                        notifiedReducePhase
+                    );
+                }
+            }
         }
 
         private void sortBuffer() {
@@ -451,22 +542,28 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
         private void tryExecuteNext() {
             final ReduceTask task;
+            final List<ReduceResult> lastReduceResults;
             synchronized (this) {
                 if (hasFailure()) {
                     return;
                 }
-                if (queue.isEmpty() || runningTask.get() != null) {
+                if (queue.isEmpty() || runningTasks.size() >= maxConcurrentPartialReduces) {
                     return;
                 }
                 task = queue.poll();
-                runningTask.compareAndSet(null, task);
+                runningTasks.add(task);
+                // the task merges its buffer with everything that was reduced so far
+                lastReduceResults = new ArrayList<>(reduceResults);
+                reduceResults.clear();
             }
 
             executor.execute(new AbstractRunnable() {
                 @Override
                 protected void doRun() {
-                    final ReduceResult thisReduceResult = reduceResult;
-                    long estimatedTotalSize = (thisReduceResult != null ? thisReduceResult.estimatedSize : 0) + task.aggsBufferSize;
+                    long estimatedTotalSize = task.aggsBufferSize;
+                    for (ReduceResult lastReduceResult : lastReduceResults) {
+                        estimatedTotalSize += lastReduceResult.estimatedSize;
+                    }
                     final ReduceResult newReduceResult;
                     try {
                         final QuerySearchResult[] toConsume = task.consumeBuffer();
@@ -477,8 +574,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
                         estimatedTotalSize += estimateRamBytesUsedForReduce;
-                        ++numReducePhases;
-                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, thisReduceResult, numReducePhases);
+                        newReduceResult = partialReduce(toConsume, task.emptyResults, lastReduceResults);
                     } catch (Exception t) {
                         PendingReduces.this.onFailure(t);
                         return;
@@ -499,17 +595,17 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                     if (hasFailure()) {
                         return;
                     }
-                    runningTask.compareAndSet(task, null);
-                    reduceResult = newResult;
+                    runningTasks.remove(task);
+                    reduceResults.add(newResult);
                     if (hasAggs) {
                         // Update the circuit breaker to remove the size of the source aggregations
                         // and replace the estimation with the serialized size of the newly reduced result.
-                        long newSize = reduceResult.estimatedSize - estimatedSize;
+                        long newSize = newResult.estimatedSize - estimatedSize;
                         addWithoutBreaking(newSize);
                         logger.trace(
                             "aggs partial reduction [{}->{}] max [{}]",
                             estimatedSize,
-                            reduceResult.estimatedSize,
+                            newResult.estimatedSize,
                             maxAggsCurrentBufferSize
                         );
                     }
@@ -533,15 +629,11 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         private synchronized void clearReduceTaskQueue() {
-            ReduceTask task = runningTask.get();
-            runningTask.compareAndSet(task, null);
-            List<ReduceTask> toCancels = new ArrayList<>();
-            if (task != null) {
-                toCancels.add(task);
-            }
+            List<ReduceTask> toCancels = new ArrayList<>(runningTasks);
+            runningTasks.clear();
             toCancels.addAll(queue);
             queue.clear();
-            reduceResult = null;
+            reduceResults.clear();
             for (ReduceTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -559,7 +651,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (reduceResult != null) {
+            for (ReduceResult reduceResult : reduceResults) {
                 topDocsList.add(reduceResult.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
@@ -575,7 +667,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (reduceResult != null) {
+            for (ReduceResult reduceResult : reduceResults) {
                 aggsList.add(reduceResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
@@ -594,6 +686,14 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         long estimatedSize) {
     }
 
+    /**
+     * The progress of a partial reduce that the progress listener is notified of
+     *
+     * @opensearch.internal
+     */
+    private record PartialReduceProgress(List<SearchShard> newShards, TotalHits totalHits, InternalAggregations aggs) {
+    }
+
     /**
      * ReduceTask is created to reduce buffered query results when buffer size hits threshold
      *
@@ -170,6 +170,19 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * The maximum number of partial reduces of shard query results that can run concurrently for a single search request
+     * on the coordinating node. The default of 1 reduces batches of shard results one after the other.
+     */
+    public static final Setting<Integer> SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING = Setting.intSetting(
+        "search.max_concurrent_partial_reduces",
+        1,
+        1,
+        64,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -1320,7 +1333,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                clusterService.getClusterSettings().get(SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING)
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
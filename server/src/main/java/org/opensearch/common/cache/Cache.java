@@ -436,6 +436,21 @@ public class Cache<K, V> {
      * @throws ExecutionException thrown if loader throws an exception or returns a null value
      */
     public V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException {
+        return computeIfAbsent(key, loader, k -> true);
+    }
+
+    /**
+     * Like {@link #computeIfAbsent(Object, CacheLoader)}, but once a value is loaded it is only entered into this map if
+     * {@code admission} accepts its key. Concurrent callers for the same key still wait for the single load and get its
+     * value, whether it was entered or not.
+     *
+     * @param key       the key whose associated value is to be returned or computed for if non-existent
+     * @param loader    the function to compute a value given a key
+     * @param admission whether a value that was just loaded for the key may be entered into this map
+     * @return the current (existing or computed) non-null value associated with the specified key
+     * @throws ExecutionException thrown if loader throws an exception or returns a null value
+     */
+    public V computeIfAbsent(K key, CacheLoader<K, V> loader, Predicate<K> admission) throws ExecutionException {
         long now = now();
         // we have to eagerly evict expired entries or our putIfAbsent call below will fail
         V value = get(key, now, e -> {
@@ -444,12 +459,12 @@ public class Cache<K, V> {
             }
         });
         if (value == null) {
-            value = compute(key, loader);
+            value = compute(key, loader, admission);
         }
         return value;
     }
 
-    private V compute(K key, CacheLoader<K, V> loader) throws ExecutionException {
+    private V compute(K key, CacheLoader<K, V> loader, Predicate<K> admission) throws ExecutionException {
         long now = now();
         // we need to synchronize loading of a value for a given key; however, holding the segment lock while
         // invoking load can lead to deadlock against another thread due to dependent key loading; therefore, we
@@ -503,7 +518,15 @@ public class Cache<K, V> {
                 future.completeExceptionally(npe);
                 throw new ExecutionException(npe);
             } else {
-                future.complete(new Entry<>(key, loaded, now));
+                Entry<K, V> entry = new Entry<>(key, loaded, now);
+                if (admission.test(key) == false) {
+                    // the entry is never linked, and later callers load the key again
+                    entry.state = State.DELETED;
+                    try (ReleasableLock ignored = segment.writeLock.acquire()) {
+                        segment.map.remove(key, future);
+                    }
+                }
+                future.complete(entry);
             }
         } else {
             completableValue = future.handle(handler);
@@ -684,6 +707,18 @@ public class Cache<K, V> {
         return weight;
     }
 
+    /**
+     * The key of the least recently used entry, which is the next entry to be evicted once the cache exceeds its maximum
+     * weight.
+     *
+     * @return the key of the least recently used entry, or null if the cache is empty
+     */
+    public K peekLeastRecentlyUsedKey() {
+        try (ReleasableLock ignored = lruLock.acquire()) {
+            return tail == null ? null : tail.key;
+        }
+    }
+
     /**
      * An LRU sequencing of the keys in the cache that supports removal. This sequence is not protected from mutations
      * to the cache (except for {@link Iterator#remove()}. The result of iteration under any other mutation is
@@ -22,5 +22,6 @@ public enum RemovalReason {
     EVICTED,
     EXPLICIT,
     CAPACITY,
+    REJECTED, // The value was loaded but an admission policy did not let it into the cache.
     RESTARTED // This is used by testing framework to close the CachedIndexInput during node restart.
 }
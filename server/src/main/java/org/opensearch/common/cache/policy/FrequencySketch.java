@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.policy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A count-min sketch estimating how often keys were accessed recently, as used by the TinyLFU admission policy.
+ * <p>
+ * Every key maps to one 4-bit counter in each of four rows, and its estimated frequency is the minimum of those counters,
+ * so the estimate can only overcount. Counters saturate at 15. To keep the history recent, all counters are halved once
+ * the number of recorded accesses reaches ten times the number of counters per row.
+ * <p>
+ * The sketch is thread-safe. Updates use CAS on the table and concurrent halving may lose a few increments, which only
+ * affects the accuracy of the estimates.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int ROWS = 4;
+    static final int SAMPLE_SIZE_MULTIPLIER = 10;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * @param numCounters the approximate number of counters per row, rounded up to a power of two. Should be in the order
+     *                    of the number of entries the cache can hold.
+     */
+    FrequencySketch(int numCounters) {
+        if (numCounters <= 0) {
+            throw new IllegalArgumentException("number of counters must be positive but was [" + numCounters + "]");
+        }
+        // every long holds 16 counters, 4 of them for each row
+        final int numLongs = Math.max(1, ceilingPowerOfTwo(numCounters) >>> 2);
+        this.table = new AtomicLongArray(numLongs);
+        this.tableMask = numLongs - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE, (long) SAMPLE_SIZE_MULTIPLIER * numLongs * 4);
+    }
+
+    /**
+     * Returns the estimated number of recent accesses of the key with the given hash, between 0 and 15.
+     */
+    int frequency(int hash) {
+        final int spread = spread(hash);
+        final int start = (spread & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++) {
+            final int offset = (start + row) << 2;
+            final long word = table.get(indexOf(spread, row));
+            frequency = Math.min(frequency, (int) ((word >>> offset) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key with the given hash.
+     */
+    void increment(int hash) {
+        final int spread = spread(hash);
+        final int start = (spread & 3) << 2;
+        boolean added = false;
+        for (int row = 0; row < ROWS; row++) {
+            added |= incrementAt(indexOf(spread, row), start + row);
+        }
+        if (added && additions.incrementAndGet() >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        while (true) {
+            final long word = table.get(index);
+            if ((word & mask) == mask) {
+                // saturated
+                return false;
+            }
+            if (table.compareAndSet(index, word, word + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Halves every counter. Only one thread performs the reset, concurrent increments may be lost.
+     */
+    private void reset() {
+        final int current = additions.get();
+        if (current < sampleSize || additions.compareAndSet(current, current >>> 1) == false) {
+            return;
+        }
+        for (int i = 0; i < table.length(); i++) {
+            long word;
+            do {
+                word = table.get(i);
+            } while (table.compareAndSet(i, word, (word >>> 1) & RESET_MASK) == false);
+        }
+    }
+
+    private int indexOf(int spread, int row) {
+        long hash = (spread + SEEDS[row]) * SEEDS[row];
+        hash += hash >>> 32;
+        return ((int) hash) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, x) - 1));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.policy;
+
+/**
+ * TinyLFU admission policy. Once a cache is full, a new entry is only admitted if it was accessed more often recently than
+ * the entry it would evict. This keeps one-off entries from flushing entries that are used over and over again, which a
+ * plain LRU cache can't do.
+ * <p>
+ * Access frequencies are estimated with a {@link FrequencySketch}, so the policy only needs a few bytes per counter
+ * regardless of the size of the cached keys and values.
+ *
+ * @opensearch.internal
+ */
+public final class TinyLfuAdmissionPolicy {
+
+    private final FrequencySketch sketch;
+
+    /**
+     * @param sketchSize the number of counters per row of the frequency sketch, should be in the order of the number of
+     *                   entries the cache holds
+     */
+    public TinyLfuAdmissionPolicy(int sketchSize) {
+        this.sketch = new FrequencySketch(sketchSize);
+    }
+
+    /**
+     * Records an access of the given key, whether it was a hit or a miss.
+     */
+    public void record(Object key) {
+        sketch.increment(key.hashCode());
+    }
+
+    /**
+     * Returns whether the candidate should be admitted at the expense of the victim, the entry that would be evicted next.
+     * A candidate is always admitted if there is no victim.
+     */
+    public boolean admit(Object candidate, Object victim) {
+        if (victim == null) {
+            return true;
+        }
+        return sketch.frequency(candidate.hashCode()) > sketch.frequency(victim.hashCode());
+    }
+
+    // pkg-private for testing
+    int frequency(Object key) {
+        return sketch.frequency(key.hashCode());
+    }
+}
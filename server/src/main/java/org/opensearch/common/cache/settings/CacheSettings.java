@@ -13,6 +13,7 @@ import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.settings.Setting;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Settings related to cache.
@@ -41,7 +42,62 @@ public class CacheSettings {
         (key) -> Setting.simpleString(key, "", Setting.Property.NodeScope)
     );
 
+    /**
+     * Admission policy value that caches every entry.
+     */
+    public static final String ADMISSION_POLICY_NONE = "none";
+
+    /**
+     * Admission policy value that only caches an entry once the cache is full if it is accessed more often than the entry
+     * it would evict, see {@link org.opensearch.common.cache.policy.TinyLfuAdmissionPolicy}.
+     */
+    public static final String ADMISSION_POLICY_TINYLFU = "tinylfu";
+
+    /**
+     * Used to select the admission policy of the on-heap cache for desired cache types within OpenSearch.
+     * Setting pattern: {cache_type}.admission.policy
+     * Example: indices.request.cache.admission.policy
+     */
+    public static final Setting.AffixSetting<String> CACHE_TYPE_ADMISSION_POLICY = Setting.suffixKeySetting(
+        "admission.policy",
+        (key) -> new Setting<>(key, ADMISSION_POLICY_NONE, (value) -> {
+            final String policy = value.toLowerCase(Locale.ROOT);
+            if (ADMISSION_POLICY_NONE.equals(policy) == false && ADMISSION_POLICY_TINYLFU.equals(policy) == false) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "Cache: [%s] must be one of [%s, %s] but was [%s]",
+                        key,
+                        ADMISSION_POLICY_NONE,
+                        ADMISSION_POLICY_TINYLFU,
+                        value
+                    )
+                );
+            }
+            return policy;
+        }, Setting.Property.NodeScope)
+    );
+
+    /**
+     * Number of counters per row of the frequency sketch used by the tinylfu admission policy. Should be in the order of
+     * the number of entries the cache holds, each counter takes half a byte per row.
+     * Setting pattern: {cache_type}.admission.sketch_size
+     * Example: indices.request.cache.admission.sketch_size
+     */
+    public static final Setting.AffixSetting<Integer> CACHE_TYPE_ADMISSION_SKETCH_SIZE = Setting.suffixKeySetting(
+        "admission.sketch_size",
+        (key) -> Setting.intSetting(key, 65536, 16, 1 << 24, Setting.Property.NodeScope)
+    );
+
     public static Setting<String> getConcreteStoreNameSettingForCacheType(CacheType cacheType) {
         return CACHE_TYPE_STORE_NAME.getConcreteSettingForNamespace(cacheType.getSettingPrefix());
     }
+
+    public static Setting<String> getConcreteAdmissionPolicySettingForCacheType(CacheType cacheType) {
+        return CACHE_TYPE_ADMISSION_POLICY.getConcreteSettingForNamespace(cacheType.getSettingPrefix());
+    }
+
+    public static Setting<Integer> getConcreteAdmissionSketchSizeSettingForCacheType(CacheType cacheType) {
+        return CACHE_TYPE_ADMISSION_SKETCH_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix());
+    }
 }
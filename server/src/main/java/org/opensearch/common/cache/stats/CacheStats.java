@@ -13,7 +13,7 @@ import org.opensearch.common.metrics.CounterMetric;
 import java.util.Objects;
 
 /**
- * A mutable class containing the 5 live metrics tracked by a StatsHolder object.
+ * A mutable class containing the live metrics tracked by a StatsHolder object.
  */
 public class CacheStats {
     CounterMetric hits;
@@ -21,8 +21,13 @@ public class CacheStats {
     CounterMetric evictions;
     CounterMetric sizeInBytes;
     CounterMetric items;
+    CounterMetric rejections;
 
     public CacheStats(long hits, long misses, long evictions, long sizeInBytes, long items) {
+        this(hits, misses, evictions, sizeInBytes, items, 0);
+    }
+
+    public CacheStats(long hits, long misses, long evictions, long sizeInBytes, long items, long rejections) {
         this.hits = new CounterMetric();
         this.hits.inc(hits);
         this.misses = new CounterMetric();
@@ -33,44 +38,75 @@ public class CacheStats {
         this.sizeInBytes.inc(sizeInBytes);
         this.items = new CounterMetric();
         this.items.inc(items);
+        this.rejections = new CounterMetric();
+        this.rejections.inc(rejections);
     }
 
     public CacheStats() {
         this(0, 0, 0, 0, 0);
     }
 
-    private void internalAdd(long otherHits, long otherMisses, long otherEvictions, long otherSizeInBytes, long otherEntries) {
+    private void internalAdd(
+        long otherHits,
+        long otherMisses,
+        long otherEvictions,
+        long otherSizeInBytes,
+        long otherEntries,
+        long otherRejections
+    ) {
         this.hits.inc(otherHits);
         this.misses.inc(otherMisses);
         this.evictions.inc(otherEvictions);
         this.sizeInBytes.inc(otherSizeInBytes);
         this.items.inc(otherEntries);
+        this.rejections.inc(otherRejections);
     }
 
     public void add(CacheStats other) {
         if (other == null) {
             return;
         }
-        internalAdd(other.getHits(), other.getMisses(), other.getEvictions(), other.getSizeInBytes(), other.getItems());
+        internalAdd(
+            other.getHits(),
+            other.getMisses(),
+            other.getEvictions(),
+            other.getSizeInBytes(),
+            other.getItems(),
+            other.getRejections()
+        );
     }
 
     public void add(ImmutableCacheStats snapshot) {
         if (snapshot == null) {
             return;
         }
-        internalAdd(snapshot.getHits(), snapshot.getMisses(), snapshot.getEvictions(), snapshot.getSizeInBytes(), snapshot.getItems());
+        internalAdd(
+            snapshot.getHits(),
+            snapshot.getMisses(),
+            snapshot.getEvictions(),
+            snapshot.getSizeInBytes(),
+            snapshot.getItems(),
+            snapshot.getRejections()
+        );
     }
 
     public void subtract(ImmutableCacheStats other) {
         if (other == null) {
             return;
         }
-        internalAdd(-other.getHits(), -other.getMisses(), -other.getEvictions(), -other.getSizeInBytes(), -other.getItems());
+        internalAdd(
+            -other.getHits(),
+            -other.getMisses(),
+            -other.getEvictions(),
+            -other.getSizeInBytes(),
+            -other.getItems(),
+            -other.getRejections()
+        );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(hits.count(), misses.count(), evictions.count(), sizeInBytes.count(), items.count());
+        return Objects.hash(hits.count(), misses.count(), evictions.count(), sizeInBytes.count(), items.count(), rejections.count());
     }
 
     public void incrementHits() {
@@ -85,6 +121,10 @@ public class CacheStats {
         evictions.inc();
     }
 
+    public void incrementRejections() {
+        rejections.inc();
+    }
+
     public void incrementSizeInBytes(long amount) {
         sizeInBytes.inc(amount);
     }
@@ -121,12 +161,23 @@ public class CacheStats {
         return items.count();
     }
 
+    public long getRejections() {
+        return rejections.count();
+    }
+
     public void resetSizeAndEntries() {
         sizeInBytes = new CounterMetric();
         items = new CounterMetric();
     }
 
     public ImmutableCacheStats immutableSnapshot() {
-        return new ImmutableCacheStats(hits.count(), misses.count(), evictions.count(), sizeInBytes.count(), items.count());
+        return new ImmutableCacheStats(
+            hits.count(),
+            misses.count(),
+            evictions.count(),
+            sizeInBytes.count(),
+            items.count(),
+            rejections.count()
+        );
     }
 }
@@ -20,6 +20,8 @@ public interface CacheStatsHolder {
 
     void incrementEvictions(List<String> dimensionValues);
 
+    void incrementRejections(List<String> dimensionValues);
+
     void incrementSizeInBytes(List<String> dimensionValues, long amountBytes);
 
     void decrementSizeInBytes(List<String> dimensionValues, long amountBytes);
@@ -71,6 +71,11 @@ public class DefaultCacheStatsHolder implements CacheStatsHolder {
         internalIncrement(dimensionValues, Node::incrementEvictions, true);
     }
 
+    @Override
+    public void incrementRejections(List<String> dimensionValues) {
+        internalIncrement(dimensionValues, Node::incrementRejections, true);
+    }
+
     @Override
     public void incrementSizeInBytes(List<String> dimensionValues, long amountBytes) {
         internalIncrement(dimensionValues, (node) -> node.incrementSizeInBytes(amountBytes), true);
@@ -94,7 +99,7 @@ public class DefaultCacheStatsHolder implements CacheStatsHolder {
     }
 
     /**
-     * Reset number of entries and memory size when all keys leave the cache, but don't reset hit/miss/eviction numbers.
+     * Reset number of entries and memory size when all keys leave the cache, but don't reset hit/miss/eviction/rejection numbers.
      * This is in line with the behavior of the existing API when caches are cleared.
      */
     @Override
@@ -261,6 +266,10 @@ public class DefaultCacheStatsHolder implements CacheStatsHolder {
             this.stats.incrementEvictions();
         }
 
+        public void incrementRejections() {
+            this.stats.incrementRejections();
+        }
+
         public void incrementSizeInBytes(long amountBytes) {
             this.stats.incrementSizeInBytes(amountBytes);
         }
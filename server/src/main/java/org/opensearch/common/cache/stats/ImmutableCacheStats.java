@@ -8,6 +8,7 @@
 
 package org.opensearch.common.cache.stats;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -31,17 +32,33 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
     private final long evictions;
     private final long sizeInBytes;
     private final long items;
+    // entries an admission policy refused to cache, always 0 for caches without one
+    private final long rejections;
 
     public ImmutableCacheStats(long hits, long misses, long evictions, long sizeInBytes, long items) {
+        this(hits, misses, evictions, sizeInBytes, items, 0);
+    }
+
+    public ImmutableCacheStats(long hits, long misses, long evictions, long sizeInBytes, long items, long rejections) {
         this.hits = hits;
         this.misses = misses;
         this.evictions = evictions;
         this.sizeInBytes = sizeInBytes;
         this.items = items;
+        this.rejections = rejections;
     }
 
     public ImmutableCacheStats(StreamInput in) throws IOException {
-        this(in.readVLong(), in.readVLong(), in.readVLong(), in.readVLong(), in.readVLong());
+        this.hits = in.readVLong();
+        this.misses = in.readVLong();
+        this.evictions = in.readVLong();
+        this.sizeInBytes = in.readVLong();
+        this.items = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_7_0)) {
+            this.rejections = in.readVLong();
+        } else {
+            this.rejections = 0;
+        }
     }
 
     public static ImmutableCacheStats addSnapshots(ImmutableCacheStats s1, ImmutableCacheStats s2) {
@@ -50,7 +67,8 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
             s1.misses + s2.misses,
             s1.evictions + s2.evictions,
             s1.sizeInBytes + s2.sizeInBytes,
-            s1.items + s2.items
+            s1.items + s2.items,
+            s1.rejections + s2.rejections
         );
     }
 
@@ -74,6 +92,10 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         return items;
     }
 
+    public long getRejections() {
+        return rejections;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(hits);
@@ -81,6 +103,9 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         out.writeVLong(evictions);
         out.writeVLong(sizeInBytes);
         out.writeVLong(items);
+        if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
+            out.writeVLong(rejections);
+        }
     }
 
     @Override
@@ -96,12 +121,13 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
             && (misses == other.misses)
             && (evictions == other.evictions)
             && (sizeInBytes == other.sizeInBytes)
-            && (items == other.items);
+            && (items == other.items)
+            && (rejections == other.rejections);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(hits, misses, evictions, sizeInBytes, items);
+        return Objects.hash(hits, misses, evictions, sizeInBytes, items, rejections);
     }
 
     @Override
@@ -112,6 +138,10 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         builder.field(Fields.HIT_COUNT, hits);
         builder.field(Fields.MISS_COUNT, misses);
         builder.field(Fields.ITEM_COUNT, items);
+        if (rejections > 0) {
+            // only caches with an admission policy reject entries, don't clutter the stats of all other caches
+            builder.field(Fields.REJECTION_COUNT, rejections);
+        }
         return builder;
     }
 
@@ -135,7 +165,11 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
             + ", "
             + Fields.ITEM_COUNT
             + "="
-            + items;
+            + items
+            + ", "
+            + Fields.REJECTION_COUNT
+            + "="
+            + rejections;
     }
 
     /**
@@ -148,5 +182,6 @@ public class ImmutableCacheStats implements Writeable, ToXContent {
         public static final String HIT_COUNT = "hit_count";
         public static final String MISS_COUNT = "miss_count";
         public static final String ITEM_COUNT = "item_count";
+        public static final String REJECTION_COUNT = "rejection_count";
     }
 }
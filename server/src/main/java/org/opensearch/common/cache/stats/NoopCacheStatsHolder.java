@@ -39,6 +39,9 @@ public class NoopCacheStatsHolder implements CacheStatsHolder {
     @Override
     public void incrementEvictions(List<String> dimensionValues) {}
 
+    @Override
+    public void incrementRejections(List<String> dimensionValues) {}
+
     @Override
     public void incrementSizeInBytes(List<String> dimensionValues, long amountBytes) {}
 
@@ -8,6 +8,7 @@
 
 package org.opensearch.common.cache.store;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.CacheType;
@@ -17,6 +18,7 @@ import org.opensearch.common.cache.LoadAwareCacheLoader;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.policy.TinyLfuAdmissionPolicy;
 import org.opensearch.common.cache.service.CacheService;
 import org.opensearch.common.cache.settings.CacheSettings;
 import org.opensearch.common.cache.stats.CacheStatsHolder;
@@ -34,6 +36,7 @@ import org.opensearch.core.common.unit.ByteSizeValue;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.ToLongBiFunction;
 
 import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSettings.EXPIRE_AFTER_ACCESS_KEY;
@@ -41,6 +44,12 @@ import static org.opensearch.common.cache.store.settings.OpenSearchOnHeapCacheSe
 
 /**
  * This variant of on-heap cache uses OpenSearch custom cache implementation.
+ * <p>
+ * Optionally a {@link TinyLfuAdmissionPolicy} guards the entries loaded by {@link #computeIfAbsent}. Once the cache is full,
+ * a loaded value is only cached if its key was accessed more often recently than the least recently used key, which would be
+ * evicted to make room for it. Otherwise the value is returned to the caller without being cached, it is counted as a
+ * rejection, and the removal listener is notified with {@link RemovalReason#REJECTED} so that the caller's accounting of the
+ * load stays balanced.
  * @param <K> Type of key.
  * @param <V> Type of value.
  *
@@ -55,6 +64,8 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
     private final ToLongBiFunction<ICacheKey<K>, V> weigher;
     private final boolean statsTrackingEnabled;
     private final long maximumWeight;
+    @Nullable
+    private final TinyLfuAdmissionPolicy admissionPolicy;
 
     public OpenSearchOnHeapCache(Builder<K, V> builder) {
         this.maximumWeight = builder.getMaxWeightInBytes();
@@ -78,6 +89,7 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
         }
         this.removalListener = builder.getRemovalListener();
         this.weigher = builder.getWeigher();
+        this.admissionPolicy = builder.admissionPolicy;
     }
 
     // pkg-private for testing
@@ -87,6 +99,9 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
 
     @Override
     public V get(ICacheKey<K> key) {
+        if (admissionPolicy != null) {
+            admissionPolicy.record(key);
+        }
         V value = cache.get(key);
         if (value != null) {
             cacheStatsHolder.incrementHits(key.dimensions);
@@ -105,9 +120,27 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
 
     @Override
     public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
-        V value = cache.computeIfAbsent(key, key1 -> loader.load(key));
+        final V value;
+        final AtomicBoolean rejected = new AtomicBoolean();
+        if (admissionPolicy != null) {
+            admissionPolicy.record(key);
+            // concurrent misses on the key still share a single load, even if its value is not cached
+            value = cache.computeIfAbsent(key, key1 -> loader.load(key), key1 -> {
+                if (admit(key1)) {
+                    return true;
+                }
+                rejected.set(true);
+                return false;
+            });
+        } else {
+            value = cache.computeIfAbsent(key, key1 -> loader.load(key));
+        }
         if (!loader.isLoaded()) {
             cacheStatsHolder.incrementHits(key.dimensions);
+        } else if (rejected.get()) {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+            cacheStatsHolder.incrementRejections(key.dimensions);
+            removalListener.onRemoval(new RemovalNotification<>(key, value, RemovalReason.REJECTED));
         } else {
             cacheStatsHolder.incrementMisses(key.dimensions);
             cacheStatsHolder.incrementItems(key.dimensions);
@@ -116,6 +149,17 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
         return value;
     }
 
+    /**
+     * Whether a value loaded for the given key may be cached. As long as the cache is not full nothing gets evicted and the
+     * value is always admitted.
+     */
+    private boolean admit(ICacheKey<K> key) {
+        if (cache.weight() < maximumWeight) {
+            return true;
+        }
+        return admissionPolicy.admit(key, cache.peekLeastRecentlyUsedKey());
+    }
+
     @Override
     public void invalidate(ICacheKey<K> key) {
         if (key.getDropStatsForDimensions()) {
@@ -183,6 +227,7 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
             Settings settings = config.getSettings();
             boolean statsTrackingEnabled = config.getStatsTrackingEnabled();
             ICacheBuilder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames())
+                .setAdmissionPolicy(createAdmissionPolicy(cacheType, settings))
                 .setStatsTrackingEnabled(statsTrackingEnabled)
                 .setExpireAfterAccess(((TimeValue) settingList.get(EXPIRE_AFTER_ACCESS_KEY).get(settings)))
                 .setWeigher(config.getWeigher())
@@ -222,6 +267,14 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
         public String getCacheName() {
             return NAME;
         }
+
+        private static TinyLfuAdmissionPolicy createAdmissionPolicy(CacheType cacheType, Settings settings) {
+            String policy = CacheSettings.getConcreteAdmissionPolicySettingForCacheType(cacheType).get(settings);
+            if (CacheSettings.ADMISSION_POLICY_TINYLFU.equals(policy)) {
+                return new TinyLfuAdmissionPolicy(CacheSettings.getConcreteAdmissionSketchSizeSettingForCacheType(cacheType).get(settings));
+            }
+            return null;
+        }
     }
 
     /**
@@ -231,12 +284,18 @@ public class OpenSearchOnHeapCache<K, V> implements ICache<K, V>, RemovalListene
      */
     public static class Builder<K, V> extends ICacheBuilder<K, V> {
         private List<String> dimensionNames;
+        private TinyLfuAdmissionPolicy admissionPolicy;
 
         public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
             this.dimensionNames = dimensionNames;
             return this;
         }
 
+        public Builder<K, V> setAdmissionPolicy(@Nullable TinyLfuAdmissionPolicy admissionPolicy) {
+            this.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
         @Override
         public ICache<K, V> build() {
             return new OpenSearchOnHeapCache<K, V>(this);
@@ -124,12 +124,15 @@ import org.opensearch.index.compositeindex.CompositeIndexSettings;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
+import org.opensearch.index.translog.TranslogGroupCommitSettings;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.RefreshScheduler;
 import org.opensearch.indices.RemoteStoreSettings;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
@@ -449,6 +452,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_MAX_CONCURRENT_PARTIAL_REDUCES_SETTING,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -488,6 +492,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSettings.PUBLISH_PORT_PROFILE,
                 TransportSettings.OLD_TRANSPORT_COMPRESS,
                 TransportSettings.TRANSPORT_COMPRESS,
+                TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE,
+                TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE_MIN_SIZE,
+                TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE_MAX_RATIO,
+                TransportSettings.TRANSPORT_INBOUND_ZERO_COPY_ACTIONS,
+                TransportSettings.TRANSPORT_INBOUND_ZERO_COPY_MIN_SIZE,
                 TransportSettings.PING_SCHEDULE,
                 TransportSettings.TCP_CONNECT_TIMEOUT,
                 TransportSettings.CONNECT_TIMEOUT,
@@ -556,6 +565,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesRequestCache.INDICES_REQUEST_CACHE_CLEANUP_INTERVAL_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_STALENESS_THRESHOLD_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING,
+                SegmentAggregationCache.INDICES_SEGMENT_AGGREGATION_CACHE_SIZE,
                 HunspellService.HUNSPELL_LAZY_LOAD,
                 HunspellService.HUNSPELL_IGNORE_CASE,
                 HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -599,6 +609,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_ENABLED,
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_MEMORY_THRESHOLD,
                 SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED,
+                SearchService.CONCURRENT_FETCH_ENABLED,
                 CreatePitController.PIT_INIT_KEEP_ALIVE,
                 Node.WRITE_PORTS_FILE_SETTING,
                 Node.NODE_NAME_SETTING,
@@ -633,6 +644,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 PageCacheRecycler.WEIGHT_LONG_SETTING,
                 PageCacheRecycler.WEIGHT_OBJECTS_SETTING,
                 PageCacheRecycler.TYPE_SETTING,
+                PageCacheRecycler.MEMORY_TYPE_SETTING,
+                PageCacheRecycler.WEIGHT_DIRECT_SETTING,
                 PluginsService.MANDATORY_SETTING,
                 BootstrapSettings.SECURITY_FILTER_BAD_DEFAULTS_SETTING,
                 BootstrapSettings.MEMORY_LOCK_SETTING,
@@ -757,6 +770,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
                 FileCacheSettings.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
+                FileCacheSettings.FILE_CACHE_EVICTION_POLICY_SETTING,
 
                 // Settings related to Remote Refresh Segment Pressure
                 RemoteStorePressureSettings.REMOTE_REFRESH_SEGMENT_PRESSURE_ENABLED,
@@ -822,6 +836,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RemoteStoreSettings.CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING,
                 RemoteStoreSettings.CLUSTER_REMOTE_UPLOADED_SEGMENTS_CLEANUP_THRESHOLD_SETTING,
                 RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
+                TranslogGroupCommitSettings.CLUSTER_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING,
+                TranslogGroupCommitSettings.CLUSTER_TRANSLOG_GROUP_COMMIT_MAX_REQUESTS_SETTING,
                 RemoteStoreSettings.CLUSTER_REMOTE_TRANSLOG_TRANSFER_TIMEOUT_SETTING,
                 RemoteStoreSettings.CLUSTER_REMOTE_SEGMENT_TRANSFER_TIMEOUT_SETTING,
                 RemoteStoreSettings.CLUSTER_REMOTE_STORE_PATH_TYPE_SETTING,
@@ -872,6 +888,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
 
                 // Tiered caching settings
                 CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_REQUEST_CACHE),
+                CacheSettings.getConcreteAdmissionPolicySettingForCacheType(CacheType.INDICES_REQUEST_CACHE),
+                CacheSettings.getConcreteAdmissionSketchSizeSettingForCacheType(CacheType.INDICES_REQUEST_CACHE),
                 OpenSearchOnHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(
                     CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
                 ),
@@ -882,6 +900,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Setting related to refresh optimisations
                 IndicesService.CLUSTER_REFRESH_FIXED_INTERVAL_SCHEDULE_ENABLED_SETTING,
                 IndicesService.CLUSTER_REFRESH_SHARD_LEVEL_ENABLED_SETTING,
+                RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING,
+                RefreshScheduler.COLD_BATCH_SIZE_SETTING,
 
                 // Settings related to Auto Force Merge Manager
                 ForceMergeManagerSettings.AUTO_FORCE_MERGE_SETTING,
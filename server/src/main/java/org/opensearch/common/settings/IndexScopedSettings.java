@@ -60,6 +60,7 @@ import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
 import org.opensearch.indices.IndicesRequestCache;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.search.streaming.FlushModeResolver;
 
 import java.util.Arrays;
@@ -165,6 +166,9 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.MAX_NESTED_QUERY_DEPTH_SETTING,
                 IndexSettings.INDEX_TRANSLOG_SYNC_INTERVAL_SETTING,
                 IndexSettings.INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
+                IndexSettings.INDEX_SEGMENT_REPLICATION_FILE_TRANSFER_STREAMS_SETTING,
+                IndexSettings.INDEX_BULK_COALESCE_WINDOW_SETTING,
+                IndexSettings.INDEX_BULK_COALESCE_MAX_SIZE_SETTING,
                 IndexSettings.DEFAULT_FIELD_SETTING,
                 IndexSettings.QUERY_STRING_LENIENT_SETTING,
                 IndexSettings.ALLOW_UNMAPPED,
@@ -185,6 +189,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
                 IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
                 IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
+                SegmentAggregationCache.INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING,
                 UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
                 EnableAllocationDecider.INDEX_ROUTING_ALLOCATION_ENABLE_SETTING,
@@ -304,6 +309,9 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.INDEX_DERIVED_SOURCE_SETTING,
                 IndexSettings.INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING,
 
+                // Setting for striped version map locks
+                IndexSettings.INDEX_VERSION_MAP_STRIPED_LOCKS_SETTING,
+
                 // Writable warm / tiering settings - always registered so nodes can parse
                 // index metadata even when the feature flag is disabled
                 IndexModule.INDEX_STORE_LOCALITY_SETTING,
@@ -612,7 +612,11 @@ public class BigArrays {
      * @param clearOnResize whether values should be set to 0 on initialization and resize
      */
     public IntArray newIntArray(long size, boolean clearOnResize) {
-        if (size > PageCacheRecycler.INT_PAGE_SIZE) {
+        if (size >= PageCacheRecycler.INT_PAGE_SIZE / 2 && recycler != null && recycler.usesDirectMemory()) {
+            // keep the pages of large arrays out of the heap, accounting for them like for heap pages
+            adjustBreaker(DirectIntArray.estimateRamBytes(size), false);
+            return new DirectIntArray(size, this, clearOnResize);
+        } else if (size > PageCacheRecycler.INT_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigIntArray.estimateRamBytes(size), false);
@@ -637,6 +641,8 @@ public class BigArrays {
     public IntArray resize(IntArray array, long size) {
         if (array instanceof BigIntArray) {
             return resizeInPlace((BigIntArray) array, size);
+        } else if (array instanceof DirectIntArray) {
+            return resizeInPlace((DirectIntArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final IntArray newArray = newIntArray(size, arr.clearOnResize);
@@ -664,7 +670,11 @@ public class BigArrays {
      * @param clearOnResize whether values should be set to 0 on initialization and resize
      */
     public LongArray newLongArray(long size, boolean clearOnResize) {
-        if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
+        if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null && recycler.usesDirectMemory()) {
+            // keep the pages of large arrays out of the heap, accounting for them like for heap pages
+            adjustBreaker(DirectLongArray.estimateRamBytes(size), false);
+            return new DirectLongArray(size, this, clearOnResize);
+        } else if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigLongArray.estimateRamBytes(size), false);
@@ -689,6 +699,8 @@ public class BigArrays {
     public LongArray resize(LongArray array, long size) {
         if (array instanceof BigLongArray) {
             return resizeInPlace((BigLongArray) array, size);
+        } else if (array instanceof DirectLongArray) {
+            return resizeInPlace((DirectLongArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final LongArray newArray = newLongArray(size, arr.clearOnResize);
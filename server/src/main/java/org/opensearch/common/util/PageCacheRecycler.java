@@ -43,8 +43,11 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.bytes.PagedBytesReference;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.common.recycler.Recyclers.concurrent;
 import static org.opensearch.common.recycler.Recyclers.concurrentDeque;
@@ -65,6 +68,12 @@ public class PageCacheRecycler {
         Type::parse,
         Property.NodeScope
     );
+    public static final Setting<MemoryType> MEMORY_TYPE_SETTING = new Setting<>(
+        "cache.recycler.page.memory",
+        MemoryType.HEAP.name(),
+        MemoryType::parse,
+        Property.NodeScope
+    );
     public static final Setting<ByteSizeValue> LIMIT_HEAP_SETTING = Setting.memorySizeSetting(
         "cache.recycler.page.limit.heap",
         "10%",
@@ -88,6 +97,13 @@ public class PageCacheRecycler {
         0d,
         Property.NodeScope
     );
+    // only used when pages are allocated in direct memory
+    public static final Setting<Double> WEIGHT_DIRECT_SETTING = Setting.doubleSetting(
+        "cache.recycler.page.weight.direct",
+        1d,
+        0d,
+        Property.NodeScope
+    );
     // object pages are less useful to us so we give them a lower weight by default
     public static final Setting<Double> WEIGHT_OBJECTS_SETTING = Setting.doubleSetting(
         "cache.recycler.page.weight.objects",
@@ -107,6 +123,12 @@ public class PageCacheRecycler {
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final Recycler<ByteBuffer> directPage;
+    private final boolean directMemory;
+    private final int maxDirectPageCount;
+    private final AtomicInteger directPagesInUse = new AtomicInteger();
+
+    private static final byte[] ZERO_PAGE = new byte[PAGE_SIZE_IN_BYTES];
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
@@ -118,6 +140,7 @@ public class PageCacheRecycler {
         final Type type = TYPE_SETTING.get(settings);
         final long limit = LIMIT_HEAP_SETTING.get(settings).getBytes();
         final int allocatedProcessors = OpenSearchExecutors.allocatedProcessors(settings);
+        this.directMemory = MEMORY_TYPE_SETTING.get(settings) == MemoryType.DIRECT;
 
         // We have a global amount of memory that we need to divide across data types.
         // Since some types are more useful than other ones we give them different weights.
@@ -136,8 +159,9 @@ public class PageCacheRecycler {
         final double intsWeight = WEIGHT_INT_SETTING.get(settings);
         final double longsWeight = WEIGHT_LONG_SETTING.get(settings);
         final double objectsWeight = WEIGHT_OBJECTS_SETTING.get(settings);
+        final double directWeight = directMemory ? WEIGHT_DIRECT_SETTING.get(settings) : 0d;
 
-        final double totalWeight = bytesWeight + intsWeight + longsWeight + objectsWeight;
+        final double totalWeight = bytesWeight + intsWeight + longsWeight + objectsWeight + directWeight;
         final int maxPageCount = (int) Math.min(Integer.MAX_VALUE, limit / PAGE_SIZE_IN_BYTES);
 
         final int maxBytePageCount = (int) (bytesWeight * maxPageCount / totalWeight);
@@ -192,7 +216,31 @@ public class PageCacheRecycler {
             }
         });
 
-        assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
+        // direct pages count against the same limit as heap pages. At most that many are handed out, and they all go back
+        // to a single queue of the same size, so that direct pages are recycled rather than left for the GC to free.
+        this.maxDirectPageCount = (int) (directWeight * maxPageCount / totalWeight);
+        final AbstractRecyclerC<ByteBuffer> directPageC = new AbstractRecyclerC<ByteBuffer>() {
+            @Override
+            public ByteBuffer newInstance() {
+                return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+            }
+
+            @Override
+            public void recycle(ByteBuffer value) {
+                // nothing to do
+            }
+        };
+        directPage = maxDirectPageCount == 0 || type == Type.NONE ? none(directPageC) : concurrentDeque(directPageC, maxDirectPageCount);
+
+        assert PAGE_SIZE_IN_BYTES * ((long) maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount
+            + maxDirectPageCount) <= limit;
+    }
+
+    /**
+     * Whether {@link BigArrays} should back its long and int arrays with {@link #directPage(boolean) direct pages}.
+     */
+    public boolean usesDirectMemory() {
+        return directMemory;
     }
 
     public Recycler.V<byte[]> bytePage(boolean clear) {
@@ -224,6 +272,70 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
+    /**
+     * Returns a page of {@link #PAGE_SIZE_IN_BYTES} bytes of direct memory in native byte order, for callers that read
+     * and write it at absolute offsets. Once the direct pages in use reach their share of the limit, the page is a heap
+     * byte page wrapped in a buffer instead.
+     */
+    public Recycler.V<ByteBuffer> directPage(boolean clear) {
+        int inUse;
+        do {
+            inUse = directPagesInUse.get();
+            if (inUse >= maxDirectPageCount) {
+                return heapPage(clear);
+            }
+        } while (directPagesInUse.compareAndSet(inUse, inUse + 1) == false);
+        final Recycler.V<ByteBuffer> v = directPage.obtain();
+        if (v.isRecycled() && clear) {
+            v.v().put(0, ZERO_PAGE);
+        }
+        return new Recycler.V<>() {
+            @Override
+            public ByteBuffer v() {
+                return v.v();
+            }
+
+            @Override
+            public boolean isRecycled() {
+                return v.isRecycled();
+            }
+
+            @Override
+            public void close() {
+                v.close();
+                directPagesInUse.decrementAndGet();
+            }
+        };
+    }
+
+    private Recycler.V<ByteBuffer> heapPage(boolean clear) {
+        final Recycler.V<byte[]> page = bytePage(clear);
+        final ByteBuffer buffer = ByteBuffer.wrap(page.v()).order(ByteOrder.nativeOrder());
+        return new Recycler.V<>() {
+            @Override
+            public ByteBuffer v() {
+                return buffer;
+            }
+
+            @Override
+            public boolean isRecycled() {
+                return page.isRecycled();
+            }
+
+            @Override
+            public void close() {
+                page.close();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of {@link #directPage(boolean) direct pages} that are currently in use.
+     */
+    int directPagesInUse() {
+        return directPagesInUse.get();
+    }
+
     private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
         final Recycler<T> recycler;
         if (limit == 0) {
@@ -269,4 +381,22 @@ public class PageCacheRecycler {
 
         abstract <T> Recycler<T> build(Recycler.C<T> c, int limit, int availableProcessors);
     }
+
+    /**
+     * Where the pages of long and int arrays are allocated
+     *
+     * @opensearch.internal
+     */
+    public enum MemoryType {
+        HEAP,
+        DIRECT;
+
+        public static MemoryType parse(String type) {
+            try {
+                return MemoryType.valueOf(type.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("no memory type support [" + type + "]");
+            }
+        }
+    }
 }
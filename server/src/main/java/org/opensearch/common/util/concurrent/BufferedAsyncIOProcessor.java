@@ -11,12 +11,14 @@ package org.opensearch.common.util.concurrent;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 /**
@@ -27,6 +29,8 @@ import java.util.function.Supplier;
  * If more requests are enqueued between invocations of drainAndProcessAndRelease, another processor thread
  * gets scheduled. Subsequent requests will get buffered till drainAndProcessAndRelease gets called in this new
  * processor thread.
+ * <p>
+ * Optionally, the buffered requests are processed before the end of the interval once a maximum number of them is buffered.
  *
  * @opensearch.internal
  */
@@ -34,6 +38,9 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
 
     private final ThreadPool threadpool;
     private final Supplier<TimeValue> bufferIntervalSupplier;
+    private final IntSupplier maxBufferedItemsSupplier;
+    // the process that is scheduled to run at the end of the buffer interval
+    private volatile Scheduler.ScheduledCancellable scheduledProcess;
 
     protected BufferedAsyncIOProcessor(
         Logger logger,
@@ -41,10 +48,26 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
         ThreadContext threadContext,
         ThreadPool threadpool,
         Supplier<TimeValue> bufferIntervalSupplier
+    ) {
+        this(logger, queueSize, threadContext, threadpool, bufferIntervalSupplier, () -> Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a processor that also processes the buffered items before the end of the buffer interval, as soon as
+     * {@code maxBufferedItemsSupplier} items are buffered.
+     */
+    protected BufferedAsyncIOProcessor(
+        Logger logger,
+        int queueSize,
+        ThreadContext threadContext,
+        ThreadPool threadpool,
+        Supplier<TimeValue> bufferIntervalSupplier,
+        IntSupplier maxBufferedItemsSupplier
     ) {
         super(logger, queueSize, threadContext);
         this.threadpool = threadpool;
         this.bufferIntervalSupplier = bufferIntervalSupplier;
+        this.maxBufferedItemsSupplier = maxBufferedItemsSupplier;
     }
 
     @Override
@@ -53,12 +76,13 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
         Objects.requireNonNull(listener, "listener must not be null");
         addToQueue(item, listener);
         scheduleProcess();
+        maybeProcessEarly();
     }
 
     private void scheduleProcess() {
         if (getQueue().isEmpty() == false && getPromiseSemaphore().tryAcquire()) {
             try {
-                threadpool.schedule(this::process, getBufferInterval(), getBufferProcessThreadPoolName());
+                scheduledProcess = threadpool.schedule(this::process, getBufferInterval(), getBufferProcessThreadPoolName());
             } catch (Exception e) {
                 getLogger().error("failed to schedule process");
                 processSchedulingFailure(e);
@@ -70,6 +94,25 @@ public abstract class BufferedAsyncIOProcessor<Item> extends AsyncIOProcessor<It
         }
     }
 
+    private void maybeProcessEarly() {
+        final int maxBufferedItems = maxBufferedItemsSupplier.getAsInt();
+        if (maxBufferedItems == Integer.MAX_VALUE || getQueue().size() < maxBufferedItems) {
+            return;
+        }
+        final Scheduler.ScheduledCancellable pending = scheduledProcess;
+        // only the thread that cancels the scheduled process runs it instead, so it still runs once and releases the promise
+        if (pending != null && pending.cancel()) {
+            try {
+                threadpool.executor(getBufferProcessThreadPoolName()).execute(this::process);
+            } catch (Exception e) {
+                getLogger().error("failed to execute process");
+                processSchedulingFailure(e);
+                getPromiseSemaphore().release();
+                scheduleProcess();
+            }
+        }
+    }
+
     private void processSchedulingFailure(Exception e) {
         List<Tuple<Item, Consumer<Exception>>> candidates = new ArrayList<>();
         getQueue().drainTo(candidates);
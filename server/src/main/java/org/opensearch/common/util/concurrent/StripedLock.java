@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that keys are mapped onto by their hash code. Unlike {@link KeyedLock} this does not allocate or
+ * publish a lock per key, so acquiring a lock never touches a shared map. The trade-off is that two distinct keys may
+ * share a stripe and therefore block each other. Callers must not hold the lock for one key while acquiring the lock for
+ * another key, since two such keys can map onto stripes in opposite order and deadlock.
+ * Note: this lock is reentrant
+ *
+ * @opensearch.internal
+ */
+public final class StripedLock<T> {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a new striped lock
+     * @param numStripes the minimum number of stripes, rounded up to the next power of two
+     */
+    public StripedLock(int numStripes) {
+        if (numStripes <= 0) {
+            throw new IllegalArgumentException("number of stripes must be > 0 but was [" + numStripes + "]");
+        }
+        final int size = Integer.highestOneBit(numStripes) == numStripes ? numStripes : Integer.highestOneBit(numStripes) << 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("number of stripes is too large [" + numStripes + "]");
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Acquires the lock of the stripe the given key maps to. The lock is released by closing the returned {@link Releasable}.
+     */
+    public Releasable acquire(T key) {
+        final ReentrantLock lock = stripeFor(key);
+        lock.lock();
+        return new StripeReleasable(lock);
+    }
+
+    /**
+     * Tries to acquire the lock of the stripe the given key maps to. If the lock can't be acquired null is returned.
+     */
+    public Releasable tryAcquire(T key) {
+        final ReentrantLock lock = stripeFor(key);
+        if (lock.tryLock()) {
+            return new StripeReleasable(lock);
+        }
+        return null;
+    }
+
+    /**
+     * Returns <code>true</code> iff the caller thread holds the lock of the stripe the given key maps to
+     */
+    public boolean isHeldByCurrentThread(T key) {
+        return stripeFor(key).isHeldByCurrentThread();
+    }
+
+    /**
+     * Returns <code>true</code> if at least one stripe is currently locked.
+     */
+    public boolean hasLockedKeys() {
+        for (ReentrantLock stripe : stripes) {
+            if (stripe.isLocked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of stripes
+     */
+    public int numStripes() {
+        return stripes.length;
+    }
+
+    private ReentrantLock stripeFor(T key) {
+        // spread the higher bits since many hash codes (e.g. BytesRef's murmur3 based one) differ mostly in the upper bits
+        final int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class StripeReleasable implements Releasable {
+        private ReentrantLock lock;
+
+        private StripeReleasable(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            // closing twice must not unlock a stripe that is held by a later acquisition of the same thread
+            final ReentrantLock toRelease = lock;
+            if (toRelease != null) {
+                lock = null;
+                toRelease.unlock();
+            }
+        }
+    }
+}
@@ -452,6 +452,13 @@ public final class ThreadContext implements Writeable {
         return Collections.unmodifiableMap(new HashMap<>(threadLocal.get().requestHeaders));
     }
 
+    /**
+     * Returns a copy of the persistent headers of the thread's context.
+     */
+    public Map<String, Object> getPersistentHeaders() {
+        return Collections.unmodifiableMap(new HashMap<>(threadLocal.get().persistentHeaders));
+    }
+
     /**
      * Get a copy of all <em>response</em> headers.
      *
@@ -102,6 +102,7 @@ import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
+import org.opensearch.indices.RefreshScheduler;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -209,6 +210,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private final Object refreshMutex = new Object();
     private volatile TimeValue refreshInterval;
     private volatile boolean shardLevelRefreshEnabled;
+    // the node level scheduler the scheduled refreshes of the index level refresh task are handed to, may be null in tests
+    @Nullable
+    private final RefreshScheduler refreshScheduler;
     private final IndexStorePlugin.StoreFactory storeFactory;
     private final DataFormatRegistry dataFormatRegistry;
 
@@ -258,7 +262,8 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         Function<ShardId, ReplicationStats> segmentReplicationStatsProvider,
         Supplier<Integer> clusterDefaultMaxMergeAtOnceSupplier,
         ClusterMergeSchedulerConfig clusterMergeSchedulerConfig,
-        DataFormatRegistry dataFormatRegistry
+        DataFormatRegistry dataFormatRegistry,
+        @Nullable RefreshScheduler refreshScheduler
     ) {
         super(indexSettings);
         this.storeFactory = storeFactory;
@@ -338,6 +343,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         this.clusterDefaultRefreshIntervalSupplier = clusterDefaultRefreshIntervalSupplier;
         this.fixedRefreshIntervalSchedulingEnabled = fixedRefreshIntervalSchedulingEnabled;
         this.shardLevelRefreshEnabled = shardLevelRefreshEnabled;
+        this.refreshScheduler = refreshScheduler;
         this.refreshInterval = getRefreshInterval();
         // kick off async ops for the first shard in this index
         this.trimTranslogTask = new AsyncTrimTranslogTask(this);
@@ -459,6 +465,7 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
             (shardId) -> ReplicationStats.empty(),
             clusterDefaultMaxMergeAtOnce,
             clusterMergeSchedulerConfig,
+            null,
             null
         );
     }
@@ -1401,6 +1408,9 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
     private void maybeRefreshEngine(boolean force) {
         if (getRefreshInterval().millis() > 0 || force) {
             for (IndexShard shard : this.shards.values()) {
+                if (force == false && refreshScheduler != null && refreshScheduler.schedule(shard)) {
+                    continue;
+                }
                 try {
                     shard.scheduledRefresh();
                 } catch (IndexShardClosedException | AlreadyClosedException ex) {
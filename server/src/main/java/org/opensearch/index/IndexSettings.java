@@ -183,6 +183,46 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * How long the bulk shard requests to a shard of the index are held back on the coordinating node to be merged with
+     * the concurrent bulk shard requests to the same shard, {@code 0} disables the merging. Requests are only merged when
+     * they carry the same request headers, the merged request is authorized with the headers of its first request.
+     */
+    public static final Setting<TimeValue> INDEX_BULK_COALESCE_WINDOW_SETTING = Setting.timeSetting(
+        "index.bulk.coalesce.window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The size of the bulk shard requests from which they are not held back to be merged, a merged request is sent as
+     * soon as it reaches this size.
+     */
+    public static final Setting<ByteSizeValue> INDEX_BULK_COALESCE_MAX_SIZE_SETTING = Setting.byteSizeSetting(
+        "index.bulk.coalesce.max_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(0, ByteSizeUnit.BYTES),
+        new ByteSizeValue(100, ByteSizeUnit.MB),
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The number of segment files a primary sends in parallel to each replica with segment replication. Each stream has
+     * up to {@code indices.recovery.max_concurrent_file_chunks} chunks in flight.
+     */
+    public static final Setting<Integer> INDEX_SEGMENT_REPLICATION_FILE_TRANSFER_STREAMS_SETTING = Setting.intSetting(
+        "index.segment_replication.file_transfer_streams",
+        1,
+        1,
+        16,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_SEARCH_IDLE_AFTER = Setting.timeSetting(
         "index.search.idle.after",
         TimeValue.timeValueSeconds(30),
@@ -917,6 +957,18 @@ public final class IndexSettings {
         Property.Dynamic
     );
 
+    /**
+     * If enabled, the live version map guards document ids with a fixed number of lock stripes sized to the write thread
+     * pool instead of a lock per document id. This reduces lock allocation and contention on update heavy shards at the
+     * cost of occasional false sharing between unrelated ids.
+     */
+    public static final Setting<Boolean> INDEX_VERSION_MAP_STRIPED_LOCKS_SETTING = Setting.boolSetting(
+        "index.version_map.striped_locks.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+
     private final Index index;
     private final Version version;
     private final Logger logger;
@@ -946,6 +998,7 @@ public final class IndexSettings {
     private final boolean translogReadForward;
     private volatile TimeValue syncInterval;
     private volatile TimeValue publishReferencedSegmentsInterval;
+    private volatile int segmentReplicationFileTransferStreams;
     private volatile TimeValue refreshInterval;
     private volatile TimeValue periodicFlushInterval;
     private volatile ByteSizeValue flushThresholdSize;
@@ -974,6 +1027,7 @@ public final class IndexSettings {
     private volatile boolean allowDerivedField;
     private final boolean derivedSourceEnabled;
     private volatile boolean derivedSourceEnabledForTranslog;
+    private final boolean versionMapStripedLocksEnabled;
 
     /**
      * The maximum age of a retention lease before it is considered expired.
@@ -1172,6 +1226,7 @@ public final class IndexSettings {
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
+        segmentReplicationFileTransferStreams = scopedSettings.get(INDEX_SEGMENT_REPLICATION_FILE_TRANSFER_STREAMS_SETTING);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         periodicFlushInterval = scopedSettings.get(INDEX_PERIODIC_FLUSH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
@@ -1221,6 +1276,7 @@ public final class IndexSettings {
         checkPendingFlushEnabled = scopedSettings.get(INDEX_CHECK_PENDING_FLUSH_ENABLED);
         defaultSearchPipeline = scopedSettings.get(DEFAULT_SEARCH_PIPELINE);
         derivedSourceEnabled = scopedSettings.get(INDEX_DERIVED_SOURCE_SETTING);
+        versionMapStripedLocksEnabled = scopedSettings.get(INDEX_VERSION_MAP_STRIPED_LOCKS_SETTING);
         derivedSourceEnabledForTranslog = scopedSettings.get(INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING);
         scopedSettings.addSettingsUpdateConsumer(INDEX_DERIVED_SOURCE_TRANSLOG_ENABLED_SETTING, this::setDerivedSourceEnabledForTranslog);
         /* There was unintentional breaking change got introduced with [OpenSearch-6424](https://github.com/opensearch-project/OpenSearch/pull/6424) (version 2.7).
@@ -1308,6 +1364,10 @@ public final class IndexSettings {
             INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
             this::setPublishReferencedSegmentsInterval
         );
+        scopedSettings.addSettingsUpdateConsumer(
+            INDEX_SEGMENT_REPLICATION_FILE_TRANSFER_STREAMS_SETTING,
+            this::setSegmentReplicationFileTransferStreams
+        );
         scopedSettings.addSettingsUpdateConsumer(MAX_RESULT_WINDOW_SETTING, this::setMaxResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_INNER_RESULT_WINDOW_SETTING, this::setMaxInnerResultWindow);
         scopedSettings.addSettingsUpdateConsumer(MAX_ADJACENCY_MATRIX_FILTERS_SETTING, this::setMaxAdjacencyMatrixFilters);
@@ -1733,6 +1793,17 @@ public final class IndexSettings {
         this.publishReferencedSegmentsInterval = publishReferencedSegmentsInterval;
     }
 
+    /**
+     * The number of segment files a primary sends in parallel to each replica with segment replication.
+     */
+    public int getSegmentReplicationFileTransferStreams() {
+        return segmentReplicationFileTransferStreams;
+    }
+
+    private void setSegmentReplicationFileTransferStreams(int segmentReplicationFileTransferStreams) {
+        this.segmentReplicationFileTransferStreams = segmentReplicationFileTransferStreams;
+    }
+
     /**
      * Returns the translog sync/upload buffer interval when remote translog store is enabled and index setting
      * {@code index.translog.durability} is set as {@code request}.
@@ -2360,4 +2431,8 @@ public final class IndexSettings {
     public boolean isDerivedSourceEnabled() {
         return derivedSourceEnabled;
     }
+
+    public boolean isVersionMapStripedLocksEnabled() {
+        return versionMapStripedLocksEnabled;
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Stats about the segment files a primary sent to its replicas. The time of a file is measured from when its first chunk
+ * is read until its last chunk is acknowledged, so files sent in parallel streams each count their own time and the
+ * average throughput is per file rather than per replication.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.7.0")
+public class SegmentReplicationFileTransferStats implements Writeable, ToXContentFragment {
+
+    /**
+     * Total number of files sent
+     */
+    private final long totalFiles;
+
+    /**
+     * Total number of bytes sent
+     */
+    private final long totalBytes;
+
+    /**
+     * Sum of the time it took to send each file
+     */
+    private final long totalFileTimeInMillis;
+
+    /**
+     * The number of streams the last replication used
+     */
+    private final int lastStreams;
+
+    public SegmentReplicationFileTransferStats() {
+        this(0, 0, 0, 0);
+    }
+
+    public SegmentReplicationFileTransferStats(long totalFiles, long totalBytes, long totalFileTimeInMillis, int lastStreams) {
+        this.totalFiles = totalFiles;
+        this.totalBytes = totalBytes;
+        this.totalFileTimeInMillis = totalFileTimeInMillis;
+        this.lastStreams = lastStreams;
+    }
+
+    public SegmentReplicationFileTransferStats(StreamInput in) throws IOException {
+        this.totalFiles = in.readVLong();
+        this.totalBytes = in.readVLong();
+        this.totalFileTimeInMillis = in.readVLong();
+        this.lastStreams = in.readVInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(totalFiles);
+        out.writeVLong(totalBytes);
+        out.writeVLong(totalFileTimeInMillis);
+        out.writeVInt(lastStreams);
+    }
+
+    public long getTotalFiles() {
+        return totalFiles;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getTotalFileTimeInMillis() {
+        return totalFileTimeInMillis;
+    }
+
+    public int getLastStreams() {
+        return lastStreams;
+    }
+
+    /**
+     * The average number of bytes per second a file was sent at, or {@code 0} if no file was sent.
+     */
+    public long getAverageFileThroughputInBytesPerSec() {
+        if (totalFileTimeInMillis == 0) {
+            return 0;
+        }
+        return totalBytes * 1000 / totalFileTimeInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("file_transfer");
+        builder.field("total_files", totalFiles);
+        builder.humanReadableField("total_size_in_bytes", "total_size", new ByteSizeValue(totalBytes));
+        builder.humanReadableField("total_file_time_in_millis", "total_file_time", new TimeValue(totalFileTimeInMillis));
+        builder.humanReadableField(
+            "avg_file_throughput_in_bytes_per_sec",
+            "avg_file_throughput_per_sec",
+            new ByteSizeValue(getAverageFileThroughputInBytesPerSec())
+        );
+        builder.field("last_streams", lastStreams);
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SegmentReplicationFileTransferStats that = (SegmentReplicationFileTransferStats) o;
+        return totalFiles == that.totalFiles
+            && totalBytes == that.totalBytes
+            && totalFileTimeInMillis == that.totalFileTimeInMillis
+            && lastStreams == that.lastStreams;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalFiles, totalBytes, totalFileTimeInMillis, lastStreams);
+    }
+
+    @Override
+    public String toString() {
+        return "SegmentReplicationFileTransferStats{"
+            + "totalFiles="
+            + totalFiles
+            + ", totalBytes="
+            + totalBytes
+            + ", totalFileTimeInMillis="
+            + totalFileTimeInMillis
+            + ", lastStreams="
+            + lastStreams
+            + '}';
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -30,17 +31,33 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
     private final ShardId shardId;
     private final Set<SegmentReplicationShardStats> replicaStats;
     private final long rejectedRequestCount;
+    private final SegmentReplicationFileTransferStats fileTransferStats;
 
     public SegmentReplicationPerGroupStats(ShardId shardId, Set<SegmentReplicationShardStats> replicaStats, long rejectedRequestCount) {
+        this(shardId, replicaStats, rejectedRequestCount, new SegmentReplicationFileTransferStats());
+    }
+
+    public SegmentReplicationPerGroupStats(
+        ShardId shardId,
+        Set<SegmentReplicationShardStats> replicaStats,
+        long rejectedRequestCount,
+        SegmentReplicationFileTransferStats fileTransferStats
+    ) {
         this.shardId = shardId;
         this.replicaStats = replicaStats;
         this.rejectedRequestCount = rejectedRequestCount;
+        this.fileTransferStats = fileTransferStats;
     }
 
     public SegmentReplicationPerGroupStats(StreamInput in) throws IOException {
         this.shardId = new ShardId(in);
         this.replicaStats = in.readSet(SegmentReplicationShardStats::new);
         this.rejectedRequestCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_7_0)) {
+            this.fileTransferStats = new SegmentReplicationFileTransferStats(in);
+        } else {
+            this.fileTransferStats = new SegmentReplicationFileTransferStats();
+        }
     }
 
     public Set<SegmentReplicationShardStats> getReplicaStats() {
@@ -55,9 +72,17 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
         return shardId;
     }
 
+    /**
+     * Stats about the segment files the primary sent to its replicas.
+     */
+    public SegmentReplicationFileTransferStats getFileTransferStats() {
+        return fileTransferStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.field("rejected_requests", rejectedRequestCount);
+        fileTransferStats.toXContent(builder, params);
         builder.startArray("replicas");
         for (SegmentReplicationShardStats stats : replicaStats) {
             stats.toXContent(builder, params);
@@ -71,10 +96,20 @@ public class SegmentReplicationPerGroupStats implements Writeable, ToXContentFra
         shardId.writeTo(out);
         out.writeCollection(replicaStats);
         out.writeVLong(rejectedRequestCount);
+        if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
+            fileTransferStats.writeTo(out);
+        }
     }
 
     @Override
     public String toString() {
-        return "SegmentReplicationPerGroupStats{" + "replicaStats=" + replicaStats + ", rejectedRequestCount=" + rejectedRequestCount + '}';
+        return "SegmentReplicationPerGroupStats{"
+            + "replicaStats="
+            + replicaStats
+            + ", rejectedRequestCount="
+            + rejectedRequestCount
+            + ", fileTransferStats="
+            + fileTransferStats
+            + '}';
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.AbstractLinearCounting;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.util.Arrays;
+
+/**
+ * Aggregator of the HyperLogLog++ sketches of the cardinality metric.
+ * <p>
+ * The values are hashed the way the cardinality aggregation hashes them, and the sketch follows the two phases of a
+ * {@link HyperLogLogPlusPlus} of {@link #PRECISION}: it holds the linear counting encodings of the hashes until they
+ * outgrow the linear counting threshold, and then a value per non-empty register that packs the register index with
+ * its run length. {@link #toHash(long) The hashes} of the sketch values have the same effect as the original hashes
+ * on a {@link HyperLogLogPlusPlus} of the same or a lower precision.
+ *
+ * @opensearch.experimental
+ */
+public class CardinalityValueAggregator extends SketchValueAggregator {
+
+    /**
+     * The precision of the stored sketches, the default precision of the cardinality aggregation.
+     */
+    public static final int PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+    // the number of hashes above which a HyperLogLogPlusPlus of PRECISION upgrades from linear counting
+    private static final int LINEAR_COUNTING_THRESHOLD = (1 << PRECISION) / 4 * 3 / 4;
+    // the linear counting encodings take 32 bits, so register values are flagged above them
+    private static final long REGISTER_FLAG = 1L << 32;
+    private static final int RUN_LEN_BITS = 8;
+    private static final long RUN_LEN_MASK = (1L << RUN_LEN_BITS) - 1;
+    // the number of leading bits of a hash that the linear counting encodings keep
+    private static final int ENCODED_HASH_BITS = 25;
+
+    private final boolean floatingPoint;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+        this.floatingPoint = isFloatingPoint();
+    }
+
+    @Override
+    protected long[] toSketch(long segmentDocValue) {
+        final long hash = floatingPoint
+            ? BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue)))
+            : BitMixer.mix64(segmentDocValue);
+        return new long[] { Integer.toUnsignedLong(AbstractLinearCounting.encodeHash(hash, PRECISION)) };
+    }
+
+    @Override
+    protected long[] merge(long[] sketch, long[] otherSketch) {
+        if (isRegister(sketch[0]) == false && isRegister(otherSketch[0]) == false) {
+            final long[] merged = mergeEncodedHashes(sketch, otherSketch);
+            if (merged.length <= LINEAR_COUNTING_THRESHOLD) {
+                return merged;
+            }
+            return mergeRegisters(toRegisters(merged), new long[0]);
+        }
+        return mergeRegisters(toRegisters(sketch), toRegisters(otherSketch));
+    }
+
+    private static long[] mergeEncodedHashes(long[] sketch, long[] otherSketch) {
+        final long[] merged = new long[sketch.length + otherSketch.length];
+        int i = 0, j = 0, size = 0;
+        while (i < sketch.length || j < otherSketch.length) {
+            final long value;
+            if (j == otherSketch.length || (i < sketch.length && sketch[i] <= otherSketch[j])) {
+                value = sketch[i++];
+            } else {
+                value = otherSketch[j++];
+            }
+            if (size == 0 || merged[size - 1] != value) {
+                merged[size++] = value;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static long[] mergeRegisters(long[] sketch, long[] otherSketch) {
+        final long[] merged = new long[sketch.length + otherSketch.length];
+        int i = 0, j = 0, size = 0;
+        while (i < sketch.length || j < otherSketch.length) {
+            final long value;
+            if (j == otherSketch.length || (i < sketch.length && sketch[i] <= otherSketch[j])) {
+                value = sketch[i++];
+            } else {
+                value = otherSketch[j++];
+            }
+            // the values are sorted by register and then run length, so the last value of a register has its longest run
+            if (size > 0 && register(merged[size - 1]) == register(value)) {
+                merged[size - 1] = value;
+            } else {
+                merged[size++] = value;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * Returns the register values of a sketch, sorted by register and then run length.
+     */
+    private static long[] toRegisters(long[] sketch) {
+        if (isRegister(sketch[0])) {
+            return sketch;
+        }
+        final long[] registers = new long[sketch.length];
+        for (int i = 0; i < sketch.length; i++) {
+            final long hash = toHash(sketch[i]);
+            final long register = hash >>> (64 - PRECISION);
+            final int runLen = 1 + Math.min(Long.numberOfLeadingZeros(hash << PRECISION), 64 - PRECISION);
+            registers[i] = REGISTER_FLAG | (register << RUN_LEN_BITS) | runLen;
+        }
+        Arrays.sort(registers);
+        return registers;
+    }
+
+    private static long register(long value) {
+        return (value & ~REGISTER_FLAG) >>> RUN_LEN_BITS;
+    }
+
+    /**
+     * Returns whether the given sketch value is a register value rather than a linear counting encoding of a hash.
+     * Register values must be collected by a {@link HyperLogLogPlusPlus} that has upgraded to the HyperLogLog
+     * algorithm, since the original hashes outgrew linear counting.
+     */
+    public static boolean isRegister(long value) {
+        return (value & REGISTER_FLAG) != 0;
+    }
+
+    /**
+     * Returns a hash that has the same effect as the original hashes of the given sketch value when collected by a
+     * {@link HyperLogLogPlusPlus} of a precision up to {@link #PRECISION}. The hash keeps the leading bits that the
+     * sketch value holds, followed by as many zeros as the run length that the sketch value holds.
+     */
+    public static long toHash(long value) {
+        final long leadingBits;
+        final int leadingBitCount;
+        final int runLen;
+        if (isRegister(value)) {
+            leadingBits = register(value);
+            leadingBitCount = PRECISION;
+            runLen = (int) (value & RUN_LEN_MASK);
+        } else if ((value & 1) == 1) {
+            // the encoding of a hash whose bits after the precision are zeros holds the run length after its leading bits
+            leadingBits = value >>> 7;
+            leadingBitCount = ENCODED_HASH_BITS;
+            runLen = (int) ((value >>> 1) & 0x3F);
+        } else {
+            return (value >>> 1) << (64 - ENCODED_HASH_BITS);
+        }
+        long hash = leadingBits << (64 - leadingBitCount);
+        if (runLen <= 64 - leadingBitCount) {
+            hash |= 1L << (64 - leadingBitCount - runLen);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+import java.util.Arrays;
+
+import com.tdunning.math.stats.Centroid;
+
+/**
+ * Aggregator of the t-digest sketches of the percentiles metric.
+ * <p>
+ * The sketch holds the centroids of the digest as a value per centroid, which packs the sortable bits of the mean of
+ * the centroid, truncated to the top {@code 44} bits, with its count. Centroids with a larger count than a value can
+ * hold are split into several values of the same mean. Sketches are merged by summing the counts of the centroids of
+ * the same mean, and compressed by a {@link TDigestState} of {@link #COMPRESSION} once they grow too large, so the
+ * centroids of a sketch can be added to the {@link TDigestState} of the percentiles aggregation as they are.
+ *
+ * @opensearch.experimental
+ */
+public class PercentilesValueAggregator extends SketchValueAggregator {
+
+    /**
+     * The compression of the stored sketches, the default compression of the percentiles aggregation.
+     */
+    public static final double COMPRESSION = 100.0;
+    private static final int MAX_CENTROIDS = 4 * (int) COMPRESSION;
+    private static final int COUNT_BITS = 20;
+    private static final long MAX_COUNT = (1L << COUNT_BITS) - 1;
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    @Override
+    protected long[] toSketch(long segmentDocValue) {
+        return new long[] { toValue(fieldValueConverter.toDoubleValue(segmentDocValue), 1) };
+    }
+
+    @Override
+    protected long[] merge(long[] sketch, long[] otherSketch) {
+        final long[] merged = new long[sketch.length + otherSketch.length];
+        int i = 0, j = 0, size = 0, centroids = 0;
+        while (i < sketch.length || j < otherSketch.length) {
+            final long value;
+            if (j == otherSketch.length || (i < sketch.length && meanBits(sketch[i]) <= meanBits(otherSketch[j]))) {
+                value = sketch[i++];
+            } else {
+                value = otherSketch[j++];
+            }
+            if (size > 0 && meanBits(merged[size - 1]) == meanBits(value)) {
+                // each value adds at most one value to the merged sketch, the overflow of the count it is merged with
+                final long count = count(merged[size - 1]) + count(value);
+                merged[size - 1] = meanBits(value) | Math.min(count, MAX_COUNT);
+                if (count > MAX_COUNT) {
+                    merged[size++] = meanBits(value) | (count - MAX_COUNT);
+                }
+            } else {
+                merged[size++] = value;
+                centroids++;
+            }
+        }
+        if (centroids > MAX_CENTROIDS) {
+            return compress(merged, size);
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static long[] compress(long[] values, int size) {
+        final TDigestState state = new TDigestState(COMPRESSION);
+        for (int i = 0; i < size; i++) {
+            state.add(mean(values[i]), (int) count(values[i]));
+        }
+        long[] compressed = new long[state.centroidCount()];
+        int numValues = 0;
+        for (Centroid centroid : state.centroids()) {
+            for (long count = centroid.count(); count > 0; count -= MAX_COUNT) {
+                if (numValues == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length + 1);
+                }
+                compressed[numValues++] = toValue(centroid.mean(), Math.min(count, MAX_COUNT));
+            }
+        }
+        return numValues == compressed.length ? compressed : Arrays.copyOf(compressed, numValues);
+    }
+
+    private static long toValue(double mean, long count) {
+        return (NumericUtils.doubleToSortableLong(mean) & ~MAX_COUNT) | count;
+    }
+
+    private static long meanBits(long value) {
+        return value & ~MAX_COUNT;
+    }
+
+    /**
+     * Returns the mean of the centroid of the given sketch value.
+     */
+    public static double mean(long value) {
+        return NumericUtils.sortableLongToDouble(meanBits(value));
+    }
+
+    /**
+     * Returns the count of the centroid of the given sketch value.
+     */
+    public static long count(long value) {
+        return value & MAX_COUNT;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+/**
+ * Base class of the aggregators of mergeable sketches, such as the sketches of the cardinality and percentiles metrics.
+ * <p>
+ * A sketch is stored as a set of long values that can each be read on their own, which lets a star-tree document hold
+ * it as the values of a sorted numeric doc values field. The aggregated value of a sketch is an array of its values,
+ * which are ordered by what the sketch merges them by, such as the register of an HLL++ sketch value.
+ *
+ * @opensearch.experimental
+ */
+public abstract class SketchValueAggregator implements ValueAggregator<long[]> {
+
+    private static final FieldValueConverter VALUE_AGGREGATOR_TYPE = new SketchType();
+    private static final long[] EMPTY = new long[0];
+
+    protected final FieldValueConverter fieldValueConverter;
+
+    protected SketchValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+    }
+
+    @Override
+    public FieldValueConverter getAggregatedValueType() {
+        return VALUE_AGGREGATOR_TYPE;
+    }
+
+    @Override
+    public long[] getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        return toSketch(segmentDocValue);
+    }
+
+    @Override
+    public long[] mergeAggregatedValues(long[] value, long[] aggregatedValue) {
+        if (value == null || value.length == 0) {
+            return aggregatedValue == null ? getIdentityMetricValue() : aggregatedValue;
+        }
+        if (aggregatedValue == null || aggregatedValue.length == 0) {
+            return value;
+        }
+        return merge(value, aggregatedValue);
+    }
+
+    /**
+     * Returns the sketch of a single stored sketch value.
+     */
+    @Override
+    public long[] toAggregatedValueType(Long rawValue) {
+        if (rawValue == null) {
+            return null;
+        }
+        return new long[] { rawValue };
+    }
+
+    @Override
+    public long[] getIdentityMetricValue() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the sketch of a single segment doc value.
+     */
+    protected abstract long[] toSketch(long segmentDocValue);
+
+    /**
+     * Merges two non-empty sketches into a new sketch, leaving the given sketches unchanged.
+     */
+    protected abstract long[] merge(long[] sketch, long[] otherSketch);
+
+    /**
+     * Returns whether the segment doc values are read as doubles by the aggregations, the way the
+     * {@link org.opensearch.search.aggregations.support.ValuesSource.Numeric numeric values source} of the field does.
+     */
+    protected boolean isFloatingPoint() {
+        IndexNumericFieldData.NumericType numericType;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberType numberType) {
+            numericType = numberType.numericType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType numberFieldType) {
+            numericType = numberFieldType.numericType();
+        } else {
+            // other numeric fields, such as scaled floats, are read as doubles
+            return true;
+        }
+        return numericType.isFloatingPoint() || numericType == IndexNumericFieldData.NumericType.UNSIGNED_LONG;
+    }
+}
@@ -14,6 +14,7 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
@@ -21,7 +22,9 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
@@ -50,6 +53,10 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     protected final SegmentWriteState state;
     protected int docSizeInBytes = -1;
     protected final int numDimensions;
+    // documents with sketch metrics vary in size, so the offsets of the documents are tracked
+    protected final boolean hasVariableSizeDocs;
+    private long[] docOffsets;
+    private int numWrittenDocs;
 
     public AbstractDocumentsFileManager(
         SegmentWriteState state,
@@ -63,15 +70,35 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         this.state = state;
         numMetrics = metricAggregatorInfos.size();
         this.numDimensions = numDimensions;
+        this.hasVariableSizeDocs = metricAggregatorInfos.stream()
+            .anyMatch(metricAggregatorInfo -> metricAggregatorInfo.getValueAggregators() instanceof SketchValueAggregator);
+        this.docOffsets = hasVariableSizeDocs ? new long[1] : null;
     }
 
     private void setDocSizeInBytes(int numBytes) {
+        if (hasVariableSizeDocs) {
+            docOffsets = ArrayUtil.grow(docOffsets, numWrittenDocs + 2);
+            docOffsets[numWrittenDocs + 1] = docOffsets[numWrittenDocs] + numBytes;
+            numWrittenDocs++;
+            return;
+        }
         if (docSizeInBytes == -1) {
             docSizeInBytes = numBytes;
         }
         assert docSizeInBytes == numBytes;
     }
 
+    /**
+     * Returns the offset of the document with the given doc id from the start of the written documents
+     */
+    protected long getDocumentOffset(int docId) {
+        if (hasVariableSizeDocs) {
+            assert docId <= numWrittenDocs;
+            return docOffsets[docId];
+        }
+        return (long) docId * docSizeInBytes;
+    }
+
     /**
      * Write the star tree document to a byte buffer
      */
@@ -136,6 +163,13 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                 } else {
                     buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
                 }
+            } else if (aggregatedValueType instanceof SketchType) {
+                // sketches are written as the number of values of the sketch followed by the values
+                long[] sketch = starTreeDocument.metrics[i] == null ? new long[0] : (long[]) starTreeDocument.metrics[i];
+                buffer.putLong(sketch.length);
+                for (long value : sketch) {
+                    buffer.putLong(value);
+                }
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
@@ -152,6 +186,9 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
             size += Long.BYTES;
+            if (isAggregatedDoc && starTreeDocument.metrics[i] instanceof long[] sketch) {
+                size += sketch.length * Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
@@ -182,7 +219,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         } else {
             offset = readMetrics(input, offset, numMetrics, metrics, isAggregatedDoc);
         }
-        assert (offset - initialOffset) == docSizeInBytes;
+        assert hasVariableSizeDocs || (offset - initialOffset) == docSizeInBytes;
         return new StarTreeDocument(dimensions, metrics);
     }
 
@@ -251,6 +288,14 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
                     metrics[i] = val;
                 }
                 offset += Long.BYTES;
+            } else if (aggregatedValueType instanceof SketchType) {
+                long[] sketch = new long[Math.toIntExact(input.readLong(offset))];
+                offset += Long.BYTES;
+                for (int j = 0; j < sketch.length; j++) {
+                    sketch[j] = input.readLong(offset);
+                    offset += Long.BYTES;
+                }
+                metrics[i] = sketch;
             } else {
                 throw new IllegalStateException("Unsupported metric type");
             }
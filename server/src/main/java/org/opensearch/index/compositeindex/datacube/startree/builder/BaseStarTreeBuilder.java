@@ -37,6 +37,7 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -44,6 +45,7 @@ import org.opensearch.index.compositeindex.datacube.startree.node.InMemoryTreeNo
 import org.opensearch.index.compositeindex.datacube.startree.node.StarTreeNodeType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.SketchType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedSetStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
@@ -495,6 +497,12 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                                 NumericUtils.doubleToSortableLong(((CompensatedSum) starTreeDocument.metrics[i]).value())
                             );
                         }
+                    } else if (aggregatedValueType instanceof SketchType) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            for (long value : (long[]) starTreeDocument.metrics[i]) {
+                                ((SortedNumericDocValuesWriterWrapper) (metricWriters.get(i))).addValue(docId, value);
+                            }
+                        }
                     } else {
                         throw new IllegalStateException("Unknown metric doc value type");
                     }
@@ -589,7 +597,13 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator) {
+                // sketches are stored as multiple values per star-tree entry
+                metrics[i] = metricValuesIterator.values(currentDocId);
+            } else {
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
@@ -102,12 +102,7 @@ public class StarTreeDocsFileManager extends AbstractDocumentsFileManager implem
     @Override
     public void writeStarTreeDocument(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) throws IOException {
         assert isAggregatedDoc == true;
-        int numBytes = writeStarTreeDocument(starTreeDocument, starTreeDocsFileOutput, true);
-        if (docSizeInBytes == -1) {
-            docSizeInBytes = numBytes;
-        } else {
-            assert docSizeInBytes == numBytes;
-        }
+        writeStarTreeDocument(starTreeDocument, starTreeDocsFileOutput, true);
         numStarTreeDocs++;
     }
 
@@ -122,7 +117,7 @@ public class StarTreeDocsFileManager extends AbstractDocumentsFileManager implem
      * Returns offset for the docId based on the current file start id
      */
     private long getOffset(int docId) {
-        return (long) (docId - currentFileStartDocId) * docSizeInBytes;
+        return getDocumentOffset(docId) - getDocumentOffset(currentFileStartDocId);
     }
 
     @Override
@@ -99,6 +99,31 @@ public class SequentialDocValuesIterator {
         }
     }
 
+    /**
+     * Returns all the values of the given entry, or {@code null} if the entry has no values. Used to read the sketch
+     * metrics, which are stored as multiple values per entry.
+     */
+    public long[] values(int currentEntryId) throws IOException {
+        if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator sortedNumericIterator) {
+            if (currentEntryId < 0) {
+                throw new IllegalStateException("invalid entry id to fetch the next value");
+            }
+            if (currentEntryId == StarTreeValuesIterator.NO_MORE_ENTRIES) {
+                throw new IllegalStateException("StarTreeValuesIterator is already exhausted");
+            }
+            if (entryId == StarTreeValuesIterator.NO_MORE_ENTRIES || entryId != currentEntryId) {
+                return null;
+            }
+            final long[] values = new long[sortedNumericIterator.entryValueCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = sortedNumericIterator.nextValue();
+            }
+            return values;
+        } else {
+            throw new IllegalStateException("Unsupported Iterator requested for SequentialDocValuesIterator");
+        }
+    }
+
     public Long value(int currentEntryId, LongValues globalOrdinalLongValues) throws IOException {
         if (starTreeValuesIterator instanceof SortedNumericStarTreeValuesIterator) {
             return value(currentEntryId);
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.utils;
+
+import org.opensearch.index.mapper.FieldValueConverter;
+
+/**
+ * Field value type of sketch metrics - a sketch is a set of encoded long values rather than a single number,
+ * so its values cannot be converted to doubles
+ *
+ * @opensearch.internal
+ */
+public class SketchType implements FieldValueConverter {
+
+    public SketchType() {}
+
+    @Override
+    public double toDoubleValue(long value) {
+        throw new UnsupportedOperationException("sketch values cannot be converted to double values");
+    }
+}
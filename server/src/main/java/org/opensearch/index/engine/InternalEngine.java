@@ -79,6 +79,7 @@ import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.Assertions;
@@ -161,7 +162,9 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
+
+    private static final int VERSION_MAP_LOCK_STRIPES_PER_WRITER = 16;
 
     @Nullable
     protected final String historyUUID;
@@ -231,6 +234,21 @@ public class InternalEngine extends Engine {
         return translogManager;
     }
 
+    /**
+     * Returns the number of lock stripes for the version map, or 0 to lock each uid individually. Stripes are sized to a
+     * multiple of the write thread pool so that concurrent writers rarely collide on the same stripe.
+     */
+    static int versionMapLockStripes(EngineConfig engineConfig) {
+        if (engineConfig.getIndexSettings().isVersionMapStripedLocksEnabled() == false) {
+            return 0;
+        }
+        final ThreadPool.Info writeInfo = engineConfig.getThreadPool().info(ThreadPool.Names.WRITE);
+        final int writers = writeInfo != null && writeInfo.getMax() > 0
+            ? writeInfo.getMax()
+            : OpenSearchExecutors.allocatedProcessors(engineConfig.getIndexSettings().getNodeSettings());
+        return VERSION_MAP_LOCK_STRIPES_PER_WRITER * writers;
+    }
+
     InternalEngine(
         EngineConfig engineConfig,
         int maxDocs,
@@ -239,6 +257,7 @@ public class InternalEngine extends Engine {
     ) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(versionMapLockStripes(engineConfig));
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
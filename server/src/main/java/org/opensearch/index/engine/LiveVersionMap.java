@@ -39,6 +39,7 @@ import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.common.util.concurrent.StripedLock;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -53,7 +54,72 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    private final UidLock uidLock;
+
+    /**
+     * Creates a version map that guards each uid with its own lock
+     */
+    LiveVersionMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a version map
+     * @param lockStripes if greater than zero, uids are guarded by a fixed number of lock stripes instead of a lock per uid.
+     *                    This avoids allocating and publishing a lock for each operation on update heavy shards.
+     */
+    LiveVersionMap(int lockStripes) {
+        if (lockStripes > 0) {
+            final StripedLock<BytesRef> stripedLock = new StripedLock<>(lockStripes);
+            this.uidLock = new UidLock() {
+                @Override
+                public Releasable acquire(BytesRef uid) {
+                    return stripedLock.acquire(uid);
+                }
+
+                @Override
+                public Releasable tryAcquire(BytesRef uid) {
+                    return stripedLock.tryAcquire(uid);
+                }
+
+                @Override
+                public boolean isHeldByCurrentThread(BytesRef uid) {
+                    return stripedLock.isHeldByCurrentThread(uid);
+                }
+            };
+        } else {
+            final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+            this.uidLock = new UidLock() {
+                @Override
+                public Releasable acquire(BytesRef uid) {
+                    return keyedLock.acquire(uid);
+                }
+
+                @Override
+                public Releasable tryAcquire(BytesRef uid) {
+                    return keyedLock.tryAcquire(uid);
+                }
+
+                @Override
+                public boolean isHeldByCurrentThread(BytesRef uid) {
+                    return keyedLock.isHeldByCurrentThread(uid);
+                }
+            };
+        }
+    }
+
+    /**
+     * The lock that serializes operations on the same uid
+     *
+     * @opensearch.internal
+     */
+    private interface UidLock {
+        Releasable acquire(BytesRef uid);
+
+        Releasable tryAcquire(BytesRef uid);
+
+        boolean isHeldByCurrentThread(BytesRef uid);
+    }
 
     /**
      * Looks up document version
@@ -421,7 +487,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = uidLock.tryAcquire(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -496,13 +562,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
      * @see KeyedLock
+     * @see StripedLock
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return uidLock.acquire(uid);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert uidLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
 }
@@ -148,6 +148,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final MappingLookup fieldMappers;
 
+    private volatile FieldDispatchTable fieldDispatchTable;
+
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
     private final MetadataFieldMapper[] noopTombstoneMetadataFieldMappers;
 
@@ -249,6 +251,19 @@ public class DocumentMapper implements ToXContentFragment {
         return mappers().objectMappers();
     }
 
+    /**
+     * The fields of this mapping compiled for parsing documents, built on first use.
+     */
+    FieldDispatchTable fieldDispatchTable() {
+        FieldDispatchTable table = fieldDispatchTable;
+        if (table == null) {
+            // concurrent parses may each compile the table, they are all equivalent
+            table = FieldDispatchTable.compile(mapping, objectMappers().values());
+            fieldDispatchTable = table;
+        }
+        return table;
+    }
+
     public ParsedDocument parse(SourceToParse source) throws MapperParsingException {
         return documentParser.parseDocument(source, mapping.metadataMappers);
     }
@@ -539,15 +539,22 @@ final class DocumentParser {
         try {
             assert token == XContentParser.Token.FIELD_NAME || token == XContentParser.Token.END_OBJECT;
             String[] paths = null;
+            final FieldDispatchTable fieldDispatchTable = context.docMapper().fieldDispatchTable();
             context.incrementFieldCurrentDepth();
             context.checkFieldDepthLimit();
             while (token != XContentParser.Token.END_OBJECT) {
                 if (token == XContentParser.Token.FIELD_NAME) {
                     currentFieldName = parser.currentName();
-                    paths = mapper.disableObjects() ? new String[] { currentFieldName } : splitAndValidatePath(currentFieldName);
-                    if (containsDisabledObjectMapper(mapper, paths)) {
-                        parser.nextToken();
-                        parser.skipChildren();
+                    final FieldDispatchTable.Entry field = fieldDispatchTable.get(mapper, currentFieldName);
+                    if (field != null) {
+                        // a mapped field, its path is valid and goes through enabled objects only
+                        paths = field.paths;
+                    } else {
+                        paths = mapper.disableObjects() ? new String[] { currentFieldName } : splitAndValidatePath(currentFieldName);
+                        if (containsDisabledObjectMapper(mapper, paths)) {
+                            parser.nextToken();
+                            parser.skipChildren();
+                        }
                     }
                 } else {
                     // Process different token types during object parsing
@@ -1513,6 +1520,10 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        final FieldDispatchTable.Entry field = context.docMapper().fieldDispatchTable().get(objectMapper, fieldName);
+        if (field != null) {
+            return field.mapper;
+        }
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
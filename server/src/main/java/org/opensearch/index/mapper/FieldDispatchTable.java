@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.core.common.Strings;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The fields of a mapping compiled per object mapper, so that {@link DocumentParser} resolves the mapper of each field of
+ * a document with a single lookup instead of splitting its name and walking the object mappers again for every document.
+ * The table is built once per {@link DocumentMapper} and shared by all the documents it parses.
+ * <p>
+ * It only holds the field names, including dotted ones, that resolve to an existing mapper through enabled, non-nested
+ * objects. Everything else, such as dynamic fields, metadata fields or the fields of objects with {@code disable_objects},
+ * goes through the regular resolution of {@link DocumentParser}.
+ *
+ * @opensearch.internal
+ */
+final class FieldDispatchTable {
+
+    /**
+     * A field of an object: the path its name splits into and the mapper it resolves to.
+     *
+     * @opensearch.internal
+     */
+    static final class Entry {
+        // shared by all the documents that are parsed, must not be modified
+        final String[] paths;
+        final Mapper mapper;
+
+        private Entry(String[] paths, Mapper mapper) {
+            this.paths = paths;
+            this.mapper = mapper;
+        }
+    }
+
+    private final Map<ObjectMapper, Map<String, Entry>> objects;
+
+    private FieldDispatchTable(Map<ObjectMapper, Map<String, Entry>> objects) {
+        this.objects = objects;
+    }
+
+    /**
+     * Returns the field of the given object, or {@code null} if it needs to be resolved by {@link DocumentParser}.
+     */
+    Entry get(ObjectMapper objectMapper, String fieldName) {
+        final Map<String, Entry> fields = objects.get(objectMapper);
+        return fields == null ? null : fields.get(fieldName);
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, Entry> fields : objects.values()) {
+            size += fields.size();
+        }
+        return size;
+    }
+
+    static FieldDispatchTable compile(Mapping mapping, Collection<ObjectMapper> objectMappers) {
+        // object mappers are compared by identity: dynamically created objects are never found in the table
+        final Map<ObjectMapper, Map<String, Entry>> objects = new IdentityHashMap<>();
+        compileObject(objects, mapping, mapping.root());
+        for (ObjectMapper objectMapper : objectMappers) {
+            compileObject(objects, mapping, objectMapper);
+        }
+        return new FieldDispatchTable(objects);
+    }
+
+    private static void compileObject(Map<ObjectMapper, Map<String, Entry>> objects, Mapping mapping, ObjectMapper objectMapper) {
+        if (objectMapper.disableObjects() || objects.containsKey(objectMapper)) {
+            return;
+        }
+        final Map<String, Entry> fields = new HashMap<>();
+        final String prefix = objectMapper == mapping.root() ? "" : objectMapper.fullPath() + ".";
+        addFields(fields, mapping, prefix, objectMapper, "", objectMapper);
+        objects.put(objectMapper, fields);
+    }
+
+    private static void addFields(
+        Map<String, Entry> fields,
+        Mapping mapping,
+        String prefix,
+        ObjectMapper root,
+        String relativePath,
+        ObjectMapper objectMapper
+    ) {
+        for (Mapper mapper : objectMapper) {
+            if (Strings.hasText(mapper.simpleName()) == false || mapper.simpleName().indexOf('.') >= 0) {
+                // such names are validated, or flattened, when documents are parsed
+                continue;
+            }
+            final String fieldName = relativePath + mapper.simpleName();
+            // metadata mappers are looked up by the full path first, leave them to the regular resolution
+            if (mapping.getMetadataMapper(prefix + fieldName) == null) {
+                final String[] paths = fieldName.split("\\.");
+                if (resolve(root, paths) == mapper) {
+                    fields.put(fieldName, new Entry(paths, mapper));
+                }
+            }
+            if (mapper instanceof ObjectMapper child && canResolveThrough(child)) {
+                addFields(fields, mapping, prefix, root, fieldName + ".", child);
+            }
+        }
+    }
+
+    /**
+     * Resolves a field like {@link DocumentParser} does when none of the objects of its path is disabled, nested or
+     * flattens its fields. Returns {@code null} for other fields, which are not compiled.
+     */
+    private static Mapper resolve(ObjectMapper objectMapper, String[] paths) {
+        for (int i = 0; i < paths.length - 1; i++) {
+            if (!(objectMapper.getMapper(paths[i]) instanceof ObjectMapper child) || canResolveThrough(child) == false) {
+                return null;
+            }
+            objectMapper = child;
+        }
+        return objectMapper.getMapper(paths[paths.length - 1]);
+    }
+
+    private static boolean canResolveThrough(ObjectMapper objectMapper) {
+        return objectMapper.isEnabled() && objectMapper.nested().isNested() == false && objectMapper.disableObjects() == false;
+    }
+}
@@ -96,6 +96,7 @@ import org.opensearch.common.lucene.index.DerivedSourceDirectoryReader;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
@@ -187,14 +188,17 @@ import org.opensearch.index.store.Store.MetadataSnapshot;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.store.remote.metadata.RemoteSegmentMetadata;
+import org.opensearch.index.translog.PartitionedTranslogReplay;
 import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.RemoteFsTranslog;
 import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.index.translog.TranslogGroupCommitSettings;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncTracker;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -210,6 +214,7 @@ import org.opensearch.indices.recovery.RecoveryListener;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
+import org.opensearch.indices.replication.SegmentFileTransferTracker;
 import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
 import org.opensearch.indices.replication.checkpoint.MergedSegmentPublisher;
 import org.opensearch.indices.replication.checkpoint.ReferencedSegmentsCheckpoint;
@@ -257,6 +262,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -383,6 +389,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final List<ReferenceManager.RefreshListener> internalRefreshListener = new ArrayList<>();
     private final RemoteStoreFileDownloader fileDownloader;
     private final RecoverySettings recoverySettings;
+    private final SegmentFileTransferTracker segmentFileTransferTracker = new SegmentFileTransferTracker();
     private final RemoteStoreSettings remoteStoreSettings;
     /*
      On source doc rep node,  It will be DOCREP_NON_MIGRATING.
@@ -465,13 +472,34 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
+        this.translogSyncTracker = new TranslogSyncTracker();
         this.translogSyncProcessor = createTranslogSyncProcessor(
             logger,
             threadPool,
             this::getIndexer,
             indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval),
+            () -> Integer.MAX_VALUE,
+            // remote translog syncs are uploads rather than fsyncs
+            indexSettings.isAssignedOnRemoteNode() ? null : translogSyncTracker
         );
+        if (indexSettings.isAssignedOnRemoteNode()) {
+            // remote translogs are already buffered by the remote upload interval
+            this.translogGroupCommitInterval = () -> TimeValue.ZERO;
+            this.groupCommitTranslogSyncProcessor = null;
+        } else {
+            final ClusterSettings clusterSettings = clusterApplierService.clusterSettings();
+            this.translogGroupCommitInterval = TranslogGroupCommitSettings.intervalSupplier(clusterSettings);
+            this.groupCommitTranslogSyncProcessor = createTranslogSyncProcessor(
+                logger,
+                threadPool,
+                this::getIndexer,
+                true,
+                translogGroupCommitInterval,
+                TranslogGroupCommitSettings.maxRequestsSupplier(clusterSettings),
+                translogSyncTracker
+            );
+        }
         this.mergedSegmentTransferTracker = new MergedSegmentTransferTracker();
         this.mapperService = mapperService;
         this.indexCache = indexCache;
@@ -726,6 +754,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return recoverySettings;
     }
 
+    /**
+     * Tracks the segment files this shard sent to its replicas while being a primary with segment replication.
+     */
+    public SegmentFileTransferTracker getSegmentFileTransferTracker() {
+        return segmentFileTransferTracker;
+    }
+
     public RemoteStoreSettings getRemoteStoreSettings() {
         return remoteStoreSettings;
     }
@@ -1637,6 +1672,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 new RemoteTranslogStats(remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardId).stats())
             );
         }
+        if (isTranslogGroupCommitEnabled()) {
+            translogStats.addTranslogSyncStats(translogSyncTracker.stats());
+        }
 
         return translogStats;
     }
@@ -2616,12 +2654,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             try {
                 final TranslogRecoveryRunner translogRecoveryRunner = (snapshot) -> {
                     recoveryState.getTranslog().totalLocal(snapshot.totalOperations());
-                    final int recoveredOps = runTranslogRecovery(
-                        getIndexer(),
-                        snapshot,
-                        Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY,
-                        recoveryState.getTranslog()::incrementRecoveredOperations
-                    );
+                    final int recoveredOps = runLocalTranslogRecovery(getIndexer(), snapshot, recoveryState.getTranslog());
                     recoveryState.getTranslog().totalLocal(recoveredOps); // adjust the total local to reflect the actual count
                     return recoveredOps;
                 };
@@ -2798,35 +2831,88 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         int opsRecovered = 0;
         Translog.Operation operation;
         while ((operation = snapshot.next()) != null) {
-            try {
-                logger.trace("[translog] recover op {}", operation);
-                Engine.Result result = applyTranslogOperation(engine, operation, origin);
-                switch (result.getResultType()) {
-                    case FAILURE:
-                        throw result.getFailure();
-                    case MAPPING_UPDATE_REQUIRED:
-                        throw new IllegalArgumentException("unexpected mapping update: " + result.getRequiredMappingUpdate());
-                    case SUCCESS:
-                        break;
-                    default:
-                        throw new AssertionError("Unknown result type [" + result.getResultType() + "]");
-                }
-
+            if (recoverTranslogOperation(engine, operation, origin)) {
                 opsRecovered++;
                 onOperationRecovered.run();
-            } catch (Exception e) {
-                // TODO: Don't enable this leniency unless users explicitly opt-in
-                if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && ExceptionsHelper.status(e) == RestStatus.BAD_REQUEST) {
-                    // mainly for MapperParsingException and Failure to detect xcontent
-                    logger.info("ignoring recovery of a corrupt translog entry", e);
-                } else {
-                    throw ExceptionsHelper.convertToRuntime(e);
-                }
             }
         }
         return opsRecovered;
     }
 
+    /**
+     * Replays the operations of the local translog {@code snapshot} to the given engine. Like the translog replay of an
+     * engine reset, operations are replayed concurrently on the translog recovery pool if
+     * {@link RecoverySettings#INDICES_TRANSLOG_CONCURRENT_RECOVERY_ENABLE} is set and the snapshot holds more than a batch of
+     * {@link RecoverySettings#INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE} operations, with one partition of
+     * {@link PartitionedTranslogReplay} per batch and as long as the shared concurrent recovery permits are available.
+     * The snapshot is read once and partitioned by {@code _id}, so operations on a document keep their order and this does
+     * not need segment replication. Otherwise, operations are replayed one at a time.
+     */
+    private int runLocalTranslogRecovery(Indexer engine, Translog.Snapshot snapshot, RecoveryState.Translog translogRecoveryStats)
+        throws IOException {
+        final Engine.Operation.Origin origin = Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY;
+        final int totalOperations = snapshot.totalOperations();
+        final int batchSize = recoverySettings.getTranslogConcurrentRecoveryBatchSize();
+        final int partitions = (totalOperations + batchSize - 1) / batchSize;
+        final boolean isConcurrentRecovery = recoverySettings.isTranslogConcurrentRecoveryEnable()
+            && totalOperations > batchSize
+            && translogConcurrentRecoverySemaphore.tryAcquire(partitions);
+        if (isConcurrentRecovery == false) {
+            return runTranslogRecovery(engine, snapshot, origin, translogRecoveryStats::incrementRecoveredOperations);
+        }
+        try {
+            final long startTimeNanos = System.nanoTime();
+            final PartitionedTranslogReplay replay = new PartitionedTranslogReplay(
+                partitions,
+                threadPool.executor(ThreadPool.Names.TRANSLOG_RECOVERY)
+            );
+            final int opsRecovered = replay.replay(
+                snapshot,
+                operation -> recoverTranslogOperation(engine, operation, origin),
+                translogRecoveryStats::incrementRecoveredOperations
+            );
+            logger.debug(
+                "replayed [{}] translog operations with [{}] partitions in [{}]",
+                opsRecovered,
+                partitions,
+                TimeValue.timeValueNanos(System.nanoTime() - startTimeNanos)
+            );
+            return opsRecovered;
+        } finally {
+            translogConcurrentRecoverySemaphore.release(partitions);
+        }
+    }
+
+    /**
+     * Replays a single translog operation, returns {@code false} if the operation was skipped as a corrupt entry.
+     */
+    private boolean recoverTranslogOperation(Indexer engine, Translog.Operation operation, Engine.Operation.Origin origin) {
+        try {
+            logger.trace("[translog] recover op {}", operation);
+            Engine.Result result = applyTranslogOperation(engine, operation, origin);
+            switch (result.getResultType()) {
+                case FAILURE:
+                    throw result.getFailure();
+                case MAPPING_UPDATE_REQUIRED:
+                    throw new IllegalArgumentException("unexpected mapping update: " + result.getRequiredMappingUpdate());
+                case SUCCESS:
+                    break;
+                default:
+                    throw new AssertionError("Unknown result type [" + result.getResultType() + "]");
+            }
+            return true;
+        } catch (Exception e) {
+            // TODO: Don't enable this leniency unless users explicitly opt-in
+            if (origin == Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY && ExceptionsHelper.status(e) == RestStatus.BAD_REQUEST) {
+                // mainly for MapperParsingException and Failure to detect xcontent
+                logger.info("ignoring recovery of a corrupt translog entry", e);
+                return false;
+            } else {
+                throw ExceptionsHelper.convertToRuntime(e);
+            }
+        }
+    }
+
     private void loadGlobalCheckpointToReplicationTracker() throws IOException {
         // we have to set it before we open an engine and recover from the translog because
         // acquiring a snapshot from the translog causes a sync which causes the global checkpoint to be pulled in,
@@ -2852,12 +2938,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         final TranslogRecoveryRunner translogRecoveryRunner = (snapshot) -> {
             translogRecoveryStats.totalOperations(snapshot.totalOperations());
             translogRecoveryStats.totalOperationsOnStart(snapshot.totalOperations());
-            return runTranslogRecovery(
-                getIndexer(),
-                snapshot,
-                Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY,
-                translogRecoveryStats::incrementRecoveredOperations
-            );
+            return runLocalTranslogRecovery(getIndexer(), snapshot, translogRecoveryStats);
         };
 
         // Do not load the global checkpoint if this is a remote snapshot index or using ingestion source
@@ -4821,20 +4902,30 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    // buffers sync requests of local translogs while a node level group commit interval is configured, null for remote translogs
+    @Nullable
+    private final AsyncIOProcessor<Translog.Location> groupCommitTranslogSyncProcessor;
+    private final Supplier<TimeValue> translogGroupCommitInterval;
+    private final TranslogSyncTracker translogSyncTracker;
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
         ThreadPool threadPool,
         Supplier<Indexer> engineSupplier,
         boolean bufferAsyncIoProcessor,
-        Supplier<TimeValue> bufferIntervalSupplier
+        Supplier<TimeValue> bufferIntervalSupplier,
+        IntSupplier maxBufferedSyncRequestsSupplier,
+        @Nullable TranslogSyncTracker syncTracker
     ) {
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
         ThreadContext threadContext = threadPool.getThreadContext();
         CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writeConsumer = candidates -> {
             try {
-                engineSupplier.get().translogManager().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
+                final boolean synced = engineSupplier.get().translogManager().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
+                if (syncTracker != null) {
+                    syncTracker.onGroupProcessed(candidates.size(), synced, bufferAsyncIoProcessor);
+                }
             } catch (AlreadyClosedException ex) {
                 // that's fine since we already synced everything on engine close - this also is conform with the methods
                 // documentation
@@ -4844,7 +4935,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             }
         };
         if (bufferAsyncIoProcessor) {
-            return new BufferedAsyncIOProcessor<>(logger, 102400, threadContext, threadPool, bufferIntervalSupplier) {
+            return new BufferedAsyncIOProcessor<>(
+                logger,
+                102400,
+                threadContext,
+                threadPool,
+                bufferIntervalSupplier,
+                maxBufferedSyncRequestsSupplier
+            ) {
                 @Override
                 protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
                     writeConsumer.accept(candidates);
@@ -4871,12 +4969,22 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
      * one thread blocking on the sync an all others can continue indexing.
+     * If a node level group commit interval is configured (see {@link TranslogGroupCommitSettings}), sync requests of local translogs are
+     * instead buffered and fsynced together on the translog sync thread pool at most once per interval.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        if (isTranslogGroupCommitEnabled()) {
+            groupCommitTranslogSyncProcessor.put(location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
+    }
+
+    private boolean isTranslogGroupCommitEnabled() {
+        return groupCommitTranslogSyncProcessor != null && translogGroupCommitInterval.get().nanos() > 0;
     }
 
     public void sync() throws IOException {
@@ -5090,6 +5198,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return pendingRefreshLocation.get() != null;
     }
 
+    /**
+     * Returns true if a search of this search idle shard or a write request with {@code refresh=wait_for} is waiting for
+     * the next refresh of this shard.
+     */
+    public final boolean hasPendingRefreshListeners() {
+        return refreshListeners.refreshNeeded();
+    }
+
     private void setRefreshPending(Indexer indexer) {
         final Translog.Location lastWriteLocation = indexer.translogManager().getTranslogLastWriteLocation();
         pendingRefreshLocation.updateAndGet(curr -> {
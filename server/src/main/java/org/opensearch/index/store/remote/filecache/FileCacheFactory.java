@@ -9,6 +9,7 @@
 package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.index.store.remote.utils.cache.CacheEvictionPolicy;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
@@ -44,6 +45,16 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    public static FileCache createConcurrentFileCache(long capacity, CacheEvictionPolicy evictionPolicy) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).evictionPolicy(evictionPolicy).build());
+    }
+
+    public static FileCache createConcurrentFileCache(long capacity, int concurrencyLevel, CacheEvictionPolicy evictionPolicy) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).evictionPolicy(evictionPolicy).build()
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
@@ -11,6 +11,7 @@ package org.opensearch.index.store.remote.filecache;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.index.store.remote.utils.cache.CacheEvictionPolicy;
 
 /**
  * Settings relate to file cache
@@ -32,6 +33,18 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Defines the eviction policy of the file cache segments. {@code lru} keeps a strict least recently used order, which
+     * requires every cache hit to take the lock of its segment. {@code clock} approximates LRU with a reference bit per entry
+     * so that cache hits and reference counting are lock-free, which scales better with many concurrent searches.
+     */
+    public static final Setting<CacheEvictionPolicy> FILE_CACHE_EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        CacheEvictionPolicy.LRU.toString(),
+        CacheEvictionPolicy::fromString,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
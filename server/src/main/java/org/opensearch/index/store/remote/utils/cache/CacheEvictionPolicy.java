@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.Locale;
+
+/**
+ * Eviction policy of the segments of a {@link SegmentedCache}.
+ *
+ * @opensearch.internal
+ */
+public enum CacheEvictionPolicy {
+    /**
+     * Strict least recently used order, see {@link LRUCache}. Every access reorders the segment under its lock.
+     */
+    LRU,
+    /**
+     * CLOCK (second chance) approximation of LRU, see {@link ClockCache}. Reads and reference counting are lock-free.
+     */
+    CLOCK;
+
+    public static CacheEvictionPolicy fromString(String policy) {
+        try {
+            return CacheEvictionPolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown cache eviction policy [" + policy + "], must be one of [lru, clock]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
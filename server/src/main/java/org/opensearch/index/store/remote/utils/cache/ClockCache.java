@@ -0,0 +1,630 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.Weigher;
+import org.opensearch.index.store.remote.utils.cache.stats.FileStatsCounter;
+import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
+import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * CLOCK implementation of {@link RefCountedCache} with lock-free reads.
+ * <p>
+ * Unlike {@link LRUCache}, {@link #get}, {@link #incRef}, {@link #decRef} and {@link #getRef} never block. Entries live in a
+ * {@link ConcurrentHashMap} and reference counts are updated with CAS, so readers don't need to reorder an LRU list. Instead each
+ * read sets a reference bit on the entry and eviction sweeps a clock hand over the entries, giving every recently used entry a
+ * second chance before it is evicted. An entry is only evicted if its reference count can be moved from 0 to a terminal state, so
+ * a concurrent reader either acquires a reference before the entry is evicted or observes a miss.
+ * <p>
+ * Reads still have to be reflected in the (non thread-safe) stats. They are recorded in a read buffer that is applied in batches,
+ * either by the next writer or by a reader once enough reads are pending and the lock is free.
+ * <p>
+ * Structural modifications (put, compute, remove, pin, prune and eviction) are serialized by a lock, like in {@link LRUCache}.
+ * As long as an entry is referenced or pinned it is not eligible for eviction.
+ * Each eviction moves the clock hand over a bounded number of entries, so the cache may exceed its capacity for a few writes
+ * until the sweep has found enough entries to evict.
+ * @see RefCountedCache
+ *
+ * @opensearch.internal
+ */
+class ClockCache<K, V> implements RefCountedCache<K, V> {
+    private static final Logger logger = LogManager.getLogger(ClockCache.class);
+
+    /**
+     * Reference count of an entry that has been removed from the cache and can no longer be referenced.
+     */
+    private static final int DEAD = -1;
+
+    /**
+     * Number of pending reads after which a reader tries to apply the read buffer itself.
+     */
+    static final int READ_BUFFER_DRAIN_THRESHOLD = 64;
+
+    /**
+     * Maximum number of entries the clock hand visits in a single eviction, which bounds the time spent under the lock.
+     */
+    static final int MAX_EVICTION_STEPS = 256;
+
+    private final long capacity;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+
+    private final RemovalListener<K, V> listener;
+
+    private final Weigher<V> weigher;
+
+    /** guarded by {@link #lock} */
+    private final StatsCounter<K, V> statsCounter;
+
+    private final ReentrantLock lock;
+
+    private final ConcurrentLinkedQueue<ReadEvent<K, V>> readBuffer;
+
+    private final AtomicInteger pendingReads;
+
+    /** copy of the usage tracked by {@link #statsCounter} that can be read without holding the lock */
+    private volatile long usage;
+
+    /** the clock hand, guarded by {@link #lock} */
+    private Iterator<Node<K, V>> hand;
+
+    static class Node<K, V> {
+        final K key;
+
+        volatile V value;
+
+        volatile long weight;
+
+        final AtomicInteger refCount;
+
+        /** written under lock */
+        volatile boolean pinned;
+
+        /** set on access, cleared by the clock hand */
+        volatile boolean referenced;
+
+        /** whether the weight of this node is currently accounted as active usage, guarded by lock */
+        boolean accountedActive;
+
+        /** whether this node was removed from the cache, guarded by lock */
+        boolean removed;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.refCount = new AtomicInteger();
+        }
+
+        boolean evictable() {
+            return refCount.get() == 0 && pinned == false;
+        }
+
+        /**
+         * Increments the reference count unless the node is dead.
+         *
+         * @return the previous reference count or {@link #DEAD} if the node could not be referenced
+         */
+        int tryIncRef() {
+            while (true) {
+                final int current = refCount.get();
+                if (current == DEAD) {
+                    return DEAD;
+                }
+                if (refCount.compareAndSet(current, current + 1)) {
+                    return current;
+                }
+            }
+        }
+    }
+
+    /**
+     * A read that needs to be reflected in the stats. A {@code null} node denotes a miss.
+     */
+    private static final class ReadEvent<K, V> {
+        final K key;
+        final Node<K, V> node;
+        final V value;
+        final boolean pinned;
+        final boolean hit;
+
+        ReadEvent(K key, Node<K, V> node, V value, boolean pinned, boolean hit) {
+            this.key = key;
+            this.node = node;
+            this.value = value;
+            this.pinned = pinned;
+            this.hit = hit;
+        }
+    }
+
+    public ClockCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this.capacity = capacity;
+        this.listener = listener;
+        this.weigher = weigher;
+        this.data = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        this.statsCounter = new FileStatsCounter<>();
+        this.readBuffer = new ConcurrentLinkedQueue<>();
+        this.pendingReads = new AtomicInteger();
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node == null || node.tryIncRef() == DEAD) {
+            afterRead(new ReadEvent<>(key, null, null, false, false));
+            return null;
+        }
+        if (node.referenced == false) {
+            node.referenced = true;
+        }
+        final V value = node.value;
+        afterRead(new ReadEvent<>(key, node, value, node.pinned, true));
+        return value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        lock.lock();
+        try {
+            drainReadBuffer();
+            final Node<K, V> node = data.get(key);
+            if (node != null) {
+                final V oldValue = node.value;
+                replaceNode(node, value);
+                return oldValue;
+            } else {
+                addNode(key, value);
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(remappingFunction);
+        lock.lock();
+        try {
+            drainReadBuffer();
+            final Node<K, V> node = data.get(key);
+            if (node == null) {
+                final V newValue = remappingFunction.apply(key, null);
+                if (newValue == null) {
+                    // Remapping function asked for removal, but nothing to remove
+                    return null;
+                } else {
+                    addNode(key, newValue);
+                    statsCounter.recordMisses(key, 1);
+                    return newValue;
+                }
+            } else {
+                final V newValue = remappingFunction.apply(key, node.value);
+                if (newValue == null) {
+                    removeNode(node);
+                    return null;
+                } else {
+                    statsCounter.recordHits(key, node.value, node.pinned, 1);
+                    replaceNode(node, newValue);
+                    return newValue;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            drainReadBuffer();
+            final Node<K, V> node = data.get(key);
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // To be used only in testing framework.
+    public void closeIndexInputReferences() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            int closedEntries = 0;
+            final Iterator<Node<K, V>> iterator = data.values().iterator();
+            while (iterator.hasNext()) {
+                closedEntries++;
+                final Node<K, V> node = iterator.next();
+                iterator.remove();
+                node.refCount.set(DEAD);
+                node.removed = true;
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.RESTARTED));
+            }
+            logger.trace("Reference cleanup completed - Total entries: {}", closedEntries);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            final Iterator<Node<K, V>> iterator = data.values().iterator();
+            while (iterator.hasNext()) {
+                final Node<K, V> node = iterator.next();
+                iterator.remove();
+                node.refCount.set(DEAD);
+                node.removed = true;
+                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+            }
+            statsCounter.resetUsage();
+            statsCounter.resetActiveUsage();
+            statsCounter.resetPinnedUsage();
+            updateUsage();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return data.size();
+    }
+
+    @Override
+    public void incRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null && node.tryIncRef() == 0) {
+            // it just became active, the active usage needs to be updated
+            afterRead(new ReadEvent<>(key, node, node.value, node.pinned, false));
+        }
+    }
+
+    @Override
+    public void decRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node == null) {
+            return;
+        }
+        while (true) {
+            final int current = node.refCount.get();
+            if (current <= 0) {
+                // not referenced or already dead
+                return;
+            }
+            if (node.refCount.compareAndSet(current, current - 1)) {
+                if (current == 1) {
+                    // it just became inactive and possibly evictable
+                    afterRead(new ReadEvent<>(key, node, node.value, node.pinned, false));
+                    if (hasOverflowed()) {
+                        // If cache usage is already overflowing trigger evictions
+                        lock.lock();
+                        try {
+                            drainReadBuffer();
+                            evict();
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pins the key in the cache, preventing it from being evicted.
+     *
+     * @param key
+     */
+    @Override
+    public void pin(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (node != null && node.pinned == false) {
+                statsCounter.recordPinnedUsage(node.value, node.weight, false);
+                node.pinned = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unpins the key in the cache, allowing it to be evicted.
+     *
+     * @param key
+     */
+    @Override
+    public void unpin(K key) {
+        Objects.requireNonNull(key);
+        lock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+            if (node != null && node.pinned) {
+                node.pinned = false;
+                statsCounter.recordPinnedUsage(node.value, node.weight, true);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Integer getRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            final int refCount = node.refCount.get();
+            return refCount == DEAD ? null : refCount;
+        }
+        return null;
+    }
+
+    @Override
+    public long prune(Predicate<K> keyPredicate) {
+        long sum = 0L;
+        lock.lock();
+        try {
+            drainReadBuffer();
+            for (Node<K, V> node : data.values()) {
+                if (node.pinned || (keyPredicate != null && !keyPredicate.test(node.key))) {
+                    continue;
+                }
+                if (node.refCount.compareAndSet(0, DEAD)) {
+                    unlink(node);
+                    sum += node.weight;
+                    statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+                    listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+                }
+            }
+            updateUsage();
+        } finally {
+            lock.unlock();
+        }
+        return sum;
+    }
+
+    @Override
+    public long usage() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            return statsCounter.usage();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long activeUsage() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            return statsCounter.activeUsage();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the pinned usage of this cache.
+     *
+     * @return the combined pinned weight of the values in this cache.
+     */
+    @Override
+    public long pinnedUsage() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            return statsCounter.pinnedUsage();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public IRefCountedCacheStats stats() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            return statsCounter.snapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // To be used only for debugging purposes
+    public void logCurrentState() {
+        final StringBuilder allFiles = new StringBuilder("\n");
+        for (Map.Entry<K, Node<K, V>> entry : data.entrySet()) {
+            String path = entry.getKey().toString();
+            String file = path.substring(path.lastIndexOf('/'));
+            allFiles.append(file)
+                .append(" [RefCount: ")
+                .append(entry.getValue().refCount.get())
+                .append(" , Weight: ")
+                .append(entry.getValue().weight)
+                .append(" ]\n");
+        }
+        if (allFiles.length() > 1) {
+            logger.trace(() -> "Cache entries : " + allFiles);
+        }
+    }
+
+    private void afterRead(ReadEvent<K, V> event) {
+        readBuffer.add(event);
+        if (pendingReads.incrementAndGet() >= READ_BUFFER_DRAIN_THRESHOLD && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        assert lock.isHeldByCurrentThread();
+        ReadEvent<K, V> event;
+        while ((event = readBuffer.poll()) != null) {
+            pendingReads.decrementAndGet();
+            if (event.node == null) {
+                statsCounter.recordMisses(event.key, 1);
+                continue;
+            }
+            if (event.hit) {
+                statsCounter.recordHits(event.key, event.value, event.pinned, 1);
+            }
+            syncActiveUsage(event.node);
+        }
+    }
+
+    /**
+     * Brings the active usage in line with the current reference count of the given node. Reference counts change without
+     * holding the lock, so the stats are reconciled with whatever the count is at the time the read buffer is applied.
+     */
+    private void syncActiveUsage(Node<K, V> node) {
+        if (node.removed) {
+            return;
+        }
+        final boolean active = node.refCount.get() > 0;
+        if (active != node.accountedActive) {
+            statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, active == false);
+            node.accountedActive = active;
+        }
+    }
+
+    private void addNode(K key, V value) {
+        final long weight = weigher.weightOf(value);
+        final Node<K, V> newNode = new Node<>(key, value, weight);
+        newNode.refCount.set(1);
+        newNode.referenced = true;
+        data.put(key, newNode);
+        statsCounter.recordUsage(value, weight, false, false);
+        statsCounter.recordActiveUsage(value, weight, false, false);
+        newNode.accountedActive = true;
+        updateUsage();
+        evict();
+    }
+
+    private void replaceNode(Node<K, V> node, V newValue) {
+        if (node.value != newValue) { // replace if new value is not the same instance as existing value
+            final V oldValue = node.value;
+            final long oldWeight = node.weight;
+            final long newWeight = weigher.weightOf(newValue);
+            // update the value and weight
+            node.value = newValue;
+            node.weight = newWeight;
+
+            // update stats
+            statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.accountedActive, node.pinned);
+            updateUsage();
+            listener.onRemoval(new RemovalNotification<>(node.key, oldValue, RemovalReason.REPLACED));
+        }
+        // nodes are only killed under the lock, so a node that is still mapped can always be referenced here
+        final int previous = node.tryIncRef();
+        assert previous != DEAD : "node [" + node.key + "] is mapped but dead";
+        node.referenced = true;
+        syncActiveUsage(node);
+        evict();
+    }
+
+    private void removeNode(Node<K, V> node) {
+        node.refCount.set(DEAD);
+        unlink(node);
+        statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+        updateUsage();
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+    }
+
+    /**
+     * Removes a dead node from the map and takes its weight out of the active and pinned usage.
+     */
+    private void unlink(Node<K, V> node) {
+        assert node.refCount.get() == DEAD;
+        data.remove(node.key, node);
+        node.removed = true;
+        if (node.accountedActive) {
+            statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
+            node.accountedActive = false;
+        }
+        if (node.pinned) {
+            statsCounter.recordPinnedUsage(node.value, node.weight, true);
+        }
+    }
+
+    private void updateUsage() {
+        usage = statsCounter.usage();
+    }
+
+    private boolean hasOverflowed() {
+        return usage >= capacity;
+    }
+
+    private void evict() {
+        // Attempts to evict entries from the cache if it exceeds the maximum capacity. Every entry gets a second chance if it was
+        // accessed since the hand last passed it. The hand moves at most MAX_EVICTION_STEPS entries per call, so that a writer
+        // never sweeps the whole cache under the lock: the hand is kept between calls and the next writer continues the sweep.
+        int remaining = MAX_EVICTION_STEPS;
+        while (hasOverflowed() && remaining-- > 0) {
+            if (hand == null || hand.hasNext() == false) {
+                hand = data.values().iterator();
+                if (hand.hasNext() == false) {
+                    return;
+                }
+            }
+            final Node<K, V> node = hand.next();
+            if (node.removed || node.evictable() == false) {
+                continue;
+            }
+            if (node.referenced) {
+                node.referenced = false;
+                continue;
+            }
+            if (node.refCount.compareAndSet(0, DEAD)) {
+                unlink(node);
+                // Notify the listener only if the entry was evicted
+                statsCounter.recordEviction(node.value, node.weight);
+                updateUsage();
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+            }
+        }
+    }
+}
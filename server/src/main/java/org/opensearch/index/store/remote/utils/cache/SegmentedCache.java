@@ -22,7 +22,8 @@ import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link LRUCache} or {@link ClockCache}, depending on the {@link CacheEvictionPolicy}, to offer concurrent access with
+ * less contention.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -60,7 +61,9 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = builder.evictionPolicy == CacheEvictionPolicy.CLOCK
+                ? new ClockCache<>(perSegmentCapacity, builder.listener, builder.weigher)
+                : new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -238,7 +241,11 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             if (cache.size() > 0) {
                 final int segmentIndex = i;
                 logger.trace(() -> "SegmentedCache " + segmentIndex);
-                ((LRUCache<K, V>) cache).logCurrentState();
+                if (cache instanceof ClockCache) {
+                    ((ClockCache<K, V>) cache).logCurrentState();
+                } else {
+                    ((LRUCache<K, V>) cache).logCurrentState();
+                }
             }
             i++;
         }
@@ -247,7 +254,11 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     // To be used only in testing framework.
     public void closeIndexInputReferences() {
         for (RefCountedCache<K, V> cache : table) {
-            ((LRUCache<K, V>) cache).closeIndexInputReferences();
+            if (cache instanceof ClockCache) {
+                ((ClockCache<K, V>) cache).closeIndexInputReferences();
+            } else {
+                ((LRUCache<K, V>) cache).closeIndexInputReferences();
+            }
         }
     }
 
@@ -302,9 +313,12 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        CacheEvictionPolicy evictionPolicy;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            evictionPolicy = CacheEvictionPolicy.LRU;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -367,6 +381,18 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the eviction policy of the segments (default {@link CacheEvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy of every segment
+         * @throws NullPointerException if the evictionPolicy is null
+         */
+        public Builder<K, V> evictionPolicy(CacheEvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
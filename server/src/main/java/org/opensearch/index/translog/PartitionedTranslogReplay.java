@@ -0,0 +1,237 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.cluster.routing.Murmur3HashFunction;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Replays the operations of a translog snapshot concurrently. Operations are read sequentially from the snapshot and
+ * routed by the hash of their {@code _id} to one of a fixed number of partitions, and each partition applies its
+ * operations in snapshot order on the given executor. All operations on a document are therefore applied in the order
+ * they were read, while operations on different documents are applied concurrently and may complete out of sequence
+ * number order, which the engine handles like it does for replicated operations.
+ * <p>
+ * Partitions never block the executor waiting for operations: a partition is only scheduled when it has buffered
+ * operations to apply. Only the reading thread waits, once too many batches are buffered, which bounds both the memory
+ * used by buffered operations and the gaps in the processed sequence numbers.
+ *
+ * @opensearch.internal
+ */
+public final class PartitionedTranslogReplay {
+
+    /**
+     * The number of operations handed to a partition at once.
+     */
+    static final int BATCH_SIZE = 256;
+
+    /**
+     * The number of batches each partition may have buffered before reading the snapshot blocks.
+     */
+    static final int MAX_BUFFERED_BATCHES_PER_PARTITION = 4;
+
+    /**
+     * Applies a single operation.
+     *
+     * @opensearch.internal
+     */
+    @FunctionalInterface
+    public interface OperationHandler {
+        /**
+         * Applies the given operation and returns whether it was recovered, or {@code false} if it was skipped.
+         */
+        boolean apply(Translog.Operation operation) throws IOException;
+    }
+
+    private final int numPartitions;
+    private final Executor executor;
+
+    public PartitionedTranslogReplay(int numPartitions, Executor executor) {
+        if (numPartitions < 1) {
+            throw new IllegalArgumentException("number of partitions must be at least 1 but was [" + numPartitions + "]");
+        }
+        this.numPartitions = numPartitions;
+        this.executor = executor;
+    }
+
+    /**
+     * Applies all operations of the given snapshot and returns the number of recovered operations. This returns once all
+     * operations were applied, or fails with the first failure once all operations that were handed to a partition
+     * completed, in which case the remaining operations are not applied.
+     *
+     * @param snapshot              the snapshot to replay
+     * @param handler               applies an operation, called concurrently for operations of different partitions
+     * @param onOperationsRecovered notified of the number of recovered operations after each batch, used to track progress
+     */
+    public int replay(Translog.Snapshot snapshot, OperationHandler handler, IntConsumer onOperationsRecovered) throws IOException {
+        return new Replay(handler, onOperationsRecovered).run(snapshot);
+    }
+
+    public int numPartitions() {
+        return numPartitions;
+    }
+
+    /**
+     * Returns the partition of the given operation. Operations on the same document always go to the same partition.
+     */
+    static int partition(Translog.Operation operation, int numPartitions) {
+        switch (operation.opType()) {
+            case CREATE:
+            case INDEX:
+                return Math.floorMod(Murmur3HashFunction.hash(((Translog.Index) operation).id()), numPartitions);
+            case DELETE:
+                return Math.floorMod(Murmur3HashFunction.hash(((Translog.Delete) operation).id()), numPartitions);
+            case NO_OP:
+                // no-ops don't modify any document, spread them evenly
+                return (int) Math.floorMod(operation.seqNo(), (long) numPartitions);
+            default:
+                throw new IllegalStateException("No operation defined for [" + operation + "]");
+        }
+    }
+
+    /**
+     * The state of a single replay.
+     */
+    private final class Replay {
+        private final OperationHandler handler;
+        private final IntConsumer onOperationsRecovered;
+        private final Partition[] partitions;
+        private final int maxBufferedBatches;
+        private final Semaphore bufferedBatches;
+        private final AtomicInteger recovered = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Replay(OperationHandler handler, IntConsumer onOperationsRecovered) {
+            this.handler = handler;
+            this.onOperationsRecovered = onOperationsRecovered;
+            this.partitions = new Partition[numPartitions];
+            for (int i = 0; i < numPartitions; i++) {
+                partitions[i] = new Partition();
+            }
+            this.maxBufferedBatches = numPartitions * MAX_BUFFERED_BATCHES_PER_PARTITION;
+            this.bufferedBatches = new Semaphore(maxBufferedBatches);
+        }
+
+        int run(Translog.Snapshot snapshot) throws IOException {
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            final List<Translog.Operation>[] pending = new List[numPartitions];
+            try {
+                Translog.Operation operation;
+                while (failure.get() == null && (operation = snapshot.next()) != null) {
+                    final int partition = partition(operation, numPartitions);
+                    if (pending[partition] == null) {
+                        pending[partition] = new ArrayList<>(BATCH_SIZE);
+                    }
+                    pending[partition].add(operation);
+                    if (pending[partition].size() >= BATCH_SIZE) {
+                        dispatch(partition, pending[partition]);
+                        pending[partition] = null;
+                    }
+                }
+                for (int i = 0; i < numPartitions; i++) {
+                    if (pending[i] != null && failure.get() == null) {
+                        dispatch(i, pending[i]);
+                    }
+                }
+            } finally {
+                // wait for all dispatched batches, even on failure, so that no operation is applied after this returns
+                bufferedBatches.acquireUninterruptibly(maxBufferedBatches);
+            }
+            final Throwable t = failure.get();
+            if (t != null) {
+                if (t instanceof Error) {
+                    throw (Error) t;
+                } else if (t instanceof IOException) {
+                    throw (IOException) t;
+                }
+                throw ExceptionsHelper.convertToRuntime((Exception) t);
+            }
+            return recovered.get();
+        }
+
+        private void dispatch(int partition, List<Translog.Operation> batch) {
+            bufferedBatches.acquireUninterruptibly();
+            partitions[partition].add(batch);
+        }
+
+        private void apply(List<Translog.Operation> batch) {
+            if (failure.get() != null) {
+                return;
+            }
+            int count = 0;
+            try {
+                for (Translog.Operation operation : batch) {
+                    if (handler.apply(operation)) {
+                        count++;
+                    }
+                }
+            } catch (Exception | AssertionError e) {
+                if (failure.compareAndSet(null, e) == false) {
+                    failure.get().addSuppressed(e);
+                }
+            } finally {
+                if (count > 0) {
+                    recovered.addAndGet(count);
+                    onOperationsRecovered.accept(count);
+                }
+            }
+        }
+
+        /**
+         * Applies the batches of a partition one after the other. At most one task per partition runs at a time.
+         */
+        private final class Partition implements Runnable {
+            private final Queue<List<Translog.Operation>> batches = ConcurrentCollections.newQueue();
+            private final AtomicBoolean scheduled = new AtomicBoolean();
+
+            void add(List<Translog.Operation> batch) {
+                batches.add(batch);
+                if (scheduled.compareAndSet(false, true)) {
+                    try {
+                        executor.execute(this);
+                    } catch (Exception e) {
+                        // e.g. rejected on shutdown, fail the replay and release the buffered batches on this thread
+                        if (failure.compareAndSet(null, e) == false) {
+                            failure.get().addSuppressed(e);
+                        }
+                        run();
+                    }
+                }
+            }
+
+            @Override
+            public void run() {
+                do {
+                    List<Translog.Operation> batch;
+                    while ((batch = batches.poll()) != null) {
+                        try {
+                            apply(batch);
+                        } finally {
+                            bufferedBatches.release();
+                        }
+                    }
+                    scheduled.set(false);
+                    // a batch may have been added after the queue was drained but before the flag was cleared
+                } while (batches.isEmpty() == false && scheduled.compareAndSet(false, true));
+            }
+        }
+    }
+}
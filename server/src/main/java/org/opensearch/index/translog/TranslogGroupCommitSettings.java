@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Node level settings for coalescing translog fsyncs of request durable shards. When a group commit interval is set,
+ * sync requests of local translogs are no longer executed by the indexing thread that happens to win the race but are
+ * buffered and executed on the {@code translog_sync} thread pool once per interval. Every shard on the node shares the
+ * same interval, so a node with many active shards issues at most one fsync per shard and interval no matter how many
+ * bulk requests arrive in between. A shard that buffers many sync requests syncs them before the end of the interval.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogGroupCommitSettings {
+
+    /**
+     * The maximum time a translog sync request is buffered before the pending requests of the shard are synced together.
+     * A value of {@code 0} disables group commit, in which case every sync request is processed immediately.
+     */
+    public static final Setting<TimeValue> CLUSTER_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING = Setting.timeSetting(
+        "cluster.translog.group_commit.interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The number of buffered translog sync requests of a shard that triggers their sync before the end of the group commit
+     * interval.
+     */
+    public static final Setting<Integer> CLUSTER_TRANSLOG_GROUP_COMMIT_MAX_REQUESTS_SETTING = Setting.intSetting(
+        "cluster.translog.group_commit.max_requests",
+        1024,
+        1,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private TranslogGroupCommitSettings() {}
+
+    /**
+     * Returns a supplier of the current group commit interval. Falls back to a disabled group commit if the given cluster
+     * settings do not know about the setting.
+     */
+    public static Supplier<TimeValue> intervalSupplier(ClusterSettings clusterSettings) {
+        if (clusterSettings == null || clusterSettings.get(CLUSTER_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.getKey()) == null) {
+            return () -> TimeValue.ZERO;
+        }
+        return () -> clusterSettings.get(CLUSTER_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING);
+    }
+
+    /**
+     * Returns a supplier of the current number of buffered sync requests that triggers a group commit. Falls back to the
+     * default if the given cluster settings do not know about the setting.
+     */
+    public static IntSupplier maxRequestsSupplier(ClusterSettings clusterSettings) {
+        if (clusterSettings == null || clusterSettings.get(CLUSTER_TRANSLOG_GROUP_COMMIT_MAX_REQUESTS_SETTING.getKey()) == null) {
+            final int defaultMaxRequests = CLUSTER_TRANSLOG_GROUP_COMMIT_MAX_REQUESTS_SETTING.getDefault(Settings.EMPTY);
+            return () -> defaultMaxRequests;
+        }
+        return () -> clusterSettings.get(CLUSTER_TRANSLOG_GROUP_COMMIT_MAX_REQUESTS_SETTING);
+    }
+}
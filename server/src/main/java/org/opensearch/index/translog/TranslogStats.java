@@ -32,6 +32,7 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -63,6 +64,12 @@ public class TranslogStats implements Writeable, ToXContentFragment {
      */
     private final RemoteTranslogStats remoteTranslogStats;
 
+    /**
+     * Stats related to how translog sync requests are grouped into fsyncs, only present while group commit is enabled
+     */
+    @Nullable
+    private TranslogSyncStats syncStats;
+
     public TranslogStats() {
         remoteTranslogStats = new RemoteTranslogStats();
     }
@@ -90,6 +97,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        syncStats = in.getVersion().onOrAfter(Version.V_3_7_0) ? in.readOptionalWriteable(TranslogSyncStats::new) : null;
     }
 
     /**
@@ -134,6 +142,16 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
     }
 
+    public void addTranslogSyncStats(TranslogSyncStats syncStats) {
+        if (syncStats == null) {
+            return;
+        }
+        if (this.syncStats == null) {
+            this.syncStats = new TranslogSyncStats();
+        }
+        this.syncStats.add(syncStats);
+    }
+
     public void add(TranslogStats other) {
         if (other == null) {
             return;
@@ -150,6 +168,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
 
         addRemoteTranslogStats(other.remoteTranslogStats);
+        addTranslogSyncStats(other.syncStats);
     }
 
     public long getTranslogSizeInBytes() {
@@ -178,6 +197,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return remoteTranslogStats;
     }
 
+    @Nullable
+    public TranslogSyncStats getSyncStats() {
+        return syncStats;
+    }
+
     /**
      * Builder for the {@link TranslogStats} class.
      * Provides a fluent API for constructing a TranslogStats object.
@@ -245,6 +269,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(TRANSLOG);
         addLocalTranslogStatsXContent(builder);
+        if (syncStats != null) {
+            syncStats.toXContent(builder, params);
+        }
         if (remoteTranslogStats != null) {
             builder = remoteTranslogStats.toXContent(builder, params);
         }
@@ -269,6 +296,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
+            out.writeOptionalWriteable(syncStats);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
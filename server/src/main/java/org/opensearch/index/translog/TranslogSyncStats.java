@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Stats about how translog sync requests are coalesced into fsyncs. The fsync rate can be derived from two samples of
+ * {@link #getTotalFsyncs()} and the average group size from {@link #getTotalRequests()} divided by {@link #getTotalGroups()}.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.7.0")
+public class TranslogSyncStats implements ToXContentFragment, Writeable {
+
+    static final String SYNC = "sync";
+
+    /**
+     * Total number of sync requests, typically one per write request
+     */
+    private long totalRequests;
+
+    /**
+     * Total number of groups of sync requests that were processed together
+     */
+    private long totalGroups;
+
+    /**
+     * Total number of groups that actually had to fsync the translog
+     */
+    private long totalFsyncs;
+
+    /**
+     * Total number of groups that were buffered and processed by the group commit scheduler
+     */
+    private long totalGroupCommits;
+
+    /**
+     * The largest number of sync requests that were processed in a single group
+     */
+    private long maxGroupSize;
+
+    public TranslogSyncStats() {}
+
+    public TranslogSyncStats(long totalRequests, long totalGroups, long totalFsyncs, long totalGroupCommits, long maxGroupSize) {
+        this.totalRequests = totalRequests;
+        this.totalGroups = totalGroups;
+        this.totalFsyncs = totalFsyncs;
+        this.totalGroupCommits = totalGroupCommits;
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    public TranslogSyncStats(StreamInput in) throws IOException {
+        this.totalRequests = in.readVLong();
+        this.totalGroups = in.readVLong();
+        this.totalFsyncs = in.readVLong();
+        this.totalGroupCommits = in.readVLong();
+        this.maxGroupSize = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(totalRequests);
+        out.writeVLong(totalGroups);
+        out.writeVLong(totalFsyncs);
+        out.writeVLong(totalGroupCommits);
+        out.writeVLong(maxGroupSize);
+    }
+
+    public void add(TranslogSyncStats other) {
+        if (other == null) {
+            return;
+        }
+        this.totalRequests += other.totalRequests;
+        this.totalGroups += other.totalGroups;
+        this.totalFsyncs += other.totalFsyncs;
+        this.totalGroupCommits += other.totalGroupCommits;
+        this.maxGroupSize = Math.max(this.maxGroupSize, other.maxGroupSize);
+    }
+
+    public long getTotalRequests() {
+        return totalRequests;
+    }
+
+    public long getTotalGroups() {
+        return totalGroups;
+    }
+
+    public long getTotalFsyncs() {
+        return totalFsyncs;
+    }
+
+    public long getTotalGroupCommits() {
+        return totalGroupCommits;
+    }
+
+    public long getMaxGroupSize() {
+        return maxGroupSize;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(SYNC);
+        builder.field("total_requests", totalRequests);
+        builder.field("total_groups", totalGroups);
+        builder.field("total_fsyncs", totalFsyncs);
+        builder.field("total_group_commits", totalGroupCommits);
+        builder.field("max_group_size", maxGroupSize);
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TranslogSyncStats other = (TranslogSyncStats) obj;
+        return totalRequests == other.totalRequests
+            && totalGroups == other.totalGroups
+            && totalFsyncs == other.totalFsyncs
+            && totalGroupCommits == other.totalGroupCommits
+            && maxGroupSize == other.maxGroupSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalRequests, totalGroups, totalFsyncs, totalGroupCommits, maxGroupSize);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the translog sync requests of a shard and how they were grouped into fsyncs.
+ *
+ * @opensearch.internal
+ */
+public final class TranslogSyncTracker {
+
+    private final CounterMetric totalRequests = new CounterMetric();
+    private final CounterMetric totalGroups = new CounterMetric();
+    private final CounterMetric totalFsyncs = new CounterMetric();
+    private final CounterMetric totalGroupCommits = new CounterMetric();
+    private final AtomicLong maxGroupSize = new AtomicLong();
+
+    /**
+     * Records that a group of sync requests was processed.
+     *
+     * @param groupSize   the number of sync requests in the group
+     * @param fsynced     whether processing the group required an fsync
+     * @param groupCommit whether the group was buffered by the group commit scheduler
+     */
+    public void onGroupProcessed(int groupSize, boolean fsynced, boolean groupCommit) {
+        totalRequests.inc(groupSize);
+        totalGroups.inc();
+        if (fsynced) {
+            totalFsyncs.inc();
+        }
+        if (groupCommit) {
+            totalGroupCommits.inc();
+        }
+        maxGroupSize.accumulateAndGet(groupSize, Math::max);
+    }
+
+    public TranslogSyncStats stats() {
+        return new TranslogSyncStats(
+            totalRequests.count(),
+            totalGroups.count(),
+            totalFsyncs.count(),
+            totalGroupCommits.count(),
+            maxGroupSize.get()
+        );
+    }
+}
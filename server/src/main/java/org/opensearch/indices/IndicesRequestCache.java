@@ -322,10 +322,9 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         assert readerCacheKeyId != null;
         IndexShard indexShard = ((IndexShard) cacheEntity.getCacheIdentity());
         final Key key = new Key(indexShard.shardId(), cacheKey, readerCacheKeyId, System.identityHashCode(indexShard));
-        Loader cacheLoader = new Loader(cacheEntity, loader);
-        BytesReference value = cache.computeIfAbsent(getICacheKey(key), cacheLoader);
-        if (cacheLoader.isLoaded()) {
-            cacheEntity.onMiss();
+        // The insert is accounted for as soon as the value is loaded, before the cache may hand it back through a removal
+        // notification, e.g. when an admission policy refuses to cache it.
+        Loader cacheLoader = new Loader(cacheEntity, loader, () -> {
             // see if it's the first time we see this reader, and make sure to register a cleanup key
             CleanupKey cleanupKey = new CleanupKey(cacheEntity, readerCacheKeyId);
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
@@ -335,6 +334,10 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
                 }
             }
             cacheCleanupManager.updateStaleCountOnCacheInsert(cleanupKey);
+        });
+        BytesReference value = cache.computeIfAbsent(getICacheKey(key), cacheLoader);
+        if (cacheLoader.isLoaded()) {
+            cacheEntity.onMiss();
         } else {
             cacheEntity.onHit();
         }
@@ -366,11 +369,13 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
+        private final Runnable onLoaded;
         private boolean loaded;
 
-        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader) {
+        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader, Runnable onLoaded) {
             this.entity = entity;
             this.loader = loader;
+            this.onLoaded = onLoaded;
         }
 
         public boolean isLoaded() {
@@ -381,6 +386,7 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         public BytesReference load(ICacheKey<Key> key) throws Exception {
             BytesReference value = loader.get();
             entity.onCached(key, value);
+            onLoaded.run();
             loaded = true;
             return value;
         }
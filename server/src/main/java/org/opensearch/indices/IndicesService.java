@@ -389,8 +389,10 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    private final RefreshScheduler refreshScheduler;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    final SegmentAggregationCache segmentAggregationCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -487,6 +489,7 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
+        this.segmentAggregationCache = new SegmentAggregationCache(settings);
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -496,6 +499,7 @@ public class IndicesService extends AbstractLifecycleComponent
             // ensure we pull an iter with new shards - flatten makes a copy
             () -> Iterables.flatten(this).iterator()
         );
+        this.refreshScheduler = new RefreshScheduler(settings, clusterService.getClusterSettings(), threadPool);
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
         this.bigArrays = bigArrays;
@@ -540,6 +544,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        segmentAggregationCache,
                         indicesQueryCache
                     );
                 } catch (IOException e) {
@@ -841,12 +846,23 @@ public class IndicesService extends AbstractLifecycleComponent
                     break;
             }
         }
+        final NodeIndicesStats nodeIndicesStats;
         if (flags.getIncludeIndicesStatsByLevel()) {
             NodeIndicesStats.StatsLevel statsLevel = NodeIndicesStats.getAcceptedLevel(flags.getLevels());
-            return new NodeIndicesStats(commonStats, statsByShard(this, flags), searchRequestStats, statusCounterStats, statsLevel);
+            nodeIndicesStats = new NodeIndicesStats(
+                commonStats,
+                statsByShard(this, flags),
+                searchRequestStats,
+                statusCounterStats,
+                statsLevel
+            );
         } else {
-            return new NodeIndicesStats(commonStats, statsByShard(this, flags), searchRequestStats, statusCounterStats);
+            nodeIndicesStats = new NodeIndicesStats(commonStats, statsByShard(this, flags), searchRequestStats, statusCounterStats);
+        }
+        if (flags.isSet(Flag.Refresh)) {
+            nodeIndicesStats.setRefreshSchedulerStats(refreshScheduler.stats());
         }
+        return nodeIndicesStats;
     }
 
     Map<Index, List<IndexShardStats>> statsByShard(final IndicesService indicesService, final CommonStatsFlags flags) {
@@ -1141,7 +1157,8 @@ public class IndicesService extends AbstractLifecycleComponent
             segmentReplicationStatsProvider,
             this::getClusterDefaultMaxMergeAtOnce,
             clusterMergeSchedulerConfig,
-            dataFormatRegistry
+            dataFormatRegistry,
+            refreshScheduler
         );
     }
 
@@ -2019,6 +2036,10 @@ public class IndicesService extends AbstractLifecycleComponent
         boolean[] loadedFromCache = new boolean[] { true };
         BytesReference bytesReference = cacheShardLevelResult(context.indexShard(), directoryReader, request.cacheKey(), out -> {
             long beforeQueryPhase = System.nanoTime();
+            if (context.indexShard().indexSettings().getValue(SegmentAggregationCache.INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING)) {
+                // the shard level result needs to be computed, reuse the results of the segments that didn't change
+                context.segmentAggregationCache(segmentAggregationCache, request.cacheKey());
+            }
             queryPhase.execute(context);
             // Write relevant info for cache tier policies before the whole QuerySearchResult, so we don't have to read
             // the whole QSR into memory when we decide whether to allow it into a particular cache tier based on took time/other info
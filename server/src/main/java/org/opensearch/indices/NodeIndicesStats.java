@@ -82,6 +82,7 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
     protected Map<Index, CommonStats> statsByIndex;
     protected Map<Index, List<IndexShardStats>> statsByShard;
     protected StatusCounterStats statusCounterStats;
+    protected RefreshSchedulerStats refreshSchedulerStats;
 
     public NodeIndicesStats(StreamInput in) throws IOException {
         stats = new CommonStats(in);
@@ -100,6 +101,9 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statusCounterStats = new StatusCounterStats(in);
             }
         }
+        if (in.getVersion().onOrAfter(Version.V_3_7_0)) {
+            refreshSchedulerStats = in.readOptionalWriteable(RefreshSchedulerStats::new);
+        }
     }
 
     /**
@@ -365,6 +369,15 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         return statusCounterStats;
     }
 
+    @Nullable
+    public RefreshSchedulerStats getRefreshSchedulerStats() {
+        return refreshSchedulerStats;
+    }
+
+    void setRefreshSchedulerStats(RefreshSchedulerStats refreshSchedulerStats) {
+        this.refreshSchedulerStats = refreshSchedulerStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         stats.writeTo(out);
@@ -387,6 +400,9 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
                 statusCounterStats.writeTo(out);
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
+            out.writeOptionalWriteable(refreshSchedulerStats);
+        }
     }
 
     private void writeStatsByIndex(StreamOutput out) throws IOException {
@@ -438,6 +454,9 @@ public class NodeIndicesStats implements Writeable, ToXContentFragment {
         if (statusCounterStats != null) {
             statusCounterStats.toXContent(builder, params);
         }
+        if (refreshSchedulerStats != null) {
+            refreshSchedulerStats.toXContent(builder, params);
+        }
 
         if (StatsLevel.INDICES.getRestName().equals(level)) {
             assert statsByIndex != null || statsByShard != null : "Expected shard stats or index stats in response for generating ["
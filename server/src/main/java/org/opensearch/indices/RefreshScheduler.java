@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the scheduled refreshes of the shards of the node with a bounded number of concurrent refreshes. Rather than
+ * refreshing their shards in turn, the refresh tasks of the indices hand them to the scheduler, which refreshes the
+ * shards that searches are waiting on first, then the shards that were searched recently, and refreshes the shards
+ * that are not searched in batches on a single refresh thread so that they never hold up the other shards.
+ * <p>
+ * The scheduler is disabled unless {@link #MAX_CONCURRENT_REFRESHES_SETTING} is set, in which case the refresh tasks
+ * refresh their shards themselves.
+ *
+ * @opensearch.internal
+ */
+public class RefreshScheduler {
+
+    private static final Logger logger = LogManager.getLogger(RefreshScheduler.class);
+
+    /**
+     * The maximum number of scheduled refreshes the node runs concurrently, {@code 0} disables the scheduler.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_REFRESHES_SETTING = Setting.intSetting(
+        "indices.refresh.scheduler.max_concurrent_refreshes",
+        0,
+        0,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The maximum number of shards that are not searched refreshed in a row by a refresh thread.
+     */
+    public static final Setting<Integer> COLD_BATCH_SIZE_SETTING = Setting.intSetting(
+        "indices.refresh.scheduler.cold_batch_size",
+        16,
+        1,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    /**
+     * The classes of shards by the priority of their refreshes.
+     *
+     * @opensearch.internal
+     */
+    public enum Priority {
+        /** Shards a search or a write request with {@code refresh=wait_for} is waiting on */
+        SEARCH_WAITING,
+        /** Shards that were searched recently */
+        SEARCHED,
+        /** Shards that are search idle */
+        COLD;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final ThreadPool threadPool;
+    private final Function<IndexShard, Priority> classifier;
+    private volatile int maxConcurrentRefreshes;
+    private volatile int coldBatchSize;
+
+    private final Map<Priority, Queue<Entry>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, PriorityTracker> trackers = new EnumMap<>(Priority.class);
+    // the priority each queued shard is refreshed with
+    private final Map<IndexShard, Priority> queued = ConcurrentCollections.newConcurrentMap();
+    private final AtomicInteger running = new AtomicInteger();
+    // only one refresh thread refreshes cold shards at a time, the others are left to the searched shards
+    private final AtomicBoolean refreshingCold = new AtomicBoolean();
+
+    public RefreshScheduler(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this(settings, clusterSettings, threadPool, RefreshScheduler::priority);
+    }
+
+    RefreshScheduler(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, Function<IndexShard, Priority> classifier) {
+        this.threadPool = threadPool;
+        this.classifier = classifier;
+        this.maxConcurrentRefreshes = MAX_CONCURRENT_REFRESHES_SETTING.get(settings);
+        this.coldBatchSize = COLD_BATCH_SIZE_SETTING.get(settings);
+        for (Priority priority : Priority.values()) {
+            queues.put(priority, ConcurrentCollections.newQueue());
+            trackers.put(priority, new PriorityTracker());
+        }
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_REFRESHES_SETTING, this::setMaxConcurrentRefreshes);
+        clusterSettings.addSettingsUpdateConsumer(COLD_BATCH_SIZE_SETTING, value -> this.coldBatchSize = value);
+    }
+
+    private void setMaxConcurrentRefreshes(int maxConcurrentRefreshes) {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        // drain what was queued before the scheduler was disabled, and use the extra threads if it was raised
+        maybeStartRefreshing();
+    }
+
+    /**
+     * Schedules a refresh of the given shard. Returns {@code false} if the scheduler is disabled, in which case the
+     * caller refreshes the shard itself.
+     * <p>
+     * A shard that is already queued is not queued again, unless its priority rose since it was queued, for instance
+     * because a search started waiting on its next refresh. It is then promoted to the queue of its new priority.
+     */
+    public boolean schedule(IndexShard shard) {
+        if (maxConcurrentRefreshes == 0) {
+            return false;
+        }
+        final Priority priority = classifier.apply(shard);
+        final Priority queuedPriority = queued.putIfAbsent(shard, priority);
+        if (queuedPriority == null) {
+            enqueue(shard, priority);
+        } else if (priority.compareTo(queuedPriority) < 0 && queued.replace(shard, queuedPriority, priority)) {
+            // the entry left in the queue of the lower priority no longer counts, and is skipped once it is polled
+            trackers.get(queuedPriority).queued.decrementAndGet();
+            enqueue(shard, priority);
+        }
+        maybeStartRefreshing();
+        return true;
+    }
+
+    private void enqueue(IndexShard shard, Priority priority) {
+        queues.get(priority).add(new Entry(shard, priority, System.nanoTime()));
+        trackers.get(priority).queued.incrementAndGet();
+    }
+
+    static Priority priority(IndexShard shard) {
+        if (shard.hasPendingRefreshListeners()) {
+            return Priority.SEARCH_WAITING;
+        }
+        if (shard.isSearchIdle() == false) {
+            return Priority.SEARCHED;
+        }
+        return Priority.COLD;
+    }
+
+    private void maybeStartRefreshing() {
+        while (hasRefreshes()) {
+            final int current = running.get();
+            // a disabled scheduler still drains its queues on a single thread
+            if (current >= Math.max(1, maxConcurrentRefreshes)) {
+                return;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
+                    @Override
+                    public void onFailure(Exception e) {
+                        logger.warn("failed to run scheduled refreshes", e);
+                    }
+
+                    @Override
+                    public void onRejection(Exception e) {
+                        running.decrementAndGet();
+                        super.onRejection(e);
+                    }
+
+                    @Override
+                    protected void doRun() {
+                        runRefreshes();
+                    }
+                });
+            }
+        }
+    }
+
+    private boolean hasRefreshes() {
+        return queues.get(Priority.SEARCH_WAITING).isEmpty() == false
+            || queues.get(Priority.SEARCHED).isEmpty() == false
+            || (queues.get(Priority.COLD).isEmpty() == false && refreshingCold.get() == false);
+    }
+
+    private void runRefreshes() {
+        try {
+            List<Entry> entries;
+            while ((entries = poll()).isEmpty() == false) {
+                try {
+                    for (Entry entry : entries) {
+                        refresh(entry);
+                    }
+                } finally {
+                    if (entries.get(0).priority == Priority.COLD) {
+                        refreshingCold.set(false);
+                    }
+                }
+            }
+        } finally {
+            running.decrementAndGet();
+        }
+        // a shard may have been queued after this thread found the queues empty but before it stopped counting as running
+        maybeStartRefreshing();
+    }
+
+    /**
+     * Returns the next shard to refresh by priority, or the next batch of cold shards.
+     */
+    private List<Entry> poll() {
+        for (Priority priority : new Priority[] { Priority.SEARCH_WAITING, Priority.SEARCHED }) {
+            final Entry entry = queues.get(priority).poll();
+            if (entry != null) {
+                return List.of(entry);
+            }
+        }
+        final Queue<Entry> cold = queues.get(Priority.COLD);
+        if (cold.isEmpty() || refreshingCold.compareAndSet(false, true) == false) {
+            return List.of();
+        }
+        final List<Entry> batch = new ArrayList<>();
+        Entry entry;
+        while (batch.size() < coldBatchSize && (entry = cold.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            refreshingCold.set(false);
+        }
+        return batch;
+    }
+
+    private void refresh(Entry entry) {
+        // the shard may be scheduled again while it refreshes
+        if (queued.remove(entry.shard, entry.priority) == false) {
+            // the shard was promoted to a higher priority, and was or will be refreshed from the entry of that priority
+            return;
+        }
+        final PriorityTracker tracker = trackers.get(entry.priority);
+        tracker.queued.decrementAndGet();
+        final long startNanos = System.nanoTime();
+        tracker.queueTimeNanos.inc(startNanos - entry.queuedNanos);
+        try {
+            entry.shard.scheduledRefresh();
+        } catch (IndexShardClosedException | AlreadyClosedException e) {
+            // fine - the shard was closed while it was queued
+        } catch (Exception e) {
+            logger.warn(new ParameterizedMessage("{} failed to run scheduled refresh", entry.shard.shardId()), e);
+        } finally {
+            tracker.refreshes.inc();
+            tracker.refreshTimeNanos.inc(System.nanoTime() - startNanos);
+        }
+    }
+
+    public RefreshSchedulerStats stats() {
+        final Map<String, RefreshSchedulerStats.PriorityStats> stats = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            final PriorityTracker tracker = trackers.get(priority);
+            stats.put(
+                priority.getName(),
+                new RefreshSchedulerStats.PriorityStats(
+                    Math.max(0, tracker.queued.get()),
+                    tracker.refreshes.count(),
+                    TimeUnit.NANOSECONDS.toMillis(tracker.queueTimeNanos.count()),
+                    TimeUnit.NANOSECONDS.toMillis(tracker.refreshTimeNanos.count())
+                )
+            );
+        }
+        return new RefreshSchedulerStats(maxConcurrentRefreshes, running.get(), stats);
+    }
+
+    private record Entry(IndexShard shard, Priority priority, long queuedNanos) {
+    }
+
+    private static final class PriorityTracker {
+        private final AtomicInteger queued = new AtomicInteger();
+        private final CounterMetric refreshes = new CounterMetric();
+        private final CounterMetric queueTimeNanos = new CounterMetric();
+        private final CounterMetric refreshTimeNanos = new CounterMetric();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Stats of the node level {@link RefreshScheduler}, by {@link RefreshScheduler.Priority priority class}.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.7.0")
+public class RefreshSchedulerStats implements Writeable, ToXContentFragment {
+
+    private final int maxConcurrentRefreshes;
+    private final int running;
+    private final Map<String, PriorityStats> priorities;
+
+    public RefreshSchedulerStats(int maxConcurrentRefreshes, int running, Map<String, PriorityStats> priorities) {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        this.running = running;
+        this.priorities = priorities;
+    }
+
+    public RefreshSchedulerStats(StreamInput in) throws IOException {
+        this.maxConcurrentRefreshes = in.readVInt();
+        this.running = in.readVInt();
+        final int size = in.readVInt();
+        this.priorities = new LinkedHashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            priorities.put(in.readString(), new PriorityStats(in));
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(maxConcurrentRefreshes);
+        out.writeVInt(running);
+        out.writeMap(priorities, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+    }
+
+    public int getMaxConcurrentRefreshes() {
+        return maxConcurrentRefreshes;
+    }
+
+    public int getRunning() {
+        return running;
+    }
+
+    public Map<String, PriorityStats> getPriorities() {
+        return priorities;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.REFRESH_SCHEDULER);
+        builder.field(Fields.MAX_CONCURRENT_REFRESHES, maxConcurrentRefreshes);
+        builder.field(Fields.RUNNING, running);
+        builder.startObject(Fields.PRIORITIES);
+        for (Map.Entry<String, PriorityStats> entry : priorities.entrySet()) {
+            builder.startObject(entry.getKey());
+            entry.getValue().toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RefreshSchedulerStats that = (RefreshSchedulerStats) o;
+        return maxConcurrentRefreshes == that.maxConcurrentRefreshes
+            && running == that.running
+            && Objects.equals(priorities, that.priorities);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxConcurrentRefreshes, running, priorities);
+    }
+
+    /**
+     * Stats of the scheduled refreshes of a priority class.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.7.0")
+    public static class PriorityStats implements Writeable, ToXContentFragment {
+
+        private final long queueDepth;
+        private final long refreshes;
+        private final long queueTimeInMillis;
+        private final long refreshTimeInMillis;
+
+        public PriorityStats(long queueDepth, long refreshes, long queueTimeInMillis, long refreshTimeInMillis) {
+            this.queueDepth = queueDepth;
+            this.refreshes = refreshes;
+            this.queueTimeInMillis = queueTimeInMillis;
+            this.refreshTimeInMillis = refreshTimeInMillis;
+        }
+
+        public PriorityStats(StreamInput in) throws IOException {
+            this.queueDepth = in.readVLong();
+            this.refreshes = in.readVLong();
+            this.queueTimeInMillis = in.readVLong();
+            this.refreshTimeInMillis = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(queueDepth);
+            out.writeVLong(refreshes);
+            out.writeVLong(queueTimeInMillis);
+            out.writeVLong(refreshTimeInMillis);
+        }
+
+        /** The number of shards waiting to be refreshed */
+        public long getQueueDepth() {
+            return queueDepth;
+        }
+
+        /** The number of scheduled refreshes run */
+        public long getRefreshes() {
+            return refreshes;
+        }
+
+        /** The total time shards waited to be refreshed */
+        public TimeValue getQueueTime() {
+            return new TimeValue(queueTimeInMillis);
+        }
+
+        /** The total time spent refreshing shards */
+        public TimeValue getRefreshTime() {
+            return new TimeValue(refreshTimeInMillis);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.QUEUE_DEPTH, queueDepth);
+            builder.field(Fields.REFRESHES, refreshes);
+            builder.humanReadableField(Fields.QUEUE_TIME_IN_MILLIS, Fields.QUEUE_TIME, getQueueTime());
+            builder.humanReadableField(Fields.REFRESH_TIME_IN_MILLIS, Fields.REFRESH_TIME, getRefreshTime());
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PriorityStats that = (PriorityStats) o;
+            return queueDepth == that.queueDepth
+                && refreshes == that.refreshes
+                && queueTimeInMillis == that.queueTimeInMillis
+                && refreshTimeInMillis == that.refreshTimeInMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queueDepth, refreshes, queueTimeInMillis, refreshTimeInMillis);
+        }
+    }
+
+    /**
+     * Fields for parsing and toXContent
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String REFRESH_SCHEDULER = "refresh_scheduler";
+        static final String MAX_CONCURRENT_REFRESHES = "max_concurrent_refreshes";
+        static final String RUNNING = "running";
+        static final String PRIORITIES = "priorities";
+        static final String QUEUE_DEPTH = "queue_depth";
+        static final String REFRESHES = "refreshes";
+        static final String QUEUE_TIME = "queue_time";
+        static final String QUEUE_TIME_IN_MILLIS = "queue_time_in_millis";
+        static final String REFRESH_TIME = "refresh_time";
+        static final String REFRESH_TIME_IN_MILLIS = "refresh_time_in_millis";
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SegmentCommitInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the serialized aggregation results of single segments. Unlike the {@link IndicesRequestCache}, which is keyed
+ * by the top level reader and loses all its entries of a shard on every refresh, entries are keyed by the core of a
+ * segment and the generation of its live documents: after a refresh, only the segments that were added or got new
+ * deletes need to be aggregated again. This is mostly useful for time based indices whose older segments never change.
+ * <p>
+ * Entries are removed when the core of their segment is closed, or evicted when the cache is full.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentAggregationCache implements RemovalListener<SegmentAggregationCache.Key, BytesReference>, Closeable {
+
+    /**
+     * Whether the aggregation results of the segments of an index may be cached. This only applies to requests that
+     * can use the {@link IndicesRequestCache} and are not already cached there.
+     */
+    public static final Setting<Boolean> INDEX_SEGMENT_AGGREGATION_CACHE_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_aggregations.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> INDICES_SEGMENT_AGGREGATION_CACHE_SIZE = Setting.memorySizeSetting(
+        "indices.requests.cache.segment_aggregations.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final Cache<Key, BytesReference> cache;
+    private final ConcurrentMap<IndexReader.CacheKey, Set<Key>> keysBySegment = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric hitCount = new CounterMetric();
+    private final CounterMetric missCount = new CounterMetric();
+
+    SegmentAggregationCache(Settings settings) {
+        final long sizeInBytes = INDICES_SEGMENT_AGGREGATION_CACHE_SIZE.get(settings).getBytes();
+        this.cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed())
+            .removalListener(this)
+            .build();
+    }
+
+    /**
+     * Returns the cached aggregation results of the given segment for a request, or {@code null} if there is none.
+     */
+    public BytesReference get(LeafReader segment, BytesReference requestKey) {
+        final Key key = key(segment, requestKey);
+        final BytesReference value = key == null ? null : cache.get(key);
+        if (value == null) {
+            missCount.inc();
+        } else {
+            hitCount.inc();
+        }
+        return value;
+    }
+
+    /**
+     * Caches the aggregation results of the given segment for a request. This is a no-op for segments that don't
+     * expose a core cache key or don't wrap a {@link SegmentReader}.
+     */
+    public void put(LeafReader segment, BytesReference requestKey, BytesReference value) {
+        final Key key = key(segment, requestKey);
+        if (key == null) {
+            return;
+        }
+        keysBySegment.computeIfAbsent(key.segmentKey, segmentKey -> {
+            segment.getCoreCacheHelper().addClosedListener(this::onSegmentClosed);
+            return ConcurrentCollections.newConcurrentSet();
+        }).add(key);
+        cache.put(key, value);
+    }
+
+    /**
+     * Returns the key of the given segment for a request, or {@code null} if its results can't be cached. The live documents
+     * of a segment are identified by the generations of its hard and soft deletes, which change whenever new deletes are
+     * written. Deletes that a near real-time reader sees before they are written don't change these generations, so the
+     * number of deleted documents, which only grows for the same core and generations, is part of the key as well.
+     */
+    private static Key key(LeafReader segment, BytesReference requestKey) {
+        final IndexReader.CacheHelper cacheHelper = segment.getCoreCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        final SegmentCommitInfo segmentInfo;
+        try {
+            segmentInfo = Lucene.segmentReader(segment).getSegmentInfo();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+        return new Key(cacheHelper.getKey(), segmentInfo.getDelGen(), segmentInfo.getSoftDelGen(), segment.numDeletedDocs(), requestKey);
+    }
+
+    private void onSegmentClosed(IndexReader.CacheKey segmentKey) {
+        final Set<Key> keys = keysBySegment.remove(segmentKey);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
+        final Key key = notification.getKey();
+        final Set<Key> keys = keysBySegment.get(key.segmentKey);
+        if (keys != null) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * The number of cached segment results.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * The number of segments whose results were found in the cache.
+     */
+    public long hitCount() {
+        return hitCount.count();
+    }
+
+    /**
+     * The number of segments whose results had to be computed since they were not in the cache.
+     */
+    public long missCount() {
+        return missCount.count();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        keysBySegment.clear();
+    }
+
+    /**
+     * Key of a cached segment result.
+     *
+     * @opensearch.internal
+     */
+    static final class Key {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        final IndexReader.CacheKey segmentKey;
+        final long delGen;
+        final long softDelGen;
+        final int numDeletedDocs;
+        final BytesReference requestKey;
+
+        Key(IndexReader.CacheKey segmentKey, long delGen, long softDelGen, int numDeletedDocs, BytesReference requestKey) {
+            this.segmentKey = Objects.requireNonNull(segmentKey);
+            this.delGen = delGen;
+            this.softDelGen = softDelGen;
+            this.numDeletedDocs = numDeletedDocs;
+            this.requestKey = Objects.requireNonNull(requestKey);
+        }
+
+        long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return segmentKey == key.segmentKey
+                && delGen == key.delGen
+                && softDelGen == key.softDelGen
+                && numDeletedDocs == key.numDeletedDocs
+                && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(segmentKey);
+            result = 31 * result + Long.hashCode(delGen);
+            result = 31 * result + Long.hashCode(softDelGen);
+            result = 31 * result + numDeletedDocs;
+            result = 31 * result + requestKey.hashCode();
+            return result;
+        }
+    }
+}
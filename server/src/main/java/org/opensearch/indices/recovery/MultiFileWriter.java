@@ -37,10 +37,12 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
@@ -228,6 +230,10 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
             this.position = position;
             this.lastChunk = lastChunk;
         }
+
+        FileChunk copy() {
+            return new FileChunk(md, new BytesArray(BytesReference.toBytes(content)), position, lastChunk);
+        }
     }
 
     private final class FileChunkWriter {
@@ -236,18 +242,17 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         long lastPosition = 0;
 
         void writeChunk(FileChunk newChunk) throws IOException {
+            FileChunk chunk;
             synchronized (this) {
-                pendingChunks.add(newChunk);
-            }
-            while (true) {
-                final FileChunk chunk;
-                synchronized (this) {
-                    chunk = pendingChunks.peek();
-                    if (chunk == null || chunk.position != lastPosition) {
-                        return;
-                    }
-                    pendingChunks.remove();
+                if (newChunk.position != lastPosition) {
+                    // a buffered chunk outlives the request it came with, so a slice of the network buffers of the request,
+                    // which are released once the request is handled, is copied
+                    pendingChunks.add(newChunk.content instanceof ReleasableBytesReference ? newChunk.copy() : newChunk);
+                    return;
                 }
+                chunk = newChunk;
+            }
+            while (chunk != null) {
                 innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
                 synchronized (this) {
                     assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
@@ -257,6 +262,11 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
                         fileChunkWriters.remove(chunk.md.name());
                         assert fileChunkWriters.containsValue(this) == false : "chunk writer [" + newChunk.md + "] was not removed";
                     }
+                    chunk = pendingChunks.peek();
+                    if (chunk == null || chunk.position != lastPosition) {
+                        return;
+                    }
+                    pendingChunks.remove();
                 }
             }
         }
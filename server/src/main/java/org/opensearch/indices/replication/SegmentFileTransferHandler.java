@@ -16,14 +16,20 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
@@ -34,10 +40,17 @@ import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.Transports;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 
 /**
@@ -93,10 +106,91 @@ public final class SegmentFileTransferHandler {
         StoreFileMetadata[] files,
         IntSupplier translogOps,
         ActionListener<Void> listener
+    ) {
+        return newTransfer(store, files, translogOps, () -> false, null, listener);
+    }
+
+    /**
+     * Returns closeable {@link MultiChunkTransfer}s to initiate sending a list of files over up to {@code streams} parallel
+     * streams, each sending its files one after the other with up to {@code maxConcurrentFileChunks} chunks in flight. Files
+     * are spread so that all streams send about the same number of bytes, and the listener is notified once all streams
+     * completed. Once a stream failed, the other ones stop sending chunks. The files sent are recorded in the shard's
+     * {@link SegmentFileTransferTracker}.
+     * Callers are responsible for starting the transfers and closing the resources.
+     * @param store {@link Store}
+     * @param files {@link StoreFileMetadata[]}
+     * @param translogOps {@link IntSupplier}
+     * @param streams the maximum number of files to send in parallel
+     * @param listener {@link ActionListener}
+     * @return the {@link MultiChunkTransfer}s of each stream
+     */
+    public List<MultiChunkTransfer<StoreFileMetadata, FileChunk>> createTransfers(
+        Store store,
+        StoreFileMetadata[] files,
+        IntSupplier translogOps,
+        int streams,
+        ActionListener<Void> listener
+    ) {
+        final SegmentFileTransferTracker tracker = shard.getSegmentFileTransferTracker();
+        final int numStreams = Math.min(streams, files.length);
+        tracker.onTransferStarted(numStreams);
+        if (numStreams <= 1) {
+            return Collections.singletonList(newTransfer(store, files, translogOps, () -> false, tracker, listener));
+        }
+        final AtomicBoolean failed = new AtomicBoolean();
+        final GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(
+            ActionListener.map(listener, responses -> null),
+            numStreams
+        );
+        final ActionListener<Void> streamListener = ActionListener.wrap(groupedListener::onResponse, e -> {
+            failed.set(true);
+            groupedListener.onFailure(e);
+        });
+        final List<MultiChunkTransfer<StoreFileMetadata, FileChunk>> transfers = new ArrayList<>(numStreams);
+        for (List<StoreFileMetadata> streamFiles : partitionFiles(files, numStreams)) {
+            final StoreFileMetadata[] streamFilesArray = streamFiles.toArray(new StoreFileMetadata[0]);
+            transfers.add(newTransfer(store, streamFilesArray, translogOps, failed::get, tracker, streamListener));
+        }
+        return transfers;
+    }
+
+    /**
+     * Spreads files over the given number of streams, largest files first, each to the stream with the fewest bytes so far.
+     */
+    static List<List<StoreFileMetadata>> partitionFiles(StoreFileMetadata[] files, int streams) {
+        final StoreFileMetadata[] sorted = files.clone();
+        ArrayUtil.timSort(sorted, Comparator.comparingLong(StoreFileMetadata::length).reversed());
+        final List<List<StoreFileMetadata>> partitions = new ArrayList<>(streams);
+        final long[] bytes = new long[streams];
+        for (int i = 0; i < streams; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (StoreFileMetadata md : sorted) {
+            int stream = 0;
+            for (int i = 1; i < streams; i++) {
+                if (bytes[i] < bytes[stream]) {
+                    stream = i;
+                }
+            }
+            partitions.get(stream).add(md);
+            bytes[stream] += md.length();
+        }
+        return partitions;
+    }
+
+    private MultiChunkTransfer<StoreFileMetadata, FileChunk> newTransfer(
+        Store store,
+        StoreFileMetadata[] files,
+        IntSupplier translogOps,
+        BooleanSupplier stopped,
+        @Nullable SegmentFileTransferTracker tracker,
+        ActionListener<Void> listener
     ) {
         ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
         return new MultiChunkTransfer<>(logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, Arrays.asList(files)) {
 
+            // bytes of each file that are not acknowledged yet, and when sending the file started
+            final Map<String, Tuple<AtomicLong, Long>> filesInFlight = ConcurrentCollections.newConcurrentMap();
             final Deque<byte[]> buffers = new ConcurrentLinkedDeque<>();
             volatile InputStreamIndexInput currentInput = null;
             long offset = 0;
@@ -104,6 +198,9 @@ public final class SegmentFileTransferHandler {
             @Override
             protected void onNewResource(StoreFileMetadata md) throws IOException {
                 offset = 0;
+                if (tracker != null) {
+                    filesInFlight.put(md.name(), Tuple.tuple(new AtomicLong(md.length()), System.nanoTime()));
+                }
                 IOUtils.close(currentInput, () -> currentInput = null);
                 // Open all files other than Segments* using IOContext.READ.
                 // With Lucene9_12 a READONCE context will confine the underlying IndexInput (MemorySegmentIndexInput) to a single thread.
@@ -132,6 +229,9 @@ public final class SegmentFileTransferHandler {
             protected FileChunk nextChunkRequest(StoreFileMetadata md) throws IOException {
                 assert Transports.assertNotTransportThread("read file chunk");
                 cancellableThreads.checkForCancel();
+                if (stopped.getAsBoolean()) {
+                    throw new CancellableThreads.ExecutionCancelledException("sending files failed on another stream");
+                }
                 final byte[] buffer = acquireBuffer();
                 final int bytesRead = readBytes(md, buffer);
                 if (bytesRead == -1) {
@@ -166,16 +266,39 @@ public final class SegmentFileTransferHandler {
             @Override
             protected void executeChunkRequest(FileChunk request, ActionListener<Void> listener1) {
                 cancellableThreads.checkForCancel();
+                final StoreFileMetadata md = request.md;
+                final int length = request.content.length();
                 chunkWriter.writeFileChunk(
-                    request.md,
+                    md,
                     request.position,
                     request.content,
                     request.lastChunk,
                     translogOps.getAsInt(),
-                    ActionListener.runBefore(listener1, request::close)
+                    ActionListener.runBefore(ActionListener.wrap(r -> {
+                        onChunkAcknowledged(md, length);
+                        listener1.onResponse(r);
+                    }, listener1::onFailure), request::close)
                 );
             }
 
+            private void onChunkAcknowledged(StoreFileMetadata md, int length) {
+                final Tuple<AtomicLong, Long> inFlight = filesInFlight.get(md.name());
+                if (inFlight != null && inFlight.v1().addAndGet(-length) == 0) {
+                    // chunks may be acknowledged out of order, the file is sent once all its bytes are acknowledged
+                    filesInFlight.remove(md.name());
+                    final long tookInNanos = System.nanoTime() - inFlight.v2();
+                    tracker.onFileTransferred(md.length(), tookInNanos);
+                    if (logger.isTraceEnabled()) {
+                        logger.trace(
+                            "sent file [{}] of [{}] in [{}]",
+                            md.name(),
+                            new ByteSizeValue(md.length()),
+                            TimeValue.timeValueNanos(tookInNanos)
+                        );
+                    }
+                }
+            }
+
             @Override
             protected void handleError(StoreFileMetadata md, Exception e) throws Exception {
                 handleErrorOnSendFiles(store, e, new StoreFileMetadata[] { md });
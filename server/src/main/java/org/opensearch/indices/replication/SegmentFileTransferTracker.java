@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.index.SegmentReplicationFileTransferStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the segment files a primary shard sent to its replicas, see {@link SegmentReplicationFileTransferStats}.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentFileTransferTracker {
+
+    private final LongAdder totalFiles = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+    private final LongAdder totalFileTimeInNanos = new LongAdder();
+    private final AtomicInteger lastStreams = new AtomicInteger();
+
+    void onTransferStarted(int streams) {
+        lastStreams.set(streams);
+    }
+
+    void onFileTransferred(long bytes, long tookInNanos) {
+        totalFiles.increment();
+        totalBytes.add(bytes);
+        totalFileTimeInNanos.add(tookInNanos);
+    }
+
+    public SegmentReplicationFileTransferStats stats() {
+        return new SegmentReplicationFileTransferStats(
+            totalFiles.sum(),
+            totalBytes.sum(),
+            TimeUnit.NANOSECONDS.toMillis(totalFileTimeInNanos.sum()),
+            lastStreams.get()
+        );
+    }
+}
@@ -152,11 +152,19 @@ class SegmentReplicationSourceHandler {
                 .filter(file -> storeFiles.contains(file.name()))
                 .toArray(StoreFileMetadata[]::new);
 
-            final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = segmentFileTransferHandler
-                .createTransfer(shard.store(), storeFileMetadata, () -> 0, sendFileStep);
-            resources.add(transfer);
+            final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = segmentFileTransferHandler
+                .createTransfers(
+                    shard.store(),
+                    storeFileMetadata,
+                    () -> 0,
+                    shard.indexSettings().getSegmentReplicationFileTransferStreams(),
+                    sendFileStep
+                );
+            resources.addAll(transfers);
             cancellableThreads.checkForCancel();
-            transfer.start();
+            for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+                transfer.start();
+            }
 
             sendFileStep.whenComplete(r -> {
                 try {
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The values of a field across a batch of documents, for processors that transform the same field of all the documents of
+ * a batch in a single pass, see {@link Processor#batchExecute}. The path of the field is parsed once for the whole batch
+ * rather than on every access to every document, and values written back to the field they were read from are set on the
+ * object holding the field without resolving the path again.
+ * <p>
+ * A document that fails, when its value is read, transformed or written back, is reported with its exception like
+ * {@link Processor#batchExecute} does by default, without affecting the other documents of the batch.
+ *
+ * @opensearch.internal
+ */
+public final class FieldColumn {
+
+    private static final Object UNCHANGED = new Object();
+
+    private final List<IngestDocumentWrapper> documents;
+    private final IngestDocument.ParsedPath path;
+    // the objects holding the field, to write the values back without resolving the path again
+    private final Object[] parents;
+    private final Object[] values;
+    private final boolean[] missing;
+    private final Object[] newValues;
+    private final Exception[] failures;
+
+    private FieldColumn(List<IngestDocumentWrapper> documents, IngestDocument.ParsedPath path) {
+        this.documents = documents;
+        this.path = path;
+        this.parents = new Object[documents.size()];
+        this.values = new Object[documents.size()];
+        this.missing = new boolean[documents.size()];
+        this.newValues = new Object[documents.size()];
+        Arrays.fill(newValues, UNCHANGED);
+        this.failures = new Exception[documents.size()];
+    }
+
+    /**
+     * Reads the values of the field at the provided path from all the documents, like
+     * {@link IngestDocument#getFieldValue(String, Class, boolean)} does for a single document.
+     *
+     * @param documents the batch of documents
+     * @param path the path of the field in dot-notation
+     * @param ignoreMissing whether documents without the field are {@linkplain #isMissing missing} rather than failed
+     */
+    public static FieldColumn read(List<IngestDocumentWrapper> documents, String path, boolean ignoreMissing) {
+        final IngestDocument.ParsedPath parsedPath;
+        try {
+            parsedPath = new IngestDocument.ParsedPath(path);
+        } catch (IllegalArgumentException e) {
+            final FieldColumn column = new FieldColumn(documents, null);
+            Arrays.fill(column.failures, e);
+            return column;
+        }
+        final FieldColumn column = new FieldColumn(documents, parsedPath);
+        for (int i = 0; i < documents.size(); i++) {
+            final IngestDocument document = documents.get(i).getIngestDocument();
+            try {
+                final Object parent = document.resolveParent(parsedPath);
+                column.values[i] = IngestDocument.resolveLeaf(parsedPath, parent);
+                column.parents[i] = parent;
+            } catch (IllegalArgumentException e) {
+                if (ignoreMissing && document.hasField(parsedPath, false) == false) {
+                    column.missing[i] = true;
+                } else {
+                    column.failures[i] = e;
+                }
+            }
+        }
+        return column;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * The value of the field in the document at the provided index, {@code null} if it is missing or failed.
+     */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Whether the field is missing in the document at the provided index, when missing fields are ignored.
+     */
+    public boolean isMissing(int index) {
+        return missing[index];
+    }
+
+    public boolean isFailed(int index) {
+        return failures[index] != null;
+    }
+
+    /**
+     * Fails the document at the provided index, its field is not written back.
+     */
+    public void fail(int index, Exception e) {
+        failures[index] = e;
+    }
+
+    /**
+     * Sets the value to write back to the document at the provided index.
+     */
+    public void set(int index, Object value) {
+        assert failures[index] == null : "document [" + index + "] already failed";
+        newValues[index] = value;
+    }
+
+    /**
+     * Writes the values that were {@linkplain #set} back to the field at the provided path, like
+     * {@link IngestDocument#setFieldValue(String, Object)} does for a single document, and completes the batch.
+     *
+     * @param targetPath the path of the field to write the values to in dot-notation
+     * @param handler called with the results of all the documents of the batch
+     */
+    public void write(String targetPath, Consumer<List<IngestDocumentWrapper>> handler) {
+        IngestDocument.ParsedPath parsedTargetPath = null;
+        IllegalArgumentException invalidTargetPath = null;
+        if (path != null && path.path.equals(targetPath)) {
+            parsedTargetPath = path;
+        } else {
+            try {
+                parsedTargetPath = new IngestDocument.ParsedPath(targetPath);
+            } catch (IllegalArgumentException e) {
+                invalidTargetPath = e;
+            }
+        }
+        final List<IngestDocumentWrapper> results = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            final IngestDocumentWrapper wrapper = documents.get(i);
+            if (failures[i] == null && newValues[i] != UNCHANGED) {
+                if (invalidTargetPath != null) {
+                    failures[i] = invalidTargetPath;
+                } else {
+                    try {
+                        write(i, parsedTargetPath);
+                    } catch (Exception e) {
+                        failures[i] = e;
+                    }
+                }
+            }
+            if (failures[i] == null) {
+                results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getChildSlot(), wrapper.getIngestDocument(), null));
+            } else {
+                results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getChildSlot(), null, failures[i]));
+            }
+        }
+        handler.accept(results);
+    }
+
+    private void write(int index, IngestDocument.ParsedPath targetPath) {
+        if (targetPath == path && parents[index] instanceof Map<?, ?>) {
+            @SuppressWarnings("unchecked")
+            final Map<String, Object> parent = (Map<String, Object>) parents[index];
+            parent.put(path.leafKey(), newValues[index]);
+        } else {
+            documents.get(index).getIngestDocument().setFieldValue(targetPath, newValues[index]);
+        }
+    }
+}
@@ -131,6 +131,27 @@ public final class IngestDocument {
         return cast(path, context, clazz);
     }
 
+    /**
+     * Returns the object holding the last element of the provided path, see {@link FieldColumn}.
+     * @throws IllegalArgumentException if any of the parents of the field doesn't exist
+     */
+    Object resolveParent(ParsedPath parsedPath) {
+        FieldPath fieldPath = new FieldPath(parsedPath);
+        Object context = fieldPath.initialContext;
+        for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
+            context = resolve(fieldPath.pathElements[i], parsedPath.path, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns the value of the last element of the provided path, given the object returned by {@link #resolveParent}.
+     * @throws IllegalArgumentException if the field doesn't exist
+     */
+    static Object resolveLeaf(ParsedPath parsedPath, Object parent) {
+        return resolve(parsedPath.leafKey(), parsedPath.path, parent);
+    }
+
     /**
      * Returns the value contained in the document for the provided path
      *
@@ -228,7 +249,12 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public boolean hasField(String path, boolean failOutOfRange) {
-        FieldPath fieldPath = new FieldPath(path);
+        return hasField(new ParsedPath(path), failOutOfRange);
+    }
+
+    boolean hasField(ParsedPath parsedPath, boolean failOutOfRange) {
+        String path = parsedPath.path;
+        FieldPath fieldPath = new FieldPath(parsedPath);
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -527,7 +553,19 @@ public final class IngestDocument {
     }
 
     private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
-        FieldPath fieldPath = new FieldPath(path);
+        setFieldValue(new ParsedPath(path), value, append, allowDuplicates);
+    }
+
+    /**
+     * Sets the provided value to the provided path in the document, like {@link #setFieldValue(String, Object)}.
+     */
+    void setFieldValue(ParsedPath parsedPath, Object value) {
+        setFieldValue(parsedPath, value, false, true);
+    }
+
+    private void setFieldValue(ParsedPath parsedPath, Object value, boolean append, boolean allowDuplicates) {
+        String path = parsedPath.path;
+        FieldPath fieldPath = new FieldPath(parsedPath);
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -874,15 +912,39 @@ public final class IngestDocument {
         private final Object initialContext;
 
         private FieldPath(String path) {
+            this(new ParsedPath(path));
+        }
+
+        private FieldPath(ParsedPath parsedPath) {
+            this.initialContext = parsedPath.ingestMetadata ? ingestMetadata : sourceAndMetadata;
+            this.pathElements = parsedPath.pathElements;
+        }
+    }
+
+    /**
+     * A path in dot-notation parsed independently of any document, so that it can be resolved against many documents,
+     * see {@link FieldColumn}.
+     *
+     * @opensearch.internal
+     */
+    static final class ParsedPath {
+
+        final String path;
+        final boolean ingestMetadata;
+        // shared by all the documents the path is resolved against, must not be modified
+        final String[] pathElements;
+
+        ParsedPath(String path) {
             if (Strings.isEmpty(path)) {
                 throw new IllegalArgumentException("path cannot be null nor empty");
             }
+            this.path = path;
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                ingestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                ingestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
@@ -895,5 +957,8 @@ public final class IngestDocument {
             }
         }
 
+        String leafKey() {
+            return pathElements[pathElements.length - 1];
+        }
     }
 }
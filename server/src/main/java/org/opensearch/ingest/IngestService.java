@@ -149,6 +149,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
     private final ClusterService clusterService;
     private final ScriptService scriptService;
     private final Map<String, Processor.Factory> processorFactories;
+    private final List<IngestPlugin> ingestPlugins;
     private Map<String, Processor.Factory> systemIngestProcessorFactories = null;
     // Ideally this should be in IngestMetadata class, but we don't have the processor factories around there.
     // We know of all the processor factories when a node with all its plugin have been initialized. Also some
@@ -194,6 +195,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             indicesService
         );
         this.processorFactories = processorFactories(ingestPlugins, processorParameters);
+        this.ingestPlugins = ingestPlugins;
         this.systemIngestProcessorFactories = systemProcessorFactories(ingestPlugins, processorParameters);
         this.systemIngestPipelineCache = systemIngestPipelineCache;
         this.threadPool = threadPool;
@@ -1334,6 +1336,9 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
             });
         });
+        for (IngestPlugin ingestPlugin : ingestPlugins) {
+            statsBuilder.addCacheStats(ingestPlugin.getCacheStats());
+        }
         return statsBuilder.build();
     }
 
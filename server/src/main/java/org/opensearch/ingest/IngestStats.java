@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.metrics.OperationMetrics;
 import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -57,6 +58,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
     private final OperationStats totalStats;
     private final List<PipelineStat> pipelineStats;
     private final Map<String, List<ProcessorStat>> processorStats;
+    private final List<CacheStat> cacheStats;
 
     /**
      * @param totalStats - The total stats for Ingest. This is the logically the sum of all pipeline stats,
@@ -65,9 +67,25 @@ public class IngestStats implements Writeable, ToXContentFragment {
      * @param processorStats - The per-processor stats for a given pipeline. A map keyed by the pipeline identifier.
      */
     public IngestStats(OperationStats totalStats, List<PipelineStat> pipelineStats, Map<String, List<ProcessorStat>> processorStats) {
+        this(totalStats, pipelineStats, processorStats, Collections.emptyList());
+    }
+
+    /**
+     * @param totalStats - The total stats for Ingest.
+     * @param pipelineStats - The stats for a given ingest pipeline.
+     * @param processorStats - The per-processor stats for a given pipeline. A map keyed by the pipeline identifier.
+     * @param cacheStats - The stats of the caches of the ingest plugins.
+     */
+    public IngestStats(
+        OperationStats totalStats,
+        List<PipelineStat> pipelineStats,
+        Map<String, List<ProcessorStat>> processorStats,
+        List<CacheStat> cacheStats
+    ) {
         this.totalStats = totalStats;
         this.pipelineStats = pipelineStats;
         this.processorStats = processorStats;
+        this.cacheStats = cacheStats;
     }
 
     /**
@@ -93,6 +111,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
             }
             this.processorStats.put(pipelineId, processorStatsPerPipeline);
         }
+        if (in.getVersion().onOrAfter(Version.V_3_7_0)) {
+            this.cacheStats = in.readList(CacheStat::new);
+        } else {
+            this.cacheStats = Collections.emptyList();
+        }
     }
 
     @Override
@@ -114,6 +137,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 }
             }
         }
+        if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
+            out.writeList(cacheStats);
+        }
     }
 
     @Override
@@ -144,6 +170,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
             builder.endObject();
         }
         builder.endObject();
+        if (cacheStats.isEmpty() == false) {
+            builder.startObject("caches");
+            for (CacheStat cacheStat : cacheStats) {
+                cacheStat.toXContent(builder, params);
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -160,6 +193,10 @@ public class IngestStats implements Writeable, ToXContentFragment {
         return processorStats;
     }
 
+    public List<CacheStat> getCacheStats() {
+        return cacheStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -167,12 +204,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
         IngestStats that = (IngestStats) o;
         return Objects.equals(totalStats, that.totalStats)
             && Objects.equals(pipelineStats, that.pipelineStats)
-            && Objects.equals(processorStats, that.processorStats);
+            && Objects.equals(processorStats, that.processorStats)
+            && Objects.equals(cacheStats, that.cacheStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalStats, pipelineStats, processorStats);
+        return Objects.hash(totalStats, pipelineStats, processorStats, cacheStats);
     }
 
     /**
@@ -182,6 +220,7 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private OperationStats totalStats;
         private List<PipelineStat> pipelineStats = new ArrayList<>();
         private Map<String, List<ProcessorStat>> processorStats = new HashMap<>();
+        private List<CacheStat> cacheStats = new ArrayList<>();
 
         Builder addTotalMetrics(OperationMetrics totalMetric) {
             this.totalStats = totalMetric.createStats();
@@ -199,8 +238,18 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        Builder addCacheStats(List<CacheStat> cacheStats) {
+            this.cacheStats.addAll(cacheStats);
+            return this;
+        }
+
         IngestStats build() {
-            return new IngestStats(totalStats, Collections.unmodifiableList(pipelineStats), Collections.unmodifiableMap(processorStats));
+            return new IngestStats(
+                totalStats,
+                Collections.unmodifiableList(pipelineStats),
+                Collections.unmodifiableMap(processorStats),
+                Collections.unmodifiableList(cacheStats)
+            );
         }
     }
 
@@ -277,4 +326,87 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return Objects.hash(name, type, stats);
         }
     }
+
+    /**
+     * Container for the stats of a cache used by ingest processors, such as the user agent parsing cache.
+     */
+    public static class CacheStat implements Writeable, ToXContentFragment {
+        private final String name;
+        private final long count;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+
+        public CacheStat(String name, long count, long hits, long misses, long evictions) {
+            this.name = name;
+            this.count = count;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public CacheStat(StreamInput in) throws IOException {
+            this.name = in.readString();
+            this.count = in.readVLong();
+            this.hits = in.readVLong();
+            this.misses = in.readVLong();
+            this.evictions = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeVLong(count);
+            out.writeVLong(hits);
+            out.writeVLong(misses);
+            out.writeVLong(evictions);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(name);
+            builder.field("count", count);
+            builder.field("hits", hits);
+            builder.field("misses", misses);
+            builder.field("evictions", evictions);
+            return builder.endObject();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            IngestStats.CacheStat that = (IngestStats.CacheStat) o;
+            return Objects.equals(name, that.name)
+                && count == that.count
+                && hits == that.hits
+                && misses == that.misses
+                && evictions == that.evictions;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, count, hits, misses, evictions);
+        }
+    }
 }
@@ -2401,7 +2401,10 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity);
+        this.fileCache = FileCacheFactory.createConcurrentFileCache(
+            capacity,
+            FileCacheSettings.FILE_CACHE_EVICTION_POLICY_SETTING.get(settings)
+        );
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         ForkJoinPool loadFileCacheThreadpool = new ForkJoinPool(
             Runtime.getRuntime().availableProcessors(),
@@ -32,9 +32,11 @@
 
 package org.opensearch.plugins;
 
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -66,6 +68,13 @@ public interface IngestPlugin {
         return Collections.emptyMap();
     }
 
+    /**
+     * Returns the stats of the caches the processors of this plugin use, reported with the ingest node stats.
+     */
+    default List<IngestStats.CacheStat> getCacheStats() {
+        return Collections.emptyList();
+    }
+
     /**
      * Define the keys we can use in the config for the system ingest pipeline.
      * Currently we will only systematically generate the ingest pipeline based on the index mapping.
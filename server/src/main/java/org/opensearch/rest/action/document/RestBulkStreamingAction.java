@@ -16,11 +16,11 @@ import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.bulk.BulkShardRequest;
 import org.opensearch.action.support.ActiveShardCount;
 import org.opensearch.common.annotation.ExperimentalApi;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.support.XContentHttpChunk;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContent;
@@ -37,10 +37,10 @@ import org.opensearch.transport.client.node.NodeClient;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -64,6 +64,8 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
 @ExperimentalApi
 public class RestBulkStreamingAction extends BaseRestHandler {
     private static final BulkResponse EMPTY = new BulkResponse(new BulkItemResponse[0], 0L);
+    private static final BulkRequest LAST = new BulkRequest();
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 256;
     private final boolean allowExplicitIndex;
 
     public RestBulkStreamingAction(Settings settings) {
@@ -99,6 +101,8 @@ public class RestBulkStreamingAction extends BaseRestHandler {
         final TimeValue batchInterval = request.paramAsTime("batch_interval", null);
         final int batchSize = request.paramAsInt("batch_size", 1); /* by default, batch size of 1 */
         final boolean hasBatchSize = request.hasParam("batch_size"); /* is batch_size explicitly specified or default is used */
+        final ByteSizeValue batchSizeBytes = request.paramAsSize("batch_size_bytes", null); /* by default, batches are not split */
+        final int maxConcurrentBatches = request.paramAsInt("max_concurrent_batches", DEFAULT_MAX_CONCURRENT_BATCHES);
 
         if (batchInterval != null && batchInterval.duration() <= 0) {
             throw new IllegalArgumentException("The batch_interval value should be non-negative [" + batchInterval.millis() + "ms].");
@@ -108,6 +112,16 @@ public class RestBulkStreamingAction extends BaseRestHandler {
             throw new IllegalArgumentException("The batch_size value should be non-negative [" + batchSize + "].");
         }
 
+        if (batchSizeBytes != null && batchSizeBytes.getBytes() <= 0) {
+            throw new IllegalArgumentException("The batch_size_bytes value should be positive [" + batchSizeBytes + "].");
+        }
+
+        if (maxConcurrentBatches <= 0) {
+            throw new IllegalArgumentException("The max_concurrent_batches value should be positive [" + maxConcurrentBatches + "].");
+        }
+
+        final long batchSizeInBytes = batchSizeBytes == null ? Long.MAX_VALUE : batchSizeBytes.getBytes();
+
         final StreamingRestChannelConsumer consumer = (channel) -> {
             final MediaType mediaType = request.getMediaType();
 
@@ -126,64 +140,55 @@ public class RestBulkStreamingAction extends BaseRestHandler {
             // Set the content type and the status code before sending the response stream over
             channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(mediaType.mediaTypeWithoutParameters())));
 
-            // TODOs:
-            // - eliminate serialization inefficiencies
-            createBufferedFlux(batchInterval, batchSize, hasBatchSize, channel).zipWith(Flux.fromStream(Stream.generate(() -> {
+            // Items are parsed as the chunks arrive: the bulk requests are handed over once they reach the maximum batch
+            // size or once the chunks of the batch (see batch_size and batch_interval) are parsed, at most maxConcurrentBatches
+            // of them are executed at a time and their responses are sent in the order of their items.
+            final Supplier<BulkRequest> bulkRequestSupplier = () -> {
                 BulkRequest bulkRequest = Requests.bulkRequest();
                 bulkRequest.waitForActiveShards(prepareBulkRequest.waitForActiveShards());
                 bulkRequest.timeout(prepareBulkRequest.timeout());
                 bulkRequest.setRefreshPolicy(prepareBulkRequest.getRefreshPolicy());
                 return bulkRequest;
-            }))).map(t -> {
+            };
+            final StreamingBulkRequestParser parser = new StreamingBulkRequestParser(
+                bulkRequestSupplier,
+                batchSizeInBytes,
+                defaultIndex,
+                defaultRouting,
+                defaultFetchSourceContext,
+                defaultPipeline,
+                defaultRequireAlias,
+                allowExplicitIndex,
+                mediaType
+            );
+
+            createBufferedFlux(batchInterval, batchSize, hasBatchSize, channel).concatMapIterable(chunks -> {
                 boolean isLast = false;
-                final List<HttpChunk> chunks = t.getT1();
-                final BulkRequest bulkRequest = t.getT2();
+                final List<BulkRequest> bulkRequests = new ArrayList<>();
 
                 for (final HttpChunk chunk : chunks) {
                     isLast |= chunk.isLast();
                     try (chunk) {
-                        bulkRequest.add(
-                            chunk.content(),
-                            defaultIndex,
-                            defaultRouting,
-                            defaultFetchSourceContext,
-                            defaultPipeline,
-                            defaultRequireAlias,
-                            allowExplicitIndex,
-                            request.getMediaType()
-                        );
+                        bulkRequests.addAll(parser.parse(chunk.content(), chunk.isLast()));
                     } catch (final IOException ex) {
                         throw new UncheckedIOException(ex);
                     }
                 }
 
-                return Tuple.tuple(isLast, bulkRequest);
-            }).flatMap(tuple -> {
-                final CompletableFuture<BulkResponse> f = new CompletableFuture<>();
-
-                if (tuple.v2().requests().isEmpty()) {
-                    // this is the last request with no items
-                    f.complete(EMPTY);
-                } else {
-                    client.bulk(tuple.v2(), new ActionListener<BulkResponse>() {
-                        @Override
-                        public void onResponse(BulkResponse response) {
-                            f.complete(response);
-                        }
-
-                        @Override
-                        public void onFailure(Exception ex) {
-                            f.completeExceptionally(ex);
-                        }
-                    });
-
-                    if (tuple.v1() == true /* last chunk */ ) {
-                        return Flux.just(f, CompletableFuture.completedFuture(EMPTY));
-                    }
+                final BulkRequest remaining = parser.flush();
+                if (remaining != null) {
+                    bulkRequests.add(remaining);
                 }
-
-                return Mono.just(f);
-            }).concatMap(f -> Mono.fromFuture(f).doOnNext(r -> {
+                if (isLast) {
+                    bulkRequests.add(LAST);
+                }
+                return bulkRequests;
+            }).flatMapSequential(bulkRequest -> {
+                if (bulkRequest == LAST) {
+                    return Mono.just(EMPTY);
+                }
+                return Mono.<BulkResponse>create(sink -> client.bulk(bulkRequest, ActionListener.wrap(sink::success, sink::error)));
+            }, maxConcurrentBatches).doOnNext(r -> {
                 try {
                     if (r == EMPTY) {
                         channel.sendChunk(XContentHttpChunk.last());
@@ -195,7 +200,7 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                 } catch (IOException ex) {
                     throw new UncheckedIOException(ex);
                 }
-            })).onErrorComplete(ex -> {
+            }).onErrorComplete(ex -> {
                 if (ex instanceof Error) {
                     return false;
                 }
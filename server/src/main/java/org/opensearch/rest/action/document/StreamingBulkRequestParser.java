@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkRequestParser;
+import org.opensearch.common.Nullable;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Incrementally parses the content of a streaming bulk request. The chunks of the stream may end in the middle of an item,
+ * so the trailing bytes that do not form a complete item yet are kept until the chunks that complete them arrive. Parsed
+ * items are added to the current {@link BulkRequest}, which is handed over as soon as its estimated size reaches the
+ * configured limit, so that large streams are sent to the shards in bounded batches while they are still being received.
+ *
+ * @opensearch.internal
+ */
+final class StreamingBulkRequestParser {
+
+    private final BulkRequestParser parser = new BulkRequestParser();
+    private final Supplier<BulkRequest> bulkRequestSupplier;
+    private final long maxBatchSizeInBytes;
+    private final String defaultIndex;
+    private final String defaultRouting;
+    private final FetchSourceContext defaultFetchSourceContext;
+    private final String defaultPipeline;
+    private final Boolean defaultRequireAlias;
+    private final boolean allowExplicitIndex;
+    private final MediaType mediaType;
+
+    private BytesReference pending = BytesArray.EMPTY;
+    private BulkRequest current;
+
+    StreamingBulkRequestParser(
+        Supplier<BulkRequest> bulkRequestSupplier,
+        long maxBatchSizeInBytes,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType
+    ) {
+        if (maxBatchSizeInBytes <= 0) {
+            throw new IllegalArgumentException("The maximum batch size should be positive [" + maxBatchSizeInBytes + "]");
+        }
+        this.bulkRequestSupplier = bulkRequestSupplier;
+        this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+        this.defaultIndex = defaultIndex;
+        this.defaultRouting = defaultRouting;
+        this.defaultFetchSourceContext = defaultFetchSourceContext;
+        this.defaultPipeline = defaultPipeline;
+        this.defaultRequireAlias = defaultRequireAlias;
+        this.allowExplicitIndex = allowExplicitIndex;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Parses the next chunk of the stream.
+     *
+     * @param content the content of the chunk
+     * @param last whether this is the last chunk of the stream
+     * @return the bulk requests that reached the maximum batch size, in the order of their items
+     */
+    List<BulkRequest> parse(BytesReference content, boolean last) throws IOException {
+        final BytesReference data = pending.length() == 0 ? content : CompositeBytesReference.of(pending, content);
+        final List<BulkRequest> batches = new ArrayList<>();
+        final Consumer<DocWriteRequest<?>> consumer = request -> {
+            if (current == null) {
+                current = bulkRequestSupplier.get();
+            }
+            current.add(request);
+            if (current.estimatedSizeInBytes() >= maxBatchSizeInBytes) {
+                batches.add(current);
+                current = null;
+            }
+        };
+        final int consumed = parser.parse(
+            data,
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            last,
+            consumer::accept,
+            consumer::accept,
+            consumer::accept
+        );
+        // the chunks are not reused once released, so the incomplete item can reference them rather than being copied
+        pending = consumed == data.length() ? BytesArray.EMPTY : data.slice(consumed, data.length() - consumed);
+        // the last line of the stream may be terminated while the item it starts is not, which the parser does not detect
+        if (last && pending.length() > 0) {
+            throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
+        }
+        return batches;
+    }
+
+    /**
+     * Returns the bulk request holding the items that were parsed but not handed over yet, or {@code null} if there are none.
+     */
+    @Nullable
+    BulkRequest flush() {
+        final BulkRequest request = current;
+        current = null;
+        return request;
+    }
+
+    /**
+     * The number of buffered bytes that do not form a complete item yet.
+     */
+    int pendingBytes() {
+        return pending.length();
+    }
+}
@@ -234,6 +234,7 @@ final class DefaultSearchContext extends SearchContext {
     private final CardinalityAggregationContext cardinalityAggregationContext;
     private final int bucketSelectionStrategyFactor;
     private final boolean keywordIndexOrDocValuesEnabled;
+    private final boolean concurrentFetchEnabled;
 
     private boolean isStreamSearch;
     private StreamSearchChannelListener listener;
@@ -304,6 +305,7 @@ final class DefaultSearchContext extends SearchContext {
         this.bucketSelectionStrategyFactor = evaluateBucketSelectionStrategyFactor();
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
         this.keywordIndexOrDocValuesEnabled = evaluateKeywordIndexOrDocValuesEnabled();
+        this.concurrentFetchEnabled = evaluateConcurrentFetchEnabled();
         this.isStreamSearch = isStreamSearch;
     }
 
@@ -1282,6 +1284,11 @@ final class DefaultSearchContext extends SearchContext {
         return keywordIndexOrDocValuesEnabled;
     }
 
+    @Override
+    public boolean concurrentFetchEnabled() {
+        return concurrentFetchEnabled;
+    }
+
     private int evaluateCardinalityAggregationPruningThreshold() {
         if (clusterService != null) {
             return clusterService.getClusterSettings().get(CARDINALITY_AGGREGATION_PRUNING_THRESHOLD);
@@ -1321,6 +1328,13 @@ final class DefaultSearchContext extends SearchContext {
         return false;
     }
 
+    private boolean evaluateConcurrentFetchEnabled() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(SearchService.CONCURRENT_FETCH_ENABLED);
+        }
+        return false;
+    }
+
     public void setStreamChannelListener(StreamSearchChannelListener listener) {
         assert isStreamSearch() : "Stream search not enabled";
         this.listener = listener;
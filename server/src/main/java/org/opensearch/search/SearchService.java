@@ -442,6 +442,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // Whether the fetch phase fetches the hits of each segment concurrently on the index searcher executor
+    public static final Setting<Boolean> CONCURRENT_FETCH_ENABLED = Setting.boolSetting(
+        "search.fetch.concurrent.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final Setting<Long> TERMS_AGGREGATION_MAX_PRECOMPUTE_CARDINALITY = Setting.longSetting(
         "search.aggregations.terms.max_precompute_cardinality",
         30_000L,
@@ -237,6 +237,15 @@ public abstract class AggregatorBase extends Aggregator {
         return false;
     }
 
+    /**
+     * Returns whether intra-segment search splits the given segment into partitions, in which case this aggregator only
+     * collects the documents of one of them. Precomputations that summarize the whole segment, such as counts read from
+     * the index structures of a field, must then be skipped.
+     */
+    protected boolean isLeafPartitioned(LeafReaderContext ctx) {
+        return context.shouldUseIntraSegmentSearch() && context.searcher().isLeafPartitioned(ctx);
+    }
+
     /**
      * To be used in conjunction with <code>tryPrecomputeAggregationForLeaf()</code>
      * or <code>getLeafCollector</code> method.
@@ -283,6 +283,15 @@ public class AggregatorFactories {
         return true;
     }
 
+    public boolean allFactoriesSupportSegmentLevelCaching() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsSegmentLevelCaching() == false || factory.evaluateChildFactoriesForSegmentLevelCaching() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Create all aggregators so that they can be consumed with multiple
      * buckets.
@@ -132,6 +132,14 @@ public abstract class AggregatorFactory {
         return false;
     }
 
+    /**
+     * Implementation should override this method and return true if the results of the Aggregator created by the factory can be
+     * computed for each segment on its own and cached, see {@link org.opensearch.indices.SegmentAggregationCache}
+     */
+    protected boolean supportsSegmentLevelCaching() {
+        return false;
+    }
+
     public boolean evaluateChildFactories() {
         return factories.allFactoriesSupportConcurrentSearch();
     }
@@ -140,6 +148,10 @@ public abstract class AggregatorFactory {
         return factories.allFactoriesSupportIntraSegmentSearch();
     }
 
+    public boolean evaluateChildFactoriesForSegmentLevelCaching() {
+        return factories.allFactoriesSupportSegmentLevelCaching();
+    }
+
     public AggregatorFactories getSubFactories() {
         return factories;
     }
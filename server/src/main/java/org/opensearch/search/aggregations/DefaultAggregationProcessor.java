@@ -34,8 +34,15 @@ public class DefaultAggregationProcessor implements AggregationProcessor {
                 // update the bucket collector process as there is aggregation in the request
                 context.setBucketCollectorProcessor(bucketCollectorProcessor);
                 if (context.aggregations().factories().hasNonGlobalAggregator()) {
-                    context.queryCollectorManagers()
-                        .put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManagerWithSingleCollector(context));
+                    if (SegmentCachingAggCollectorManager.canCacheSegmentResults(context)) {
+                        context.queryCollectorManagers()
+                            .put(NonGlobalAggCollectorManager.class, new SegmentCachingAggCollectorManager(context));
+                    } else {
+                        // aggregate all segments together
+                        context.segmentAggregationCache(null, null);
+                        context.queryCollectorManagers()
+                            .put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManagerWithSingleCollector(context));
+                    }
                 }
                 // initialize global aggregators as well, such that any failure to initialize can be caught before executing the request
                 if (context.aggregations().factories().hasGlobalAggregator()) {
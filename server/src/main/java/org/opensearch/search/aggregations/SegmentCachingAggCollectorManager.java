@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.DocIdStream;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.indices.SegmentAggregationCache;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.profile.query.CollectorResult;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link CollectorManager} to take care of non-global aggregation operators in case of non-concurrent segment search, when the
+ * results of each segment are cached in the {@link SegmentAggregationCache}. Every segment is collected by its own aggregators,
+ * segments whose results are cached are not collected at all, and the results of all segments are then reduced at the shard level
+ * like the results of slices are with concurrent segment search.
+ */
+public class SegmentCachingAggCollectorManager extends AggregationCollectorManager {
+
+    private final SegmentCachingCollector collector;
+    private final String collectorName;
+
+    public SegmentCachingAggCollectorManager(SearchContext context) throws IOException {
+        super(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators, CollectorResult.REASON_AGGREGATION);
+        final Collector first = Objects.requireNonNull(super.newCollector(), "collector instance is null");
+        collector = new SegmentCachingCollector((BucketCollector) first);
+        collectorName = first.toString();
+    }
+
+    /**
+     * Whether the non-global aggregations of the request may be computed for each segment and cached. This must be decided before
+     * creating any aggregator since the local bucket count thresholds depend on it.
+     */
+    public static boolean canCacheSegmentResults(SearchContext context) {
+        return context.segmentAggregationCache() != null
+            && context.segmentAggregationCacheKey() != null
+            && context.shouldUseConcurrentSearch() == false
+            && context.getProfilers() == null
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && context.aggregations().factories().allFactoriesSupportSegmentLevelCaching();
+    }
+
+    @Override
+    public Collector newCollector() {
+        return collector;
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        assert collectors.isEmpty() : "Reduce on SegmentCachingAggCollectorManager called with non-empty collectors";
+        collector.postCollection();
+        final InternalAggregations aggregations;
+        if (collector.segmentResults.isEmpty()) {
+            // no segment was collected nor cached, build empty results out of the aggregators that were created up-front
+            aggregations = collector.buildUnused();
+        } else {
+            final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+            reduceContext.setSliceLevel(true);
+            aggregations = InternalAggregations.reduce(collector.segmentResults, reduceContext);
+        }
+        context.aggregations().resetBucketMultiConsumer();
+        return buildAggregationResult(aggregations);
+    }
+
+    @Override
+    public String getCollectorName() {
+        return collectorName;
+    }
+
+    /**
+     * Collects each segment with a new aggregator tree, or skips it if its results are cached.
+     */
+    private class SegmentCachingCollector extends BucketCollector {
+        private final ScoreMode scoreMode;
+        private final List<InternalAggregations> segmentResults = new ArrayList<>();
+        // aggregators created up-front, used for the first segment that needs to be collected
+        private BucketCollector unused;
+        private BucketCollector current;
+        private LeafReaderContext currentLeaf;
+        private boolean currentFinished;
+
+        SegmentCachingCollector(BucketCollector first) {
+            this.unused = first;
+            this.scoreMode = first.scoreMode();
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+            completeSegment();
+            final SegmentAggregationCache cache = context.segmentAggregationCache();
+            final BytesReference cached = cache.get(ctx.reader(), context.segmentAggregationCacheKey());
+            if (cached != null) {
+                try (
+                    StreamInput in = new NamedWriteableAwareStreamInput(
+                        cached.streamInput(),
+                        context.getQueryShardContext().getWriteableRegistry()
+                    )
+                ) {
+                    segmentResults.add(InternalAggregations.readFrom(in));
+                }
+                throw new CollectionTerminatedException();
+            }
+
+            if (unused != null) {
+                current = unused;
+                unused = null;
+            } else {
+                current = MultiBucketCollector.wrap(context.aggregations().factories().createTopLevelNonGlobalAggregators(context));
+                current.preCollection();
+            }
+            currentLeaf = ctx;
+            currentFinished = false;
+            final LeafBucketCollector in;
+            try {
+                in = current.getLeafCollector(ctx);
+            } catch (CollectionTerminatedException e) {
+                // the aggregators computed the results of the whole segment without collecting it, e.g. out of its term
+                // frequencies, and the searcher won't finish it
+                currentFinished = context.isSearchTimedOut() == false;
+                throw e;
+            }
+            return new LeafBucketCollector() {
+                @Override
+                public void setScorer(Scorable scorer) throws IOException {
+                    in.setScorer(scorer);
+                }
+
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    in.collect(doc, owningBucketOrd);
+                }
+
+                @Override
+                public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+                    in.collect(stream, owningBucketOrd);
+                }
+
+                @Override
+                public void collectRange(int min, int max) throws IOException {
+                    in.collectRange(min, max);
+                }
+
+                @Override
+                public DocIdSetIterator competitiveIterator() throws IOException {
+                    return in.competitiveIterator();
+                }
+
+                @Override
+                public void finish() throws IOException {
+                    in.finish();
+                    // the searcher only finishes segments that were fully collected, partial results are never cached
+                    currentFinished = context.isSearchTimedOut() == false;
+                }
+            };
+        }
+
+        /**
+         * Builds the results of the segment being collected, and caches them if the segment was fully collected.
+         */
+        private void completeSegment() throws IOException {
+            if (current == null) {
+                return;
+            }
+            final InternalAggregations results = build(current);
+            segmentResults.add(results);
+            if (currentFinished) {
+                try (BytesStreamOutput out = new BytesStreamOutput()) {
+                    results.writeTo(out);
+                    context.segmentAggregationCache().put(currentLeaf.reader(), context.segmentAggregationCacheKey(), out.bytes());
+                }
+            }
+            current = null;
+            currentLeaf = null;
+            currentFinished = false;
+        }
+
+        /**
+         * Builds the results of the given aggregator tree and releases it, so that the memory and circuit breaker bytes
+         * held by the aggregators of a segment are not accumulated until the end of the request.
+         */
+        private InternalAggregations build(BucketCollector tree) throws IOException {
+            final List<Aggregator> aggregators = context.bucketCollectorProcessor().toAggregators(List.of(tree));
+            try {
+                tree.postCollection();
+                final List<InternalAggregation> results = new ArrayList<>();
+                for (Aggregator aggregator : aggregators) {
+                    results.add(aggregator.buildTopLevel());
+                }
+                // buckets are accounted again when segment results are reduced
+                context.aggregations().resetBucketMultiConsumer();
+                return InternalAggregations.from(results);
+            } finally {
+                final List<Aggregator> toRelease = new ArrayList<>();
+                collectRegistered(aggregators, toRelease);
+                context.releaseEarly(toRelease);
+            }
+        }
+
+        /**
+         * Collects the aggregators of a tree that registered themselves with the search context.
+         */
+        private void collectRegistered(Iterable<Aggregator> aggregators, List<Aggregator> registered) {
+            for (Aggregator aggregator : aggregators) {
+                if (aggregator instanceof AggregatorBase aggregatorBase) {
+                    registered.add(aggregator);
+                    collectRegistered(Arrays.asList(aggregatorBase.subAggregators()), registered);
+                }
+            }
+        }
+
+        InternalAggregations buildUnused() throws IOException {
+            assert unused != null;
+            return build(unused);
+        }
+
+        @Override
+        public void preCollection() {
+            // aggregators are initialized when a segment needs to be collected
+        }
+
+        @Override
+        public void postCollection() throws IOException {
+            completeSegment();
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return scoreMode;
+        }
+    }
+}
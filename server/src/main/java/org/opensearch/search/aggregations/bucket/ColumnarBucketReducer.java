@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
+import org.opensearch.search.aggregations.metrics.SingleValueMetricColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Merges lists of buckets keyed by a {@code long} and sorted by key, like the ones returned by the shards for a
+ * {@code date_histogram} or a {@code terms} aggregation on a long field, into parallel arrays of keys, doc counts and
+ * single value metric sub-aggregations. Unlike the merge of {@link IteratorAndCurrent}s, it neither buffers the buckets
+ * of each key nor reduces their sub-aggregations one key at a time: the caller materializes the buckets it keeps once
+ * the merge is done.
+ * <p>
+ * This only applies when the sub-aggregations of every bucket are the same {@code sum}, {@code min}, {@code max} or
+ * {@code value_count} metrics, see {@link #reduce}.
+ *
+ * @opensearch.internal
+ */
+public final class ColumnarBucketReducer {
+
+    private final long[] keys;
+    private final long[] docCounts;
+    private final long[] docCountErrors;
+    private final SingleValueMetricColumn[] metrics;
+    private int size;
+
+    private ColumnarBucketReducer(int capacity, boolean trackDocCountErrors, SingleValueMetricColumn[] metrics) {
+        this.keys = new long[capacity];
+        this.docCounts = new long[capacity];
+        this.docCountErrors = trackDocCountErrors ? new long[capacity] : null;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Merges the provided bucket lists, each sorted by key in the given direction.
+     *
+     * @param bucketLists       the buckets to merge, one list per aggregation to reduce
+     * @param ascending         whether the lists are sorted by ascending or descending key
+     * @param key               extracts the key of a bucket
+     * @param showDocCountError whether a bucket reports its doc count error, or {@code null} to not track doc count errors
+     * @param docCountError     extracts the doc count error of a bucket, only used if {@code showDocCountError} is set
+     * @return the reduced columns, or {@code null} if the sub-aggregations of the buckets can't be reduced in columns in
+     *         which case the caller must fall back to reducing bucket objects
+     */
+    @Nullable
+    public static <B extends InternalMultiBucketAggregation.InternalBucket> ColumnarBucketReducer reduce(
+        List<List<B>> bucketLists,
+        boolean ascending,
+        ToLongFunction<B> key,
+        @Nullable Predicate<B> showDocCountError,
+        @Nullable ToLongFunction<B> docCountError
+    ) {
+        int totalBuckets = 0;
+        List<Aggregation> template = null;
+        for (List<B> buckets : bucketLists) {
+            if (template == null && buckets.isEmpty() == false) {
+                template = buckets.get(0).getAggregations().asList();
+            }
+            totalBuckets += buckets.size();
+        }
+        final SingleValueMetricColumn[] metrics = new SingleValueMetricColumn[template == null ? 0 : template.size()];
+        for (int i = 0; i < metrics.length; i++) {
+            if (SingleValueMetricColumn.isSupported(template.get(i)) == false) {
+                return null;
+            }
+            metrics[i] = new SingleValueMetricColumn(template.get(i), totalBuckets);
+        }
+
+        // extract the keys up-front, this also checks that all buckets share the same sub-aggregations
+        final long[][] inputKeys = new long[bucketLists.size()][];
+        for (int i = 0; i < inputKeys.length; i++) {
+            final List<B> buckets = bucketLists.get(i);
+            inputKeys[i] = new long[buckets.size()];
+            for (int j = 0; j < buckets.size(); j++) {
+                final B bucket = buckets.get(j);
+                final List<Aggregation> subAggs = bucket.getAggregations().asList();
+                if (subAggs.size() != metrics.length) {
+                    return null;
+                }
+                for (int m = 0; m < metrics.length; m++) {
+                    if (metrics[m].accepts(subAggs.get(m)) == false) {
+                        return null;
+                    }
+                }
+                inputKeys[i][j] = key.applyAsLong(bucket);
+            }
+        }
+
+        final ColumnarBucketReducer reducer = new ColumnarBucketReducer(totalBuckets, showDocCountError != null, metrics);
+        final int[] positions = new int[inputKeys.length];
+        final int[] heap = new int[inputKeys.length];
+        int heapSize = 0;
+        for (int i = 0; i < inputKeys.length; i++) {
+            if (inputKeys[i].length > 0) {
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i, inputKeys, positions, ascending);
+        }
+
+        int slot = -1;
+        long lastKey = 0;
+        while (heapSize > 0) {
+            final int input = heap[0];
+            final int position = positions[input];
+            final long currentKey = inputKeys[input][position];
+            assert slot == -1 || (ascending ? currentKey >= lastKey : currentKey <= lastKey) : "shards must return data sorted by key";
+            if (slot == -1 || currentKey != lastKey) {
+                slot++;
+                reducer.keys[slot] = currentKey;
+                lastKey = currentKey;
+            }
+            reducer.add(slot, bucketLists.get(input).get(position), showDocCountError, docCountError);
+
+            if (position + 1 < inputKeys[input].length) {
+                positions[input] = position + 1;
+            } else {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, 0, inputKeys, positions, ascending);
+        }
+        reducer.size = slot + 1;
+        return reducer;
+    }
+
+    private <B extends InternalMultiBucketAggregation.InternalBucket> void add(
+        int slot,
+        B bucket,
+        @Nullable Predicate<B> showDocCountError,
+        @Nullable ToLongFunction<B> docCountError
+    ) {
+        docCounts[slot] += bucket.getDocCount();
+        if (docCountErrors != null && docCountErrors[slot] != -1) {
+            // same as the per term doc count error computed when reducing terms buckets
+            if (showDocCountError.test(bucket) == false) {
+                docCountErrors[slot] = -1;
+            } else {
+                docCountErrors[slot] += docCountError.applyAsLong(bucket);
+            }
+        }
+        if (metrics.length > 0) {
+            final List<Aggregation> subAggs = bucket.getAggregations().asList();
+            for (int m = 0; m < metrics.length; m++) {
+                metrics[m].add(slot, subAggs.get(m));
+            }
+        }
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int index, long[][] inputKeys, int[] positions, boolean ascending) {
+        final int input = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && lessThan(heap[child + 1], heap[child], inputKeys, positions, ascending)) {
+                child++;
+            }
+            if (lessThan(heap[child], input, inputKeys, positions, ascending) == false) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = input;
+    }
+
+    private static boolean lessThan(int a, int b, long[][] inputKeys, int[] positions, boolean ascending) {
+        final long keyA = inputKeys[a][positions[a]];
+        final long keyB = inputKeys[b][positions[b]];
+        return ascending ? keyA < keyB : keyA > keyB;
+    }
+
+    /**
+     * The number of distinct keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The key at the given index, keys are sorted in the same order as the reduced lists.
+     */
+    public long key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * The doc count of the key at the given index.
+     */
+    public long docCount(int index) {
+        return docCounts[index];
+    }
+
+    /**
+     * The doc count error of the key at the given index, only available if doc count errors are tracked.
+     */
+    public long docCountError(int index) {
+        assert docCountErrors != null : "doc count errors are not tracked";
+        return docCountErrors[index];
+    }
+
+    /**
+     * Materializes the reduced sub-aggregations of the key at the given index.
+     */
+    public InternalAggregations subAggregations(int index) {
+        if (metrics.length == 0) {
+            return InternalAggregations.EMPTY;
+        }
+        final List<InternalAggregation> aggregations = new ArrayList<>(metrics.length);
+        for (SingleValueMetricColumn metric : metrics) {
+            aggregations.add(metric.build(index));
+        }
+        return InternalAggregations.from(aggregations);
+    }
+}
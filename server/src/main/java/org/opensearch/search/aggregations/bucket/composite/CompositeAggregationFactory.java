@@ -47,7 +47,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CompositeAggregationFactory extends AggregatorFactory {
+public class CompositeAggregationFactory extends AggregatorFactory {
     private final int size;
     private final CompositeValuesSourceConfig[] sources;
     private final CompositeKey afterKey;
@@ -68,6 +68,10 @@ class CompositeAggregationFactory extends AggregatorFactory {
         this.afterKey = afterKey;
     }
 
+    public CompositeValuesSourceConfig[] getSources() {
+        return sources;
+    }
+
     @Override
     protected Aggregator createInternal(
         SearchContext searchContext,
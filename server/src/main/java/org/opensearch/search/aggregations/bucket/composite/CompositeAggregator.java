@@ -56,12 +56,20 @@ import org.apache.lucene.search.SortedNumericSelector;
 import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.comparators.LongComparator;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CollectionUtil;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.RoaringDocIdSet;
+import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.index.IndexSortConfig;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.lucene.queries.SearchAfterSortedDocQuery;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -73,14 +81,20 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.filterrewrite.CompositeAggregatorBridge;
 import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
+import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.searchafter.SearchAfterBuilder;
 import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -91,10 +105,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongUnaryOperator;
 
 import static org.opensearch.search.aggregations.MultiBucketConsumerService.MAX_BUCKET_SETTING;
 import static org.opensearch.search.aggregations.bucket.filterrewrite.AggregatorBridge.segmentMatchAll;
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
 
 /**
  * Main aggregator that aggregates docs from multiple aggregations
@@ -114,6 +130,9 @@ public final class CompositeAggregator extends BucketsAggregator {
     private final CompositeValuesCollectorQueue queue;
 
     private final List<Entry> entries = new ArrayList<>();
+    private final List<StarTreeEntry> starTreeEntries = new ArrayList<>();
+    private String[] starTreeDimensions;
+    private int starTreeSegments;
     private LeafReaderContext currentLeaf;
     private RoaringDocIdSet.Builder docIdSetBuilder;
     private BucketCollector deferredCollectors;
@@ -584,6 +603,12 @@ public final class CompositeAggregator extends BucketsAggregator {
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
         finishLeaf(); // May need to wrap up previous leaf if it could not be precomputed
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            preComputeWithStarTree(ctx, supportedStarTree);
+            starTreeSegments++;
+            return true;
+        }
         return filterRewriteOptimizationContext.tryOptimize(
             ctx,
             this::incrementBucketDocCount,
@@ -592,6 +617,96 @@ public final class CompositeAggregator extends BucketsAggregator {
         );
     }
 
+    /**
+     * The first pass over the star-tree selects the top composite buckets from the keys of the matching star-tree entries,
+     * with the doc count of each entry. The matching entries are replayed in {@link #runDeferredCollections()} for the sub
+     * aggregations, which collect the star-tree entries of the top buckets.
+     */
+    private void preComputeWithStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        String[] dimensions = getStarTreeDimensions();
+        List<DimensionFilter> dimensionFilters = new ArrayList<>(dimensions.length);
+        for (int i = 0; i < dimensions.length; i++) {
+            String field = sourceConfigs[i].fieldType().name();
+            dimensionFilters.add(field.equals(dimensions[i]) ? new MatchAllFilter(field) : new MatchAllFilter(field, dimensions[i]));
+        }
+        FixedBitSet matchingDocsBitSet = StarTreeQueryHelper.getStarTreeResult(
+            starTreeValues,
+            context,
+            StarTreeQueryHelper.collectDimensionFilters(dimensionFilters, subAggregators)
+        );
+        StarTreeKeys starTreeKeys = new StarTreeKeys(ctx, starTreeValues);
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+        StarTreeQueryHelper.preComputeBucketsWithStarTree(new StarTreeBucketCollector(starTreeValues, matchingDocsBitSet) {
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (starTreeKeys.advanceExact(starTreeEntry) && docCountsIterator.advanceExact(starTreeEntry)) {
+                    long docCount = docCountsIterator.nextValue();
+                    starTreeKeys.visitKeys(() -> queue.addIfCompetitive(docCount));
+                }
+            }
+        });
+        if (deferredCollectors != NO_OP_COLLECTOR) {
+            starTreeEntries.add(new StarTreeEntry(ctx, starTree, matchingDocsBitSet));
+        }
+    }
+
+    private String[] getStarTreeDimensions() {
+        if (starTreeDimensions == null) {
+            CompositeDataCubeFieldType compositeMappedFieldType = (CompositeDataCubeFieldType) context.mapperService()
+                .getCompositeFieldTypes()
+                .iterator()
+                .next();
+            String[] dimensions = new String[sourceConfigs.length];
+            for (int i = 0; i < sourceConfigs.length; i++) {
+                dimensions[i] = sourceConfigs[i].getStarTreeDimension(compositeMappedFieldType);
+                assert dimensions[i] != null : "source [" + sourceNames.get(i) + "] isn't supported by the star-tree";
+            }
+            starTreeDimensions = dimensions;
+        }
+        return starTreeDimensions;
+    }
+
+    /**
+     * Replay the matching star-tree entries that might contain a top bucket and pass top buckets to the star-tree
+     * collectors of the sub aggregations.
+     */
+    private void runDeferredStarTreeCollections() throws IOException {
+        for (StarTreeEntry entry : starTreeEntries) {
+            StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(entry.context, entry.starTree);
+            StarTreeKeys starTreeKeys = new StarTreeKeys(entry.context, starTreeValues);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(new StarTreeBucketCollector(starTreeValues, entry.matchingDocsBitSet) {
+                @Override
+                public void setSubCollectors() throws IOException {
+                    for (Aggregator aggregator : subAggregators) {
+                        this.subCollectors.add(
+                            ((StarTreePreComputeCollector) aggregator.unwrapAggregator()).getStarTreeBucketCollector(
+                                entry.context,
+                                entry.starTree,
+                                this
+                            )
+                        );
+                    }
+                }
+
+                @Override
+                public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                    if (starTreeKeys.advanceExact(starTreeEntry) == false) {
+                        return;
+                    }
+                    starTreeKeys.visitKeys(() -> {
+                        Integer slot = queue.getCurrentSlot();
+                        if (slot != null) {
+                            for (StarTreeBucketCollector subCollector : subCollectors) {
+                                subCollector.collectStarTreeEntry(starTreeEntry, slot);
+                            }
+                        }
+                    });
+                }
+            });
+        }
+    }
+
     @Override
     protected LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         finishLeaf();
@@ -727,6 +842,7 @@ public final class CompositeAggregator extends BucketsAggregator {
                 collector.collect(docID);
             }
         }
+        runDeferredStarTreeCollections();
         deferredCollectors.postCollection();
     }
 
@@ -766,8 +882,94 @@ public final class CompositeAggregator extends BucketsAggregator {
     private record Entry(LeafReaderContext context, DocIdSet docIdSet) {
     }
 
+    /**
+     * A segment whose matching star-tree entries were collected in the composite aggregator
+     *
+     * @opensearch.internal
+     */
+    private record StarTreeEntry(LeafReaderContext context, CompositeIndexFieldInfo starTree, FixedBitSet matchingDocsBitSet) {
+    }
+
+    /**
+     * Reads the composite keys of the star-tree entries of a segment, and sets the current values of the sources to each
+     * of them in turn.
+     */
+    private class StarTreeKeys {
+        private final StarTreeValuesIterator[] valuesIterators;
+        private final LongUnaryOperator[] converters;
+        private final LongConsumer[] valueSetters;
+        private final long[][] values;
+        private final int[] valueCounts;
+
+        StarTreeKeys(LeafReaderContext ctx, StarTreeValues starTreeValues) throws IOException {
+            String[] dimensions = getStarTreeDimensions();
+            this.valuesIterators = new StarTreeValuesIterator[sources.length];
+            this.converters = new LongUnaryOperator[sources.length];
+            this.valueSetters = new LongConsumer[sources.length];
+            this.values = new long[sources.length][1];
+            this.valueCounts = new int[sources.length];
+            for (int i = 0; i < sources.length; i++) {
+                valuesIterators[i] = starTreeValues.getDimensionValuesIterator(dimensions[i]);
+                ValuesSource valuesSource = sourceConfigs[i].valuesSource();
+                if (valuesSource instanceof RoundingValuesSource roundingValuesSource) {
+                    converters[i] = roundingValuesSource::round;
+                } else if (valuesSource instanceof ValuesSource.Bytes.WithOrdinals withOrdinals) {
+                    converters[i] = withOrdinals.globalOrdinalsMapping(ctx);
+                } else {
+                    converters[i] = LongUnaryOperator.identity();
+                }
+                valueSetters[i] = sources[i].getStarTreeValueSetter(ctx);
+                assert valueSetters[i] != null : "source [" + sourceNames.get(i) + "] can't read values from the star-tree";
+            }
+        }
+
+        /**
+         * Reads the values of the given star-tree entry, and returns false if a source has no value in the entry.
+         */
+        boolean advanceExact(int starTreeEntry) throws IOException {
+            for (int i = 0; i < valuesIterators.length; i++) {
+                if (valuesIterators[i].advanceExact(starTreeEntry) == false) {
+                    return false;
+                }
+                int count = valuesIterators[i].entryValueCount();
+                values[i] = ArrayUtil.grow(values[i], count);
+                int size = 0;
+                for (int j = 0; j < count; j++) {
+                    // the values are sorted, so are the converted values, and each key is only visited once
+                    long value = converters[i].applyAsLong(valuesIterators[i].value());
+                    if (size == 0 || values[i][size - 1] != value) {
+                        values[i][size++] = value;
+                    }
+                }
+                if (size == 0) {
+                    return false;
+                }
+                valueCounts[i] = size;
+            }
+            return true;
+        }
+
+        void visitKeys(CheckedRunnable<IOException> keyVisitor) throws IOException {
+            visitKeys(0, keyVisitor);
+        }
+
+        private void visitKeys(int source, CheckedRunnable<IOException> keyVisitor) throws IOException {
+            if (source == values.length) {
+                keyVisitor.run();
+                return;
+            }
+            for (int j = 0; j < valueCounts[source]; j++) {
+                valueSetters[source].accept(values[source][j]);
+                visitKeys(source + 1, keyVisitor);
+            }
+        }
+    }
+
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         filterRewriteOptimizationContext.populateDebugInfo(add);
+        if (starTreeSegments > 0) {
+            add.accept("star_tree_segments", starTreeSegments);
+        }
     }
 }
@@ -34,12 +34,21 @@ package org.opensearch.search.aggregations.bucket.composite;
 
 import org.apache.lucene.index.IndexReader;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.Rounding;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.OrdinalDimension;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.search.startree.StarTreeQueryHelper;
 
 import java.util.function.LongConsumer;
 
@@ -168,6 +177,37 @@ public class CompositeValuesSourceConfig {
         return reverseMul;
     }
 
+    /**
+     * Returns the name of the star-tree dimension that holds the values of this source, or null if the values can't be
+     * read from the given star-tree. Date histogram sources read the values of the closest calendar interval of the
+     * date dimension, which are rounded again to the interval of the source.
+     */
+    public String getStarTreeDimension(CompositeDataCubeFieldType compositeFieldType) {
+        if (hasScript || missingBucket || fieldType == null) {
+            return null;
+        }
+        Dimension dimension = StarTreeQueryHelper.getMatchingDimensionOrNull(fieldType.name(), compositeFieldType.getDimensions());
+        if (dimension == null) {
+            return null;
+        }
+        if (vs instanceof RoundingValuesSource roundingValuesSource) {
+            // the dimension values are rounded in UTC, which only other UTC roundings without offset can round again
+            Rounding rounding = roundingValuesSource.getRounding();
+            if (dimension instanceof DateDimension dateDimension && rounding.unit() != null && rounding.isUTC() && rounding.offset() == 0) {
+                DateTimeUnitRounding interval = dateDimension.findClosestValidInterval(new DateTimeUnitAdapter(rounding.unit()));
+                return interval == null ? null : fieldType.name() + "_" + interval.shortName();
+            }
+            return null;
+        }
+        if (vs instanceof ValuesSource.Bytes.WithOrdinals) {
+            return dimension instanceof OrdinalDimension ? fieldType.name() : null;
+        }
+        if (vs instanceof ValuesSource.Numeric numeric && numeric.isFloatingPoint() == false && numeric.isBigInteger() == false) {
+            return dimension instanceof NumericDimension ? fieldType.name() : null;
+        }
+        return null;
+    }
+
     SingleDimensionValuesSource<?> createValuesSource(
         BigArrays bigArrays,
         IndexReader reader,
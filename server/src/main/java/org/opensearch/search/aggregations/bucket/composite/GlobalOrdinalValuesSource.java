@@ -51,6 +51,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 
 import java.io.IOException;
+import java.util.function.LongConsumer;
 
 import static org.apache.lucene.index.SortedSetDocValues.NO_MORE_DOCS;
 
@@ -245,6 +246,15 @@ class GlobalOrdinalValuesSource extends SingleDimensionValuesSource<BytesRef> {
         };
     }
 
+    @Override
+    LongConsumer getStarTreeValueSetter(LeafReaderContext context) throws IOException {
+        if (lookup == null) {
+            initLookup(docValuesFunc.apply(context));
+        }
+        // the star-tree values are global ordinals once mapped from the ordinals of the segment
+        return value -> currentValue = value;
+    }
+
     @Override
     SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query) {
         if (checkIfSortedDocsIsApplicable(reader, fieldType) == false
@@ -58,6 +58,7 @@ import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.function.LongConsumer;
 import java.util.function.LongUnaryOperator;
 import java.util.function.ToLongFunction;
 
@@ -219,6 +220,14 @@ public class LongValuesSource extends SingleDimensionValuesSource<Long> {
         };
     }
 
+    @Override
+    LongConsumer getStarTreeValueSetter(LeafReaderContext context) {
+        return value -> {
+            currentValue = value;
+            missingCurrentValue = false;
+        };
+    }
+
     static Query extractQuery(Query query) {
         if (query instanceof BoostQuery) {
             return extractQuery(((BoostQuery) query).getQuery());
@@ -45,6 +45,7 @@ import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.search.sort.SortOrder;
 
 import java.io.IOException;
+import java.util.function.LongConsumer;
 
 import static org.opensearch.search.aggregations.bucket.missing.MissingOrder.LAST;
 
@@ -167,6 +168,14 @@ public abstract class SingleDimensionValuesSource<T extends Comparable<T>> imple
      */
     abstract LeafBucketCollector getLeafCollector(Comparable value, LeafReaderContext context, LeafBucketCollector next) throws IOException;
 
+    /**
+     * Returns a consumer that sets the current value of this source to the given value, as read from the star-tree of
+     * the provided leaf and converted to the values of this source, or null if this source can't be read from the star-tree.
+     */
+    LongConsumer getStarTreeValueSetter(LeafReaderContext context) throws IOException {
+        return null;
+    }
+
     /**
      * Returns a {@link SortedDocsProducer} or null if this source cannot produce sorted docs.
      */
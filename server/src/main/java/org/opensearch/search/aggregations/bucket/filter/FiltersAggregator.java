@@ -36,6 +36,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -43,6 +44,9 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -51,16 +55,26 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.StarTreeBucketCollector;
+import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.opensearch.search.startree.StarTreeTraversalUtil;
+import org.opensearch.search.startree.filter.DimensionFilter;
+import org.opensearch.search.startree.filter.StarTreeFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
+import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
+
 /**
  * Aggregate all docs that match multiple filters.
  *
@@ -140,16 +154,21 @@ public class FiltersAggregator extends BucketsAggregator {
 
     private final String[] keys;
     private Supplier<Weight[]> filters;
+    private final QueryBuilder[] filterQueryBuilders;
     private final boolean keyed;
     private final boolean showOtherBucket;
     private final String otherBucketKey;
     private final int totalNumKeys;
 
+    private StarTreeFilter[] starTreeFilters;
+    private int starTreeSegments;
+
     public FiltersAggregator(
         String name,
         AggregatorFactories factories,
         String[] keys,
         Supplier<Weight[]> filters,
+        QueryBuilder[] filterQueryBuilders,
         boolean keyed,
         String otherBucketKey,
         SearchContext context,
@@ -161,6 +180,7 @@ public class FiltersAggregator extends BucketsAggregator {
         this.keyed = keyed;
         this.keys = keys;
         this.filters = filters;
+        this.filterQueryBuilders = filterQueryBuilders;
         this.showOtherBucket = otherBucketKey != null;
         this.otherBucketKey = otherBucketKey;
         if (showOtherBucket) {
@@ -170,6 +190,92 @@ public class FiltersAggregator extends BucketsAggregator {
         }
     }
 
+    @Override
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
+        if (supportedStarTree != null) {
+            preComputeWithStarTree(ctx, supportedStarTree);
+            starTreeSegments++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Each filter is resolved by its own star-tree traversal, as the star-tree entries of a filter may hold the
+     * aggregated values of documents that also match the other filters.
+     */
+    private void preComputeWithStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
+        StarTreeValues starTreeValues = StarTreeQueryHelper.getStarTreeValues(ctx, starTree);
+        StarTreeFilter[] starTreeFilters = getStarTreeFilters();
+        for (int i = 0; i < starTreeFilters.length; i++) {
+            FixedBitSet matchingDocsBitSet = StarTreeTraversalUtil.getStarTreeResult(starTreeValues, starTreeFilters[i], context);
+            StarTreeQueryHelper.preComputeBucketsWithStarTree(
+                getStarTreeFilterCollector(ctx, starTree, starTreeValues, matchingDocsBitSet, i)
+            );
+        }
+    }
+
+    private StarTreeFilter[] getStarTreeFilters() {
+        if (starTreeFilters == null) {
+            // the filters are resolved against the base query, and then take the dimensions of the sub aggregations
+            List<DimensionFilter> subAggregationFilters = StarTreeQueryHelper.collectDimensionFilters(
+                Collections.emptyList(),
+                subAggregators
+            );
+            StarTreeFilter[] filters = new StarTreeFilter[filterQueryBuilders.length];
+            for (int i = 0; i < filterQueryBuilders.length; i++) {
+                StarTreeFilter starTreeFilter = context.getQueryShardContext()
+                    .getStarTreeQueryContext()
+                    .getStarTreeFilter(context, filterQueryBuilders[i]);
+                assert starTreeFilter != null : "filter [" + keys[i] + "] isn't supported by the star-tree";
+                for (DimensionFilter dimensionFilter : subAggregationFilters) {
+                    starTreeFilter = StarTreeQueryHelper.mergeDimensionFilterIfNotExists(
+                        starTreeFilter,
+                        dimensionFilter.getMatchingDimension(),
+                        List.of(dimensionFilter)
+                    );
+                }
+                filters[i] = starTreeFilter;
+            }
+            starTreeFilters = filters;
+        }
+        return starTreeFilters;
+    }
+
+    /**
+     * Collects the star-tree entries matching a filter into its bucket. The filters can't be evaluated on the star-tree entries
+     * of a parent aggregation, so this aggregator only uses the star-tree at the top level, see the validation in
+     * {@link org.opensearch.search.startree.StarTreeQueryContext}.
+     */
+    private StarTreeBucketCollector getStarTreeFilterCollector(
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        StarTreeValues starTreeValues,
+        FixedBitSet matchingDocsBitSet,
+        int filterOrd
+    ) throws IOException {
+        SortedNumericStarTreeValuesIterator docCountsIterator = StarTreeQueryHelper.getDocCountsIterator(starTreeValues, starTree);
+        return new StarTreeBucketCollector(starTreeValues, matchingDocsBitSet) {
+            @Override
+            public void setSubCollectors() throws IOException {
+                for (Aggregator aggregator : subAggregators) {
+                    this.subCollectors.add(
+                        ((StarTreePreComputeCollector) aggregator.unwrapAggregator()).getStarTreeBucketCollector(ctx, starTree, this)
+                    );
+                }
+            }
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntry, long owningBucketOrd) throws IOException {
+                if (docCountsIterator.advanceExact(starTreeEntry)) {
+                    long metricValue = docCountsIterator.nextValue();
+                    collectStarTreeBucket(this, metricValue, bucketOrd(owningBucketOrd, filterOrd), starTreeEntry);
+                }
+            }
+        };
+    }
+
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         // no need to provide deleted docs to the filter
@@ -238,6 +344,14 @@ public class FiltersAggregator extends BucketsAggregator {
         return new InternalFilters(name, buckets, keyed, metadata());
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (starTreeSegments > 0) {
+            add.accept("star_tree_segments", starTreeSegments);
+        }
+    }
+
     final long bucketOrd(long owningBucketOrdinal, int filterOrd) {
         return owningBucketOrdinal * totalNumKeys + filterOrd;
     }
@@ -36,6 +36,7 @@ import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Weight;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.AggregationInitializationException;
 import org.opensearch.search.aggregations.Aggregator;
@@ -58,6 +59,7 @@ public class FiltersAggregatorFactory extends AggregatorFactory {
 
     private final String[] keys;
     private final Query[] filters;
+    private final QueryBuilder[] filterQueryBuilders;
     private volatile Weight[] weights;
     private final boolean keyed;
     private final boolean otherBucket;
@@ -80,13 +82,26 @@ public class FiltersAggregatorFactory extends AggregatorFactory {
         this.otherBucketKey = otherBucketKey;
         keys = new String[filters.size()];
         this.filters = new Query[filters.size()];
+        this.filterQueryBuilders = new QueryBuilder[filters.size()];
         for (int i = 0; i < filters.size(); ++i) {
             KeyedFilter keyedFilter = filters.get(i);
             this.keys[i] = keyedFilter.key();
+            this.filterQueryBuilders[i] = keyedFilter.filter();
             this.filters[i] = keyedFilter.filter().toQuery(queryShardContext);
         }
     }
 
+    /**
+     * Returns the query builders of the filters, which the star-tree resolves its filters from.
+     */
+    public QueryBuilder[] getFilterQueryBuilders() {
+        return filterQueryBuilders;
+    }
+
+    public boolean hasOtherBucket() {
+        return otherBucket;
+    }
+
     /**
      * Returns the {@link Weight}s for this filter aggregation, creating it if
      * necessary. This is done lazily so that the {@link Weight}s are only
@@ -137,6 +152,7 @@ public class FiltersAggregatorFactory extends AggregatorFactory {
             factories,
             keys,
             () -> getWeights(searchContext),
+            filterQueryBuilders,
             keyed,
             otherBucket ? otherBucketKey : null,
             searchContext,
@@ -210,6 +210,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
             return true;
         }
 
+        if (isLeafPartitioned(ctx)) {
+            // The filter rewrite counts the documents of the whole segment, not only those of this partition
+            return false;
+        }
         return filterRewriteOptimizationContext.tryOptimize(
             ctx,
             this::incrementBucketDocCount,
@@ -154,6 +154,16 @@ public final class DateHistogramAggregatorFactory extends ValuesSourceAggregator
         return true;
     }
 
+    @Override
+    protected boolean supportsIntraSegmentSearch() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        return true;
+    }
+
     public Rounding.DateTimeUnit getRounding() {
         return this.rounding.unit();
     }
@@ -45,6 +45,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.InternalOrder;
 import org.opensearch.search.aggregations.KeyComparable;
+import org.opensearch.search.aggregations.bucket.ColumnarBucketReducer;
 import org.opensearch.search.aggregations.bucket.IteratorAndCurrent;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 
@@ -323,6 +324,10 @@ public final class InternalDateHistogram extends InternalMultiBucketAggregation<
     }
 
     private List<Bucket> reduceBuckets(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+        final List<Bucket> columnarBuckets = reduceBucketsColumnar(aggregations, reduceContext);
+        if (columnarBuckets != null) {
+            return columnarBuckets;
+        }
         final PriorityQueue<IteratorAndCurrent<Bucket>> pq = new PriorityQueue<IteratorAndCurrent<Bucket>>(aggregations.size()) {
             @Override
             protected boolean lessThan(IteratorAndCurrent<Bucket> a, IteratorAndCurrent<Bucket> b) {
@@ -377,6 +382,28 @@ public final class InternalDateHistogram extends InternalMultiBucketAggregation<
         return reducedBuckets;
     }
 
+    /**
+     * Merges the buckets into columns of keys, doc counts and metrics without reducing them one key at a time, and only
+     * creates the buckets that are kept. Returns {@code null} if the sub-aggregations can't be reduced this way.
+     */
+    private List<Bucket> reduceBucketsColumnar(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+        final List<List<Bucket>> bucketLists = new ArrayList<>(aggregations.size());
+        for (InternalAggregation aggregation : aggregations) {
+            bucketLists.add(((InternalDateHistogram) aggregation).buckets);
+        }
+        final ColumnarBucketReducer reducer = ColumnarBucketReducer.reduce(bucketLists, true, bucket -> bucket.key, null, null);
+        if (reducer == null) {
+            return null;
+        }
+        final List<Bucket> reducedBuckets = new ArrayList<>(reducer.size());
+        for (int i = 0; i < reducer.size(); i++) {
+            if (reducer.docCount(i) >= minDocCount || reduceContext.isFinalReduce() == false) {
+                reducedBuckets.add(new Bucket(reducer.key(i), reducer.docCount(i), keyed, format, reducer.subAggregations(i)));
+            }
+        }
+        return reducedBuckets;
+    }
+
     /**
      * Reduce a list of same-keyed buckets (from multiple shards) to a single bucket. This
      * requires all buckets to have the same key.
@@ -190,6 +190,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             }
         }
 
+        if (isLeafPartitioned(ctx)) {
+            // The doc frequencies count the documents of the whole segment, not only those of this partition
+            return false;
+        }
+
         Terms segmentTerms = ctx.reader().terms(this.fieldName);
         if (segmentTerms == null) {
             // Field is not indexed.
@@ -319,6 +319,10 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
 
     private List<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
         assert isKeyOrder(thisReduceOrder);
+        final List<B> columnarBuckets = reduceMergeSortColumnar(aggregations, thisReduceOrder);
+        if (columnarBuckets != null) {
+            return columnarBuckets;
+        }
         final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
             @Override
@@ -368,6 +372,14 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         return reducedBuckets;
     }
 
+    /**
+     * Merges the buckets of the provided aggregations, sorted by key, without reducing them one key at a time. Returns
+     * {@code null} if these terms or their sub-aggregations don't support it, which is the default.
+     */
+    protected List<B> reduceMergeSortColumnar(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder) {
+        return null;
+    }
+
     private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
         Map<Object, List<B>> bucketMap = new HashMap<>();
         for (InternalAggregation aggregation : aggregations) {
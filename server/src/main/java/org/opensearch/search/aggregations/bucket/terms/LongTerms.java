@@ -38,6 +38,8 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.InternalOrder;
+import org.opensearch.search.aggregations.bucket.ColumnarBucketReducer;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -262,6 +264,42 @@ public class LongTerms extends InternalMappedTerms<LongTerms, LongTerms.Bucket>
         return super.reduce(aggregations, reduceContext);
     }
 
+    @Override
+    protected List<Bucket> reduceMergeSortColumnar(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder) {
+        final List<List<Bucket>> bucketLists = new ArrayList<>(aggregations.size());
+        for (InternalAggregation aggregation : aggregations) {
+            if (aggregation instanceof LongTerms) {
+                bucketLists.add(((LongTerms) aggregation).getBuckets());
+            } else if (aggregation instanceof UnmappedTerms == false) {
+                return null;
+            }
+        }
+        final ColumnarBucketReducer reducer = ColumnarBucketReducer.reduce(
+            bucketLists,
+            InternalOrder.isKeyAsc(thisReduceOrder),
+            bucket -> bucket.term,
+            Bucket::showDocCountError,
+            Bucket::getDocCountError
+        );
+        if (reducer == null) {
+            return null;
+        }
+        final List<Bucket> reducedBuckets = new ArrayList<>(reducer.size());
+        for (int i = 0; i < reducer.size(); i++) {
+            reducedBuckets.add(
+                new Bucket(
+                    reducer.key(i),
+                    reducer.docCount(i),
+                    reducer.subAggregations(i),
+                    showTermDocCountError,
+                    reducer.docCountError(i),
+                    format
+                )
+            );
+        }
+        return reducedBuckets;
+    }
+
     @Override
     Bucket createBucket(long docCount, InternalAggregations aggs, long docCountError, LongTerms.Bucket prototype) {
         return new Bucket(prototype.term, docCount, aggs, prototype.showDocCountError, docCountError, format);
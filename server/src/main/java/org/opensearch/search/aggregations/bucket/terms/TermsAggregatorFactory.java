@@ -797,4 +797,14 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsIntraSegmentSearch() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        return true;
+    }
 }
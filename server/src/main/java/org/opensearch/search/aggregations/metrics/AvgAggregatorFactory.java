@@ -101,6 +101,11 @@ class AvgAggregatorFactory extends MetricAggregatorFactory {
         return true;
     }
 
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        return true;
+    }
+
     @Override
     protected boolean supportsIntraSegmentSearch() {
         return true;
@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.CardinalityValueAggregator;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.plain.HllFieldData;
 import org.opensearch.index.mapper.HllFieldMapper;
@@ -43,7 +45,6 @@ import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSource;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -60,7 +61,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory implements StreamingCostEstimable {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory implements StreamingCostEstimable {
 
     /**
      * Execution mode for cardinality agg
@@ -106,6 +107,12 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory impleme
         this.executionMode = executionHint == null ? null : ExecutionMode.fromString(executionHint);
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        // the star-tree sketches fold into a lower precision, but can't be refined into a higher one
+        return precision() <= CardinalityValueAggregator.PRECISION ? MetricStat.CARDINALITY : null;
+    }
+
     public static void registerAggregators(ValuesSourceRegistry.Builder builder) {
         builder.register(CardinalityAggregationBuilder.REGISTRY_KEY, CoreValuesSourceType.ALL_CORE, CardinalityAggregator::new, true);
     }
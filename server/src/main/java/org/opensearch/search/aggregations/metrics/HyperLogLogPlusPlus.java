@@ -154,6 +154,17 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         }
     }
 
+    /**
+     * Collects a hash into the given bucket with the HyperLogLog algorithm, upgrading the bucket from linear counting.
+     */
+    public void collectHll(long bucket, long hash) {
+        hll.ensureCapacity(bucket + 1);
+        if (algorithm.get(bucket) == LINEAR_COUNTING) {
+            upgradeToHll(bucket);
+        }
+        hll.collect(bucket, hash);
+    }
+
     @Override
     public void close() {
         Releasables.close(algorithm, hll, lc);
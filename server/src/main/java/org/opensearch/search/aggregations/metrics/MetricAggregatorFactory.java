@@ -33,5 +33,8 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
         super(name, config, queryShardContext, parent, subFactoriesBuilder, metadata);
     }
 
+    /**
+     * Returns the star-tree metric that answers this aggregation, or {@code null} when the star-tree can't answer it.
+     */
     public abstract MetricStat getMetricStat();
 }
@@ -103,6 +103,11 @@ class MinAggregatorFactory extends MetricAggregatorFactory implements StreamingC
         return true;
     }
 
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        return true;
+    }
+
     @Override
     protected boolean supportsIntraSegmentSearch() {
         return true;
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.InternalAggregation;
+
+import java.util.Arrays;
+
+/**
+ * Reduces a single value metric sub-aggregation of many buckets at once, keeping one partial value per bucket slot in a
+ * primitive array instead of an {@link InternalAggregation} per bucket. Only {@code sum}, {@code min}, {@code max} and
+ * {@code value_count} are supported, their reduce is replicated here and must stay in sync with their own
+ * {@link InternalAggregation#reduce} implementation.
+ *
+ * @opensearch.internal
+ */
+public final class SingleValueMetricColumn {
+
+    private final InternalNumericMetricsAggregation.SingleValue prototype;
+    private final double[] values;
+    private final double[] deltas;
+    private final long[] counts;
+
+    /**
+     * Creates a column for metrics looking like {@code prototype}, holding up to {@code capacity} bucket slots.
+     */
+    public SingleValueMetricColumn(Aggregation prototype, int capacity) {
+        if (isSupported(prototype) == false) {
+            throw new IllegalArgumentException("aggregation [" + prototype.getName() + "] can't be reduced in columns");
+        }
+        this.prototype = (InternalNumericMetricsAggregation.SingleValue) prototype;
+        if (prototype instanceof InternalValueCount) {
+            this.values = null;
+            this.deltas = null;
+            this.counts = new long[capacity];
+        } else {
+            this.values = new double[capacity];
+            this.counts = null;
+            if (prototype instanceof InternalSum) {
+                this.deltas = new double[capacity];
+            } else {
+                this.deltas = null;
+                Arrays.fill(values, prototype instanceof InternalMin ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the provided aggregation can be reduced in a column.
+     */
+    public static boolean isSupported(Aggregation aggregation) {
+        final Class<?> clazz = aggregation.getClass();
+        return clazz == InternalSum.class || clazz == InternalMin.class || clazz == InternalMax.class || clazz == InternalValueCount.class;
+    }
+
+    /**
+     * Returns whether the provided aggregation can be added to this column, ie. it has the same name and type as the
+     * prototype of this column.
+     */
+    public boolean accepts(Aggregation aggregation) {
+        return aggregation.getClass() == prototype.getClass() && aggregation.getName().equals(prototype.getName());
+    }
+
+    /**
+     * Adds the value of the provided aggregation to the given slot.
+     */
+    public void add(int slot, Aggregation aggregation) {
+        assert accepts(aggregation);
+        if (counts != null) {
+            counts[slot] += ((InternalValueCount) aggregation).getValue();
+        } else if (deltas != null) {
+            addCompensated(slot, ((InternalSum) aggregation).value());
+        } else if (prototype instanceof InternalMin) {
+            values[slot] = Math.min(values[slot], ((InternalMin) aggregation).value());
+        } else {
+            values[slot] = Math.max(values[slot], ((InternalMax) aggregation).value());
+        }
+    }
+
+    /**
+     * Same as {@link CompensatedSum#add(double)} on the sum held in the given slot.
+     */
+    private void addCompensated(int slot, double value) {
+        if (Double.isFinite(value) == false) {
+            values[slot] = value + values[slot];
+        }
+        final double sum = values[slot];
+        if (Double.isFinite(sum)) {
+            double correctedSum = value + deltas[slot];
+            double updatedValue = sum + correctedSum;
+            deltas[slot] = correctedSum - (updatedValue - sum);
+            values[slot] = updatedValue;
+        }
+    }
+
+    /**
+     * Materializes the reduced metric of the given slot.
+     */
+    public InternalAggregation build(int slot) {
+        final String name = prototype.getName();
+        if (prototype instanceof InternalValueCount) {
+            return new InternalValueCount(name, counts[slot], prototype.getMetadata());
+        } else if (prototype instanceof InternalSum) {
+            return new InternalSum(name, values[slot], prototype.format, prototype.getMetadata());
+        } else if (prototype instanceof InternalMin) {
+            return new InternalMin(name, values[slot], prototype.format, prototype.getMetadata());
+        } else {
+            return new InternalMax(name, values[slot], prototype.format, prototype.getMetadata());
+        }
+    }
+}
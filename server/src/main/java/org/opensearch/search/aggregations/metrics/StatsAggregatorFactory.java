@@ -96,6 +96,11 @@ class StatsAggregatorFactory extends ValuesSourceAggregatorFactory {
         return true;
     }
 
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        return true;
+    }
+
     @Override
     protected boolean supportsIntraSegmentSearch() {
         return true;
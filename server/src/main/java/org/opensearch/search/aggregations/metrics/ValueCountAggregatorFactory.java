@@ -95,6 +95,11 @@ class ValueCountAggregatorFactory extends MetricAggregatorFactory {
         return true;
     }
 
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        return true;
+    }
+
     @Override
     protected boolean supportsIntraSegmentSearch() {
         return true;
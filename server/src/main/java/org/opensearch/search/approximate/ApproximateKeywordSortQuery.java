@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.approximate;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BitSetIterator;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortMode;
+import org.opensearch.search.sort.SortOrder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An approximate-able version of a match-all query sorted on a keyword field. It walks the terms of the field in sort
+ * order, and matches the documents of the terms until {@code size} documents are matched.
+ * <p>
+ * Documents are sorted on the lowest value of the field in ascending order and on the highest value in descending order,
+ * so the first term of a document in sort order is its sort value, and the matched documents include the top
+ * {@code size} documents of the segment and all the documents that tie with them.
+ */
+public class ApproximateKeywordSortQuery extends ApproximateQuery {
+
+    private final String field;
+    private int size;
+    private SortOrder sortOrder;
+    private BytesRef searchAfter;
+
+    public ApproximateKeywordSortQuery(String field) {
+        this(field, SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO, null);
+    }
+
+    protected ApproximateKeywordSortQuery(String field, int size, SortOrder sortOrder) {
+        this(field, size, sortOrder, null);
+    }
+
+    protected ApproximateKeywordSortQuery(String field, int size, SortOrder sortOrder, BytesRef searchAfter) {
+        this.field = field;
+        this.size = size;
+        this.sortOrder = sortOrder;
+        this.searchAfter = searchAfter;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    public void setSortOrder(SortOrder sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public boolean canApproximate(SearchContext context) {
+        if (context == null) {
+            return false;
+        }
+        if (context.aggregations() != null) {
+            return false;
+        }
+        // Exclude approximation when "track_total_hits": true
+        if (context.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_ACCURATE) {
+            return false;
+        }
+        if (context.request() == null || context.request().source() == null) {
+            return false;
+        }
+        if (context.request().source().sorts() == null || context.request().source().sorts().size() != 1) {
+            return false;
+        }
+        FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
+        if (primarySortField == null || primarySortField.fieldName().equals(field) == false) {
+            return false;
+        }
+        if (primarySortField.missing() != null || primarySortField.getNestedSort() != null) {
+            // Cannot sort documents missing this field.
+            return false;
+        }
+        MappedFieldType mappedFieldType = context.getQueryShardContext().fieldMapper(field);
+        if (mappedFieldType instanceof KeywordFieldMapper.KeywordFieldType == false
+            || mappedFieldType.isSearchable() == false
+            || mappedFieldType.hasDocValues() == false) {
+            return false;
+        }
+        SortMode defaultSortMode = primarySortField.order() == SortOrder.ASC ? SortMode.MIN : SortMode.MAX;
+        if (primarySortField.sortMode() != null && primarySortField.sortMode() != defaultSortMode) {
+            // the first term of a document in sort order must be its sort value
+            return false;
+        }
+        this.setSortOrder(primarySortField.order());
+        if (context.request().source().searchAfter() != null) {
+            Object searchAfterValue = context.request().source().searchAfter()[0];
+            if (searchAfterValue == null) {
+                return false;
+            }
+            this.searchAfter = mappedFieldType.docValueFormat(null, null).parseBytesRef(searchAfterValue.toString());
+        }
+        // size 0 could be set for caching
+        if (context.from() + context.size() == 0) {
+            this.setSize(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+        } else {
+            // See ApproximatePointRangeQuery, the extra document ensures a consistent relation of the total hits
+            this.setSize(Math.max(context.from() + context.size(), context.trackTotalHitsUpTo()) + 1);
+        }
+        return true;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        Weight matchAllWeight = new MatchAllDocsQuery().createWeight(searcher, scoreMode, boost);
+
+        return new ConstantScoreWeight(this, boost) {
+
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                LeafReader reader = context.reader();
+                Terms terms = reader.terms(field);
+                if (terms == null || terms.getDocCount() < size) {
+                    // documents without a value sort last, so they are competitive too
+                    return matchAllWeight.scorerSupplier(context);
+                }
+                if (searchAfter != null && terms.getSumDocFreq() != terms.getDocCount()) {
+                    // a document with several values may be reached through a term after the search after value while its
+                    // sort value is before it, so it would count towards the size but be filtered out by the collector
+                    return matchAllWeight.scorerSupplier(context);
+                }
+                return new ScorerSupplier() {
+                    @Override
+                    public Scorer get(long leadCost) throws IOException {
+                        FixedBitSet docs = new FixedBitSet(reader.maxDoc());
+                        int docCount = sortOrder == SortOrder.DESC
+                            ? collectDescending(reader, terms.iterator(), docs)
+                            : collectAscending(terms.iterator(), reader.getLiveDocs(), docs);
+                        if (docCount < size) {
+                            // the terms ran out after the search after value, so documents without a value are competitive too
+                            return matchAllWeight.scorerSupplier(context).get(leadCost);
+                        }
+                        return new ConstantScoreScorer(score(), scoreMode, new BitSetIterator(docs, docCount));
+                    }
+
+                    @Override
+                    public long cost() {
+                        return Math.min(size, reader.maxDoc());
+                    }
+                };
+            }
+
+            @Override
+            public int count(LeafReaderContext context) throws IOException {
+                return matchAllWeight.count(context);
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                return false;
+            }
+        };
+    }
+
+    private int collectAscending(TermsEnum termsEnum, Bits liveDocs, FixedBitSet docs) throws IOException {
+        BytesRef term;
+        if (searchAfter == null) {
+            term = termsEnum.next();
+        } else {
+            // documents that tie with the search after value are not competitive
+            term = switch (termsEnum.seekCeil(searchAfter)) {
+                case FOUND -> termsEnum.next();
+                case NOT_FOUND -> termsEnum.term();
+                case END -> null;
+            };
+        }
+        PostingsEnum postings = null;
+        int docCount = 0;
+        for (; term != null && docCount < size; term = termsEnum.next()) {
+            postings = termsEnum.postings(postings, PostingsEnum.NONE);
+            docCount += collectPostings(postings, liveDocs, docs);
+        }
+        return docCount;
+    }
+
+    private int collectDescending(LeafReader reader, TermsEnum termsEnum, FixedBitSet docs) throws IOException {
+        // the terms dictionary can only be walked forward, so the ordinals of the doc values give the terms in reverse order
+        SortedSetDocValues values = DocValues.getSortedSet(reader, field);
+        long ord = values.getValueCount() - 1;
+        if (searchAfter != null) {
+            long searchAfterOrd = values.lookupTerm(searchAfter);
+            // documents that tie with the search after value are not competitive
+            ord = searchAfterOrd >= 0 ? searchAfterOrd - 1 : -searchAfterOrd - 2;
+        }
+        Bits liveDocs = reader.getLiveDocs();
+        PostingsEnum postings = null;
+        int docCount = 0;
+        for (; ord >= 0 && docCount < size; ord--) {
+            if (termsEnum.seekExact(values.lookupOrd(ord))) {
+                postings = termsEnum.postings(postings, PostingsEnum.NONE);
+                docCount += collectPostings(postings, liveDocs, docs);
+            }
+        }
+        return docCount;
+    }
+
+    /**
+     * Adds the live documents of the postings to the given documents, and returns the number of documents that were added.
+     */
+    private static int collectPostings(PostingsEnum postings, Bits liveDocs, FixedBitSet docs) throws IOException {
+        int added = 0;
+        for (int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc()) {
+            if ((liveDocs == null || liveDocs.get(doc)) && docs.getAndSet(doc) == false) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public String toString(String s) {
+        return "ApproximateKeywordSortQuery(field=" + field + ", size=" + size + ", sortOrder=" + sortOrder + ")";
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        if (visitor.acceptField(field)) {
+            visitor.visitLeaf(this);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (sameClassAs(o) == false) {
+            return false;
+        }
+        ApproximateKeywordSortQuery other = (ApproximateKeywordSortQuery) o;
+        return field.equals(other.field)
+            && size == other.size
+            && sortOrder == other.sortOrder
+            && Objects.equals(searchAfter, other.searchAfter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(classHash(), field, size, sortOrder, searchAfter);
+    }
+}
@@ -11,6 +11,7 @@ package org.opensearch.search.approximate;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -22,7 +23,7 @@ import java.util.Objects;
  * Replaces match-all query with a less expensive query if possible.
  * <p>
  * Currently, will rewrite to a bounded range query over the high/low end of a field if a primary sort is specified
- * on that field.
+ * on that field, or to a walk of the terms in sort order if the primary sort is on a keyword field.
  */
 public class ApproximateMatchAllQuery extends ApproximateQuery {
     private ApproximateQuery approximation = null;
@@ -54,6 +55,14 @@ public class ApproximateMatchAllQuery extends ApproximateQuery {
                 if (mappedFieldType == null) {
                     return false;
                 }
+                if (mappedFieldType instanceof KeywordFieldMapper.KeywordFieldType) {
+                    ApproximateKeywordSortQuery keywordSortQuery = new ApproximateKeywordSortQuery(primarySortField.fieldName());
+                    if (keywordSortQuery.canApproximate(context)) {
+                        approximation = keywordSortQuery;
+                        return true;
+                    }
+                    return false;
+                }
                 Query rangeQuery = mappedFieldType.rangeQuery(null, null, false, false, null, null, null, context.getQueryShardContext());
                 if (rangeQuery instanceof ApproximateScoreQuery approximateScoreQuery) {
                     approximateScoreQuery.setContext(context);
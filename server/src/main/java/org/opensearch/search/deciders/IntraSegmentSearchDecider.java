@@ -11,8 +11,12 @@ package org.opensearch.search.deciders;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactories;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
- * Evaluates whether queries and aggregations support intra-segment search.
+ * Evaluates whether queries and aggregations support intra-segment search, and how many partitions a segment is split
+ * into based on its size and the load of the search pool.
  */
 public class IntraSegmentSearchDecider {
 
@@ -57,4 +61,32 @@ public class IntraSegmentSearchDecider {
         }
         return reason;
     }
+
+    /**
+     * Returns the maximum number of partitions a segment is split into given the load of the search pool. Partitions
+     * beyond the number of idle threads of the pool only queue up behind the other partitions of the segment, so they
+     * add the overhead of another collector without any speedup, and segments are not split at all once tasks queue up.
+     */
+    public static int getMaxPartitionsPerSegment(int targetMaxSlice, Executor executor) {
+        if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+            if (threadPoolExecutor.getQueue().isEmpty() == false) {
+                return 1;
+            }
+            int idleThreads = threadPoolExecutor.getMaximumPoolSize() - threadPoolExecutor.getActiveCount();
+            return Math.max(1, Math.min(targetMaxSlice, idleThreads));
+        }
+        return targetMaxSlice;
+    }
+
+    /**
+     * Returns the number of partitions a segment of the given size is split into, so that each partition holds about
+     * {@code maxDocsPerPartition} documents. Segments smaller than {@code minSegmentSize} are not split.
+     */
+    public static int getPartitionCount(int segmentSize, long maxDocsPerPartition, int minSegmentSize, int maxPartitionsPerSegment) {
+        if (segmentSize <= maxDocsPerPartition || segmentSize < minSegmentSize) {
+            return 1;
+        }
+        int numPartitions = (int) ((segmentSize + maxDocsPerPartition - 1) / maxDocsPerPartition);
+        return Math.min(numPartitions, maxPartitionsPerSegment);
+    }
 }
@@ -69,7 +69,6 @@ import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
 import org.opensearch.search.fetch.subphase.InnerHitsPhase;
 import org.opensearch.search.internal.SearchContext;
-import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.search.profile.Timer;
 import org.opensearch.search.profile.fetch.FetchProfileBreakdown;
@@ -86,6 +85,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -100,6 +100,12 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    /**
+     * The maximum number of hits of a leaf whose stored fields are loaded before they are processed, when leaves are fetched
+     * concurrently.
+     */
+    static final int LEAF_FETCH_CHUNK_SIZE = 256;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -154,6 +160,15 @@ public class FetchPhase {
 
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
 
+        if (breakdown == null && canFetchLeavesConcurrently(context, docs)) {
+            fetchLeavesConcurrently(context, fetchContext, fieldsVisitor, docs, storedToRequestedFields, hits);
+            if (context.isCancelled()) {
+                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+            }
+            context.fetchResult().hits(new SearchHits(hits, context.queryResult().getTotalHits(), context.queryResult().getMaxScore()));
+            return;
+        }
+
         List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
             breakdown,
             FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
@@ -226,7 +241,7 @@ public class FetchPhase {
                 assert currentReaderContext != null;
                 HitContext hit = prepareHitContext(
                     context,
-                    fetchContext.searchLookup(),
+                    fetchContext.searchLookup().source(),
                     fieldsVisitor,
                     docId,
                     storedToRequestedFields,
@@ -259,6 +274,151 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Whether the hits of each leaf may be fetched in a separate task on the executor of the index searcher. This is only the case
+     * if enabled and the hits span several leaves, and not for inner hits, which share their sub-contexts across the hits, for scrolls,
+     * which cache the stored fields readers of the leaves, or when profiling.
+     */
+    private boolean canFetchLeavesConcurrently(SearchContext context, DocIdToIndex[] docs) {
+        if (context.concurrentFetchEnabled() == false
+            || context.getProfilers() != null
+            || context.scrollContext() != null
+            || context instanceof InnerHitsContext.InnerHitSubContext
+            || context.innerHits().getInnerHits().isEmpty() == false) {
+            return false;
+        }
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        return ReaderUtil.subIndex(docs[0].docId, leaves) != ReaderUtil.subIndex(docs[docs.length - 1].docId, leaves);
+    }
+
+    /**
+     * Fetches the hits of each leaf in a separate task on the executor of the index searcher. The stored fields visitor, the lookup
+     * and the sub-phase processors hold the state of the leaf and the hit being fetched, so every task gets its own.
+     */
+    private void fetchLeavesConcurrently(
+        SearchContext context,
+        FetchContext fetchContext,
+        FieldsVisitor fieldsVisitor,
+        DocIdToIndex[] docs,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) {
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < leaf.docBase + leaf.reader().maxDoc()) {
+                to++;
+            }
+            FetchContext leafFetchContext = tasks.isEmpty() ? fetchContext : new FetchContext(context);
+            FieldsVisitor leafFieldsVisitor = tasks.isEmpty() ? fieldsVisitor : createStoredFieldsVisitor(context, new HashMap<>());
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = getProcessors(context.shardTarget(), leafFetchContext);
+            int leafFrom = from;
+            int leafTo = to;
+            tasks.add(() -> {
+                fetchLeaf(
+                    context,
+                    leafFetchContext,
+                    leafFieldsVisitor,
+                    processors,
+                    leaf,
+                    docs,
+                    leafFrom,
+                    leafTo,
+                    storedToRequestedFields,
+                    hits
+                );
+                return null;
+            });
+            from = to;
+        }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e);
+        }
+    }
+
+    /**
+     * Fetches the hits of a leaf, given in doc id order. The hits are fetched in chunks of at most {@link #LEAF_FETCH_CHUNK_SIZE}:
+     * the stored fields of the hits of a chunk are loaded first, so that adjacent hits are read from the decompressed blocks of
+     * stored fields in a single pass, and the hits of the chunk are then processed one by one. Bounding the chunk bounds the
+     * number of loaded sources that are held at the same time.
+     */
+    private void fetchLeaf(
+        SearchContext context,
+        FetchContext fetchContext,
+        FieldsVisitor fieldsVisitor,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        LeafReaderContext leaf,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) throws IOException {
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+        if (leaf.reader() instanceof SequentialStoredFieldsLeafReader lf && hasSequentialDocs(docs, from, to) && to - from >= 10) {
+            fieldReader = lf.getSequentialStoredFieldsReader()::document;
+        } else {
+            fieldReader = leaf.reader().storedFields()::document;
+        }
+        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+            p.v1().setNextReader(leaf);
+        }
+        SourceLookup leafSourceLookup = fetchContext.searchLookup().source();
+        int chunkSize = Math.min(to - from, LEAF_FETCH_CHUNK_SIZE);
+        // the loaded hits of a chunk are held at the same time, so each one keeps its source in its own lookup until it is processed
+        List<SourceLookup> sourceLookups = new ArrayList<>(chunkSize);
+        List<HitContext> hitContexts = new ArrayList<>(chunkSize);
+        for (int chunkFrom = from; chunkFrom < to; chunkFrom += LEAF_FETCH_CHUNK_SIZE) {
+            int chunkTo = Math.min(to, chunkFrom + LEAF_FETCH_CHUNK_SIZE);
+            sourceLookups.clear();
+            hitContexts.clear();
+            for (int index = chunkFrom; index < chunkTo; index++) {
+                if (context.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+                }
+                int docId = docs[index].docId;
+                try {
+                    SourceLookup sourceLookup = new SourceLookup();
+                    sourceLookups.add(sourceLookup);
+                    hitContexts.add(
+                        prepareHitContext(context, sourceLookup, fieldsVisitor, docId, storedToRequestedFields, leaf, fieldReader, null)
+                    );
+                } catch (Exception e) {
+                    throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
+                }
+            }
+            for (int index = chunkFrom; index < chunkTo; index++) {
+                HitContext hitContext = hitContexts.get(index - chunkFrom);
+                SourceLookup sourceLookup = sourceLookups.get(index - chunkFrom);
+                if (hitContext.sourceLookup() == sourceLookup) {
+                    // hand the loaded source over to the lookup that the scripts and fields of the sub-phases read, as the
+                    // sequential fetch does, so that it is not loaded from the stored fields once more. Nested hits have their own.
+                    hitContext = new HitContext(hitContext.hit(), leaf, hitContext.docId(), leafSourceLookup);
+                    if (sourceLookup.internalSourceRef() != null) {
+                        leafSourceLookup.setSource(sourceLookup.internalSourceRef());
+                    }
+                }
+                try {
+                    for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                        p.v1().process(hitContext);
+                    }
+                } catch (Exception e) {
+                    throw new FetchPhaseExecutionException(
+                        context.shardTarget(),
+                        "Error running fetch phase for doc [" + docs[index].docId + "]",
+                        e
+                    );
+                }
+                hits[docs[index].index] = hitContext.hit();
+            }
+        }
+    }
+
     List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> getProcessors(SearchShardTarget target, FetchContext context) {
         try {
             List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = new ArrayList<>();
@@ -366,7 +526,7 @@ public class FetchPhase {
 
     private HitContext prepareHitContext(
         SearchContext context,
-        SearchLookup lookup,
+        SourceLookup sourceLookup,
         FieldsVisitor fieldsVisitor,
         int docId,
         Map<String, Set<String>> storedToRequestedFields,
@@ -378,7 +538,7 @@ public class FetchPhase {
         if (rootDocId == -1) {
             return prepareNonNestedHitContext(
                 context,
-                lookup,
+                sourceLookup,
                 fieldsVisitor,
                 docId,
                 storedToRequestedFields,
@@ -408,7 +568,7 @@ public class FetchPhase {
      */
     private HitContext prepareNonNestedHitContext(
         SearchContext context,
-        SearchLookup lookup,
+        SourceLookup sourceLookup,
         FieldsVisitor fieldsVisitor,
         int docId,
         Map<String, Set<String>> storedToRequestedFields,
@@ -420,7 +580,7 @@ public class FetchPhase {
 
         if (fieldsVisitor == null) {
             SearchHit hit = new SearchHit(docId, null, null, null);
-            return new HitContext(hit, subReaderContext, subDocId, lookup.source());
+            return new HitContext(hit, subReaderContext, subDocId, sourceLookup);
         } else {
             SearchHit hit;
             profile(breakdown, FetchTimingType.LOAD_STORED_FIELDS, () -> {
@@ -438,7 +598,7 @@ public class FetchPhase {
                 hit = new SearchHit(docId, id, emptyMap(), emptyMap());
             }
 
-            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, lookup.source());
+            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, sourceLookup);
             if (fieldsVisitor.source() != null) {
                 profile(breakdown, FetchTimingType.LOAD_SOURCE, () -> {
                     hitContext.sourceLookup().setSource(fieldsVisitor.source());
@@ -715,6 +875,10 @@ public class FetchPhase {
      * stored sequentially (Dn = Dn-1 + 1).
      */
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
+        return hasSequentialDocs(docs, 0, docs.length);
+    }
+
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
     }
 }
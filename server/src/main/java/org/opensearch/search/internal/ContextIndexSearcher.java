@@ -76,6 +76,7 @@ import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.approximate.ApproximateScoreQuery;
+import org.opensearch.search.deciders.IntraSegmentSearchDecider;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
@@ -119,6 +120,9 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    private final Executor executor;
+    // the ordinals of the leaves that intra-segment search splits into several partitions, computed from the slices
+    private volatile Set<Integer> partitionedLeaves;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -157,6 +161,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
         this.searchContext = searchContext;
+        this.executor = executor;
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -592,12 +597,36 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             targetMaxSlice,
             searchContext.shouldUseIntraSegmentSearch(),
             searchContext.getPartitionStrategy(),
-            searchContext.getPartitionMinSegmentSize()
+            searchContext.getPartitionMinSegmentSize(),
+            IntraSegmentSearchDecider.getMaxPartitionsPerSegment(targetMaxSlice, executor)
         );
         logger.debug("Slice count using max target slice supplier [{}]", leafSlices.length);
         return leafSlices;
     }
 
+    /**
+     * Returns whether intra-segment search splits the given leaf into several partitions that are searched
+     * concurrently, in which case each collector only sees the documents of one partition of the leaf.
+     */
+    public boolean isLeafPartitioned(LeafReaderContext ctx) {
+        if (searchContext == null || searchContext.shouldUseIntraSegmentSearch() == false) {
+            return false;
+        }
+        Set<Integer> partitioned = partitionedLeaves;
+        if (partitioned == null) {
+            partitioned = new HashSet<>();
+            for (LeafSlice slice : getSlices()) {
+                for (LeafReaderContextPartition partition : slice.partitions) {
+                    if (partition.minDocId != 0 || partition.maxDocId != Integer.MAX_VALUE) {
+                        partitioned.add(partition.ctx.ord);
+                    }
+                }
+            }
+            partitionedLeaves = partitioned;
+        }
+        return partitioned.contains(ctx.ord);
+    }
+
     public DirectoryReader getDirectoryReader() {
         final IndexReader reader = getIndexReader();
         assert reader instanceof DirectoryReader : "expected an instance of DirectoryReader, got " + reader.getClass();
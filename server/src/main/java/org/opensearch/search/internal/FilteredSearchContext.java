@@ -40,6 +40,7 @@ import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.action.search.SearchType;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
@@ -48,6 +49,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
@@ -573,6 +575,21 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.shouldUseConcurrentSearch();
     }
 
+    @Override
+    public void segmentAggregationCache(SegmentAggregationCache cache, BytesReference requestKey) {
+        in.segmentAggregationCache(cache, requestKey);
+    }
+
+    @Override
+    public SegmentAggregationCache segmentAggregationCache() {
+        return in.segmentAggregationCache();
+    }
+
+    @Override
+    public BytesReference segmentAggregationCacheKey() {
+        return in.segmentAggregationCacheKey();
+    }
+
     @Override
     public int getTargetMaxSliceCount() {
         return in.getTargetMaxSliceCount();
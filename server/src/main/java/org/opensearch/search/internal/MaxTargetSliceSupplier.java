@@ -11,6 +11,7 @@ package org.opensearch.search.internal;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.IndexSearcher.LeafReaderContextPartition;
+import org.opensearch.search.deciders.IntraSegmentSearchDecider;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,6 +38,17 @@ final class MaxTargetSliceSupplier {
         boolean useIntraSegmentSearch,
         String partitionStrategy,
         int minSegmentSize
+    ) {
+        return getSlices(leaves, targetMaxSlice, useIntraSegmentSearch, partitionStrategy, minSegmentSize, targetMaxSlice);
+    }
+
+    static IndexSearcher.LeafSlice[] getSlices(
+        List<LeafReaderContext> leaves,
+        int targetMaxSlice,
+        boolean useIntraSegmentSearch,
+        String partitionStrategy,
+        int minSegmentSize,
+        int maxPartitionsPerSegment
     ) {
         if (targetMaxSlice <= 0) {
             throw new IllegalArgumentException("MaxTargetSliceSupplier called with unexpected slice count of " + targetMaxSlice);
@@ -49,7 +61,7 @@ final class MaxTargetSliceSupplier {
         } else if (CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE.equals(partitionStrategy)) {
             return getSlicesWithForcePartitioning(leaves, targetMaxSlice);
         } else {
-            return getSlicesWithAutoPartitioning(leaves, targetMaxSlice, minSegmentSize);
+            return getSlicesWithAutoPartitioning(leaves, targetMaxSlice, minSegmentSize, maxPartitionsPerSegment);
         }
     }
 
@@ -64,10 +76,20 @@ final class MaxTargetSliceSupplier {
         return distributePartitions(partitions, targetMaxSlice);
     }
 
+    static IndexSearcher.LeafSlice[] getSlicesWithAutoPartitioning(List<LeafReaderContext> leaves, int targetMaxSlice, int minSegmentSize) {
+        return getSlicesWithAutoPartitioning(leaves, targetMaxSlice, minSegmentSize, targetMaxSlice);
+    }
+
     /**
-     * Balanced partitioning - partition segments exceeding fair slice share and min segment size.
+     * Balanced partitioning - partition segments exceeding fair slice share and min segment size, into at most
+     * maxPartitionsPerSegment partitions.
      */
-    static IndexSearcher.LeafSlice[] getSlicesWithAutoPartitioning(List<LeafReaderContext> leaves, int targetMaxSlice, int minSegmentSize) {
+    static IndexSearcher.LeafSlice[] getSlicesWithAutoPartitioning(
+        List<LeafReaderContext> leaves,
+        int targetMaxSlice,
+        int minSegmentSize,
+        int maxPartitionsPerSegment
+    ) {
         long totalDocs = 0;
         for (LeafReaderContext leaf : leaves) {
             totalDocs += leaf.reader().maxDoc();
@@ -75,13 +97,13 @@ final class MaxTargetSliceSupplier {
         long maxDocsPerPartition = (totalDocs + targetMaxSlice - 1) / targetMaxSlice;
         List<LeafReaderContextPartition> partitions = new ArrayList<>(Math.min(leaves.size() * 2, targetMaxSlice * 2));
         for (LeafReaderContext leaf : leaves) {
-            int segmentSize = leaf.reader().maxDoc();
-            if (segmentSize > maxDocsPerPartition && segmentSize >= minSegmentSize) {
-                int numPartitions = (int) ((segmentSize + maxDocsPerPartition - 1) / maxDocsPerPartition);
-                addPartitions(partitions, leaf, Math.min(numPartitions, targetMaxSlice));
-            } else {
-                partitions.add(LeafReaderContextPartition.createForEntireSegment(leaf));
-            }
+            int numPartitions = IntraSegmentSearchDecider.getPartitionCount(
+                leaf.reader().maxDoc(),
+                maxDocsPerPartition,
+                minSegmentSize,
+                Math.min(maxPartitionsPerSegment, targetMaxSlice)
+            );
+            addPartitions(partitions, leaf, numPartitions);
         }
         return distributePartitions(partitions, targetMaxSlice);
     }
@@ -46,6 +46,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
@@ -54,6 +55,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchPhaseResult;
@@ -135,6 +137,8 @@ public abstract class SearchContext implements Releasable {
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private InnerHitsContext innerHitsContext;
     private volatile boolean searchTimedOut;
+    private SegmentAggregationCache segmentAggregationCache;
+    private BytesReference segmentAggregationCacheKey;
 
     protected SearchContext() {}
 
@@ -443,12 +447,41 @@ public abstract class SearchContext implements Releasable {
     }
 
     /**
-     * Returns local bucket count thresholds based on concurrent segment search status
+     * Sets the cache of per segment aggregation results and the key of this request in that cache, or {@code null} to
+     * aggregate all segments together.
+     */
+    public void segmentAggregationCache(@Nullable SegmentAggregationCache cache, @Nullable BytesReference requestKey) {
+        this.segmentAggregationCache = cache;
+        this.segmentAggregationCacheKey = requestKey;
+    }
+
+    /**
+     * Returns the cache of per segment aggregation results if aggregations are computed per segment, {@code null} otherwise.
+     */
+    @Nullable
+    public SegmentAggregationCache segmentAggregationCache() {
+        return segmentAggregationCache;
+    }
+
+    /**
+     * Returns the key of this request in the {@link #segmentAggregationCache()}.
+     */
+    @Nullable
+    public BytesReference segmentAggregationCacheKey() {
+        return segmentAggregationCacheKey;
+    }
+
+    /**
+     * Returns local bucket count thresholds based on concurrent segment search status. Like slices with concurrent segment
+     * search, results of single segments are reduced at the shard level before the shard min doc count is applied. Results
+     * of single segments are not truncated either, so that the shard size applied at the shard level is as accurate as when
+     * all segments are collected by the same aggregators.
      */
     public LocalBucketCountThresholds asLocalBucketCountThresholds(TermsAggregator.BucketCountThresholds bucketCountThresholds) {
+        final boolean perSegment = segmentAggregationCache() != null;
         return new LocalBucketCountThresholds(
-            shouldUseConcurrentSearch() ? 0 : bucketCountThresholds.getShardMinDocCount(),
-            bucketCountThresholds.getShardSize()
+            shouldUseConcurrentSearch() || perSegment ? 0 : bucketCountThresholds.getShardMinDocCount(),
+            perSegment ? Integer.MAX_VALUE : bucketCountThresholds.getShardSize()
         );
     }
 
@@ -459,6 +492,14 @@ public abstract class SearchContext implements Releasable {
         releasables.add(releasable);
     }
 
+    /**
+     * Frees the given releasables, which were added with {@link #addReleasable}, before this context is closed.
+     */
+    public void releaseEarly(Collection<? extends Releasable> toRelease) {
+        releasables.removeAll(toRelease);
+        Releasables.close(toRelease);
+    }
+
     /**
      * @return true if the request contains only suggest
      */
@@ -577,6 +618,13 @@ public abstract class SearchContext implements Releasable {
         return false;
     }
 
+    /**
+     * Whether the fetch phase may fetch the hits of each segment concurrently, see {@link SearchService#CONCURRENT_FETCH_ENABLED}.
+     */
+    public boolean concurrentFetchEnabled() {
+        return false;
+    }
+
     @ExperimentalApi
     public void setStreamChannelListener(StreamSearchChannelListener<SearchPhaseResult, ShardSearchRequest> listener) {
         throw new IllegalStateException("Set search channel listener should be implemented for stream search");
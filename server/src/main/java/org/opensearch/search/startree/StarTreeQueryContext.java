@@ -19,9 +19,15 @@ import org.opensearch.index.compositeindex.datacube.NumericDimension;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
 import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
 import org.opensearch.index.mapper.CompositeDataCubeFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationFactory;
+import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceConfig;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
@@ -108,7 +114,7 @@ public class StarTreeQueryContext {
     public boolean consolidateAllFilters(SearchContext context) {
         // Validate the fields and metrics required by aggregations are supported in star tree
         for (AggregatorFactory aggregatorFactory : context.aggregations().factories().getFactories()) {
-            if (validateNestedAggregationStructure(compositeMappedFieldType, aggregatorFactory)) {
+            if (validateNestedAggregationStructure(context, compositeMappedFieldType, aggregatorFactory)) {
                 continue;
             }
             // invalid query shape
@@ -131,6 +137,23 @@ public class StarTreeQueryContext {
         return baseStarTreeFilter;
     }
 
+    /**
+     * Returns the star-tree filter of the documents that match both the base query and the given query, or null if
+     * the star-tree can't resolve them.
+     */
+    public StarTreeFilter getStarTreeFilter(SearchContext context, QueryBuilder queryBuilder) {
+        QueryBuilder combinedQueryBuilder;
+        if (baseQueryBuilder == null || baseQueryBuilder instanceof MatchAllQueryBuilder) {
+            combinedQueryBuilder = queryBuilder;
+        } else if (queryBuilder instanceof MatchAllQueryBuilder) {
+            combinedQueryBuilder = baseQueryBuilder;
+        } else {
+            // the bool filter provider intersects the filters of both queries on the dimensions they share
+            combinedQueryBuilder = new BoolQueryBuilder().filter(baseQueryBuilder).filter(queryBuilder);
+        }
+        return getStarTreeFilter(context, combinedQueryBuilder, compositeMappedFieldType);
+    }
+
     // TODO : Push this validation down to a common method in AggregatorFactory or an equivalent place.
     private static boolean validateStarTreeMetricSupport(
         CompositeDataCubeFieldType compositeIndexFieldInfo,
@@ -172,6 +195,45 @@ public class StarTreeQueryContext {
             .anyMatch(dimension -> rangeAggregatorFactory.getField().equals(dimension.getField()) && dimension instanceof NumericDimension);
     }
 
+    private static boolean validateHistogramAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        HistogramAggregatorFactory histogramAggregatorFactory
+    ) {
+        // Validate request field is part of dimensions & is a numeric field
+        return compositeIndexFieldInfo.getDimensions()
+            .stream()
+            .anyMatch(
+                dimension -> dimension.getField().equals(histogramAggregatorFactory.getField()) && dimension instanceof NumericDimension
+            );
+    }
+
+    private boolean validateFiltersAggregationSupport(SearchContext context, FiltersAggregatorFactory filtersAggregatorFactory) {
+        // The filters are resolved as separate star-tree traversals, which only a top level aggregation can do,
+        // and the documents that match none of the filters can't be resolved from the star-tree
+        if (filtersAggregatorFactory.getParent() != null || filtersAggregatorFactory.hasOtherBucket()) {
+            return false;
+        }
+        for (QueryBuilder filter : filtersAggregatorFactory.getFilterQueryBuilders()) {
+            if (getStarTreeFilter(context, filter) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean validateCompositeAggregationSupport(
+        CompositeDataCubeFieldType compositeIndexFieldInfo,
+        CompositeAggregationFactory compositeAggregationFactory
+    ) {
+        // Validate every source reads its values from a dimension
+        for (CompositeValuesSourceConfig source : compositeAggregationFactory.getSources()) {
+            if (source.getStarTreeDimension(compositeIndexFieldInfo) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private StarTreeFilter getStarTreeFilter(
         SearchContext context,
         QueryBuilder queryBuilder,
@@ -238,7 +300,8 @@ public class StarTreeQueryContext {
             .containsAll(multiTermsAggregationFactory.getRequestFields());
     }
 
-    private static boolean validateNestedAggregationStructure(
+    private boolean validateNestedAggregationStructure(
+        SearchContext context,
         CompositeDataCubeFieldType compositeIndexFieldInfo,
         AggregatorFactory aggregatorFactory
     ) {
@@ -265,6 +328,18 @@ public class StarTreeQueryContext {
                 compositeIndexFieldInfo,
                 multiTermsAggregationFactory
             );
+            case HistogramAggregatorFactory histogramAggregatorFactory -> isValid = validateHistogramAggregationSupport(
+                compositeIndexFieldInfo,
+                histogramAggregatorFactory
+            );
+            case FiltersAggregatorFactory filtersAggregatorFactory -> isValid = validateFiltersAggregationSupport(
+                context,
+                filtersAggregatorFactory
+            );
+            case CompositeAggregationFactory compositeAggregationFactory -> isValid = validateCompositeAggregationSupport(
+                compositeIndexFieldInfo,
+                compositeAggregationFactory
+            );
             case null, default -> {
                 return false;
             }
@@ -273,7 +348,7 @@ public class StarTreeQueryContext {
         if (isValid == false) return false;
 
         for (AggregatorFactory subFactory : aggregatorFactory.getSubFactories().getFactories()) {
-            if (!validateNestedAggregationStructure(compositeIndexFieldInfo, subFactory)) {
+            if (!validateNestedAggregationStructure(context, compositeIndexFieldInfo, subFactory)) {
                 return false;
             }
         }
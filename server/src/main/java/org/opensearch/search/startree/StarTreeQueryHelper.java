@@ -174,8 +174,11 @@ public class StarTreeQueryHelper {
                 if (!metricValuesIterator.advanceExact(starTreeEntryBit)) {
                     return; // Skip if no entries for this document
                 }
-                long metricValue = metricValuesIterator.nextValue();
-                updateBucket.accept(bucket, metricValue);
+                // metrics hold a value per entry, apart from sketches that hold multiple values per entry
+                for (int i = 0, count = metricValuesIterator.entryValueCount(); i < count; i++) {
+                    long metricValue = metricValuesIterator.nextValue();
+                    updateBucket.accept(bucket, metricValue);
+                }
             }
         };
     }
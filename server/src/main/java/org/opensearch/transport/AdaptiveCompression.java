@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses how the outbound messages of each action are compressed on connections where compression is enabled, and
+ * keeps the per-action compression stats.
+ * <p>
+ * Unless {@link TransportSettings#TRANSPORT_COMPRESS_ADAPTIVE adaptive compression} is enabled, all messages are
+ * compressed with the default compressor and no stats are kept. Otherwise the messages of actions whose messages are small on average, or
+ * barely shrink when compressed, are sent uncompressed, and the others are compressed with zstd when the remote node
+ * can read it. A message of an action that does not compress well is still compressed now and then to notice when
+ * its messages change.
+ *
+ * @opensearch.internal
+ */
+public final class AdaptiveCompression {
+
+    // one in this many messages of an action that does not compress well is compressed anyway
+    static final int PROBE_INTERVAL = 64;
+    // the weight of the last message in the moving averages of an action
+    private static final double ALPHA = 0.1;
+    private static final Compressor ZSTD = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+
+    private final boolean enabled;
+    private final long minSize;
+    private final double maxRatio;
+    private final Map<String, ActionStats> actions = ConcurrentCollections.newConcurrentMap();
+
+    public AdaptiveCompression(Settings settings) {
+        this.enabled = TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE.get(settings);
+        this.minSize = TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE_MIN_SIZE.get(settings).getBytes();
+        this.maxRatio = TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE_MAX_RATIO.get(settings);
+    }
+
+    /**
+     * Returns whether the compressor of each message is chosen by its action, and the messages are measured to do so.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the compressor for the next message of the given action sent with the given wire version, or {@code null}
+     * if the message should be sent uncompressed.
+     */
+    @Nullable
+    public Compressor select(String action, Version version) {
+        if (enabled == false) {
+            return CompressorRegistry.defaultCompressor();
+        }
+        final ActionStats stats = actions.get(action);
+        if (stats != null) {
+            if (stats.averageSize >= 0 && stats.averageSize < minSize) {
+                return null;
+            }
+            if (stats.averageRatio > maxRatio && stats.skipped.incrementAndGet() % PROBE_INTERVAL != 0) {
+                return null;
+            }
+        }
+        if (version.onOrAfter(Version.V_3_7_0)) {
+            return ZSTD;
+        }
+        return CompressorRegistry.defaultCompressor();
+    }
+
+    /**
+     * Records that a message of the given action was serialized. Does nothing unless adaptive compression is enabled.
+     *
+     * @param compressor        the compressor of the message, or {@code null} if it was not compressed
+     * @param uncompressedBytes the size of the message before compression
+     * @param bytes             the size of the message on the wire
+     * @param tookNanos         the time it took to serialize and compress the message
+     */
+    public void onSerialized(String action, @Nullable Compressor compressor, long uncompressedBytes, long bytes, long tookNanos) {
+        if (enabled == false) {
+            return;
+        }
+        final ActionStats stats = actions.computeIfAbsent(action, k -> new ActionStats());
+        stats.averageSize = stats.averageSize < 0 ? uncompressedBytes : stats.averageSize + ALPHA * (uncompressedBytes - stats.averageSize);
+        if (compressor != null && uncompressedBytes > 0) {
+            final double ratio = (double) bytes / uncompressedBytes;
+            stats.averageRatio = stats.averageRatio < 0 ? ratio : stats.averageRatio + ALPHA * (ratio - stats.averageRatio);
+            stats.compressedMessages.increment();
+            stats.uncompressedBytes.add(uncompressedBytes);
+            stats.compressedBytes.add(bytes);
+            stats.tookNanos.add(tookNanos);
+        }
+    }
+
+    /**
+     * Returns the compression stats of the actions whose messages were compressed, by action.
+     */
+    public Map<String, TransportStats.CompressionStats> stats() {
+        final Map<String, TransportStats.CompressionStats> stats = new TreeMap<>();
+        for (Map.Entry<String, ActionStats> entry : actions.entrySet()) {
+            final ActionStats action = entry.getValue();
+            final long compressedMessages = action.compressedMessages.sum();
+            if (compressedMessages > 0) {
+                stats.put(
+                    entry.getKey(),
+                    new TransportStats.CompressionStats(
+                        compressedMessages,
+                        action.uncompressedBytes.sum(),
+                        action.compressedBytes.sum(),
+                        action.tookNanos.sum()
+                    )
+                );
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * The moving averages and totals of an action. The averages are updated without synchronization, they only drive
+     * heuristics.
+     */
+    private static final class ActionStats {
+        private volatile double averageSize = -1;
+        private volatile double averageRatio = -1;
+        private final AtomicLong skipped = new AtomicLong();
+        private final LongAdder compressedMessages = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+        private final LongAdder tookNanos = new LongAdder();
+    }
+}
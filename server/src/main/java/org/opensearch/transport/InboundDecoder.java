@@ -95,7 +95,7 @@ public class InboundDecoder implements Releasable {
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
-                        decompressor = new TransportDecompressor(recycler);
+                        decompressor = new TransportDecompressor(recycler, totalNetworkSize - bytesConsumed);
                     }
                     fragmentConsumer.accept(header);
 
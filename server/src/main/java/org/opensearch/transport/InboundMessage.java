@@ -54,7 +54,7 @@ public class InboundMessage implements Releasable, ProtocolInboundMessage {
     protected final Exception exception;
     protected final boolean isPing;
     private Releasable breakerRelease;
-    private StreamInput streamInput;
+    private InboundStreamInput streamInput;
 
     public InboundMessage(Header header, ReleasableBytesReference content, Releasable breakerRelease) {
         this(header, content, null, false, breakerRelease);
@@ -130,12 +130,44 @@ public class InboundMessage implements Releasable, ProtocolInboundMessage {
     public StreamInput openOrGetStreamInput() throws IOException {
         assert isPing == false && content != null;
         if (streamInput == null) {
-            streamInput = content.streamInput();
+            streamInput = new InboundStreamInput(content);
             streamInput.setVersion(header.getVersion());
         }
         return streamInput;
     }
 
+    /**
+     * Makes the stream of this message return the bytes references of at least the given length as slices of the
+     * content rather than copies. The content must then be {@link #retainContent() retained} for as long as the objects
+     * read from the stream are used.
+     */
+    void sliceBytesReferences(int minSliceLength) throws IOException {
+        openOrGetStreamInput();
+        streamInput.sliceBytesReferences(minSliceLength);
+    }
+
+    /**
+     * Returns the number of bytes of the bytes references copied out of the content of this message so far.
+     */
+    long copiedBytes() {
+        return streamInput == null ? 0 : streamInput.copiedBytes();
+    }
+
+    /**
+     * Returns the number of bytes of the bytes references sliced out of the content of this message so far.
+     */
+    long slicedBytes() {
+        return streamInput == null ? 0 : streamInput.slicedBytes();
+    }
+
+    /**
+     * Keeps the content of this message alive until the returned releasable is closed, even once this message is closed.
+     */
+    Releasable retainContent() {
+        assert isPing == false && content != null;
+        return Releasables.releaseOnce(content.retain());
+    }
+
     @Override
     public void close() {
         IOUtils.closeWhileHandlingException(streamInput);
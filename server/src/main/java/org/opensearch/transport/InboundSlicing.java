@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides which inbound requests may keep slices of the network buffers they were read from, and keeps the per-action
+ * stats of the bytes references read from inbound requests.
+ * <p>
+ * The bytes references of at least {@link TransportSettings#TRANSPORT_INBOUND_ZERO_COPY_MIN_SIZE} bytes read from the
+ * requests of the {@link TransportSettings#TRANSPORT_INBOUND_ZERO_COPY_ACTIONS zero copy actions} are slices of the
+ * message rather than copies, and the message is then only released once the response to the request is sent. Only
+ * the actions whose handlers do not use their requests once they responded may be listed.
+ *
+ * @opensearch.internal
+ */
+public final class InboundSlicing {
+
+    private final String[] actionPatterns;
+    private final int minSliceLength;
+    private final Map<String, ActionStats> actions = ConcurrentCollections.newConcurrentMap();
+
+    public InboundSlicing(Settings settings) {
+        this.actionPatterns = TransportSettings.TRANSPORT_INBOUND_ZERO_COPY_ACTIONS.get(settings).toArray(new String[0]);
+        this.minSliceLength = Math.toIntExact(TransportSettings.TRANSPORT_INBOUND_ZERO_COPY_MIN_SIZE.get(settings).getBytes());
+    }
+
+    /**
+     * Returns the minimum length of the bytes references that are sliced rather than copied out of the requests of the
+     * given action, or {@link Integer#MAX_VALUE} if they are always copied.
+     */
+    public int minSliceLength(String action) {
+        if (actionPatterns.length == 0 || Regex.simpleMatch(actionPatterns, action) == false) {
+            return Integer.MAX_VALUE;
+        }
+        return minSliceLength;
+    }
+
+    /**
+     * Records the bytes references read from a request of the given action.
+     */
+    public void onRequestRead(String action, long copiedBytes, long slicedBytes) {
+        if (copiedBytes == 0 && slicedBytes == 0) {
+            return;
+        }
+        final ActionStats stats = actions.computeIfAbsent(action, k -> new ActionStats());
+        stats.copiedBytes.add(copiedBytes);
+        stats.slicedBytes.add(slicedBytes);
+    }
+
+    /**
+     * Returns the stats of the bytes references read from inbound requests, by action.
+     */
+    public Map<String, TransportStats.InboundBytesStats> stats() {
+        final Map<String, TransportStats.InboundBytesStats> stats = new TreeMap<>();
+        for (Map.Entry<String, ActionStats> entry : actions.entrySet()) {
+            final ActionStats action = entry.getValue();
+            stats.put(entry.getKey(), new TransportStats.InboundBytesStats(action.copiedBytes.sum(), action.slicedBytes.sum()));
+        }
+        return stats;
+    }
+
+    private static final class ActionStats {
+        private final LongAdder copiedBytes = new LongAdder();
+        private final LongAdder slicedBytes = new LongAdder();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.FilterStreamInput;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * The stream of the content of an {@link InboundMessage}. Bytes references of at least
+ * {@link #sliceBytesReferences(int) a given length} are returned as slices of the content rather than copies, the
+ * content must then outlive the objects read from the stream. The slices are {@link ReleasableBytesReference}s, so that
+ * the code that keeps a bytes reference once the request was handled can tell that it has to copy it.
+ *
+ * @opensearch.internal
+ */
+final class InboundStreamInput extends FilterStreamInput {
+
+    private final BytesReference content;
+    private int minSliceLength = Integer.MAX_VALUE;
+    private long copiedBytes;
+    private long slicedBytes;
+
+    InboundStreamInput(BytesReference content) throws IOException {
+        super(content.streamInput());
+        this.content = content;
+    }
+
+    /**
+     * Slices the bytes references of at least the given length out of the content from now on.
+     */
+    void sliceBytesReferences(int minSliceLength) {
+        this.minSliceLength = minSliceLength;
+    }
+
+    /** The number of bytes of the bytes references copied out of the content */
+    long copiedBytes() {
+        return copiedBytes;
+    }
+
+    /** The number of bytes of the bytes references sliced out of the content */
+    long slicedBytes() {
+        return slicedBytes;
+    }
+
+    @Override
+    public BytesReference readBytesReference(int length) throws IOException {
+        if (length == 0) {
+            return BytesArray.EMPTY;
+        }
+        if (length < minSliceLength) {
+            final BytesReference bytes = super.readBytesReference(length);
+            copiedBytes += length;
+            return bytes;
+        }
+        ensureCanReadBytes(length);
+        final int offset = content.length() - delegate.available();
+        long remaining = length;
+        while (remaining > 0) {
+            final long skipped = delegate.skip(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("tried to read: " + length + " bytes but only " + (length - remaining) + " remaining");
+            }
+            remaining -= skipped;
+        }
+        slicedBytes += length;
+        // releasing the slice does nothing, the content is released along with the response
+        return ReleasableBytesReference.wrap(content.slice(offset, length));
+    }
+}
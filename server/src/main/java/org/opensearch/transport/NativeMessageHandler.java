@@ -39,6 +39,7 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -84,6 +85,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
     private final Transport.RequestHandlers requestHandlers;
 
     private final Tracer tracer;
+    private final InboundSlicing inboundSlicing;
 
     public NativeMessageHandler(
         String nodeName,
@@ -116,6 +118,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
         this.responseHandlers = responseHandlers;
         this.tracer = tracer;
         this.keepAlive = keepAlive;
+        this.inboundSlicing = statsTracker.inboundSlicing();
     }
 
     protected ProtocolOutboundHandler createNativeOutboundHandler(
@@ -267,6 +270,9 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                     }
                 }
             } else {
+                final int minSliceLength = message.isShortCircuit() ? Integer.MAX_VALUE : inboundSlicing.minSliceLength(action);
+                // the request may keep slices of the message, which is then released with the response
+                final Releasable contentRelease = minSliceLength == Integer.MAX_VALUE ? () -> {} : message.retainContent();
                 final TcpTransportChannel transportChannel = createTcpTransportChannel(
                     outboundHandler,
                     channel,
@@ -274,7 +280,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                     requestId,
                     version,
                     header,
-                    message.takeBreakerReleaseControl()
+                    Releasables.wrap(message.takeBreakerReleaseControl(), contentRelease)
                 );
                 TransportChannel traceableTransportChannel = TraceableTcpTransportChannel.create(transportChannel, span, tracer);
                 try {
@@ -282,6 +288,7 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                     if (message.isShortCircuit()) {
                         sendErrorResponse(action, traceableTransportChannel, message.getException());
                     } else {
+                        message.sliceBytesReferences(minSliceLength);
                         final StreamInput stream = namedWriteableStream(message.openOrGetStreamInput());
                         assertRemoteVersion(stream, header.getVersion());
                         final RequestHandlerRegistry<T> reg = requestHandlers.getHandler(action);
@@ -290,6 +297,11 @@ public class NativeMessageHandler implements ProtocolMessageHandler {
                         final T request = newRequest(requestId, action, stream, reg);
                         request.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
                         checkStreamIsFullyConsumed(requestId, action, stream);
+                        inboundSlicing.onRequestRead(action, message.copiedBytes(), message.slicedBytes());
+                        if (message.slicedBytes() == 0) {
+                            // nothing refers to the message once it is closed
+                            contentRelease.close();
+                        }
 
                         final String executor = reg.getExecutor();
                         if (ThreadPool.Names.SAME.equals(executor)) {
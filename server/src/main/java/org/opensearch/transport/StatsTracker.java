@@ -34,6 +34,7 @@ package org.opensearch.transport;
 
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.settings.Settings;
 
 import java.util.concurrent.atomic.LongAdder;
 
@@ -48,6 +49,32 @@ public final class StatsTracker {
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final AdaptiveCompression compression;
+    private final InboundSlicing inboundSlicing;
+
+    public StatsTracker() {
+        this(new AdaptiveCompression(Settings.EMPTY), new InboundSlicing(Settings.EMPTY));
+    }
+
+    public StatsTracker(AdaptiveCompression compression, InboundSlicing inboundSlicing) {
+        this.compression = compression;
+        this.inboundSlicing = inboundSlicing;
+    }
+
+    /**
+     * Returns how outbound messages are compressed, along with the per-action compression stats.
+     */
+    public AdaptiveCompression compression() {
+        return compression;
+    }
+
+    /**
+     * Returns which inbound requests may keep slices of the network buffers, along with the per-action stats of the
+     * copied and sliced bytes.
+     */
+    public InboundSlicing inboundSlicing() {
+        return inboundSlicing;
+    }
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -125,7 +125,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
     private static final int BYTES_NEEDED_FOR_MESSAGE_SIZE = TcpHeader.MARKER_BYTES_SIZE + TcpHeader.MESSAGE_LENGTH_SIZE;
     private static final long THIRTY_PER_HEAP_SIZE = (long) (JvmInfo.jvmInfo().getMem().getHeapMax().getBytes() * 0.3);
 
-    final StatsTracker statsTracker = new StatsTracker();
+    final StatsTracker statsTracker;
 
     // this limit is per-address
     private static final int LIMIT_LOCAL_PORTS_COUNT = 6;
@@ -168,6 +168,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         Tracer tracer
     ) {
         this.settings = settings;
+        this.statsTracker = new StatsTracker(new AdaptiveCompression(settings), new InboundSlicing(settings));
         this.profileSettings = getProfileSettings(settings);
         this.version = version;
         this.threadPool = threadPool;
@@ -976,6 +977,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             .rxSize(bytesRead)
             .txCount(messagesSent)
             .txSize(bytesWritten)
+            .compressionStats(statsTracker.compression().stats())
+            .inboundBytesStats(statsTracker.inboundSlicing().stats())
             .build();
     }
 
@@ -32,11 +32,15 @@
 
 package org.opensearch.transport;
 
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.compress.Compressor;
@@ -44,6 +48,7 @@ import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
@@ -55,14 +60,32 @@ import java.util.zip.Inflater;
  */
 public class TransportDecompressor implements Closeable {
 
+    private static final Compressor ZSTD = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+    private static final int MAX_HEADER_LENGTH = Math.max(CompressorRegistry.defaultCompressor().headerLength(), ZSTD.headerLength());
+
     private final Inflater inflater;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
+    private final int compressedLength;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
     private boolean hasReadHeader = false;
+    // set when the message is compressed with zstd, whose stream is fed with the compressed bytes as they arrive
+    private ZstdInputStreamNoFinalizer zstdStream;
+    private ZstdSource zstdSource;
+    private int zstdBytesRead;
+    private boolean finished;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
+        this(recycler, -1);
+    }
+
+    /**
+     * @param compressedLength the length of the compressed message including the compressor header, or {@code -1} if
+     *                         unknown, in which case only messages compressed with the default compressor can be read
+     */
+    public TransportDecompressor(PageCacheRecycler recycler, int compressedLength) {
         this.recycler = recycler;
+        this.compressedLength = compressedLength;
         inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
     }
@@ -70,6 +93,18 @@ public class TransportDecompressor implements Closeable {
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
         if (hasReadHeader == false) {
+            if (ZSTD.isCompressed(bytesReference)) {
+                if (compressedLength < 0) {
+                    throw new IllegalStateException("cannot decompress a zstd compressed message of unknown length");
+                }
+                hasReadHeader = true;
+                int headerLength = ZSTD.headerLength();
+                zstdSource = new ZstdSource();
+                // reading the stream stops once the bytes that arrived so far are decompressed, rather than failing
+                zstdStream = new ZstdInputStreamNoFinalizer(zstdSource, RecyclingBufferPool.INSTANCE).setContinuous(true);
+                zstdBytesRead = headerLength;
+                return headerLength + decompressZstd(bytesReference.slice(headerLength, bytesReference.length() - headerLength));
+            }
             final Compressor compressor = CompressorRegistry.defaultCompressor();
             if (compressor.isCompressed(bytesReference) == false) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
@@ -92,6 +127,10 @@ public class TransportDecompressor implements Closeable {
             bytesConsumed += headerLength;
         }
 
+        if (zstdStream != null) {
+            return decompressZstd(bytesReference);
+        }
+
         BytesRefIterator refIterator = bytesReference.iterator();
         BytesRef ref;
         while ((ref = refIterator.next()) != null) {
@@ -136,12 +175,56 @@ public class TransportDecompressor implements Closeable {
         return bytesConsumed;
     }
 
+    /**
+     * Decompresses the given bytes of a zstd message into pages, like the bytes of a deflate message. The zstd stream
+     * can't tell when the message ends, so it is finished once the compressed length of the message was read.
+     */
+    private int decompressZstd(BytesReference bytesReference) throws IOException {
+        final int bytesToRead = Math.min(bytesReference.length(), compressedLength - zstdBytesRead);
+        zstdSource.input = bytesReference.slice(0, bytesToRead).streamInput();
+        zstdBytesRead += bytesToRead;
+        while (true) {
+            final Recycler.V<byte[]> page;
+            final boolean isNewPage = pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE;
+            if (isNewPage) {
+                pageOffset = 0;
+                page = recycler.bytePage(false);
+            } else {
+                page = pages.getLast();
+            }
+            final int bytesDecompressed = zstdStream.read(page.v(), pageOffset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            if (bytesDecompressed <= 0) {
+                // the bytes that arrived so far are decompressed
+                if (isNewPage) {
+                    page.close();
+                    pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+                }
+                break;
+            }
+            pageOffset += bytesDecompressed;
+            if (isNewPage) {
+                pages.add(page);
+            }
+        }
+        zstdSource.input = null;
+        if (zstdBytesRead == compressedLength) {
+            zstdStream.close();
+            zstdStream = null;
+            finished = true;
+        }
+        return bytesToRead;
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorRegistry.defaultCompressor().headerLength();
+        if (hasReadHeader) {
+            return true;
+        }
+        final int headerLength = compressedLength < 0 ? MAX_HEADER_LENGTH : Math.min(MAX_HEADER_LENGTH, compressedLength);
+        return bytesAvailable >= headerLength;
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        return finished || inflater.finished();
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -165,8 +248,33 @@ public class TransportDecompressor implements Closeable {
     @Override
     public void close() {
         inflater.end();
+        if (zstdStream != null) {
+            try {
+                zstdStream.close();
+            } catch (IOException e) {
+                // the native stream is freed regardless
+            }
+        }
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
     }
+
+    /**
+     * The compressed bytes the zstd stream reads, which are the bytes of the current call to decompress. It has no bytes
+     * left in between two calls.
+     */
+    private static final class ZstdSource extends InputStream {
+        private InputStream input;
+
+        @Override
+        public int read() throws IOException {
+            return input == null ? -1 : input.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return input == null ? -1 : input.read(b, off, len);
+        }
+    }
 }
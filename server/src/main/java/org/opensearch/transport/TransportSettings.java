@@ -117,6 +117,41 @@ public final class TransportSettings {
         OLD_TRANSPORT_COMPRESS,
         Setting.Property.NodeScope
     );
+    // whether to choose, per action, if and how messages are compressed on connections where compression is enabled
+    public static final Setting<Boolean> TRANSPORT_COMPRESS_ADAPTIVE = boolSetting(
+        "transport.compress.adaptive",
+        false,
+        Setting.Property.NodeScope
+    );
+    // the average message size of an action below which its messages are not compressed
+    public static final Setting<ByteSizeValue> TRANSPORT_COMPRESS_ADAPTIVE_MIN_SIZE = Setting.byteSizeSetting(
+        "transport.compress.adaptive.min_size",
+        new ByteSizeValue(1024),
+        Setting.Property.NodeScope
+    );
+    // the average compressed to uncompressed size ratio of an action above which its messages are not compressed
+    public static final Setting<Double> TRANSPORT_COMPRESS_ADAPTIVE_MAX_RATIO = Setting.doubleSetting(
+        "transport.compress.adaptive.max_ratio",
+        0.9d,
+        0d,
+        1d,
+        Setting.Property.NodeScope
+    );
+    // the actions whose requests may keep slices of the inbound network buffers rather than copies of them
+    public static final Setting<List<String>> TRANSPORT_INBOUND_ZERO_COPY_ACTIONS = listSetting(
+        "transport.inbound.zero_copy.actions",
+        emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
+    // the length below which the bytes references of inbound requests are copied even for zero copy actions
+    public static final Setting<ByteSizeValue> TRANSPORT_INBOUND_ZERO_COPY_MIN_SIZE = Setting.byteSizeSetting(
+        "transport.inbound.zero_copy.min_size",
+        new ByteSizeValue(1024),
+        new ByteSizeValue(0),
+        new ByteSizeValue(Integer.MAX_VALUE),
+        Setting.Property.NodeScope
+    );
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE = timeSetting(
         "transport.ping_schedule",
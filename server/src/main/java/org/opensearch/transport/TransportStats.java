@@ -32,7 +32,9 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -41,6 +43,8 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Stats for transport activity
@@ -56,6 +60,8 @@ public class TransportStats implements Writeable, ToXContentFragment {
     private final long rxSize;
     private final long txCount;
     private final long txSize;
+    private final Map<String, CompressionStats> compressionStats;
+    private final Map<String, InboundBytesStats> inboundBytesStats;
 
     /**
      * Private constructor that takes a builder.
@@ -69,6 +75,8 @@ public class TransportStats implements Writeable, ToXContentFragment {
         this.rxSize = builder.rxSize;
         this.txCount = builder.txCount;
         this.txSize = builder.txSize;
+        this.compressionStats = builder.compressionStats;
+        this.inboundBytesStats = builder.inboundBytesStats;
     }
 
     /**
@@ -83,6 +91,8 @@ public class TransportStats implements Writeable, ToXContentFragment {
         this.rxSize = rxSize;
         this.txCount = txCount;
         this.txSize = txSize;
+        this.compressionStats = Collections.emptyMap();
+        this.inboundBytesStats = Collections.emptyMap();
     }
 
     public TransportStats(StreamInput in) throws IOException {
@@ -92,6 +102,13 @@ public class TransportStats implements Writeable, ToXContentFragment {
         rxSize = in.readVLong();
         txCount = in.readVLong();
         txSize = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_7_0)) {
+            compressionStats = in.readMap(StreamInput::readString, CompressionStats::new);
+            inboundBytesStats = in.readMap(StreamInput::readString, InboundBytesStats::new);
+        } else {
+            compressionStats = Collections.emptyMap();
+            inboundBytesStats = Collections.emptyMap();
+        }
     }
 
     @Override
@@ -102,6 +119,10 @@ public class TransportStats implements Writeable, ToXContentFragment {
         out.writeVLong(rxSize);
         out.writeVLong(txCount);
         out.writeVLong(txSize);
+        if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
+            out.writeMap(compressionStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+            out.writeMap(inboundBytesStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     public long serverOpen() {
@@ -144,6 +165,20 @@ public class TransportStats implements Writeable, ToXContentFragment {
         return txSize();
     }
 
+    /**
+     * Returns the compression stats of the outbound messages, by action.
+     */
+    public Map<String, CompressionStats> getCompressionStats() {
+        return compressionStats;
+    }
+
+    /**
+     * Returns the stats of the bytes references read from inbound requests, by action.
+     */
+    public Map<String, InboundBytesStats> getInboundBytesStats() {
+        return inboundBytesStats;
+    }
+
     /**
      * Builder for the {@link TransportStats} class.
      * Provides a fluent API for constructing a TransportStats object.
@@ -155,6 +190,8 @@ public class TransportStats implements Writeable, ToXContentFragment {
         private long rxSize = 0;
         private long txCount = 0;
         private long txSize = 0;
+        private Map<String, CompressionStats> compressionStats = Collections.emptyMap();
+        private Map<String, InboundBytesStats> inboundBytesStats = Collections.emptyMap();
 
         public Builder() {}
 
@@ -188,6 +225,16 @@ public class TransportStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder compressionStats(Map<String, CompressionStats> compressionStats) {
+            this.compressionStats = compressionStats;
+            return this;
+        }
+
+        public Builder inboundBytesStats(Map<String, InboundBytesStats> inboundBytesStats) {
+            this.inboundBytesStats = inboundBytesStats;
+            return this;
+        }
+
         /**
          * Creates a {@link TransportStats} object from the builder's current state.
          * @return A new TransportStats instance.
@@ -206,10 +253,145 @@ public class TransportStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.RX_SIZE_IN_BYTES, Fields.RX_SIZE, new ByteSizeValue(rxSize));
         builder.field(Fields.TX_COUNT, txCount);
         builder.humanReadableField(Fields.TX_SIZE_IN_BYTES, Fields.TX_SIZE, new ByteSizeValue(txSize));
+        if (compressionStats.isEmpty() == false) {
+            builder.startObject(Fields.COMPRESSION);
+            for (Map.Entry<String, CompressionStats> entry : compressionStats.entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
+        if (inboundBytesStats.isEmpty() == false) {
+            builder.startObject(Fields.INBOUND_BYTES);
+            for (Map.Entry<String, InboundBytesStats> entry : inboundBytesStats.entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
 
+    /**
+     * Stats of the compressed outbound messages of an action
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.7.0")
+    public static class CompressionStats implements Writeable, ToXContentFragment {
+
+        private final long count;
+        private final long uncompressedSize;
+        private final long compressedSize;
+        private final long timeInNanos;
+
+        public CompressionStats(long count, long uncompressedSize, long compressedSize, long timeInNanos) {
+            this.count = count;
+            this.uncompressedSize = uncompressedSize;
+            this.compressedSize = compressedSize;
+            this.timeInNanos = timeInNanos;
+        }
+
+        public CompressionStats(StreamInput in) throws IOException {
+            count = in.readVLong();
+            uncompressedSize = in.readVLong();
+            compressedSize = in.readVLong();
+            timeInNanos = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(uncompressedSize);
+            out.writeVLong(compressedSize);
+            out.writeVLong(timeInNanos);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.COUNT, count);
+            builder.humanReadableField(Fields.UNCOMPRESSED_SIZE_IN_BYTES, Fields.UNCOMPRESSED_SIZE, new ByteSizeValue(uncompressedSize));
+            builder.humanReadableField(Fields.COMPRESSED_SIZE_IN_BYTES, Fields.COMPRESSED_SIZE, new ByteSizeValue(compressedSize));
+            builder.field(Fields.RATIO, getRatio());
+            builder.humanReadableField(Fields.TIME_IN_MILLIS, Fields.TIME, TimeValue.timeValueNanos(timeInNanos));
+            return builder;
+        }
+
+        /** The number of compressed messages */
+        public long getCount() {
+            return count;
+        }
+
+        /** The size of the compressed messages before compression */
+        public ByteSizeValue getUncompressedSize() {
+            return new ByteSizeValue(uncompressedSize);
+        }
+
+        /** The size of the compressed messages on the wire */
+        public ByteSizeValue getCompressedSize() {
+            return new ByteSizeValue(compressedSize);
+        }
+
+        /** The compressed to uncompressed size ratio */
+        public double getRatio() {
+            return uncompressedSize == 0 ? 1d : (double) compressedSize / uncompressedSize;
+        }
+
+        /** The time spent serializing and compressing the messages */
+        public TimeValue getTime() {
+            return TimeValue.timeValueNanos(timeInNanos);
+        }
+    }
+
+    /**
+     * Stats of the bytes references read from the inbound requests of an action, which are either copied out of the
+     * network buffers or slices of them
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.7.0")
+    public static class InboundBytesStats implements Writeable, ToXContentFragment {
+
+        private final long copiedSize;
+        private final long slicedSize;
+
+        public InboundBytesStats(long copiedSize, long slicedSize) {
+            this.copiedSize = copiedSize;
+            this.slicedSize = slicedSize;
+        }
+
+        public InboundBytesStats(StreamInput in) throws IOException {
+            copiedSize = in.readVLong();
+            slicedSize = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(copiedSize);
+            out.writeVLong(slicedSize);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.humanReadableField(Fields.COPIED_SIZE_IN_BYTES, Fields.COPIED_SIZE, new ByteSizeValue(copiedSize));
+            builder.humanReadableField(Fields.SLICED_SIZE_IN_BYTES, Fields.SLICED_SIZE, new ByteSizeValue(slicedSize));
+            return builder;
+        }
+
+        /** The size of the bytes references copied out of the network buffers */
+        public ByteSizeValue getCopiedSize() {
+            return new ByteSizeValue(copiedSize);
+        }
+
+        /** The size of the bytes references that are slices of the network buffers */
+        public ByteSizeValue getSlicedSize() {
+            return new ByteSizeValue(slicedSize);
+        }
+    }
+
     static final class Fields {
         static final String TRANSPORT = "transport";
         static final String SERVER_OPEN = "server_open";
@@ -220,5 +402,19 @@ public class TransportStats implements Writeable, ToXContentFragment {
         static final String TX_COUNT = "tx_count";
         static final String TX_SIZE = "tx_size";
         static final String TX_SIZE_IN_BYTES = "tx_size_in_bytes";
+        static final String COMPRESSION = "compression";
+        static final String COUNT = "count";
+        static final String UNCOMPRESSED_SIZE = "uncompressed_size";
+        static final String UNCOMPRESSED_SIZE_IN_BYTES = "uncompressed_size_in_bytes";
+        static final String COMPRESSED_SIZE = "compressed_size";
+        static final String COMPRESSED_SIZE_IN_BYTES = "compressed_size_in_bytes";
+        static final String RATIO = "ratio";
+        static final String TIME = "time";
+        static final String TIME_IN_MILLIS = "time_in_millis";
+        static final String INBOUND_BYTES = "inbound_bytes";
+        static final String COPIED_SIZE = "copied_size";
+        static final String COPIED_SIZE_IN_BYTES = "copied_size_in_bytes";
+        static final String SLICED_SIZE = "sliced_size";
+        static final String SLICED_SIZE_IN_BYTES = "sliced_size_in_bytes";
     }
 }
@@ -32,11 +32,13 @@
 
 package org.opensearch.transport.nativeprotocol;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStream;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.IOException;
@@ -63,17 +65,32 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    private long uncompressedBytes;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress ? CompressorRegistry.defaultCompressor() : null);
+    }
+
+    /**
+     * @param compressor the compressor to compress the bytes with, or {@code null} to not compress them
+     */
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, @Nullable Compressor compressor) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
-        this.shouldCompress = shouldCompress;
+        this.shouldCompress = compressor != null;
         if (shouldCompress) {
-            this.stream = CompressorRegistry.defaultCompressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.stream = compressor.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
         } else {
             this.stream = bytesStreamOutput;
         }
     }
 
+    /**
+     * Returns the number of bytes written to this stream, before compression.
+     */
+    long uncompressedBytes() {
+        return uncompressedBytes;
+    }
+
     /**
      * This method ensures that compression is complete and returns the underlying bytes.
      *
@@ -94,11 +111,13 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     @Override
     public void writeByte(byte b) throws IOException {
         stream.write(b);
+        uncompressedBytes++;
     }
 
     @Override
     public void writeBytes(byte[] b, int offset, int length) throws IOException {
         stream.write(b, offset, length);
+        uncompressedBytes += length;
     }
 
     @Override
@@ -35,6 +35,7 @@ package org.opensearch.transport.nativeprotocol;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.BigArrays;
@@ -42,8 +43,11 @@ import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.AdaptiveCompression;
 import org.opensearch.transport.OutboundHandler;
 import org.opensearch.transport.ProtocolOutboundHandler;
 import org.opensearch.transport.RemoteTransportException;
@@ -115,10 +119,10 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressor(action, version, compressRequest, isHandshake)
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onRequestSent(node, requestId, action, request, options));
-        sendMessage(requestId, channel, message, listener);
+        sendMessage(requestId, channel, message, action, listener);
     }
 
     /**
@@ -146,10 +150,10 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compressor(action, version, compress, isHandshake)
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
-        sendMessage(requestId, channel, message, listener);
+        sendMessage(requestId, channel, message, action, listener);
     }
 
     /**
@@ -177,12 +181,37 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             false
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
-        sendMessage(requestId, channel, message, listener);
+        sendMessage(requestId, channel, message, null, listener);
     }
 
-    private void sendMessage(long requestId, TcpChannel channel, NativeOutboundMessage networkMessage, ActionListener<Void> listener)
-        throws IOException {
-        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
+    /**
+     * Returns the compressor of a message of the given action, handshakes are always compressed with the default
+     * compressor since the version of the remote node is not known yet.
+     */
+    @Nullable
+    private Compressor compressor(String action, Version version, boolean compress, boolean isHandshake) {
+        if (compress == false) {
+            return null;
+        }
+        if (isHandshake) {
+            return CompressorRegistry.defaultCompressor();
+        }
+        return statsTracker.compression().select(action, version);
+    }
+
+    private void sendMessage(
+        long requestId,
+        TcpChannel channel,
+        NativeOutboundMessage networkMessage,
+        @Nullable String action,
+        ActionListener<Void> listener
+    ) throws IOException {
+        MessageSerializer serializer = new MessageSerializer(
+            networkMessage,
+            bigArrays,
+            action,
+            action == null ? null : statsTracker.compression()
+        );
         OutboundHandler.SendContext sendContext = new OutboundHandler.SendContext(statsTracker, channel, serializer, listener, serializer);
         handler.sendBytes(requestId, channel, sendContext);
     }
@@ -205,17 +234,33 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
 
         private final NativeOutboundMessage message;
         private final BigArrays bigArrays;
+        private final String action;
+        private final AdaptiveCompression compression;
         private volatile ReleasableBytesStreamOutput bytesStreamOutput;
 
-        private MessageSerializer(NativeOutboundMessage message, BigArrays bigArrays) {
+        private MessageSerializer(
+            NativeOutboundMessage message,
+            BigArrays bigArrays,
+            @Nullable String action,
+            @Nullable AdaptiveCompression compression
+        ) {
             this.message = message;
             this.bigArrays = bigArrays;
+            this.action = action;
+            this.compression = compression;
         }
 
         @Override
         public BytesReference get() throws IOException {
             bytesStreamOutput = new ReleasableBytesStreamOutput(bigArrays);
-            return message.serialize(bytesStreamOutput);
+            if (compression == null || compression.isEnabled() == false) {
+                return message.serialize(bytesStreamOutput);
+            }
+            final long startTime = System.nanoTime();
+            final BytesReference reference = message.serialize(bytesStreamOutput);
+            final long took = System.nanoTime() - startTime;
+            compression.onSerialized(action, message.compressor(), message.uncompressedLength(), reference.length(), took);
+            return reference;
         }
 
         @Override
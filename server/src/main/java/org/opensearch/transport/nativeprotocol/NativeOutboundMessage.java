@@ -32,6 +32,7 @@
 package org.opensearch.transport.nativeprotocol;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -40,6 +41,8 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.TcpHeader;
@@ -57,10 +60,47 @@ import java.util.Set;
 public abstract class NativeOutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final Compressor compressor;
+    private long uncompressedLength = -1;
 
     NativeOutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+        this(
+            threadContext,
+            version,
+            status,
+            requestId,
+            message,
+            TransportStatus.isCompress(status) ? CompressorRegistry.defaultCompressor() : null
+        );
+    }
+
+    NativeOutboundMessage(
+        ThreadContext threadContext,
+        Version version,
+        byte status,
+        long requestId,
+        Writeable message,
+        @Nullable Compressor compressor
+    ) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressor = TransportStatus.isCompress(status) ? compressor : null;
+        assert TransportStatus.isCompress(status) == false || compressor != null : "compressed messages need a compressor";
+    }
+
+    /**
+     * Returns the compressor of the message, or {@code null} if it is not compressed.
+     */
+    @Nullable
+    Compressor compressor() {
+        return compressor;
+    }
+
+    /**
+     * Returns the size the serialized message would have without compression, or {@code -1} before it is serialized.
+     */
+    long uncompressedLength() {
+        return uncompressedLength;
     }
 
     public BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -74,7 +114,8 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
         writeVariableHeader(bytesStream);
         variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+        final long preBodyPosition = bytesStream.position();
+        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, compressor)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -82,6 +123,11 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
                 writeVariableHeader(stream);
             }
             reference = writeMessage(stream);
+            if (compressor == null) {
+                uncompressedLength = reference.length();
+            } else {
+                uncompressedLength = reference.length() - (bytesStream.position() - preBodyPosition) + stream.uncompressedBytes();
+            }
         }
 
         bytesStream.seek(0);
@@ -139,7 +185,29 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(
+                threadContext,
+                features,
+                message,
+                version,
+                action,
+                requestId,
+                isHandshake,
+                compress ? CompressorRegistry.defaultCompressor() : null
+            );
+        }
+
+        Request(
+            ThreadContext threadContext,
+            String[] features,
+            Writeable message,
+            Version version,
+            String action,
+            long requestId,
+            boolean isHandshake,
+            @Nullable Compressor compressor
+        ) {
+            super(threadContext, version, setStatus(compressor != null, isHandshake, message), requestId, message, compressor);
             this.features = features;
             this.action = action;
         }
@@ -183,7 +251,27 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(
+                threadContext,
+                features,
+                message,
+                version,
+                requestId,
+                isHandshake,
+                compress ? CompressorRegistry.defaultCompressor() : null
+            );
+        }
+
+        public Response(
+            ThreadContext threadContext,
+            Set<String> features,
+            Writeable message,
+            Version version,
+            long requestId,
+            boolean isHandshake,
+            @Nullable Compressor compressor
+        ) {
+            super(threadContext, version, setStatus(compressor != null, isHandshake, message), requestId, message, compressor);
             this.features = features;
         }
 
@@ -73,6 +73,29 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         }, req -> fail(), req -> fail());
     }
 
+    public void testIncompleteTrailingItem() throws IOException {
+        final String complete = "{ \"index\":{ \"_id\": \"bar\" } }\n{}\n{ \"delete\":{ \"_id\": \"baz\" } }\n";
+        final String incomplete = randomFrom("{ \"index\":{ \"_id\": \"qux\" } }\n{", "{ \"index\":{ \"_id\": \"qux\" } }\n", "{ \"del");
+        final BulkRequestParser parser = new BulkRequestParser();
+        final List<String> ids = new ArrayList<>();
+        final int consumed = parser.parse(
+            new BytesArray(complete + incomplete),
+            "foo",
+            null,
+            null,
+            null,
+            null,
+            false,
+            MediaTypeRegistry.JSON,
+            false,
+            indexRequest -> ids.add(indexRequest.id()),
+            req -> fail(),
+            deleteRequest -> ids.add(deleteRequest.id())
+        );
+        assertEquals(complete.length(), consumed);
+        assertEquals(List.of("bar", "baz"), ids);
+    }
+
     public void testDeleteRequest() throws IOException {
         BytesArray request = new BytesArray("{ \"delete\":{ \"_id\": \"bar\" } }\n");
         BulkRequestParser parser = new BulkRequestParser();
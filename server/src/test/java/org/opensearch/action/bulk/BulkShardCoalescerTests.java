@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class BulkShardCoalescerTests extends OpenSearchTestCase {
+
+    private static final ShardId SHARD_ID = new ShardId("index", "_na_", 0);
+
+    private ThreadPool threadPool;
+    private final List<BulkShardRequest> executed = new CopyOnWriteArrayList<>();
+    private final List<ActionListener<BulkShardResponse>> executedListeners = new CopyOnWriteArrayList<>();
+    private BulkShardCoalescer coalescer;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+        coalescer = new BulkShardCoalescer(threadPool, new TaskManager(Settings.EMPTY, threadPool, Set.of()), (request, listener) -> {
+            executed.add(request);
+            executedListeners.add(listener);
+        });
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    private static BulkShardRequest request(RefreshPolicy refreshPolicy, int... ids) {
+        final BulkItemRequest[] items = new BulkItemRequest[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            items[i] = new BulkItemRequest(ids[i], new IndexRequest("index").id(Integer.toString(ids[i])).source(Map.of("field", ids[i])));
+        }
+        return new BulkShardRequest(SHARD_ID, refreshPolicy, items);
+    }
+
+    private static IndexMetadata indexMetadata(String window, String maxSize) {
+        return indexMetadata(window, maxSize, 1);
+    }
+
+    private static IndexMetadata indexMetadata(String window, String maxSize, long settingsVersion) {
+        return indexMetadata(
+            Settings.builder()
+                .put(IndexSettings.INDEX_BULK_COALESCE_WINDOW_SETTING.getKey(), window)
+                .put(IndexSettings.INDEX_BULK_COALESCE_MAX_SIZE_SETTING.getKey(), maxSize)
+                .build(),
+            settingsVersion
+        );
+    }
+
+    private static IndexMetadata indexMetadata(Settings settings, long settingsVersion) {
+        return IndexMetadata.builder(SHARD_ID.getIndexName())
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, SHARD_ID.getIndex().getUUID()).put(settings))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .settingsVersion(settingsVersion)
+            .build();
+    }
+
+    private static BulkShardResponse respond(BulkShardRequest request) {
+        final BulkItemResponse[] responses = new BulkItemResponse[request.items().length];
+        for (int i = 0; i < responses.length; i++) {
+            final BulkItemRequest item = request.items()[i];
+            if (item.id() % 2 == 0) {
+                responses[i] = new BulkItemResponse(
+                    item.id(),
+                    DocWriteRequest.OpType.INDEX,
+                    new IndexResponse(SHARD_ID, item.request().id(), i, 1, 1, true)
+                );
+            } else {
+                responses[i] = new BulkItemResponse(
+                    item.id(),
+                    DocWriteRequest.OpType.INDEX,
+                    new BulkItemResponse.Failure("index", item.request().id(), new IllegalArgumentException("failed"))
+                );
+            }
+        }
+        return new BulkShardResponse(SHARD_ID, responses, 42, 7);
+    }
+
+    public void testDisabledByDefault() {
+        final BulkShardRequest request = request(RefreshPolicy.NONE, 0, 1);
+        final PlainActionFuture<BulkShardResponse> future = new PlainActionFuture<>();
+        coalescer.execute(request, indexMetadata(Settings.EMPTY, 1), future);
+        assertThat(executed.size(), equalTo(1));
+        assertThat(executed.get(0), sameInstance(request));
+    }
+
+    public void testLargeRequestsAreNotHeldBack() {
+        final BulkShardRequest request = request(RefreshPolicy.NONE, 0, 1);
+        coalescer.execute(request, indexMetadata("1s", "1b"), new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(1));
+        assertThat(executed.get(0), sameInstance(request));
+    }
+
+    public void testMergeAndSplit() throws Exception {
+        final List<BulkShardRequest> requests = new ArrayList<>();
+        final List<PlainActionFuture<BulkShardResponse>> futures = new ArrayList<>();
+        final int numRequests = between(2, 5);
+        for (int i = 0; i < numRequests; i++) {
+            // the item ids are the positions of the items in the bulk requests the shard requests come from
+            final BulkShardRequest request = request(RefreshPolicy.NONE, 3, 4, 9);
+            requests.add(request);
+            final PlainActionFuture<BulkShardResponse> future = new PlainActionFuture<>();
+            futures.add(future);
+            coalescer.execute(request, indexMetadata("50ms", "1mb"), future);
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        final BulkShardRequest merged = executed.get(0);
+        assertThat(merged.items().length, equalTo(3 * numRequests));
+        for (int i = 0; i < merged.items().length; i++) {
+            assertThat(merged.items()[i].id(), equalTo(i));
+            assertThat(merged.items()[i].request(), sameInstance(requests.get(i / 3).items()[i % 3].request()));
+        }
+
+        executedListeners.get(0).onResponse(respond(merged));
+        for (int i = 0; i < numRequests; i++) {
+            final BulkShardResponse response = futures.get(i).get(10, TimeUnit.SECONDS);
+            assertThat(response.getNodeQueueSize(), equalTo(7));
+            assertThat(response.getServiceTimeEWMAInNanos(), equalTo(42L));
+            assertThat(response.getResponses().length, equalTo(3));
+            for (int j = 0; j < 3; j++) {
+                final BulkItemResponse itemResponse = response.getResponses()[j];
+                assertThat(itemResponse.getItemId(), equalTo(requests.get(i).items()[j].id()));
+                assertThat(itemResponse.getId(), equalTo(Integer.toString(requests.get(i).items()[j].id())));
+                // even merged ids succeeded
+                assertThat(itemResponse.isFailed(), equalTo((i * 3 + j) % 2 == 1));
+            }
+        }
+    }
+
+    public void testMaxSizeSendsBatch() {
+        final BulkShardRequest first = request(RefreshPolicy.NONE, 0);
+        final BulkShardRequest second = request(RefreshPolicy.NONE, 1);
+        final String maxSize = (first.ramBytesUsed() + second.ramBytesUsed()) + "b";
+        coalescer.execute(first, indexMetadata("1s", maxSize), new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(0));
+        coalescer.execute(second, indexMetadata("1s", maxSize), new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(1));
+        assertThat(executed.get(0).items().length, equalTo(2));
+    }
+
+    public void testIncompatibleRequestsAreNotMerged() throws Exception {
+        coalescer.execute(request(RefreshPolicy.NONE, 0), indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+        coalescer.execute(request(RefreshPolicy.WAIT_UNTIL, 1), indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+        try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+            threadPool.getThreadContext().putHeader("user", "other");
+            coalescer.execute(request(RefreshPolicy.NONE, 2), indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+        }
+        try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+            threadPool.getThreadContext().putPersistent("_user_info", "other");
+            coalescer.execute(request(RefreshPolicy.NONE, 3), indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+        }
+        final BulkShardRequest withCancellableParent = request(RefreshPolicy.NONE, 4);
+        // a parent task on another node may cancel its children
+        withCancellableParent.setParentTask(new TaskId("other_node", 1));
+        coalescer.execute(withCancellableParent, indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+        assertBusy(() -> assertThat(executed.size(), equalTo(5)));
+        for (BulkShardRequest request : executed) {
+            assertThat(request.items().length, equalTo(1));
+        }
+    }
+
+    public void testRequestIdsAndTransientHeadersAreNotCompared() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putHeader(Task.X_OPAQUE_ID, "request-" + i);
+                threadPool.getThreadContext().putTransient("span", new Object());
+                coalescer.execute(request(RefreshPolicy.NONE, i), indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+            }
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        assertThat(executed.get(0).items().length, equalTo(2));
+    }
+
+    public void testRequestsOfTheSameCancellableParentAreMerged() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            final BulkShardRequest request = request(RefreshPolicy.NONE, i);
+            request.setParentTask(new TaskId("other_node", 1));
+            coalescer.execute(request, indexMetadata("50ms", "1mb"), new PlainActionFuture<>());
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        assertThat(executed.get(0).items().length, equalTo(2));
+        assertThat(executed.get(0).getParentTask(), equalTo(new TaskId("other_node", 1)));
+    }
+
+    public void testSettingsAreParsedPerSettingsVersion() {
+        coalescer.execute(request(RefreshPolicy.NONE, 0), indexMetadata("1s", "1mb", 1), new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(0));
+        // the same settings version keeps the settings that were parsed first
+        coalescer.execute(request(RefreshPolicy.NONE, 1), indexMetadata("0s", "1mb", 1), new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(0));
+        final BulkShardRequest request = request(RefreshPolicy.NONE, 2);
+        coalescer.execute(request, indexMetadata("0s", "1mb", 2), new PlainActionFuture<>());
+        assertThat(executed.size(), equalTo(1));
+        assertThat(executed.get(0), sameInstance(request));
+    }
+
+    public void testMergedRequestDoesNotInheritParentTask() {
+        final BulkShardRequest first = request(RefreshPolicy.NONE, 0);
+        first.setParentTask(new TaskId("node", 1));
+        final BulkShardRequest second = request(RefreshPolicy.NONE, 1);
+        second.setParentTask(new TaskId("node", 2));
+        assertThat(BulkShardCoalescer.merge(List.of(first, second)).getParentTask(), equalTo(TaskId.EMPTY_TASK_ID));
+
+        second.setParentTask(new TaskId("node", 1));
+        assertThat(BulkShardCoalescer.merge(List.of(first, second)).getParentTask(), equalTo(new TaskId("node", 1)));
+    }
+
+    public void testFailureIsPropagated() throws Exception {
+        final List<PlainActionFuture<BulkShardResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final PlainActionFuture<BulkShardResponse> future = new PlainActionFuture<>();
+            futures.add(future);
+            coalescer.execute(request(RefreshPolicy.NONE, i), indexMetadata("50ms", "1mb"), future);
+        }
+        assertBusy(() -> assertThat(executed.size(), equalTo(1)));
+        executedListeners.get(0).onFailure(new IllegalStateException("boom"));
+        for (PlainActionFuture<BulkShardResponse> future : futures) {
+            expectThrows(IllegalStateException.class, future::actionGet);
+        }
+    }
+}
@@ -110,6 +110,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -1230,6 +1231,101 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerConcurrentPartialReduces() throws Exception {
+        int expectedNumResults = randomIntBetween(50, 500);
+        int bufferSize = randomIntBetween(2, 10);
+        int maxConcurrentPartialReduces = randomIntBetween(2, 8);
+
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test")).size(1));
+        request.setBatchedReduceSize(bufferSize);
+        ExecutorService reduceExecutor = OpenSearchExecutors.newFixed(
+            "test-reduce",
+            maxConcurrentPartialReduces,
+            expectedNumResults,
+            OpenSearchExecutors.daemonThreadFactory("test-reduce"),
+            threadPool.getThreadContext()
+        );
+        AtomicInteger numPartialReduces = new AtomicInteger();
+        AtomicInteger maxProcessedShards = new AtomicInteger();
+        AtomicInteger lastReducePhase = new AtomicInteger();
+        AtomicBoolean notifying = new AtomicBoolean();
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        SearchProgressListener progressListener = new SearchProgressListener() {
+            @Override
+            protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+                // notifications are serialized, one per reduce phase in increasing order, and report increasing progress
+                if (notifying.compareAndSet(false, true) == false
+                    || shards.size() <= maxProcessedShards.getAndSet(shards.size())
+                    || reducePhase != lastReducePhase.getAndSet(reducePhase) + 1) {
+                    outOfOrder.set(true);
+                }
+                numPartialReduces.incrementAndGet();
+                notifying.set(false);
+            }
+        };
+        try {
+            QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(
+                reduceExecutor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                progressListener,
+                request,
+                expectedNumResults,
+                exc -> {},
+                () -> false,
+                maxConcurrentPartialReduces
+            );
+            AtomicInteger max = new AtomicInteger();
+            Thread[] threads = new Thread[expectedNumResults];
+            CountDownLatch latch = new CountDownLatch(expectedNumResults);
+            for (int i = 0; i < expectedNumResults; i++) {
+                int id = i;
+                threads[i] = new Thread(() -> {
+                    int number = randomIntBetween(1, 1000);
+                    max.updateAndGet(prev -> Math.max(prev, number));
+                    QuerySearchResult result = new QuerySearchResult(
+                        new ShardSearchContextId("", id),
+                        new SearchShardTarget("node", new ShardId("a", "b", id), null, OriginalIndices.NONE),
+                        null
+                    );
+                    result.topDocs(
+                        new TopDocsAndMaxScore(
+                            new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(0, number) }),
+                            number
+                        ),
+                        new DocValueFormat[0]
+                    );
+                    InternalAggregations aggs = InternalAggregations.from(
+                        Collections.singletonList(new InternalMax("test", (double) number, DocValueFormat.RAW, Collections.emptyMap()))
+                    );
+                    result.aggregations(aggs);
+                    result.setShardIndex(id);
+                    result.size(1);
+                    consumer.consumeResult(result, latch::countDown);
+                });
+                threads[i].start();
+            }
+            for (int i = 0; i < expectedNumResults; i++) {
+                threads[i].join();
+            }
+            latch.await();
+
+            SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+            InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+            assertEquals(max.get(), internalMax.getValue(), 0.0D);
+            assertEquals(1, reduce.sortedTopDocs.scoreDocs.length);
+            assertEquals(max.get(), reduce.maxScore, 0.0f);
+            assertEquals(expectedNumResults, reduce.totalHits.value());
+            assertEquals(max.get(), reduce.sortedTopDocs.scoreDocs[0].score, 0.0f);
+            assertFalse(outOfOrder.get());
+            assertEquals(numPartialReduces.get(), consumer.getNumReducePhases());
+            assertEquals(consumer.getNumReducePhases() + 1, reduce.numReducePhases);
+            assertThat(maxProcessedShards.get(), lessThan(expectedNumResults));
+        } finally {
+            reduceExecutor.shutdownNow();
+        }
+    }
+
     public void testConsumerOnlyAggs() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -55,7 +55,9 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
@@ -691,6 +693,40 @@ public class CacheTests extends OpenSearchTestCase {
         assertThat(failures, is(empty()));
     }
 
+    public void testComputeIfAbsentNotAdmitted() throws Exception {
+        final Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().build();
+        final AtomicInteger loads = new AtomicInteger();
+        final AtomicReference<String> waiterValue = new AtomicReference<>();
+        final AtomicReference<Thread> waiter = new AtomicReference<>();
+        final String value = cache.computeIfAbsent(0, key -> {
+            // another caller for the same key while the value is loading waits for this load
+            Thread thread = new Thread(() -> {
+                try {
+                    waiterValue.set(cache.computeIfAbsent(0, k -> {
+                        loads.incrementAndGet();
+                        return "other";
+                    }, k -> false));
+                } catch (ExecutionException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            waiter.set(thread);
+            thread.start();
+            assertBusy(() -> assertEquals(Thread.State.WAITING, thread.getState()));
+            loads.incrementAndGet();
+            return Integer.toString(key);
+        }, key -> false);
+        waiter.get().join();
+        assertEquals("0", value);
+        assertEquals("0", waiterValue.get());
+        assertEquals(1, loads.get());
+        // the value was not entered, so the next caller loads it again
+        assertNull(cache.get(0));
+        assertEquals(0, cache.count());
+        assertEquals("1", cache.computeIfAbsent(0, key -> "1"));
+        assertEquals("1", cache.get(0));
+    }
+
     public void testComputeIfAbsentThrowsExceptionIfLoaderReturnsANullValue() {
         final Cache<Integer, String> cache = CacheBuilder.<Integer, String>builder().build();
         try {
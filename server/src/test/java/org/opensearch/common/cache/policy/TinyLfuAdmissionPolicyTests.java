@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache.policy;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TinyLfuAdmissionPolicyTests extends OpenSearchTestCase {
+
+    public void testFrequencyIsEstimatedAndSaturates() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int hash = randomInt();
+        assertEquals(0, sketch.frequency(hash));
+        for (int i = 1; i <= 15; i++) {
+            sketch.increment(hash);
+            assertEquals(i, sketch.frequency(hash));
+        }
+        sketch.increment(hash);
+        assertEquals(15, sketch.frequency(hash));
+    }
+
+    public void testCountersAreHalvedPeriodically() {
+        int numCounters = 1024;
+        FrequencySketch sketch = new FrequencySketch(numCounters);
+        int hotHash = randomInt();
+        for (int i = 0; i < 8; i++) {
+            sketch.increment(hotHash);
+        }
+        assertEquals(8, sketch.frequency(hotHash));
+        // counters only ever go down when they are halved, which happens once the sample size is reached
+        int maxIncrements = 4 * FrequencySketch.SAMPLE_SIZE_MULTIPLIER * numCounters;
+        for (int i = 0; i < maxIncrements && sketch.frequency(hotHash) >= 8; i++) {
+            sketch.increment(randomValueOtherThan(hotHash, OpenSearchTestCase::randomInt));
+        }
+        assertTrue(sketch.frequency(hotHash) < 8);
+    }
+
+    public void testAdmitsFrequentCandidates() {
+        TinyLfuAdmissionPolicy policy = new TinyLfuAdmissionPolicy(1024);
+        String victim = "victim";
+        String candidate = "candidate";
+        policy.record(victim);
+        policy.record(victim);
+        policy.record(candidate);
+        assertTrue(policy.admit(candidate, null));
+        assertFalse(policy.admit(candidate, victim));
+
+        policy.record(candidate);
+        assertEquals(2, policy.frequency(candidate));
+        // ties are rejected, only a candidate that is more popular than the victim replaces it
+        assertFalse(policy.admit(candidate, victim));
+        policy.record(candidate);
+        assertTrue(policy.admit(candidate, victim));
+    }
+
+    public void testInvalidSketchSize() {
+        expectThrows(IllegalArgumentException.class, () -> new FrequencySketch(0));
+    }
+}
@@ -8,6 +8,7 @@
 
 package org.opensearch.common.cache.stats;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
@@ -24,10 +25,26 @@ public class ImmutableCacheStatsTests extends OpenSearchTestCase {
         assertEquals(immutableCacheStats, deserialized);
     }
 
+    public void testSerializationWithRejections() throws Exception {
+        ImmutableCacheStats immutableCacheStats = new ImmutableCacheStats(1, 2, 3, 4, 5, 6);
+        BytesStreamOutput os = new BytesStreamOutput();
+        immutableCacheStats.writeTo(os);
+        BytesStreamInput is = new BytesStreamInput(BytesReference.toBytes(os.bytes()));
+        assertEquals(immutableCacheStats, new ImmutableCacheStats(is));
+
+        // rejections are dropped when talking to older nodes
+        os = new BytesStreamOutput();
+        os.setVersion(Version.V_3_6_0);
+        immutableCacheStats.writeTo(os);
+        is = new BytesStreamInput(BytesReference.toBytes(os.bytes()));
+        is.setVersion(Version.V_3_6_0);
+        assertEquals(new ImmutableCacheStats(1, 2, 3, 4, 5), new ImmutableCacheStats(is));
+    }
+
     public void testAddSnapshots() throws Exception {
         ImmutableCacheStats ics1 = new ImmutableCacheStats(1, 2, 3, 4, 5);
-        ImmutableCacheStats ics2 = new ImmutableCacheStats(6, 7, 8, 9, 10);
-        ImmutableCacheStats expected = new ImmutableCacheStats(7, 9, 11, 13, 15);
+        ImmutableCacheStats ics2 = new ImmutableCacheStats(6, 7, 8, 9, 10, 11);
+        ImmutableCacheStats expected = new ImmutableCacheStats(7, 9, 11, 13, 15, 11);
         assertEquals(expected, ImmutableCacheStats.addSnapshots(ics1, ics2));
     }
 
@@ -15,6 +15,7 @@ import org.opensearch.common.cache.ICacheKey;
 import org.opensearch.common.cache.LoadAwareCacheLoader;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
 import org.opensearch.common.cache.settings.CacheSettings;
 import org.opensearch.common.cache.stats.ImmutableCacheStats;
 import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
@@ -169,10 +170,74 @@ public class OpenSearchOnHeapCacheTests extends OpenSearchTestCase {
         assertEquals(new ImmutableCacheStats(0, 0, 0, 0, 0), stats.getTotalStats());
     }
 
+    public void testTinyLfuAdmission() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxKeys = between(10, 50);
+        Settings admissionSettings = Settings.builder()
+            .put(
+                CacheSettings.getConcreteAdmissionPolicySettingForCacheType(CacheType.INDICES_REQUEST_CACHE).getKey(),
+                CacheSettings.ADMISSION_POLICY_TINYLFU
+            )
+            .build();
+        OpenSearchOnHeapCache<String, String> cache = getCache(maxKeys, listener, true, admissionSettings);
+
+        // fill the cache with hot keys, they are admitted as long as there is room
+        List<ICacheKey<String>> hotKeys = new ArrayList<>();
+        for (int i = 0; i < maxKeys; i++) {
+            ICacheKey<String> key = getICacheKey(UUID.randomUUID().toString());
+            hotKeys.add(key);
+            for (int j = 0; j < 3; j++) {
+                cache.computeIfAbsent(key, getLoadAwareCacheLoader());
+            }
+        }
+        assertEquals(maxKeys, cache.stats().getTotalMisses());
+        assertEquals(2 * maxKeys, cache.stats().getTotalHits());
+        assertEquals(0, cache.stats().getTotalStats().getRejections());
+
+        // one-off keys are loaded but must not evict the hot keys
+        int numOneOffKeys = between(10, 100);
+        for (int i = 0; i < numOneOffKeys; i++) {
+            LoadAwareCacheLoader<ICacheKey<String>, String> loader = getLoadAwareCacheLoader();
+            assertNotNull(cache.computeIfAbsent(getICacheKey(UUID.randomUUID().toString()), loader));
+            assertTrue(loader.isLoaded());
+        }
+        assertEquals(maxKeys + numOneOffKeys, cache.stats().getTotalMisses());
+        assertEquals(numOneOffKeys, cache.stats().getTotalStats().getRejections());
+        assertEquals(0, cache.stats().getTotalEvictions());
+        assertEquals(maxKeys, cache.stats().getTotalItems());
+        assertEquals(maxKeys * keyValueSize, cache.stats().getTotalSizeInBytes());
+        // rejected values are handed back to the listener, but they are not evictions
+        assertEquals(numOneOffKeys, listener.numRemovals.count());
+        assertEquals(numOneOffKeys, listener.numRejections.count());
+        for (ICacheKey<String> hotKey : hotKeys) {
+            assertNotNull(cache.get(hotKey));
+        }
+
+        // a key that keeps being requested eventually replaces the least recently used hot key
+        ICacheKey<String> risingKey = getICacheKey(UUID.randomUUID().toString());
+        boolean admitted = false;
+        for (int i = 0; i < 16 && admitted == false; i++) {
+            cache.computeIfAbsent(risingKey, getLoadAwareCacheLoader());
+            admitted = cache.get(risingKey) != null;
+        }
+        assertTrue(admitted);
+        assertEquals(1, cache.stats().getTotalEvictions());
+        assertEquals(maxKeys, cache.stats().getTotalItems());
+    }
+
     private OpenSearchOnHeapCache<String, String> getCache(
         int maxSizeKeys,
         MockRemovalListener<String, String> listener,
         boolean statsTrackingEnabled
+    ) {
+        return getCache(maxSizeKeys, listener, statsTrackingEnabled, Settings.EMPTY);
+    }
+
+    private OpenSearchOnHeapCache<String, String> getCache(
+        int maxSizeKeys,
+        MockRemovalListener<String, String> listener,
+        boolean statsTrackingEnabled,
+        Settings additionalSettings
     ) {
         ICache.Factory onHeapCacheFactory = new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory();
         Settings settings = Settings.builder()
@@ -182,6 +247,7 @@ public class OpenSearchOnHeapCacheTests extends OpenSearchTestCase {
                     .getKey(),
                 maxSizeKeys * keyValueSize + "b"
             )
+            .put(additionalSettings)
             .build();
 
         CacheConfig<String, String> cacheConfig = new CacheConfig.Builder<String, String>().setKeyType(String.class)
@@ -240,14 +306,19 @@ public class OpenSearchOnHeapCacheTests extends OpenSearchTestCase {
 
     private static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
         CounterMetric numRemovals;
+        CounterMetric numRejections;
 
         MockRemovalListener() {
             numRemovals = new CounterMetric();
+            numRejections = new CounterMetric();
         }
 
         @Override
         public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
             numRemovals.inc();
+            if (notification.getRemovalReason() == RemovalReason.REJECTED) {
+                numRejections.inc();
+            }
         }
     }
 
@@ -33,6 +33,8 @@
 package org.opensearch.common.util;
 
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
@@ -47,6 +49,9 @@ import org.junit.Before;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -54,13 +59,17 @@ import java.util.function.Function;
 
 import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 
 public class BigArraysTests extends OpenSearchTestCase {
 
     private BigArrays randombigArrays() {
-        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        Settings settings = Settings.builder()
+            .put(PageCacheRecycler.MEMORY_TYPE_SETTING.getKey(), randomFrom(PageCacheRecycler.MemoryType.values()).name())
+            .build();
+        return new MockBigArrays(new MockPageCacheRecycler(settings), new NoneCircuitBreakerService());
     }
 
     private BigArrays bigArrays;
@@ -352,6 +361,75 @@ public class BigArraysTests extends OpenSearchTestCase {
         return bytearray;
     }
 
+    public void testDirectArrays() {
+        Settings settings = Settings.builder().put(PageCacheRecycler.MEMORY_TYPE_SETTING.getKey(), "direct").build();
+        HierarchyCircuitBreakerService hcbs = new HierarchyCircuitBreakerService(
+            Settings.builder().put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false).build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        BigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(settings), hcbs).withCircuitBreaking();
+        CircuitBreaker breaker = hcbs.getBreaker(CircuitBreaker.REQUEST);
+
+        final int size = randomIntBetween(PageCacheRecycler.INT_PAGE_SIZE / 2, PageCacheRecycler.INT_PAGE_SIZE * 2);
+        LongArray longs = bigArrays.newLongArray(size, false);
+        IntArray ints = bigArrays.newIntArray(size, true);
+        assertThat(breaker.getUsed(), equalTo(BigLongArray.estimateRamBytes(size) + BigIntArray.estimateRamBytes(size)));
+        for (int i = 0; i < size; ++i) {
+            longs.set(i, -i);
+            assertThat(ints.get(i), equalTo(0));
+            ints.increment(i, i);
+        }
+        longs = bigArrays.grow(longs, size * 2L);
+        ints = bigArrays.resize(ints, size - 1);
+        longs.fill(size, size * 2L, 7);
+        for (int i = 0; i < size; ++i) {
+            assertThat(longs.get(i), equalTo((long) -i));
+            assertThat(longs.get(size + i), equalTo(7L));
+        }
+        for (int i = 0; i < size - 1; ++i) {
+            assertThat(ints.get(i), equalTo(i));
+        }
+        assertThat(breaker.getUsed(), equalTo(longs.ramBytesUsed() + ints.ramBytesUsed()));
+        longs.close();
+        ints.close();
+        assertThat(breaker.getUsed(), equalTo(0L));
+    }
+
+    public void testDirectPagesFallBackToHeapPages() {
+        PageCacheRecycler recycler = new PageCacheRecycler(
+            Settings.builder()
+                .put(PageCacheRecycler.MEMORY_TYPE_SETTING.getKey(), "direct")
+                .put(PageCacheRecycler.LIMIT_HEAP_SETTING.getKey(), "1mb")
+                .build()
+        );
+        List<Recycler.V<ByteBuffer>> pages = new ArrayList<>();
+        Recycler.V<ByteBuffer> page;
+        do {
+            page = recycler.directPage(randomBoolean());
+            pages.add(page);
+        } while (page.v().isDirect());
+        // past their share of the limit, the pages are heap pages
+        final int maxDirectPageCount = pages.size() - 1;
+        assertThat(maxDirectPageCount, greaterThan(0));
+        assertThat(recycler.directPagesInUse(), equalTo(maxDirectPageCount));
+        pages.add(recycler.directPage(false));
+        assertFalse(pages.get(pages.size() - 1).v().isDirect());
+        assertThat(page.v().capacity(), equalTo(PageCacheRecycler.PAGE_SIZE_IN_BYTES));
+        assertThat(page.v().order(), equalTo(ByteOrder.nativeOrder()));
+
+        // a released direct page is handed out again
+        pages.remove(0).close();
+        assertThat(recycler.directPagesInUse(), equalTo(maxDirectPageCount - 1));
+        Recycler.V<ByteBuffer> recycled = recycler.directPage(false);
+        assertTrue(recycled.v().isDirect());
+        assertTrue(recycled.isRecycled());
+        pages.add(recycled);
+
+        Releasables.close(pages);
+        assertThat(recycler.directPagesInUse(), equalTo(0));
+    }
+
     public void testMaxSizeExceededOnNew() throws Exception {
         final long size = scaledRandomIntBetween(5, 1 << 22);
         final long maxSize = size - 1;
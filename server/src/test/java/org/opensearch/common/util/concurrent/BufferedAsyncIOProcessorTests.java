@@ -253,4 +253,39 @@ public class BufferedAsyncIOProcessorTests extends OpenSearchTestCase {
             assertTrue(writeInvocationTimes.get(i) >= writeInvocationTimes.get(i - 1) + (bufferIntervalMs - 20) * 1_000_000);
         }
     }
+
+    public void testProcessesEarlyOnceMaxBufferedItems() throws InterruptedException {
+        final int maxBufferedItems = randomIntBetween(1, 20);
+        final List<Integer> batchSizes = Collections.synchronizedList(new LinkedList<>());
+        AsyncIOProcessor<Object> processor = new BufferedAsyncIOProcessor<>(
+            logger,
+            1024,
+            threadContext,
+            threadpool,
+            () -> TimeValue.timeValueHours(1),
+            () -> maxBufferedItems
+        ) {
+            @Override
+            protected void write(List<Tuple<Object, Consumer<Exception>>> candidates) throws IOException {
+                batchSizes.add(candidates.size());
+            }
+
+            @Override
+            protected String getBufferProcessThreadPoolName() {
+                return ThreadPool.Names.TRANSLOG_SYNC;
+            }
+        };
+        // the first item is processed right away since nothing was processed within the interval yet
+        CountDownLatch first = new CountDownLatch(1);
+        processor.put(new Object(), e -> first.countDown());
+        assertTrue(first.await(10, TimeUnit.SECONDS));
+
+        // the next items would wait for the end of the interval, but reaching the maximum processes them right away
+        CountDownLatch buffered = new CountDownLatch(maxBufferedItems);
+        for (int i = 0; i < maxBufferedItems; i++) {
+            processor.put(new Object(), e -> buffered.countDown());
+        }
+        assertTrue(buffered.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(1, maxBufferedItems), batchSizes);
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class StripedLockTests extends OpenSearchTestCase {
+
+    public void testNumStripesIsRoundedToPowerOfTwo() {
+        assertThat(new StripedLock<String>(1).numStripes(), equalTo(1));
+        assertThat(new StripedLock<String>(3).numStripes(), equalTo(4));
+        assertThat(new StripedLock<String>(64).numStripes(), equalTo(64));
+        assertThat(new StripedLock<String>(65).numStripes(), equalTo(128));
+        expectThrows(IllegalArgumentException.class, () -> new StripedLock<String>(0));
+        expectThrows(IllegalArgumentException.class, () -> new StripedLock<String>(-1));
+    }
+
+    public void testHasLockedKeys() {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 64));
+        assertFalse(lock.hasLockedKeys());
+        Releasable foo = lock.acquire("foo");
+        assertTrue(lock.hasLockedKeys());
+        assertTrue(lock.isHeldByCurrentThread("foo"));
+        foo.close();
+        assertFalse(lock.hasLockedKeys());
+        assertFalse(lock.isHeldByCurrentThread("foo"));
+    }
+
+    public void testReentrantAndDoubleClose() {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 64));
+        Releasable first = lock.acquire("foo");
+        Releasable second = lock.acquire("foo");
+        first.close();
+        first.close();
+        assertTrue(lock.isHeldByCurrentThread("foo"));
+        second.close();
+        assertFalse(lock.hasLockedKeys());
+    }
+
+    public void testTryAcquire() throws InterruptedException {
+        StripedLock<String> lock = new StripedLock<>(1);
+        Releasable foo = lock.tryAcquire("foo");
+        assertNotNull(foo);
+        final AtomicBoolean acquired = new AtomicBoolean(true);
+        Thread thread = new Thread(() -> {
+            // a single stripe means every key shares the lock that is held by the test thread
+            try (Releasable bar = lock.tryAcquire("bar")) {
+                acquired.set(bar != null);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertFalse(acquired.get());
+        foo.close();
+        assertFalse(lock.hasLockedKeys());
+    }
+
+    public void testMutualExclusion() throws InterruptedException {
+        final StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 16));
+        final String[] keys = new String[randomIntBetween(1, 40)];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = randomAlphaOfLength(10) + i;
+        }
+        final int[] counter = new int[keys.length];
+        final int numThreads = randomIntBetween(2, 8);
+        final int iterations = scaledRandomIntBetween(100, 1000);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < iterations; i++) {
+                    final int key = i % keys.length;
+                    try (Releasable ignored = lock.acquire(keys[key])) {
+                        // a non-atomic increment that only stays consistent if the stripe excludes other writers of this key
+                        counter[key]++;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertFalse(lock.hasLockedKeys());
+        for (int k = 0; k < keys.length; k++) {
+            final int perThread = iterations / keys.length + (k < iterations % keys.length ? 1 : 0);
+            assertThat(counter[k], equalTo(numThreads * perThread));
+        }
+    }
+}
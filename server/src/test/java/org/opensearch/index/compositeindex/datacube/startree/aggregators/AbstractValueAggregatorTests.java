@@ -69,6 +69,8 @@ public abstract class AbstractValueAggregatorTests extends OpenSearchTestCase {
             CompensatedSum sum = new CompensatedSum(0, 0);
             sum.add(fieldValueConverter.toDoubleValue(randomLong));
             assertEquals(sum, aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong));
+        } else if (aggregator instanceof SketchValueAggregator) {
+            assertEquals(1, ((long[]) aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong)).length);
         } else {
             assertEquals(fieldValueConverter.toDoubleValue(randomLong), aggregator.getInitialAggregatedValueForSegmentDocValue(randomLong));
         }
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.AbstractHyperLogLog;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+public class CardinalityValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private CardinalityValueAggregator aggregator;
+
+    public CardinalityValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    public void testMergeAggregatedValues() {
+        long[] sketch = aggregator.getInitialAggregatedValueForSegmentDocValue(1L);
+        assertSame(sketch, aggregator.mergeAggregatedValues(null, sketch));
+        assertSame(sketch, aggregator.mergeAggregatedValues(sketch, null));
+        assertSame(sketch, aggregator.mergeAggregatedValues(sketch, aggregator.getIdentityMetricValue()));
+        assertArrayEquals(sketch, aggregator.mergeAggregatedValues(sketch, sketch));
+    }
+
+    public void testToAggregatedValueType() {
+        long randomLong = randomLong();
+        assertArrayEquals(new long[] { randomLong }, aggregator.toAggregatedValueType(randomLong));
+        assertNull(aggregator.toAggregatedValueType(null));
+    }
+
+    public void testIdentityMetricValue() {
+        assertEquals(0, aggregator.getIdentityMetricValue().length);
+    }
+
+    public void testLinearCountingCardinality() {
+        assertCardinality(randomIntBetween(1, 2000));
+    }
+
+    public void testHyperLogLogCardinality() {
+        assertCardinality(randomIntBetween(4000, 20000));
+    }
+
+    private void assertCardinality(int numValues) {
+        int precision = randomIntBetween(AbstractHyperLogLog.MIN_PRECISION, CardinalityValueAggregator.PRECISION);
+        try (
+            HyperLogLogPlusPlus expected = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            HyperLogLogPlusPlus actual = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            // the values are spread over several sketches that are merged, the way star-tree documents are aggregated
+            long[][] sketches = new long[randomIntBetween(1, 8)][];
+            for (int i = 0; i < numValues; i++) {
+                long value = randomLong();
+                expected.collect(0, hash(value));
+                int sketch = randomInt(sketches.length - 1);
+                sketches[sketch] = aggregator.mergeAggregatedValueAndSegmentValue(sketches[sketch], value);
+            }
+            long[] merged = null;
+            for (long[] sketch : sketches) {
+                merged = aggregator.mergeAggregatedValues(merged, sketch);
+            }
+            for (long value : merged) {
+                if (CardinalityValueAggregator.isRegister(value)) {
+                    actual.collectHll(0, CardinalityValueAggregator.toHash(value));
+                } else {
+                    actual.collect(0, CardinalityValueAggregator.toHash(value));
+                }
+            }
+            assertEquals(expected.cardinality(0), actual.cardinality(0));
+        }
+    }
+
+    private long hash(long value) {
+        boolean floatingPoint = fieldValueConverter instanceof NumberFieldMapper.NumberType numberType
+            && (numberType.numericType().isFloatingPoint() || numberType.numericType() == IndexNumericFieldData.NumericType.UNSIGNED_LONG);
+        return floatingPoint
+            ? BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(value)))
+            : BitMixer.mix64(value);
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new CardinalityValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+public class PercentilesValueAggregatorTests extends AbstractValueAggregatorTests {
+
+    private PercentilesValueAggregator aggregator;
+
+    public PercentilesValueAggregatorTests(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    public void testMergeAggregatedValues() {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        long[] sketch = aggregator.getInitialAggregatedValueForSegmentDocValue(5L);
+        assertEquals(5.0, PercentilesValueAggregator.mean(sketch[0]), 0.0);
+        assertEquals(1, PercentilesValueAggregator.count(sketch[0]));
+        assertSame(sketch, aggregator.mergeAggregatedValues(null, sketch));
+        assertSame(sketch, aggregator.mergeAggregatedValues(sketch, null));
+
+        long[] merged = aggregator.mergeAggregatedValues(sketch, aggregator.getInitialAggregatedValueForSegmentDocValue(5L));
+        assertEquals(1, merged.length);
+        assertEquals(5.0, PercentilesValueAggregator.mean(merged[0]), 0.0);
+        assertEquals(2, PercentilesValueAggregator.count(merged[0]));
+        assertEquals(1, PercentilesValueAggregator.count(sketch[0]));
+
+        merged = aggregator.mergeAggregatedValues(merged, aggregator.getInitialAggregatedValueForSegmentDocValue(3L));
+        assertEquals(2, merged.length);
+        assertEquals(3.0, PercentilesValueAggregator.mean(merged[0]), 0.0);
+        assertEquals(5.0, PercentilesValueAggregator.mean(merged[1]), 0.0);
+    }
+
+    public void testToAggregatedValueType() {
+        long randomLong = randomLong();
+        assertArrayEquals(new long[] { randomLong }, aggregator.toAggregatedValueType(randomLong));
+        assertNull(aggregator.toAggregatedValueType(null));
+    }
+
+    public void testIdentityMetricValue() {
+        assertEquals(0, aggregator.getIdentityMetricValue().length);
+    }
+
+    public void testPercentiles() {
+        PercentilesValueAggregator aggregator = new PercentilesValueAggregator(NumberFieldMapper.NumberType.LONG);
+        TDigestState expected = new TDigestState(PercentilesValueAggregator.COMPRESSION);
+        // the values are spread over several sketches that are merged, the way star-tree documents are aggregated
+        long[][] sketches = new long[randomIntBetween(1, 8)][];
+        int numValues = randomIntBetween(1, 20000);
+        for (int i = 0; i < numValues; i++) {
+            long value = randomIntBetween(0, 10000);
+            expected.add(value);
+            int sketch = randomInt(sketches.length - 1);
+            sketches[sketch] = aggregator.mergeAggregatedValueAndSegmentValue(sketches[sketch], value);
+        }
+        long[] merged = null;
+        for (long[] sketch : sketches) {
+            merged = aggregator.mergeAggregatedValues(merged, sketch);
+        }
+
+        TDigestState actual = new TDigestState(PercentilesValueAggregator.COMPRESSION);
+        for (long value : merged) {
+            actual.add(PercentilesValueAggregator.mean(value), (int) PercentilesValueAggregator.count(value));
+        }
+        assertEquals(expected.size(), actual.size());
+        for (double q : new double[] { 0.01, 0.25, 0.5, 0.75, 0.99 }) {
+            assertEquals(expected.quantile(q), actual.quantile(q), 10000 * 0.02);
+        }
+    }
+
+    @Override
+    public ValueAggregator getValueAggregator(FieldValueConverter fieldValueConverter) {
+        aggregator = new PercentilesValueAggregator(fieldValueConverter);
+        return aggregator;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FieldDispatchTableTests extends MapperServiceTestCase {
+
+    private DocumentMapper createMapper() throws IOException {
+        return createDocumentMapper(mapping(b -> {
+            b.startObject("keyword").field("type", "keyword").endObject();
+            b.startObject("host");
+            {
+                b.startObject("properties");
+                b.startObject("name").field("type", "keyword").endObject();
+                b.startObject("os");
+                {
+                    b.startObject("properties");
+                    b.startObject("version").field("type", "long").endObject();
+                    b.endObject();
+                }
+                b.endObject();
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("disabled").field("type", "object").field("enabled", false).endObject();
+            b.startObject("nested");
+            {
+                b.field("type", "nested");
+                b.startObject("properties");
+                b.startObject("value").field("type", "long").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        }));
+    }
+
+    public void testResolvesMappedFields() throws IOException {
+        final DocumentMapper mapper = createMapper();
+        final FieldDispatchTable table = mapper.fieldDispatchTable();
+        final RootObjectMapper root = mapper.root();
+        final ObjectMapper host = mapper.objectMappers().get("host");
+        final ObjectMapper os = mapper.objectMappers().get("host.os");
+
+        assertThat(table.get(root, "keyword").mapper, sameInstance(root.getMapper("keyword")));
+        assertThat(table.get(root, "host").mapper, sameInstance(host));
+        assertThat(table.get(root, "host.name").mapper, sameInstance(host.getMapper("name")));
+        assertThat(table.get(root, "host.name").paths, arrayContaining("host", "name"));
+        assertThat(table.get(root, "host.os.version").mapper, sameInstance(os.getMapper("version")));
+        assertThat(table.get(host, "os.version").mapper, sameInstance(os.getMapper("version")));
+        assertThat(table.get(os, "version").mapper, sameInstance(os.getMapper("version")));
+        assertThat(table.get(root, "disabled").mapper, sameInstance(root.getMapper("disabled")));
+        assertThat(table.get(root, "nested").mapper, sameInstance(root.getMapper("nested")));
+        assertSame(table, mapper.fieldDispatchTable());
+    }
+
+    public void testLeavesOtherFieldsToTheParser() throws IOException {
+        final DocumentMapper mapper = createMapper();
+        final FieldDispatchTable table = mapper.fieldDispatchTable();
+        final RootObjectMapper root = mapper.root();
+
+        // unmapped fields
+        assertNull(table.get(root, "unknown"));
+        assertNull(table.get(root, "host.unknown"));
+        // fields under disabled or nested objects
+        assertNull(table.get(root, "nested.value"));
+        // metadata fields
+        assertNull(table.get(root, IdFieldMapper.NAME));
+        // invalid paths
+        assertNull(table.get(root, "host..name"));
+        assertNull(table.get(root, "host.name."));
+        // objects that are not part of the mapping, such as dynamically created ones
+        final ObjectMapper otherHost = createMapper().objectMappers().get("host");
+        assertNull(table.get(otherHost, "name"));
+    }
+
+    public void testParsesLikeWithoutTable() throws IOException {
+        final DocumentMapper mapper = createMapper();
+        final ParsedDocument doc = mapper.parse(source(b -> {
+            b.field("keyword", "value");
+            b.field("host.name", "a");
+            b.startObject("host").field("os.version", 12).endObject();
+            b.startObject("disabled").field("ignored", "value").endObject();
+            b.field("dynamic", "value");
+        }));
+        assertEquals("value", doc.rootDoc().getField("keyword").binaryValue().utf8ToString());
+        assertEquals("a", doc.rootDoc().getField("host.name").binaryValue().utf8ToString());
+        assertNotNull(doc.rootDoc().getField("host.os.version"));
+        assertNull(doc.rootDoc().getField("disabled.ignored"));
+        assertNotNull(doc.dynamicMappingsUpdate());
+        assertNotNull(doc.dynamicMappingsUpdate().root().getMapper("dynamic"));
+
+        final MapperParsingException e = expectThrows(
+            MapperParsingException.class,
+            () -> mapper.parse(source(b -> b.field("host..name", "a")))
+        );
+        assertThat(e.getCause().getMessage(), containsString("makes object resolution ambiguous"));
+    }
+}
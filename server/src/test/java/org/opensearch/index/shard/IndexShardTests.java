@@ -145,12 +145,16 @@ import org.opensearch.index.translog.RemoteBlobStoreInternalTranslogFactory;
 import org.opensearch.index.translog.RemoteTranslogStats;
 import org.opensearch.index.translog.TestTranslog;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogGroupCommitSettings;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncStats;
 import org.opensearch.index.translog.listener.TranslogEventListener;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
+import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentPublisher;
 import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.indices.replication.common.ReplicationFailedException;
 import org.opensearch.indices.replication.common.ReplicationLuceneIndex;
@@ -1670,6 +1674,36 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testAsyncFsyncWithGroupCommit() throws Exception {
+        IndexShard shard = newStartedShard();
+        // sync stats are only reported while group commit is enabled
+        assertNull(shard.translogStats().getSyncStats());
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder().put(TranslogGroupCommitSettings.CLUSTER_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING.getKey(), "10ms").build()
+            );
+        final int numDocs = randomIntBetween(10, 50);
+        final CountDownLatch latch = new CountDownLatch(numDocs);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < numDocs; i++) {
+            final Engine.IndexResult result = indexDoc(shard, "_doc", Integer.toString(i));
+            shard.sync(result.getTranslogLocation(), ex -> {
+                if (ex != null) {
+                    failure.set(ex);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        final TranslogSyncStats syncStats = shard.translogStats().getSyncStats();
+        assertEquals(numDocs, syncStats.getTotalRequests());
+        assertThat(syncStats.getTotalGroupCommits(), greaterThan(0L));
+        assertThat(syncStats.getTotalFsyncs(), lessThanOrEqualTo(syncStats.getTotalGroups()));
+        assertThat(syncStats.getMaxGroupSize(), greaterThan(0L));
+        closeShards(shard);
+    }
+
     public void testMinimumCompatVersion() throws IOException {
         Version versionCreated = VersionUtils.randomVersion(random());
         Settings settings = Settings.builder()
@@ -2457,6 +2491,59 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(newShard);
     }
 
+    public void testRecoverFromStoreWithPartitionedTranslogReplay() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        final int numIds = randomIntBetween(1, 50);
+        // the smallest batch size, the translog is replayed with one partition per batch
+        final int batchSize = 1000;
+        final int totalOps = randomIntBetween(batchSize + 1, 2 * batchSize);
+        final Set<String> liveIds = new HashSet<>();
+        for (int i = 0; i < totalOps; i++) {
+            final String id = Integer.toString(randomInt(numIds - 1));
+            if (randomInt(9) == 0) {
+                deleteDoc(shard, id);
+                liveIds.remove(id);
+            } else {
+                indexDoc(shard, "_doc", id);
+                liveIds.add(id);
+            }
+        }
+        final RecoverySettings recoverySettings = new RecoverySettings(
+            Settings.builder()
+                .put(RecoverySettings.INDICES_TRANSLOG_CONCURRENT_RECOVERY_ENABLE.getKey(), true)
+                .put(RecoverySettings.INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE.getKey(), batchSize)
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        closeShards(shard);
+        final IndexShard newShard = newShard(
+            ShardRoutingHelper.initWithSameId(shard.routingEntry(), RecoverySource.ExistingStoreRecoverySource.INSTANCE),
+            shard.shardPath(),
+            shard.indexSettings().getIndexMetadata(),
+            null,
+            null,
+            new InternalEngineFactory(),
+            new EngineConfigFactory(shard.indexSettings()),
+            shard.getGlobalCheckpointSyncer(),
+            shard.getRetentionLeaseSyncer(),
+            EMPTY_EVENT_LISTENER,
+            SegmentReplicationCheckpointPublisher.EMPTY,
+            recoverySettings,
+            null,
+            MergedSegmentPublisher.EMPTY
+        );
+        DiscoveryNode localNode = new DiscoveryNode("foo", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT);
+        newShard.markAsRecovering("store", new RecoveryState(newShard.routingEntry(), localNode, null));
+        assertTrue(recoverFromStore(newShard));
+        assertEquals(totalOps, newShard.recoveryState().getTranslog().recoveredOperations());
+        assertEquals(100.0f, newShard.recoveryState().getTranslog().recoveredPercent(), 0.01f);
+        IndexShardTestCase.updateRoutingEntry(newShard, newShard.routingEntry().moveToStarted());
+        assertThat(newShard.getLocalCheckpoint(), equalTo(totalOps - 1L));
+        assertThat(newShard.seqNoStats().getMaxSeqNo(), equalTo(totalOps - 1L));
+        assertThat(getShardDocUIDs(newShard), equalTo(liveIds));
+        closeShards(newShard);
+    }
+
     public void testRecoverFromStalePrimaryForceNewHistoryUUID() throws IOException {
         final IndexShard shard = newStartedShard(true);
         int totalOps = randomInt(10);
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ClockCacheTests extends RefCountedCacheTestCase {
+    public ClockCacheTests() {
+        super(new ClockCache<>(CAPACITY, n -> {}, value -> value));
+    }
+
+    public void testRecentlyUsedEntryGetsSecondChance() {
+        final ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value);
+        for (int i = 1; i <= 3; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        // fill up the cache so that the first sweep clears all reference bits and evicts "1"
+        cache.put("4", 25L);
+        cache.decRef("4");
+        assertNull(cache.getRef("1"));
+
+        // touch "2" so that it survives the next sweep at the expense of "3"
+        assertEquals(25L, (long) cache.get("2"));
+        cache.decRef("2");
+        cache.put("5", 25L);
+        cache.decRef("5");
+        assertNotNull(cache.getRef("2"));
+        assertNull(cache.getRef("3"));
+        assertEquals(75L, cache.usage());
+        assertEquals(0L, cache.activeUsage());
+    }
+
+    public void testEvictionSweepIsBounded() {
+        final int capacity = 4 * ClockCache.MAX_EVICTION_STEPS;
+        final ClockCache<String, Long> cache = new ClockCache<>(capacity, n -> {}, value -> 1L);
+        for (int i = 0; i < capacity - 1; i++) {
+            cache.put(Integer.toString(i), 1L);
+            cache.decRef(Integer.toString(i));
+        }
+        // every entry was recently used, so a single sweep only clears reference bits and leaves the cache overflowing
+        cache.put("overflow", 1L);
+        cache.decRef("overflow");
+        assertEquals(0L, cache.stats().evictionCount());
+        assertEquals(capacity, cache.usage());
+
+        // the following writes continue the sweep and eventually evict
+        for (int i = 0; i < 8; i++) {
+            cache.put("next" + i, 1L);
+            cache.decRef("next" + i);
+        }
+        assertTrue(cache.stats().evictionCount() > 0);
+        assertTrue(cache.usage() < capacity);
+    }
+
+    public void testPinnedEntriesAreNotEvicted() {
+        final ClockCache<String, Long> cache = new ClockCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("1", 50L);
+        cache.decRef("1");
+        cache.pin("1");
+        cache.put("2", 50L);
+        cache.decRef("2");
+        assertNotNull(cache.getRef("1"));
+        assertNull(cache.getRef("2"));
+        assertEquals(50L, cache.pinnedUsage());
+
+        cache.unpin("1");
+        assertEquals(0L, cache.pinnedUsage());
+        cache.put("3", 60L);
+        cache.decRef("3");
+        assertNull(cache.getRef("1"));
+        assertEquals(60L, cache.usage());
+    }
+
+    public void testConcurrentReadsAndWrites() throws Exception {
+        final int numKeys = randomIntBetween(10, 50);
+        final AtomicLong evictions = new AtomicLong();
+        final ClockCache<String, Long> cache = new ClockCache<>(numKeys / 2, n -> evictions.incrementAndGet(), value -> 1L);
+        final Thread[] threads = new Thread[randomIntBetween(2, 8)];
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final int iterations = scaledRandomIntBetween(1000, 10000);
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < iterations; i++) {
+                    final String key = Integer.toString(randomInt(numKeys - 1));
+                    if (randomBoolean()) {
+                        if (cache.get(key) != null) {
+                            cache.decRef(key);
+                        }
+                    } else {
+                        cache.put(key, 1L);
+                        cache.decRef(key);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < numKeys; i++) {
+            final Integer refCount = cache.getRef(Integer.toString(i));
+            assertTrue(refCount == null || refCount == 0);
+        }
+        assertEquals(0L, cache.activeUsage());
+        assertEquals(cache.size(), cache.usage());
+        assertTrue(cache.usage() <= numKeys / 2);
+        assertEquals(evictions.get(), cache.stats().evictionCount());
+    }
+}
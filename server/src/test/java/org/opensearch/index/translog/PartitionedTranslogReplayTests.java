@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class PartitionedTranslogReplayTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUpThreadPool() {
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @After
+    public void tearDownThreadPool() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    private static List<Translog.Operation> randomOperations(int numOps, int numIds) {
+        final List<Translog.Operation> operations = new ArrayList<>(numOps);
+        for (int seqNo = 0; seqNo < numOps; seqNo++) {
+            final String id = Integer.toString(randomInt(numIds - 1));
+            switch (randomInt(9)) {
+                case 0:
+                    operations.add(new Translog.Delete(id, seqNo, 1));
+                    break;
+                case 1:
+                    operations.add(new Translog.NoOp(seqNo, 1, "test"));
+                    break;
+                default:
+                    operations.add(new Translog.Index(id, seqNo, 1, new byte[] { 1 }));
+                    break;
+            }
+        }
+        return operations;
+    }
+
+    private static String id(Translog.Operation operation) {
+        switch (operation.opType()) {
+            case INDEX:
+                return ((Translog.Index) operation).id();
+            case DELETE:
+                return ((Translog.Delete) operation).id();
+            default:
+                return null;
+        }
+    }
+
+    public void testReplayKeepsOrderPerId() throws IOException {
+        final List<Translog.Operation> operations = randomOperations(randomIntBetween(0, 10_000), randomIntBetween(1, 100));
+        final int numPartitions = randomIntBetween(1, 8);
+        final Map<String, List<Long>> seqNosById = ConcurrentCollections.newConcurrentMap();
+        final AtomicInteger applied = new AtomicInteger();
+        final AtomicInteger reported = new AtomicInteger();
+        final PartitionedTranslogReplay replay = new PartitionedTranslogReplay(
+            numPartitions,
+            threadPool.executor(ThreadPool.Names.TRANSLOG_RECOVERY)
+        );
+        final int recovered = replay.replay(TestTranslog.newSnapshotFromOperations(operations), operation -> {
+            final String id = id(operation);
+            if (id != null) {
+                // operations on a document are applied by a single partition so the lists are never modified concurrently
+                seqNosById.computeIfAbsent(id, k -> new ArrayList<>()).add(operation.seqNo());
+            }
+            applied.incrementAndGet();
+            return true;
+        }, reported::addAndGet);
+
+        assertThat(recovered, equalTo(operations.size()));
+        assertThat(applied.get(), equalTo(operations.size()));
+        assertThat(reported.get(), equalTo(operations.size()));
+        for (List<Long> seqNos : seqNosById.values()) {
+            for (int i = 1; i < seqNos.size(); i++) {
+                assertThat(seqNos.get(i - 1), lessThan(seqNos.get(i)));
+            }
+        }
+    }
+
+    public void testSkippedOperationsAreNotCounted() throws IOException {
+        final List<Translog.Operation> operations = randomOperations(randomIntBetween(1, 2_000), 50);
+        final PartitionedTranslogReplay replay = new PartitionedTranslogReplay(
+            randomIntBetween(2, 8),
+            threadPool.executor(ThreadPool.Names.TRANSLOG_RECOVERY)
+        );
+        final AtomicInteger reported = new AtomicInteger();
+        final int recovered = replay.replay(
+            TestTranslog.newSnapshotFromOperations(operations),
+            operation -> operation.seqNo() % 2 == 0,
+            reported::addAndGet
+        );
+        final int expected = (int) operations.stream().filter(operation -> operation.seqNo() % 2 == 0).count();
+        assertThat(recovered, equalTo(expected));
+        assertThat(reported.get(), equalTo(expected));
+    }
+
+    public void testFailure() {
+        final List<Translog.Operation> operations = randomOperations(randomIntBetween(1, 5_000), 100);
+        final long failingSeqNo = operations.get(randomInt(operations.size() - 1)).seqNo();
+        final PartitionedTranslogReplay replay = new PartitionedTranslogReplay(
+            randomIntBetween(1, 8),
+            threadPool.executor(ThreadPool.Names.TRANSLOG_RECOVERY)
+        );
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean appliedAfterDone = new AtomicBoolean();
+        final PartitionedTranslogReplay.OperationHandler handler = op -> {
+            if (done.get()) {
+                appliedAfterDone.set(true);
+            }
+            if (op.seqNo() == failingSeqNo) {
+                throw new IOException("simulated");
+            }
+            return true;
+        };
+        final IOException e = expectThrows(
+            IOException.class,
+            () -> replay.replay(TestTranslog.newSnapshotFromOperations(operations), handler, ops -> {})
+        );
+        done.set(true);
+        assertThat(e.getMessage(), equalTo("simulated"));
+        assertFalse("operation applied after the replay completed", appliedAfterDone.get());
+    }
+
+    public void testRejectedExecution() {
+        final List<Translog.Operation> operations = randomOperations(randomIntBetween(1, 1_000), 10);
+        final PartitionedTranslogReplay replay = new PartitionedTranslogReplay(randomIntBetween(1, 4), command -> {
+            throw new OpenSearchRejectedExecutionException("rejected", true);
+        });
+        final OpenSearchRejectedExecutionException e = expectThrows(
+            OpenSearchRejectedExecutionException.class,
+            () -> replay.replay(TestTranslog.newSnapshotFromOperations(operations), op -> true, ops -> {})
+        );
+        assertThat(e.getMessage(), equalTo("rejected"));
+    }
+
+    public void testPartition() {
+        final int numPartitions = randomIntBetween(1, 64);
+        final String id = randomAlphaOfLength(10);
+        final int partition = PartitionedTranslogReplay.partition(new Translog.Index(id, 0, 1, new byte[] { 1 }), numPartitions);
+        assertThat(PartitionedTranslogReplay.partition(new Translog.Delete(id, 1, 1), numPartitions), equalTo(partition));
+        assertThat(PartitionedTranslogReplay.partition(new Translog.Index(id, 2, 1, new byte[] { 1 }), numPartitions), equalTo(partition));
+        assertThat(partition, lessThan(numPartitions));
+        final int noOpPartition = PartitionedTranslogReplay.partition(new Translog.NoOp(randomNonNegativeLong(), 1, "test"), numPartitions);
+        assertTrue(noOpPartition >= 0 && noOpPartition < numPartitions);
+    }
+
+    public void testInvalidNumberOfPartitions() {
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> new PartitionedTranslogReplay(0, Runnable::run)
+        );
+        assertThat(e.getMessage(), equalTo("number of partitions must be at least 1 but was [0]"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class TranslogSyncStatsTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        TranslogSyncStats stats = randomStats();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(stats, new TranslogSyncStats(in));
+            }
+        }
+    }
+
+    public void testAdd() {
+        TranslogSyncStats stats = randomStats();
+        TranslogSyncStats other = randomStats();
+        TranslogSyncStats sum = new TranslogSyncStats();
+        sum.add(stats);
+        sum.add(other);
+        sum.add(null);
+        assertEquals(stats.getTotalRequests() + other.getTotalRequests(), sum.getTotalRequests());
+        assertEquals(stats.getTotalGroups() + other.getTotalGroups(), sum.getTotalGroups());
+        assertEquals(stats.getTotalFsyncs() + other.getTotalFsyncs(), sum.getTotalFsyncs());
+        assertEquals(stats.getTotalGroupCommits() + other.getTotalGroupCommits(), sum.getTotalGroupCommits());
+        assertEquals(Math.max(stats.getMaxGroupSize(), other.getMaxGroupSize()), sum.getMaxGroupSize());
+    }
+
+    public void testTracker() {
+        TranslogSyncTracker tracker = new TranslogSyncTracker();
+        tracker.onGroupProcessed(3, true, false);
+        tracker.onGroupProcessed(7, true, true);
+        tracker.onGroupProcessed(1, false, true);
+        TranslogSyncStats stats = tracker.stats();
+        assertEquals(11, stats.getTotalRequests());
+        assertEquals(3, stats.getTotalGroups());
+        assertEquals(2, stats.getTotalFsyncs());
+        assertEquals(2, stats.getTotalGroupCommits());
+        assertEquals(7, stats.getMaxGroupSize());
+    }
+
+    public void testTranslogStatsIncludeSyncStats() throws IOException {
+        TranslogStats translogStats = new TranslogStats();
+        TranslogSyncStats syncStats = randomStats();
+        translogStats.addTranslogSyncStats(syncStats);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            translogStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(syncStats, new TranslogStats(in).getSyncStats());
+            }
+        }
+    }
+
+    public void testTranslogStatsWithoutSyncStats() throws IOException {
+        // sync stats are only added while group commit is enabled
+        TranslogStats translogStats = new TranslogStats();
+        assertNull(translogStats.getSyncStats());
+        assertFalse(translogStats.toString().contains("\"sync\""));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            translogStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertNull(new TranslogStats(in).getSyncStats());
+            }
+        }
+    }
+
+    private static TranslogSyncStats randomStats() {
+        return new TranslogSyncStats(
+            randomLongBetween(0, 100000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 1000)
+        );
+    }
+}
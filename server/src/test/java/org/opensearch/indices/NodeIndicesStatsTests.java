@@ -52,6 +52,9 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -118,6 +121,31 @@ public class NodeIndicesStatsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSerializationForRefreshSchedulerStats() throws IOException {
+        final Map<String, RefreshSchedulerStats.PriorityStats> priorities = new LinkedHashMap<>();
+        for (RefreshScheduler.Priority priority : RefreshScheduler.Priority.values()) {
+            priorities.put(
+                priority.getName(),
+                new RefreshSchedulerStats.PriorityStats(
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong(),
+                    randomNonNegativeLong()
+                )
+            );
+        }
+        final RefreshSchedulerStats stats = new RefreshSchedulerStats(randomIntBetween(0, 10), randomIntBetween(0, 10), priorities);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final RefreshSchedulerStats deserializedStats = new RefreshSchedulerStats(in);
+                assertEquals(stats, deserializedStats);
+                assertEquals(List.copyOf(priorities.keySet()), List.copyOf(deserializedStats.getPriorities().keySet()));
+            }
+        }
+    }
+
     public void testToXContentForStatusCounterStats() throws IOException {
         StatusCounterStats statusCounterStats = createStatusCounters();
         LongAdder[] docStatusCounter = statusCounterStats.getDocStatusStats().getDocStatusCounter();
@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RefreshSchedulerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private final Map<IndexShard, RefreshScheduler.Priority> priorities = new HashMap<>();
+    private final List<IndexShard> refreshed = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    private RefreshScheduler scheduler(Settings settings) {
+        return new RefreshScheduler(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool,
+            priorities::get
+        );
+    }
+
+    private IndexShard shard(RefreshScheduler.Priority priority) {
+        return shard(priority, null);
+    }
+
+    private IndexShard shard(RefreshScheduler.Priority priority, CountDownLatch blockRefresh) {
+        final IndexShard shard = mock(IndexShard.class);
+        when(shard.scheduledRefresh()).then(invocation -> {
+            if (blockRefresh != null) {
+                blockRefresh.await(10, TimeUnit.SECONDS);
+            }
+            refreshed.add(shard);
+            return true;
+        });
+        priorities.put(shard, priority);
+        return shard;
+    }
+
+    public void testDisabledByDefault() {
+        final RefreshScheduler scheduler = scheduler(Settings.EMPTY);
+        assertFalse(scheduler.schedule(shard(RefreshScheduler.Priority.SEARCHED)));
+        assertThat(refreshed.size(), equalTo(0));
+    }
+
+    public void testRefreshesByPriority() throws Exception {
+        final RefreshScheduler scheduler = scheduler(
+            Settings.builder().put(RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1).build()
+        );
+        final CountDownLatch blockRefresh = new CountDownLatch(1);
+        final IndexShard blocking = shard(RefreshScheduler.Priority.SEARCHED, blockRefresh);
+        final IndexShard cold = shard(RefreshScheduler.Priority.COLD);
+        final IndexShard searched = shard(RefreshScheduler.Priority.SEARCHED);
+        final IndexShard waiting = shard(RefreshScheduler.Priority.SEARCH_WAITING);
+        assertTrue(scheduler.schedule(blocking));
+        assertBusy(() -> assertThat(scheduler.stats().getPriorities().get("searched").getQueueDepth(), equalTo(0L)));
+        // the only refresh thread is busy, the other shards queue up and are refreshed by priority
+        assertTrue(scheduler.schedule(cold));
+        assertTrue(scheduler.schedule(searched));
+        assertTrue(scheduler.schedule(waiting));
+        // a shard that is already queued is not queued again
+        assertTrue(scheduler.schedule(cold));
+        final RefreshSchedulerStats queuedStats = scheduler.stats();
+        assertThat(queuedStats.getPriorities().get("cold").getQueueDepth(), equalTo(1L));
+        assertThat(queuedStats.getPriorities().get("searched").getQueueDepth(), equalTo(1L));
+        assertThat(queuedStats.getPriorities().get("search_waiting").getQueueDepth(), equalTo(1L));
+
+        blockRefresh.countDown();
+        assertBusy(() -> assertThat(refreshed, contains(blocking, waiting, searched, cold)));
+        assertBusy(() -> assertThat(scheduler.stats().getRunning(), equalTo(0)));
+        final RefreshSchedulerStats stats = scheduler.stats();
+        assertThat(stats.getMaxConcurrentRefreshes(), equalTo(1));
+        assertThat(stats.getPriorities().get("search_waiting").getRefreshes(), equalTo(1L));
+        assertThat(stats.getPriorities().get("searched").getRefreshes(), equalTo(2L));
+        assertThat(stats.getPriorities().get("cold").getRefreshes(), equalTo(1L));
+        for (RefreshSchedulerStats.PriorityStats priorityStats : stats.getPriorities().values()) {
+            assertThat(priorityStats.getQueueDepth(), equalTo(0L));
+        }
+    }
+
+    public void testQueuedShardIsPromoted() throws Exception {
+        final RefreshScheduler scheduler = scheduler(
+            Settings.builder().put(RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1).build()
+        );
+        final CountDownLatch blockRefresh = new CountDownLatch(1);
+        final IndexShard blocking = shard(RefreshScheduler.Priority.SEARCHED, blockRefresh);
+        assertTrue(scheduler.schedule(blocking));
+        assertBusy(() -> assertThat(scheduler.stats().getPriorities().get("searched").getQueueDepth(), equalTo(0L)));
+        final IndexShard promoted = shard(RefreshScheduler.Priority.COLD);
+        final IndexShard searched = shard(RefreshScheduler.Priority.SEARCHED);
+        assertTrue(scheduler.schedule(promoted));
+        assertTrue(scheduler.schedule(searched));
+        // a search starts waiting on the refresh of the cold shard while it is queued
+        priorities.put(promoted, RefreshScheduler.Priority.SEARCH_WAITING);
+        assertTrue(scheduler.schedule(promoted));
+        final RefreshSchedulerStats queuedStats = scheduler.stats();
+        assertThat(queuedStats.getPriorities().get("cold").getQueueDepth(), equalTo(0L));
+        assertThat(queuedStats.getPriorities().get("search_waiting").getQueueDepth(), equalTo(1L));
+
+        blockRefresh.countDown();
+        assertBusy(() -> assertThat(refreshed, contains(blocking, promoted, searched)));
+        assertBusy(() -> assertThat(scheduler.stats().getRunning(), equalTo(0)));
+        final RefreshSchedulerStats stats = scheduler.stats();
+        assertThat(stats.getPriorities().get("search_waiting").getRefreshes(), equalTo(1L));
+        assertThat(stats.getPriorities().get("cold").getRefreshes(), equalTo(0L));
+        for (RefreshSchedulerStats.PriorityStats priorityStats : stats.getPriorities().values()) {
+            assertThat(priorityStats.getQueueDepth(), equalTo(0L));
+        }
+    }
+
+    public void testColdShardsAreRefreshedInBatches() throws Exception {
+        final RefreshScheduler scheduler = scheduler(
+            Settings.builder()
+                .put(RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 4)
+                .put(RefreshScheduler.COLD_BATCH_SIZE_SETTING.getKey(), 2)
+                .build()
+        );
+        final CountDownLatch blockRefresh = new CountDownLatch(1);
+        final IndexShard blockingCold = shard(RefreshScheduler.Priority.COLD, blockRefresh);
+        assertTrue(scheduler.schedule(blockingCold));
+        assertBusy(() -> assertThat(scheduler.stats().getPriorities().get("cold").getQueueDepth(), equalTo(0L)));
+        final IndexShard[] cold = new IndexShard[between(1, 5)];
+        for (int i = 0; i < cold.length; i++) {
+            cold[i] = shard(RefreshScheduler.Priority.COLD);
+            assertTrue(scheduler.schedule(cold[i]));
+        }
+        // the cold shards wait for the thread that refreshes cold shards, but do not hold up searched shards
+        final IndexShard searched = shard(RefreshScheduler.Priority.SEARCHED);
+        assertTrue(scheduler.schedule(searched));
+        assertBusy(() -> assertThat(refreshed, contains(searched)));
+        assertThat(scheduler.stats().getPriorities().get("cold").getQueueDepth(), equalTo((long) cold.length));
+
+        blockRefresh.countDown();
+        assertBusy(() -> assertThat(refreshed.size(), equalTo(cold.length + 2)));
+        assertThat(refreshed.subList(2, refreshed.size()), containsInAnyOrder(cold));
+    }
+
+    public void testDisablingDrainsQueuedShards() throws Exception {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final RefreshScheduler scheduler = new RefreshScheduler(Settings.EMPTY, clusterSettings, threadPool, priorities::get);
+        clusterSettings.applySettings(Settings.builder().put(RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1).build());
+        final CountDownLatch blockRefresh = new CountDownLatch(1);
+        final IndexShard blocking = shard(RefreshScheduler.Priority.SEARCHED, blockRefresh);
+        final IndexShard queued = shard(RefreshScheduler.Priority.COLD);
+        assertTrue(scheduler.schedule(blocking));
+        assertTrue(scheduler.schedule(queued));
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertFalse(scheduler.schedule(shard(RefreshScheduler.Priority.SEARCHED)));
+        blockRefresh.countDown();
+        assertBusy(() -> assertThat(refreshed, contains(blocking, queued)));
+    }
+}
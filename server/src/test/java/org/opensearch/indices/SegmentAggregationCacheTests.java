@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SegmentAggregationCacheTests extends OpenSearchTestCase {
+
+    public void testCachedPerSegment() throws Exception {
+        final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY);
+        final BytesReference requestKey = new BytesArray("request");
+        final BytesReference value = new BytesArray("value");
+        try (
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            writer.addDocument(newDoc("1"));
+            writer.commit();
+            DirectoryReader reader = DirectoryReader.open(writer);
+            final LeafReader first = reader.leaves().get(0).reader();
+            assertNull(cache.get(first, requestKey));
+            cache.put(first, requestKey, value);
+            assertEquals(value, cache.get(first, requestKey));
+            assertNull(cache.get(first, new BytesArray("other_request")));
+            assertEquals(1, cache.hitCount());
+            assertEquals(2, cache.missCount());
+
+            // a refresh that adds a segment keeps the results of the existing one
+            writer.addDocument(newDoc("2"));
+            writer.commit();
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            reader.close();
+            reader = newReader;
+            assertEquals(2, reader.leaves().size());
+            assertEquals(value, cache.get(reader.leaves().get(0).reader(), requestKey));
+            assertNull(cache.get(reader.leaves().get(1).reader(), requestKey));
+
+            // deletes change the results of a segment
+            writer.deleteDocuments(new Term("id", "1"));
+            writer.commit();
+            newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            reader.close();
+            reader = newReader;
+            assertNull(cache.get(reader.leaves().get(0).reader(), requestKey));
+            assertEquals(1, cache.count());
+            reader.close();
+        }
+        // closing the segment drops its entries
+        assertEquals(0, cache.count());
+        cache.close();
+    }
+
+    public void testSoftDeletesChangeTheKey() throws Exception {
+        final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY);
+        final BytesReference requestKey = new BytesArray("request");
+        try (
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(
+                dir,
+                newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE).setSoftDeletesField(Lucene.SOFT_DELETES_FIELD)
+            )
+        ) {
+            writer.addDocument(newDoc("1"));
+            writer.addDocument(newDoc("2"));
+            writer.commit();
+            DirectoryReader reader = DirectoryReader.open(writer);
+            cache.put(reader.leaves().get(0).reader(), requestKey, new BytesArray("value"));
+            assertNotNull(cache.get(reader.leaves().get(0).reader(), requestKey));
+
+            // a soft delete is written as a new generation of the soft deletes of the segment
+            writer.softUpdateDocument(new Term("id", "1"), newDoc("1"), Lucene.newSoftDeletesField());
+            writer.commit();
+            DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            reader.close();
+            reader = newReader;
+            assertNull(cache.get(reader.leaves().get(0).reader(), requestKey));
+            reader.close();
+        }
+        cache.close();
+    }
+
+    public void testClose() throws Exception {
+        final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY);
+        try (
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())
+        ) {
+            writer.addDocument(newDoc("1"));
+            try (DirectoryReader reader = DirectoryReader.open(writer)) {
+                cache.put(reader.leaves().get(0).reader(), new BytesArray("request"), new BytesArray("value"));
+                assertEquals(1, cache.count());
+                cache.close();
+                assertEquals(0, cache.count());
+                assertNull(cache.get(reader.leaves().get(0).reader(), new BytesArray("request")));
+            }
+        }
+    }
+
+    private static Document newDoc(String id) {
+        final Document doc = new Document();
+        doc.add(new StringField("id", id, Field.Store.NO));
+        return doc;
+    }
+}
@@ -10,12 +10,16 @@ package org.opensearch.indices.replication;
 
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexFileNames;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.index.SegmentReplicationFileTransferStats;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.index.store.Store;
@@ -25,9 +29,15 @@ import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.junit.Assert;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -225,6 +235,158 @@ public class SegmentFileTransferHandlerTests extends IndexShardTestCase {
         IOUtils.close(transfer);
     }
 
+    public void testSendFiles_multipleStreams() throws Exception {
+        for (int i = 0; i < randomIntBetween(1, 3); i++) {
+            indexDoc(shard, "_doc", Integer.toString(i));
+            flushShard(shard, true);
+        }
+        filesToSend = getFilestoSend(shard);
+        final Set<String> filesReceived = ConcurrentCollections.newConcurrentSet();
+        final FileChunkWriter chunkWriter = (fileMetadata, position, content, lastChunk, totalTranslogOps, listener) -> {
+            if (lastChunk) {
+                assertTrue(filesReceived.add(fileMetadata.name()));
+            }
+            // acknowledge chunks from another thread like the transport layer does
+            shard.getThreadPool().generic().execute(() -> listener.onResponse(null));
+        };
+        final SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            randomIntBetween(100, 5000),
+            randomIntBetween(1, 4)
+        );
+        final int streams = randomIntBetween(2, 8);
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = handler.createTransfers(
+            shard.store(),
+            filesToSend,
+            translogOps,
+            streams,
+            future
+        );
+        assertEquals(Math.min(streams, filesToSend.length), transfers.size());
+        for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+            transfer.start();
+        }
+        future.get(30, TimeUnit.SECONDS);
+        IOUtils.close(transfers);
+
+        assertEquals(Arrays.stream(filesToSend).map(StoreFileMetadata::name).collect(Collectors.toSet()), filesReceived);
+        final SegmentReplicationFileTransferStats stats = shard.getSegmentFileTransferTracker().stats();
+        assertEquals(filesToSend.length, stats.getTotalFiles());
+        assertEquals(Arrays.stream(filesToSend).mapToLong(StoreFileMetadata::length).sum(), stats.getTotalBytes());
+        assertEquals(transfers.size(), stats.getLastStreams());
+
+        // the stream count is the one of the last replication, not the largest one seen so far
+        final PlainActionFuture<Void> singleStreamFuture = new PlainActionFuture<>();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> singleStreamTransfers = handler
+            .createTransfers(shard.store(), filesToSend, translogOps, 1, singleStreamFuture);
+        for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : singleStreamTransfers) {
+            transfer.start();
+        }
+        singleStreamFuture.get(30, TimeUnit.SECONDS);
+        IOUtils.close(singleStreamTransfers);
+        assertEquals(1, shard.getSegmentFileTransferTracker().stats().getLastStreams());
+    }
+
+    public void testSendFiles_singleTransferIsNotTracked() throws Exception {
+        // recoveries send their files with a single transfer, only segment replication is recorded
+        final FileChunkWriter chunkWriter = (fileMetadata, position, content, lastChunk, totalTranslogOps, listener) -> {
+            listener.onResponse(null);
+        };
+        final SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks
+        );
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = handler.createTransfer(
+            shard.store(),
+            filesToSend,
+            translogOps,
+            future
+        );
+        transfer.start();
+        future.get(30, TimeUnit.SECONDS);
+        transfer.close();
+        assertEquals(new SegmentReplicationFileTransferStats(), shard.getSegmentFileTransferTracker().stats());
+    }
+
+    public void testSendFiles_multipleStreams_failure() throws Exception {
+        indexDoc(shard, "_doc", "test");
+        flushShard(shard, true);
+        filesToSend = getFilestoSend(shard);
+        final String failingFile = randomFrom(filesToSend).name();
+        final FileChunkWriter chunkWriter = (fileMetadata, position, content, lastChunk, totalTranslogOps, listener) -> {
+            if (fileMetadata.name().equals(failingFile)) {
+                listener.onFailure(new IOException("simulated"));
+            } else {
+                listener.onResponse(null);
+            }
+        };
+        final SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks
+        );
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = handler.createTransfers(
+            shard.store(),
+            filesToSend,
+            translogOps,
+            randomIntBetween(2, 4),
+            future
+        );
+        for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+            transfer.start();
+        }
+        final ExecutionException e = expectThrows(ExecutionException.class, () -> future.get(30, TimeUnit.SECONDS));
+        assertNotNull(ExceptionsHelper.unwrap(e, IOException.class));
+        IOUtils.close(transfers);
+    }
+
+    public void testPartitionFiles() {
+        final StoreFileMetadata[] files = new StoreFileMetadata[randomIntBetween(1, 50)];
+        long maxLength = 0;
+        for (int i = 0; i < files.length; i++) {
+            final long length = randomLongBetween(0, 1 << 20);
+            maxLength = Math.max(maxLength, length);
+            files[i] = new StoreFileMetadata("_" + i + ".cfs", length, "0", org.apache.lucene.util.Version.LATEST);
+        }
+        final int streams = randomIntBetween(1, files.length);
+        final List<List<StoreFileMetadata>> partitions = SegmentFileTransferHandler.partitionFiles(files, streams);
+        assertEquals(streams, partitions.size());
+        final Set<String> names = new HashSet<>();
+        long minBytes = Long.MAX_VALUE;
+        long maxBytes = 0;
+        for (List<StoreFileMetadata> partition : partitions) {
+            long bytes = 0;
+            for (StoreFileMetadata md : partition) {
+                assertTrue(names.add(md.name()));
+                bytes += md.length();
+            }
+            minBytes = Math.min(minBytes, bytes);
+            maxBytes = Math.max(maxBytes, bytes);
+        }
+        assertEquals(files.length, names.size());
+        // files are assigned largest first to the least loaded stream
+        assertTrue(maxBytes - minBytes <= maxLength);
+    }
+
     public void testSendFiles_CorruptIndexException() throws Exception {
         final CancellableThreads cancellableThreads = new CancellableThreads();
         SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
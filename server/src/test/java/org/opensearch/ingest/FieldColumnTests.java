@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class FieldColumnTests extends OpenSearchTestCase {
+
+    private static IngestDocumentWrapper document(int slot, Map<String, Object> source) {
+        return new IngestDocumentWrapper(slot, 0, new IngestDocument(new HashMap<>(source), new HashMap<>()), null);
+    }
+
+    private static List<IngestDocumentWrapper> write(FieldColumn column, String targetPath) {
+        AtomicReference<List<IngestDocumentWrapper>> results = new AtomicReference<>();
+        column.write(targetPath, results::set);
+        return results.get();
+    }
+
+    public void testReadAndWriteBack() {
+        List<IngestDocumentWrapper> batch = new ArrayList<>();
+        batch.add(document(0, Map.of("a", new HashMap<>(Map.of("b", "x")))));
+        batch.add(document(1, Map.of("a", new HashMap<>(Map.of("c", "y")))));
+        batch.add(document(2, Map.of("a", "not an object")));
+        batch.add(document(3, Map.of("a", new ArrayList<>(List.of("y")))));
+        batch.add(document(4, Map.of("a", new HashMap<>(Map.of("b", "z")))));
+
+        FieldColumn column = FieldColumn.read(batch, "a.b", true);
+        assertThat(column.size(), equalTo(5));
+        assertThat(column.get(0), equalTo("x"));
+        assertTrue(column.isMissing(1));
+        assertNull(column.get(1));
+        // not an object, like any other field that doesn't exist
+        assertTrue(column.isMissing(2));
+        assertTrue(column.isMissing(3));
+        assertThat(column.get(4), equalTo("z"));
+
+        column.set(0, "X");
+        column.fail(4, new IllegalStateException("failed"));
+        List<IngestDocumentWrapper> results = write(column, "a.b");
+        assertThat(results.size(), equalTo(5));
+        assertThat(results.get(0).getIngestDocument().getFieldValue("a.b", String.class), equalTo("X"));
+        assertFalse(results.get(1).getIngestDocument().hasField("a.b"));
+        assertThat(results.get(2).getIngestDocument().getFieldValue("a", String.class), equalTo("not an object"));
+        assertNotNull(results.get(3).getIngestDocument());
+        assertThat(results.get(4).getException().getMessage(), equalTo("failed"));
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).getSlot(), equalTo(i));
+        }
+    }
+
+    public void testFailsMissingFields() {
+        List<IngestDocumentWrapper> batch = List.of(document(0, Map.of()), document(1, Map.of("a", "x")));
+        FieldColumn column = FieldColumn.read(batch, "a", false);
+        assertTrue(column.isFailed(0));
+        assertFalse(column.isMissing(0));
+        column.set(1, "y");
+        List<IngestDocumentWrapper> results = write(column, "a");
+        assertThat(results.get(0).getException().getMessage(), equalTo("field [a] not present as part of path [a]"));
+        assertThat(results.get(1).getIngestDocument().getFieldValue("a", String.class), equalTo("y"));
+    }
+
+    public void testWriteToOtherField() {
+        List<IngestDocumentWrapper> batch = List.of(
+            document(0, Map.of("list", new ArrayList<>(List.of("x", "y")))),
+            document(1, Map.of("list", new ArrayList<>(List.of("z"))))
+        );
+        FieldColumn column = FieldColumn.read(batch, "list.1", false);
+        assertThat(column.get(0), equalTo("y"));
+        assertTrue(column.isFailed(1));
+        column.set(0, "Y");
+        List<IngestDocumentWrapper> results = write(column, "list.1");
+        assertThat(results.get(0).getIngestDocument().getFieldValue("list", List.class), equalTo(List.of("x", "Y")));
+        assertThat(
+            results.get(1).getException().getMessage(),
+            equalTo("[1] is out of bounds for array with length [1] as part of path [list.1]")
+        );
+
+        column = FieldColumn.read(batch, "list.0", false);
+        column.set(0, "copy");
+        results = write(column, "target.field");
+        assertThat(results.get(0).getIngestDocument().getFieldValue("target.field", String.class), equalTo("copy"));
+        assertFalse(results.get(1).getIngestDocument().hasField("target"));
+    }
+
+    public void testInvalidPaths() {
+        List<IngestDocumentWrapper> batch = List.of(document(0, Map.of("a", "x")), document(1, Map.of("a", "y")));
+        FieldColumn column = FieldColumn.read(batch, "", true);
+        assertTrue(column.isFailed(0));
+        assertTrue(column.isFailed(1));
+        assertThat(write(column, "a").get(0).getException().getMessage(), equalTo("path cannot be null nor empty"));
+
+        column = FieldColumn.read(batch, "a", false);
+        column.set(0, "z");
+        List<IngestDocumentWrapper> results = write(column, "");
+        assertThat(results.get(0).getException().getMessage(), equalTo("path cannot be null nor empty"));
+        // nothing to write
+        assertNull(results.get(1).getException());
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.metrics.OperationStats;
@@ -57,6 +58,24 @@ public class IngestStatsTests extends OpenSearchTestCase {
         assertIngestStats(ingestStats, serializedStats, true, true);
     }
 
+    public void testCacheStatsSerialization() throws IOException {
+        OperationStats totalStats = new OperationStats(50, 100, 200, 300);
+        List<IngestStats.PipelineStat> pipelineStats = createPipelineStats();
+        Map<String, List<IngestStats.ProcessorStat>> processorStats = createProcessorStats(pipelineStats);
+        List<IngestStats.CacheStat> cacheStats = List.of(new IngestStats.CacheStat("user_agent", 10, 90, 10, 0));
+        IngestStats ingestStats = new IngestStats(totalStats, pipelineStats, processorStats, cacheStats);
+        IngestStats serializedStats = serialize(ingestStats);
+        assertIngestStats(ingestStats, serializedStats, true, true);
+        assertEquals(cacheStats, serializedStats.getCacheStats());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_6_0);
+        ingestStats.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_6_0);
+        assertEquals(Collections.emptyList(), new IngestStats(in).getCacheStats());
+    }
+
     private List<IngestStats.PipelineStat> createPipelineStats() {
         IngestStats.PipelineStat pipeline1Stats = new IngestStats.PipelineStat("pipeline1", new OperationStats(3, 3, 3, 3));
         IngestStats.PipelineStat pipeline2Stats = new IngestStats.PipelineStat("pipeline2", new OperationStats(47, 97, 197, 297));
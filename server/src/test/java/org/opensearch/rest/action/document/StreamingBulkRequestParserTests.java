@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Tests for {@link StreamingBulkRequestParser}.
+ */
+public class StreamingBulkRequestParserTests extends OpenSearchTestCase {
+
+    private static StreamingBulkRequestParser newParser(long maxBatchSizeInBytes) {
+        return new StreamingBulkRequestParser(
+            BulkRequest::new,
+            maxBatchSizeInBytes,
+            "index",
+            null,
+            null,
+            null,
+            null,
+            true,
+            MediaTypeRegistry.JSON
+        );
+    }
+
+    private static String randomBulkBody(int numItems) {
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < numItems; i++) {
+            if (randomInt(4) == 0) {
+                body.append("{\"delete\":{\"_id\":\"").append(i).append("\"}}\n");
+            } else {
+                body.append("{\"index\":{\"_id\":\"").append(i).append("\"}}\n");
+                body.append("{\"field\":\"").append(randomAlphaOfLength(randomIntBetween(1, 100))).append("\"}\n");
+            }
+        }
+        return body.toString();
+    }
+
+    private static List<String> ids(List<BulkRequest> bulkRequests) {
+        final List<String> ids = new ArrayList<>();
+        for (BulkRequest bulkRequest : bulkRequests) {
+            for (DocWriteRequest<?> request : bulkRequest.requests()) {
+                assertThat(request.index(), equalTo("index"));
+                ids.add(request.id());
+            }
+        }
+        return ids;
+    }
+
+    public void testChunksSplittingItems() throws IOException {
+        final int numItems = randomIntBetween(1, 200);
+        final byte[] body = randomBulkBody(numItems).getBytes(StandardCharsets.UTF_8);
+        final StreamingBulkRequestParser parser = newParser(Long.MAX_VALUE);
+        final List<BulkRequest> bulkRequests = new ArrayList<>();
+        int offset = 0;
+        while (offset < body.length) {
+            final int length = Math.min(body.length - offset, randomIntBetween(1, 64));
+            final boolean last = offset + length == body.length;
+            assertTrue(parser.parse(new BytesArray(body, offset, length), last).isEmpty());
+            offset += length;
+            if (randomBoolean() || last) {
+                final BulkRequest bulkRequest = parser.flush();
+                if (bulkRequest != null) {
+                    bulkRequests.add(bulkRequest);
+                }
+            }
+        }
+        assertThat(parser.pendingBytes(), equalTo(0));
+        assertNull(parser.flush());
+
+        final List<String> expectedIds = new ArrayList<>();
+        for (int i = 0; i < numItems; i++) {
+            expectedIds.add(Integer.toString(i));
+        }
+        assertThat(ids(bulkRequests), equalTo(expectedIds));
+    }
+
+    public void testBatchesAreBoundedBySize() throws IOException {
+        final int numItems = randomIntBetween(10, 200);
+        final long maxBatchSizeInBytes = randomLongBetween(100, 2_000);
+        final StreamingBulkRequestParser parser = newParser(maxBatchSizeInBytes);
+        final List<BulkRequest> bulkRequests = new ArrayList<>(parser.parse(new BytesArray(randomBulkBody(numItems)), true));
+        for (BulkRequest bulkRequest : bulkRequests) {
+            final List<DocWriteRequest<?>> requests = bulkRequest.requests();
+            // a batch is handed over by the item that makes it reach the limit
+            final BulkRequest withoutLastItem = new BulkRequest().add(requests.subList(0, requests.size() - 1));
+            assertThat(withoutLastItem.estimatedSizeInBytes(), lessThan(maxBatchSizeInBytes));
+            assertTrue(bulkRequest.estimatedSizeInBytes() >= maxBatchSizeInBytes);
+        }
+        final BulkRequest remaining = parser.flush();
+        if (remaining != null) {
+            assertThat(remaining.estimatedSizeInBytes(), lessThan(maxBatchSizeInBytes));
+            bulkRequests.add(remaining);
+        }
+        assertThat(ids(bulkRequests).size(), equalTo(numItems));
+    }
+
+    public void testItemSpanningChunks() throws IOException {
+        final StreamingBulkRequestParser parser = newParser(Long.MAX_VALUE);
+        parser.parse(new BytesArray("{\"index\":{\"_id\":\"1\"}}\n{\"fie"), false);
+        assertNull(parser.flush());
+        assertThat(parser.pendingBytes(), equalTo(27));
+        parser.parse(new BytesArray("ld\":\"value\"}\n{\"delete\":{\"_id\":\"2\"}}\n"), false);
+        final BulkRequest bulkRequest = parser.flush();
+        assertThat(parser.pendingBytes(), equalTo(0));
+        assertThat(bulkRequest.numberOfActions(), equalTo(2));
+        assertThat(((IndexRequest) bulkRequest.requests().get(0)).source().utf8ToString(), equalTo("{\"field\":\"value\"}"));
+        assertTrue(bulkRequest.requests().get(1) instanceof DeleteRequest);
+    }
+
+    public void testUnterminatedLastChunk() throws IOException {
+        final StreamingBulkRequestParser parser = newParser(Long.MAX_VALUE);
+        parser.parse(new BytesArray("{\"index\":{\"_id\":\"1\"}}\n"), false);
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> parser.parse(new BytesArray("{\"field\":\"value\"}"), true)
+        );
+        assertThat(e.getMessage(), containsString("must be terminated by a newline"));
+    }
+
+    public void testInvalidMaxBatchSize() {
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> newParser(0));
+        assertThat(e.getMessage(), equalTo("The maximum batch size should be positive [0]"));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
+import org.opensearch.search.aggregations.metrics.InternalAvg;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.aggregations.metrics.InternalMin;
+import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.InternalValueCount;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ColumnarBucketReducerTests extends OpenSearchTestCase {
+
+    private static final InternalAggregation.ReduceContext REDUCE_CONTEXT = InternalAggregation.ReduceContext.forPartialReduction(
+        null,
+        null,
+        () -> PipelineAggregator.PipelineTree.EMPTY
+    );
+
+    private static long key(InternalDateHistogram.Bucket bucket) {
+        return ((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli();
+    }
+
+    public void testReduceMatchesBucketReduce() {
+        final boolean ascending = randomBoolean();
+        final int numInputs = randomIntBetween(1, 10);
+        final List<List<InternalDateHistogram.Bucket>> bucketLists = new ArrayList<>();
+        final Map<Long, List<InternalDateHistogram.Bucket>> bucketsByKey = new TreeMap<>();
+        for (int i = 0; i < numInputs; i++) {
+            final List<InternalDateHistogram.Bucket> buckets = new ArrayList<>();
+            final int numBuckets = randomIntBetween(0, 50);
+            long key = randomLongBetween(-100, 100);
+            for (int j = 0; j < numBuckets; j++) {
+                key += randomIntBetween(1, 5);
+                final InternalAggregations subAggs = InternalAggregations.from(
+                    Arrays.asList(
+                        new InternalSum("sum", randomIntBetween(0, 1000), DocValueFormat.RAW, null),
+                        new InternalMin("min", randomDouble(), DocValueFormat.RAW, null),
+                        new InternalMax("max", randomDouble(), DocValueFormat.RAW, null),
+                        new InternalValueCount("count", randomNonNegativeLong() % 1000, null)
+                    )
+                );
+                final InternalDateHistogram.Bucket bucket = new InternalDateHistogram.Bucket(
+                    key,
+                    randomIntBetween(0, 1000),
+                    false,
+                    DocValueFormat.RAW,
+                    subAggs
+                );
+                buckets.add(bucket);
+                bucketsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(bucket);
+            }
+            if (ascending == false) {
+                Collections.reverse(buckets);
+            }
+            bucketLists.add(buckets);
+        }
+
+        final ColumnarBucketReducer reducer = ColumnarBucketReducer.reduce(
+            bucketLists,
+            ascending,
+            ColumnarBucketReducerTests::key,
+            null,
+            null
+        );
+        assertNotNull(reducer);
+        assertEquals(bucketsByKey.size(), reducer.size());
+        final List<Long> expectedKeys = new ArrayList<>(bucketsByKey.keySet());
+        if (ascending == false) {
+            Collections.reverse(expectedKeys);
+        }
+        for (int i = 0; i < reducer.size(); i++) {
+            final long key = expectedKeys.get(i);
+            assertEquals(key, reducer.key(i));
+            long docCount = 0;
+            final List<InternalAggregations> subAggs = new ArrayList<>();
+            for (InternalDateHistogram.Bucket bucket : bucketsByKey.get(key)) {
+                docCount += bucket.getDocCount();
+                subAggs.add((InternalAggregations) bucket.getAggregations());
+            }
+            assertEquals(docCount, reducer.docCount(i));
+            final InternalAggregations expected = InternalAggregations.reduce(subAggs, REDUCE_CONTEXT);
+            final InternalAggregations actual = reducer.subAggregations(i);
+            for (String name : Arrays.asList("sum", "min", "max", "count")) {
+                assertEquals(expected.get(name), actual.get(name));
+            }
+        }
+    }
+
+    public void testUnsupportedSubAggregations() {
+        final List<InternalDateHistogram.Bucket> supported = Collections.singletonList(
+            new InternalDateHistogram.Bucket(
+                0,
+                1,
+                false,
+                DocValueFormat.RAW,
+                InternalAggregations.from(Collections.singletonList(new InternalSum("sum", 1, DocValueFormat.RAW, null)))
+            )
+        );
+        final List<InternalDateHistogram.Bucket> avg = Collections.singletonList(
+            new InternalDateHistogram.Bucket(
+                0,
+                1,
+                false,
+                DocValueFormat.RAW,
+                InternalAggregations.from(Collections.singletonList(new InternalAvg("avg", 1, 1, DocValueFormat.RAW, null)))
+            )
+        );
+        final List<InternalDateHistogram.Bucket> otherName = Collections.singletonList(
+            new InternalDateHistogram.Bucket(
+                1,
+                1,
+                false,
+                DocValueFormat.RAW,
+                InternalAggregations.from(Collections.singletonList(new InternalSum("other", 1, DocValueFormat.RAW, null)))
+            )
+        );
+        assertNull(ColumnarBucketReducer.reduce(Collections.singletonList(avg), true, ColumnarBucketReducerTests::key, null, null));
+        assertNull(ColumnarBucketReducer.reduce(Arrays.asList(supported, otherName), true, ColumnarBucketReducerTests::key, null, null));
+        assertNull(ColumnarBucketReducer.reduce(Arrays.asList(supported, avg), true, ColumnarBucketReducerTests::key, null, null));
+        assertNotNull(ColumnarBucketReducer.reduce(Arrays.asList(supported, supported), true, ColumnarBucketReducerTests::key, null, null));
+    }
+
+    public void testDocCountErrors() {
+        final List<LongTerms.Bucket> first = Arrays.asList(
+            new LongTerms.Bucket(1, 10, InternalAggregations.EMPTY, true, 2, DocValueFormat.RAW),
+            new LongTerms.Bucket(2, 5, InternalAggregations.EMPTY, true, 3, DocValueFormat.RAW)
+        );
+        final List<LongTerms.Bucket> second = Arrays.asList(
+            new LongTerms.Bucket(1, 7, InternalAggregations.EMPTY, true, 4, DocValueFormat.RAW),
+            new LongTerms.Bucket(2, 1, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW),
+            new LongTerms.Bucket(3, 1, InternalAggregations.EMPTY, true, 1, DocValueFormat.RAW)
+        );
+        final ColumnarBucketReducer reducer = ColumnarBucketReducer.reduce(
+            Arrays.asList(first, second),
+            true,
+            b -> b.getKeyAsNumber().longValue(),
+            LongTerms.Bucket::showDocCountError,
+            LongTerms.Bucket::getDocCountError
+        );
+        assertNotNull(reducer);
+        assertEquals(3, reducer.size());
+        assertEquals(17, reducer.docCount(0));
+        assertEquals(6, reducer.docCountError(0));
+        assertEquals(6, reducer.docCount(1));
+        assertEquals(-1, reducer.docCountError(1));
+        assertEquals(1, reducer.docCount(2));
+        assertEquals(1, reducer.docCountError(2));
+        assertSame(InternalAggregations.EMPTY, reducer.subAggregations(2));
+    }
+}
@@ -64,6 +64,7 @@ import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.MultiValueMode;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
@@ -1937,4 +1938,77 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
     private static long asLong(String dateTime, DateFieldMapper.DateFieldType fieldType) {
         return fieldType.parse(dateTime);
     }
+
+    public void testSupportsIntraSegmentSearch() throws IOException {
+        MappedFieldType fieldType = aggregableDateFieldType(false, true);
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            indexWriter.addDocument(List.of(new SortedNumericDocValuesField(AGGREGABLE_DATE, asLong("2017-02-01"))));
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                AggregatorFactories factories = AggregatorFactories.builder()
+                    .addAggregator(
+                        new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE).calendarInterval(DateHistogramInterval.YEAR)
+                    )
+                    .build(
+                        createSearchContext(searcher, createIndexSettings(), new MatchAllDocsQuery(), null, fieldType)
+                            .getQueryShardContext(),
+                        null
+                    );
+                assertTrue(factories.allFactoriesSupportIntraSegmentSearch());
+                // sub-aggregations must support it as well
+                factories = AggregatorFactories.builder()
+                    .addAggregator(
+                        new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE)
+                            .calendarInterval(DateHistogramInterval.YEAR)
+                            .subAggregation(new TermsAggregationBuilder("terms").field(AGGREGABLE_DATE))
+                    )
+                    .build(
+                        createSearchContext(searcher, createIndexSettings(), new MatchAllDocsQuery(), null, fieldType)
+                            .getQueryShardContext(),
+                        null
+                    );
+                assertTrue(factories.allFactoriesSupportIntraSegmentSearch());
+            }
+        }
+    }
+
+    public void testIntraSegmentSearchMatchesUnpartitionedResult() throws IOException {
+        MappedFieldType fieldType = aggregableDateFieldType(false, true);
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            final int numDocs = randomIntBetween(50, 200);
+            final long start = asLong("2017-01-01T00:00:00");
+            for (int i = 0; i < numDocs; i++) {
+                final long date = start + randomLongBetween(0, 365L * 24 * 60 * 60 * 1000);
+                Document document = new Document();
+                document.add(new LongPoint(AGGREGABLE_DATE, date));
+                document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, date));
+                indexWriter.addDocument(document);
+            }
+            // a single segment without deletes, which the filter rewrite counts with the points of the whole segment
+            indexWriter.forceMerge(1);
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                DateHistogramAggregationBuilder builder = new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE)
+                    .calendarInterval(DateHistogramInterval.MONTH);
+                InternalDateHistogram expected = searchAndReduce(searcher, new MatchAllDocsQuery(), builder, fieldType);
+                InternalDateHistogram partitioned = searchAndReduceWithPartitionedSegments(
+                    searcher,
+                    new MatchAllDocsQuery(),
+                    builder,
+                    randomIntBetween(2, 4),
+                    fieldType
+                );
+                assertEquals(bucketCounts(expected), bucketCounts(partitioned));
+                assertEquals(numDocs, bucketCounts(partitioned).values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+    }
+
+    private static Map<String, Long> bucketCounts(InternalDateHistogram histogram) {
+        Map<String, Long> counts = new HashMap<>();
+        for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
 }
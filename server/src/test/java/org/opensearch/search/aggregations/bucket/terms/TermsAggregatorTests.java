@@ -96,6 +96,7 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -1928,4 +1929,60 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         doAssertReducedMultiBucketConsumer(result, reduceBucketConsumer);
         return result;
     }
+
+    public void testSupportsIntraSegmentSearch() throws IOException {
+        MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            indexWriter.addDocument(singleton(new SortedSetDocValuesField("string", new BytesRef("a"))));
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                AggregatorFactories factories = AggregatorFactories.builder()
+                    .addAggregator(new TermsAggregationBuilder("test").field("string"))
+                    .build(
+                        createSearchContext(searcher, createIndexSettings(), new MatchAllDocsQuery(), null, fieldType)
+                            .getQueryShardContext(),
+                        null
+                    );
+                assertTrue(factories.allFactoriesSupportIntraSegmentSearch());
+            }
+        }
+    }
+
+    public void testIntraSegmentSearchMatchesUnpartitionedResult() throws IOException {
+        MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            final int numDocs = randomIntBetween(50, 200);
+            for (int i = 0; i < numDocs; i++) {
+                final String value = "value" + randomIntBetween(0, 5);
+                Document document = new Document();
+                document.add(new StringField("string", value, Field.Store.NO));
+                document.add(new SortedSetDocValuesField("string", new BytesRef(value)));
+                indexWriter.addDocument(document);
+            }
+            // a single segment without deletes, whose term frequencies count all the documents that match everything
+            indexWriter.forceMerge(1);
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                TermsAggregationBuilder builder = new TermsAggregationBuilder("test").field("string").executionHint("global_ordinals");
+                StringTerms expected = searchAndReduce(searcher, new MatchAllDocsQuery(), builder, fieldType);
+                StringTerms partitioned = searchAndReduceWithPartitionedSegments(
+                    searcher,
+                    new MatchAllDocsQuery(),
+                    builder,
+                    randomIntBetween(2, 4),
+                    fieldType
+                );
+                assertEquals(bucketCounts(expected), bucketCounts(partitioned));
+                assertEquals(numDocs, bucketCounts(partitioned).values().stream().mapToLong(Long::longValue).sum());
+            }
+        }
+    }
+
+    private static Map<String, Long> bucketCounts(Terms terms) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            counts.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return counts;
+    }
 }
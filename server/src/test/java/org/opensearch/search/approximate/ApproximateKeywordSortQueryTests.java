@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.approximate;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApproximateKeywordSortQueryTests extends OpenSearchTestCase {
+
+    private static final String FIELD = "keyword_field";
+
+    public void testApproximateSortAsc() throws IOException {
+        assertApproximateSort(SortOrder.ASC, false);
+    }
+
+    public void testApproximateSortDesc() throws IOException {
+        assertApproximateSort(SortOrder.DESC, false);
+    }
+
+    public void testApproximateSortWithDeletes() throws IOException {
+        assertApproximateSort(randomFrom(SortOrder.values()), true);
+    }
+
+    public void testDocumentsWithoutValueAreCompetitive() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 20; i++) {
+                    Document doc = new Document();
+                    if (i % 4 == 0) {
+                        addValue(doc, String.format(Locale.ROOT, "value_%03d", i));
+                    }
+                    iw.addDocument(doc);
+                }
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    int size = 10;
+                    ApproximateKeywordSortQuery approximateQuery = new ApproximateKeywordSortQuery(FIELD, size, SortOrder.ASC);
+                    TopDocs approximate = searcher.search(approximateQuery, size, sort(false));
+                    TopDocs exact = searcher.search(new MatchAllDocsQuery(), size, sort(false));
+                    assertSameTopDocs(exact, approximate);
+                }
+            }
+        }
+    }
+
+    public void testSearchAfterPaging() throws IOException {
+        // every term has more documents than a page, so the pages end and start in the middle of a term
+        assertSearchAfterPaging(randomFrom(SortOrder.values()), false);
+    }
+
+    public void testSearchAfterPagingMultiValued() throws IOException {
+        assertSearchAfterPaging(randomFrom(SortOrder.values()), true);
+    }
+
+    private void assertSearchAfterPaging(SortOrder sortOrder, boolean multiValued) throws IOException {
+        boolean reverse = sortOrder == SortOrder.DESC;
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                int numDocs = randomIntBetween(200, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    int numValues = multiValued ? randomIntBetween(1, 3) : 1;
+                    for (int j = 0; j < numValues; j++) {
+                        addValue(doc, String.format(Locale.ROOT, "value_%03d", randomIntBetween(0, 4)));
+                    }
+                    iw.addDocument(doc);
+                    if (random().nextInt(100) == 0) {
+                        iw.flush();
+                    }
+                }
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    int size = randomIntBetween(5, 20);
+                    FieldDoc after = null;
+                    int pages = 0;
+                    while (true) {
+                        BytesRef searchAfter = after == null ? null : (BytesRef) after.fields[0];
+                        ApproximateKeywordSortQuery approximateQuery = new ApproximateKeywordSortQuery(
+                            FIELD,
+                            size,
+                            sortOrder,
+                            searchAfter
+                        );
+                        TopDocs exact = searcher.searchAfter(after, new MatchAllDocsQuery(), size, sort(reverse));
+                        TopDocs approximate = searcher.searchAfter(after, approximateQuery, size, sort(reverse));
+                        assertSameTopDocs(exact, approximate);
+                        if (exact.scoreDocs.length == 0) {
+                            break;
+                        }
+                        // like a search after request, the next page starts after the sort value of the last hit
+                        after = new FieldDoc(Integer.MAX_VALUE, 0, ((FieldDoc) exact.scoreDocs[exact.scoreDocs.length - 1]).fields);
+                        pages++;
+                    }
+                    assertTrue(pages > 0);
+                }
+            }
+        }
+    }
+
+    public void testCannotApproximateWithTrackTotalHits() {
+        ApproximateKeywordSortQuery query = new ApproximateKeywordSortQuery(FIELD);
+        assertFalse(query.canApproximate(null));
+        SearchContext mockContext = mock(SearchContext.class);
+        when(mockContext.trackTotalHitsUpTo()).thenReturn(SearchContext.TRACK_TOTAL_HITS_ACCURATE);
+        assertFalse(query.canApproximate(mockContext));
+        // a keyword sort is required
+        when(mockContext.trackTotalHitsUpTo()).thenReturn(SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO);
+        when(mockContext.request()).thenReturn(null);
+        assertFalse(query.canApproximate(mockContext));
+    }
+
+    private void assertApproximateSort(SortOrder sortOrder, boolean deletes) throws IOException {
+        boolean reverse = sortOrder == SortOrder.DESC;
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                int numDocs = randomIntBetween(500, 2000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    int numValues = randomIntBetween(0, 3);
+                    for (int j = 0; j < numValues; j++) {
+                        // few distinct values, so that the documents tie on the sort value
+                        addValue(doc, String.format(Locale.ROOT, "value_%03d", randomIntBetween(0, 200)));
+                    }
+                    iw.addDocument(doc);
+                    if (random().nextInt(50) == 0) {
+                        iw.flush();
+                    }
+                }
+                if (deletes) {
+                    for (int i = 0; i < numDocs; i += randomIntBetween(1, 10)) {
+                        iw.deleteDocuments(new Term("id", Integer.toString(i)));
+                    }
+                }
+                if (randomBoolean()) {
+                    iw.forceMerge(1);
+                }
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    int size = randomIntBetween(1, 50);
+                    ApproximateKeywordSortQuery approximateQuery = new ApproximateKeywordSortQuery(FIELD, size, sortOrder);
+                    TopDocs approximate = searcher.search(approximateQuery, size, sort(reverse));
+                    TopDocs exact = searcher.search(new MatchAllDocsQuery(), size, sort(reverse));
+                    assertSameTopDocs(exact, approximate);
+                }
+            }
+        }
+    }
+
+    private static void addValue(Document doc, String value) {
+        doc.add(new StringField(FIELD, value, Field.Store.NO));
+        doc.add(new SortedSetDocValuesField(FIELD, new BytesRef(value)));
+    }
+
+    private static Sort sort(boolean reverse) {
+        SortField sortField = new SortedSetSortField(FIELD, reverse, reverse ? SortedSetSelector.Type.MAX : SortedSetSelector.Type.MIN);
+        // documents without a value sort last, as with the default missing value of a field sort
+        sortField.setMissingValue(reverse ? SortField.STRING_FIRST : SortField.STRING_LAST);
+        return new Sort(sortField);
+    }
+
+    private static void assertSameTopDocs(TopDocs expected, TopDocs actual) {
+        assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+        for (int i = 0; i < expected.scoreDocs.length; i++) {
+            assertEquals("Mismatch at doc index " + i, expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+            assertEquals(((FieldDoc) expected.scoreDocs[i]).fields[0], ((FieldDoc) actual.scoreDocs[i]).fields[0]);
+        }
+    }
+}
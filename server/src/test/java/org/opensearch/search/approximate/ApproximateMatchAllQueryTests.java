@@ -13,6 +13,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.NumberFieldMapper;
@@ -23,6 +24,7 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortMode;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
@@ -45,6 +47,8 @@ public class ApproximateMatchAllQueryTests extends OpenSearchTestCase {
         String sortfield = "myfield";
         MappedFieldType myFieldType = new NumberFieldMapper.NumberFieldType(sortfield, NumberFieldMapper.NumberType.LONG);
         when(mockMapper.fieldType(sortfield)).thenReturn(myFieldType);
+        String keywordSortfield = "mykeywordfield";
+        when(mockMapper.fieldType(keywordSortfield)).thenReturn(new KeywordFieldMapper.KeywordFieldType(keywordSortfield));
 
         Settings settings = Settings.builder()
             .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
@@ -104,6 +108,17 @@ public class ApproximateMatchAllQueryTests extends OpenSearchTestCase {
         source.sort(new FieldSortBuilder(sortfield).missing("foo"));
         assertFalse(approximateMatchAllQuery.canApproximate(searchContext));
         assertThrows(IllegalStateException.class, () -> approximateMatchAllQuery.rewrite(null));
+
+        // A keyword sort walks the terms of the field in sort order
+        source.sorts().clear();
+        source.sort(keywordSortfield, SortOrder.DESC);
+        assertTrue(approximateMatchAllQuery.canApproximate(searchContext));
+        assertTrue(approximateMatchAllQuery.rewrite(null) instanceof ApproximateKeywordSortQuery);
+
+        // But not if the sort value of a document is not its first term in sort order
+        source.sorts().clear();
+        source.sort(new FieldSortBuilder(keywordSortfield).order(SortOrder.DESC).sortMode(SortMode.MIN));
+        assertFalse(approximateMatchAllQuery.canApproximate(searchContext));
     }
 
     public void testCannotApproximateWithTrackTotalHits() {
@@ -12,6 +12,11 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactories;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -96,4 +101,39 @@ public class IntraSegmentSearchDeciderTests extends OpenSearchTestCase {
         assertFalse(decider.shouldUseIntraSegmentSearch());
         assertEquals("no query or aggregation evaluated", decider.getReason());
     }
+
+    public void testPartitionCount() {
+        // segments that fit in a partition or are below the minimum size are not split
+        assertEquals(1, IntraSegmentSearchDecider.getPartitionCount(100, 100, 10, 4));
+        assertEquals(1, IntraSegmentSearchDecider.getPartitionCount(1000, 100, 2000, 4));
+        assertEquals(3, IntraSegmentSearchDecider.getPartitionCount(250, 100, 10, 4));
+        assertEquals(4, IntraSegmentSearchDecider.getPartitionCount(1000, 100, 10, 4));
+    }
+
+    public void testMaxPartitionsPerSegmentFollowsSearchPoolLoad() throws Exception {
+        assertEquals(4, IntraSegmentSearchDecider.getMaxPartitionsPerSegment(4, null));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(3, 3, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            assertEquals(3, IntraSegmentSearchDecider.getMaxPartitionsPerSegment(4, executor));
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    running.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            running.await();
+            assertEquals(1, IntraSegmentSearchDecider.getMaxPartitionsPerSegment(4, executor));
+            assertEquals(1, IntraSegmentSearchDecider.getMaxPartitionsPerSegment(1, executor));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
 }
@@ -77,6 +77,25 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testSequentialDocsInRange() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[10];
+        int gap = randomIntBetween(1, 9);
+        int start = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            if (i == gap) {
+                start += randomIntBetween(1, 10);
+            }
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            ++start;
+        }
+        assertFalse(FetchPhase.hasSequentialDocs(docs));
+        // the docs on either side of the gap are sequential on their own
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 0, gap));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, gap, 10));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, gap - 1, gap + 1));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, gap, gap));
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
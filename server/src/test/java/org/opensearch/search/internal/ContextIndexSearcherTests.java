@@ -82,6 +82,7 @@ import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.lucene.util.CombinedBitSet;
+import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.metrics.InternalSum;
@@ -396,6 +397,52 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIsLeafPartitioned() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int i = 0; i < 100; i++) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value" + i, Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            Document document = new Document();
+            document.add(new StringField("field1", "value", Field.Store.NO));
+            iw.addDocument(document);
+            iw.commit();
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                SearchContext searchContext = mock(SearchContext.class);
+                when(searchContext.shouldUseConcurrentSearch()).thenReturn(true);
+                when(searchContext.getTargetMaxSliceCount()).thenReturn(2);
+                when(searchContext.getPartitionStrategy()).thenReturn(SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE);
+                ContextIndexSearcher searcher = new ContextIndexSearcher(
+                    directoryReader,
+                    IndexSearcher.getDefaultSimilarity(),
+                    IndexSearcher.getDefaultQueryCache(),
+                    IndexSearcher.getDefaultQueryCachingPolicy(),
+                    true,
+                    mock(ExecutorService.class),
+                    searchContext
+                );
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(2, leaves.size());
+                // segments are only partitioned with intra-segment search
+                when(searchContext.shouldUseIntraSegmentSearch()).thenReturn(false);
+                assertFalse(searcher.isLeafPartitioned(leaves.get(0)));
+
+                when(searchContext.shouldUseIntraSegmentSearch()).thenReturn(true);
+                assertTrue(searcher.isLeafPartitioned(leaves.get(0)));
+                // a segment of a single document can't be split
+                assertFalse(searcher.isLeafPartitioned(leaves.get(1)));
+            }
+        }
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -240,6 +240,39 @@ public class MaxTargetSliceSupplierTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBalancedPartitioningCappedByMaxPartitionsPerSegment() throws Exception {
+        try (
+            final Directory directory = newDirectory();
+            final IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int i = 0; i < 1000; ++i) {
+                Document document = new Document();
+                document.add(new StringField("field1", "value", Field.Store.NO));
+                iw.addDocument(document);
+            }
+            iw.commit();
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = directoryReader.leaves();
+                assertEquals(1, leaves.size());
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlices(leaves, 4, true, "balanced", 100, 2);
+                assertEquals(2, slices.length);
+                assertEquals(1, slices[0].partitions.length);
+                assertEquals(500, slices[0].getMaxDocs());
+                assertEquals(1, slices[1].partitions.length);
+                assertEquals(500, slices[1].getMaxDocs());
+
+                // a saturated search pool doesn't split segments at all
+                slices = MaxTargetSliceSupplier.getSlices(leaves, 4, true, "balanced", 100, 1);
+                assertEquals(1, slices.length);
+                assertEquals(1, slices[0].partitions.length);
+                assertEquals(1000, slices[0].getMaxDocs());
+            }
+        }
+    }
+
     public void testBalancedPartitioningSmallSegmentSkipped() throws Exception {
         try (
             final Directory directory = newDirectory();
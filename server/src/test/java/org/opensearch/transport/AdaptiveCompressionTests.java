@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class AdaptiveCompressionTests extends OpenSearchTestCase {
+
+    private static final Settings ADAPTIVE = Settings.builder()
+        .put(TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE.getKey(), true)
+        .put(TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE_MIN_SIZE.getKey(), "1kb")
+        .put(TransportSettings.TRANSPORT_COMPRESS_ADAPTIVE_MAX_RATIO.getKey(), 0.8)
+        .build();
+
+    public void testDisabledUsesDefaultCompressor() {
+        AdaptiveCompression compression = new AdaptiveCompression(Settings.EMPTY);
+        compression.onSerialized("action", null, 10, 10, 1);
+        compression.onSerialized("action", CompressorRegistry.defaultCompressor(), 100, 99, 1);
+        assertThat(compression.select("action", Version.CURRENT), sameInstance(CompressorRegistry.defaultCompressor()));
+        // the messages are only measured to choose their compressor
+        assertFalse(compression.isEnabled());
+        assertTrue(compression.stats().isEmpty());
+    }
+
+    public void testCompressorDependsOnVersion() {
+        AdaptiveCompression compression = new AdaptiveCompression(ADAPTIVE);
+        Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        assertThat(compression.select("action", Version.CURRENT), sameInstance(zstd));
+        Version old = VersionUtils.randomVersionBetween(random(), Version.CURRENT.minimumCompatibilityVersion(), Version.V_3_6_0);
+        assertThat(compression.select("action", old), sameInstance(CompressorRegistry.defaultCompressor()));
+    }
+
+    public void testSmallMessagesAreNotCompressed() {
+        AdaptiveCompression compression = new AdaptiveCompression(ADAPTIVE);
+        Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        compression.onSerialized("small", zstd, 100, 50, 1);
+        compression.onSerialized("large", zstd, 10_000, 2_000, 1);
+        for (int i = 0; i < 2 * AdaptiveCompression.PROBE_INTERVAL; i++) {
+            assertThat(compression.select("small", Version.CURRENT), nullValue());
+            assertThat(compression.select("large", Version.CURRENT), sameInstance(zstd));
+        }
+    }
+
+    public void testIncompressibleMessagesAreProbed() {
+        AdaptiveCompression compression = new AdaptiveCompression(ADAPTIVE);
+        Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        compression.onSerialized("action", zstd, 10_000, 9_900, 1);
+        int compressed = 0;
+        for (int i = 0; i < 2 * AdaptiveCompression.PROBE_INTERVAL; i++) {
+            if (compression.select("action", Version.CURRENT) != null) {
+                compressed++;
+            }
+        }
+        assertThat(compressed, equalTo(2));
+
+        // the messages of the action shrink again
+        for (int i = 0; i < 50; i++) {
+            compression.onSerialized("action", zstd, 10_000, 1_000, 1);
+        }
+        assertThat(compression.select("action", Version.CURRENT), sameInstance(zstd));
+    }
+
+    public void testStats() throws IOException {
+        AdaptiveCompression compression = new AdaptiveCompression(ADAPTIVE);
+        Compressor zstd = CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        compression.onSerialized("b", zstd, 4_000, 1_000, 10);
+        compression.onSerialized("b", zstd, 6_000, 1_000, 20);
+        compression.onSerialized("a", null, 100, 100, 1);
+        Map<String, TransportStats.CompressionStats> stats = compression.stats();
+        assertThat(stats.keySet(), equalTo(Set.of("b")));
+        TransportStats.CompressionStats b = stats.get("b");
+        assertThat(b.getCount(), equalTo(2L));
+        assertThat(b.getUncompressedSize().getBytes(), equalTo(10_000L));
+        assertThat(b.getCompressedSize().getBytes(), equalTo(2_000L));
+        assertThat(b.getRatio(), equalTo(0.2));
+        assertThat(b.getTime().nanos(), equalTo(30L));
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            b.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                TransportStats.CompressionStats read = new TransportStats.CompressionStats(in);
+                assertThat(read.getCount(), equalTo(b.getCount()));
+                assertThat(read.getUncompressedSize(), equalTo(b.getUncompressedSize()));
+                assertThat(read.getCompressedSize(), equalTo(b.getCompressedSize()));
+                assertThat(read.getTime(), equalTo(b.getTime()));
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+
+public class InboundStreamInputTests extends OpenSearchTestCase {
+
+    private static BytesReference content(BytesReference small, BytesReference large) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeString("header");
+            out.writeBytesReference(small);
+            out.writeBytesReference(large);
+            out.writeVInt(42);
+            final BytesReference bytes = out.bytes();
+            if (randomBoolean()) {
+                return bytes;
+            }
+            // the content of a message is usually made of several network buffers
+            final int split = randomIntBetween(1, bytes.length() - 1);
+            return CompositeBytesReference.of(bytes.slice(0, split), bytes.slice(split, bytes.length() - split));
+        }
+    }
+
+    public void testSliceBytesReferences() throws IOException {
+        final BytesReference small = new BytesArray(randomByteArrayOfLength(between(1, 99)));
+        final BytesReference large = new BytesArray(randomByteArrayOfLength(between(100, 1000)));
+        final BytesReference content = content(small, large);
+        final InboundStreamInput in = new InboundStreamInput(content);
+        in.sliceBytesReferences(100);
+        final StreamInput stream = new NamedWriteableAwareStreamInput(in, new NamedWriteableRegistry(Collections.emptyList()));
+        assertThat(stream.readString(), equalTo("header"));
+        final BytesReference copied = stream.readBytesReference();
+        assertThat(copied, equalTo(small));
+        assertThat(copied, not(instanceOf(ReleasableBytesReference.class)));
+        final BytesReference read = stream.readBytesReference();
+        assertThat(read, equalTo(large));
+        // the slices can be told apart from the copies, which may be kept once the request was handled
+        assertThat(read, instanceOf(ReleasableBytesReference.class));
+        assertThat(stream.readVInt(), equalTo(42));
+        assertThat(stream.read(), equalTo(-1));
+        assertThat(in.copiedBytes(), equalTo((long) small.length()));
+        assertThat(in.slicedBytes(), equalTo((long) large.length()));
+
+        // the slice is the part of the content before the trailing vint
+        final int offset = content.length() - 1 - large.length();
+        assertThat(read, equalTo(content.slice(offset, large.length())));
+    }
+
+    public void testCopyByDefault() throws IOException {
+        final BytesReference small = new BytesArray(randomByteArrayOfLength(between(1, 99)));
+        final BytesReference large = new BytesArray(randomByteArrayOfLength(between(100, 1000)));
+        final InboundStreamInput in = new InboundStreamInput(content(small, large));
+        assertThat(in.readString(), equalTo("header"));
+        assertThat(in.readBytesReference(), equalTo(small));
+        assertThat(in.readBytesReference(), equalTo(large));
+        assertThat(in.copiedBytes(), equalTo((long) (small.length() + large.length())));
+        assertThat(in.slicedBytes(), equalTo(0L));
+    }
+
+    public void testSliceBeyondContent() throws IOException {
+        final InboundStreamInput in = new InboundStreamInput(new BytesArray(randomByteArrayOfLength(10)));
+        in.sliceBytesReferences(1);
+        in.readByte();
+        expectThrows(EOFException.class, () -> in.readBytesReference(10));
+    }
+
+    public void testRetainContent() throws IOException {
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference content = new ReleasableBytesReference(
+            content(new BytesArray(new byte[] { 1 }), new BytesArray(randomByteArrayOfLength(200))),
+            () -> released.set(true)
+        );
+        final Header header = new Header(TransportProtocol.NATIVE, randomInt(), 1, TransportStatus.setRequest((byte) 0), Version.CURRENT);
+        final InboundMessage message = new InboundMessage(header, content, () -> {});
+        message.sliceBytesReferences(100);
+        final Releasable retained = message.retainContent();
+        message.close();
+        assertFalse(released.get());
+        retained.close();
+        assertTrue(released.get());
+        // releasing twice must not release the content of another message
+        retained.close();
+    }
+
+    public void testInboundSlicing() {
+        final InboundSlicing disabled = new InboundSlicing(Settings.EMPTY);
+        assertThat(disabled.minSliceLength("indices:data/write/bulk[s]"), equalTo(Integer.MAX_VALUE));
+
+        final InboundSlicing slicing = new InboundSlicing(
+            Settings.builder()
+                .putList(TransportSettings.TRANSPORT_INBOUND_ZERO_COPY_ACTIONS.getKey(), "indices:data/write/bulk[s]*")
+                .put(TransportSettings.TRANSPORT_INBOUND_ZERO_COPY_MIN_SIZE.getKey(), "4kb")
+                .build()
+        );
+        assertThat(slicing.minSliceLength("indices:data/write/bulk[s][p]"), equalTo(4096));
+        assertThat(slicing.minSliceLength("indices:data/read/search"), equalTo(Integer.MAX_VALUE));
+
+        slicing.onRequestRead("indices:data/write/bulk[s][p]", 10, 5000);
+        slicing.onRequestRead("indices:data/write/bulk[s][p]", 20, 0);
+        slicing.onRequestRead("indices:data/read/search", 0, 0);
+        final Map<String, TransportStats.InboundBytesStats> stats = slicing.stats();
+        assertThat(stats.keySet(), equalTo(Collections.singleton("indices:data/write/bulk[s][p]")));
+        assertThat(stats.get("indices:data/write/bulk[s][p]").getCopiedSize().getBytes(), equalTo(30L));
+        assertThat(stats.get("indices:data/write/bulk[s][p]").getSlicedSize().getBytes(), equalTo(5000L));
+    }
+}
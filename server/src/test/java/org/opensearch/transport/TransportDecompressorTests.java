@@ -37,6 +37,7 @@ import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -151,4 +152,61 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIncrementalZstdCompression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput zstdStream = new OutputStreamStreamOutput(
+                    CompressorRegistry.getCompressor(ZstdCompressor.NAME).threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < 10000; ++i) {
+                    zstdStream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE, bytes.length());
+            assertFalse(decompressor.canDecompress(4));
+            assertTrue(decompressor.canDecompress(5));
+
+            // the compressed bytes are decompressed as they arrive, in chunks of any size after the header
+            int offset = 0;
+            int chunkLength = 5;
+            while (offset < bytes.length()) {
+                BytesReference inbound = bytes.slice(offset, Math.min(chunkLength, bytes.length() - offset));
+                assertFalse(decompressor.isEOS());
+                assertEquals(inbound.length(), decompressor.decompress(inbound));
+                offset += inbound.length();
+                chunkLength = randomIntBetween(1, 100);
+            }
+            assertTrue(decompressor.isEOS());
+            ReleasableBytesReference reference1 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference2 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference3 = decompressor.pollDecompressedPage();
+            assertNull(decompressor.pollDecompressedPage());
+            BytesReference composite = CompositeBytesReference.of(reference1, reference2, reference3);
+            assertEquals(4 * 10000, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < 10000; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(reference1, reference2, reference3);
+        }
+    }
+
+    public void testZstdCompressionRequiresLength() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                OutputStream zstdStream = CompressorRegistry.getCompressor(ZstdCompressor.NAME)
+                    .threadLocalOutputStream(Streams.flushOnCloseStream(output))
+            ) {
+                zstdStream.write(randomByte());
+            }
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            expectThrows(IllegalStateException.class, () -> decompressor.decompress(output.bytes()));
+        }
+    }
+
 }
@@ -183,7 +183,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 /**
@@ -788,6 +790,72 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         return internalAgg;
     }
 
+    /**
+     * Collects all documents that match the provided query {@link Query} like intra-segment search does when it splits
+     * every segment into {@code numPartitions} partitions: each partition is collected by its own aggregator, which is
+     * told that its segment is partitioned, and the results of all the partitions are reduced together.
+     */
+    protected <A extends InternalAggregation> A searchAndReduceWithPartitionedSegments(
+        IndexSearcher searcher,
+        Query query,
+        AggregationBuilder builder,
+        int numPartitions,
+        MappedFieldType... fieldTypes
+    ) throws IOException {
+        final IndexSettings indexSettings = createIndexSettings();
+        final Query rewritten = searcher.rewrite(query);
+        final List<InternalAggregation> aggs = new ArrayList<>();
+        Aggregator root = null;
+        for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+            final int maxDoc = leaf.reader().maxDoc();
+            for (int partition = 0; partition < numPartitions; partition++) {
+                final int minDocId = (int) ((long) maxDoc * partition / numPartitions);
+                final int maxDocId = (int) ((long) maxDoc * (partition + 1) / numPartitions);
+                if (minDocId == maxDocId) {
+                    continue;
+                }
+                final MultiBucketConsumer bucketConsumer = new MultiBucketConsumer(
+                    DEFAULT_MAX_BUCKETS,
+                    new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                );
+                final SearchContext searchContext = createSearchContext(searcher, indexSettings, query, bucketConsumer, fieldTypes);
+                when(searchContext.shouldUseIntraSegmentSearch()).thenReturn(true);
+                final ContextIndexSearcher partitionedSearcher = spy(searchContext.searcher());
+                doReturn(numPartitions > 1).when(partitionedSearcher).isLeafPartitioned(any());
+                when(searchContext.searcher()).thenReturn(partitionedSearcher);
+                final Aggregator aggregator = createAggregator(builder, searchContext);
+                if (root == null) {
+                    root = aggregator;
+                }
+                final ShardSearcher partitionSearcher = new ShardSearcher(
+                    LeafReaderContextPartition.createFromAndTo(leaf, minDocId, maxDocId),
+                    searcher.getTopReaderContext()
+                );
+                final Weight weight = partitionSearcher.createWeight(rewritten, ScoreMode.COMPLETE, 1f);
+                aggregator.setWeight(weight);
+                aggregator.preCollection();
+                partitionSearcher.search(weight, aggregator);
+                aggregator.postCollection();
+                aggs.add(aggregator.buildTopLevel());
+            }
+        }
+        assertNotNull("the index must have documents", root);
+        final MultiBucketConsumer reduceBucketConsumer = new MultiBucketConsumer(
+            DEFAULT_MAX_BUCKETS,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        final InternalAggregation.ReduceContext context = InternalAggregation.ReduceContext.forFinalReduction(
+            root.context().bigArrays(),
+            getMockScriptService(),
+            reduceBucketConsumer,
+            builder.buildPipelineTree()
+        );
+        @SuppressWarnings("unchecked")
+        final A internalAgg = (A) aggs.get(0).reduce(aggs, context);
+        doAssertReducedMultiBucketConsumer(internalAgg, reduceBucketConsumer);
+        return internalAgg;
+    }
+
     /**
      * Collects all documents that match the provided query {@link Query} and
      * returns the reduced {@link InternalAggregation}.